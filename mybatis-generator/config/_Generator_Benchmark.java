@@ -0,0 +1,525 @@
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringReader;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.Driver;
+import java.sql.DriverPropertyInfo;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.mybatis.generator.api.GeneratedJavaFile;
+import org.mybatis.generator.api.GeneratedXmlFile;
+import org.mybatis.generator.api.MyBatisGenerator;
+import org.mybatis.generator.config.Configuration;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.xml.ConfigurationParser;
+import org.mybatis.generator.internal.DefaultShellCallback;
+import org.mybatis.generator.internal.NullProgressCallback;
+import org.mybatis.generator.internal.XmlFileMergerJaxp;
+
+/**
+ * Measures the generator phases against synthetic schemas, without a
+ * database: the configuration uses the SyntheticDriver below, whose metadata
+ * describes N tables of M columns each.
+ * <p>
+ * Phases (one op = all tables of the schema):
+ * <ul>
+ * <li>introspect - Context.introspectTables (DatabaseIntrospector)</li>
+ * <li>generate - Context.generateFiles (IntrospectedTable.initialize,
+ * calculateGenerators, getGeneratedJavaFiles, getGeneratedXmlFiles)</li>
+ * <li>render - getFormattedContent of every generated file</li>
+ * <li>merge - XmlFileMergerJaxp.getMergedSource of every XML file against
+ * the previously generated file</li>
+ * <li>full - MyBatisGenerator.generate, writing to a temporary directory</li>
+ * </ul>
+ * Throughput is reported in ops/s, the allocation rate in MB per op and MB/s
+ * (thread allocated bytes, only on JVMs that support it).
+ * <p>
+ * Usage: _Generator_Benchmark [tables columns [iterations [warmups]]]. Without
+ * arguments, 10/100/1000 tables of 5 (narrow) and 50 (wide) columns are run.
+ */
+public class _Generator_Benchmark {
+
+    private static final String[] PHASES = { "introspect", "generate",
+            "render", "merge", "full" };
+
+    private int tables;
+
+    private int columns;
+
+    private File targetDirectory;
+
+    private Configuration configuration;
+
+    /**
+     * [phase] = {nanos, allocated bytes}
+     */
+    private long[][] totals;
+
+    private long blackhole;
+
+    public static void main(String[] args) throws Exception {
+        int iterations = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+        int warmups = args.length > 3 ? Integer.parseInt(args[3]) : 3;
+
+        System.out.println(String.format("%-16s %-10s %12s %12s %12s %12s",
+                "schema", "phase", "ms/op", "ops/s", "MB/op", "MB/s"));
+        if (args.length >= 2) {
+            run(Integer.parseInt(args[0]), Integer.parseInt(args[1]),
+                    iterations, warmups);
+        } else {
+            int[] tableCounts = { 10, 100, 1000 };
+            int[] columnCounts = { 5, 50 };
+            for (int tableCount : tableCounts) {
+                for (int columnCount : columnCounts) {
+                    run(tableCount, columnCount, iterations, warmups);
+                }
+            }
+        }
+    }
+
+    private static void run(int tables, int columns, int iterations,
+            int warmups) throws Exception {
+        _Generator_Benchmark benchmark = new _Generator_Benchmark(tables,
+                columns);
+        try {
+            for (int i = 0; i < warmups; i++) {
+                benchmark.iteration();
+            }
+            benchmark.totals = new long[PHASES.length][2];
+            for (int i = 0; i < iterations; i++) {
+                benchmark.iteration();
+            }
+            benchmark.report(iterations);
+        } finally {
+            delete(benchmark.targetDirectory);
+        }
+    }
+
+    public _Generator_Benchmark(int tables, int columns) throws Exception {
+        this.tables = tables;
+        this.columns = columns;
+        targetDirectory = File.createTempFile("mbg-benchmark", "");
+        targetDirectory.delete();
+        targetDirectory.mkdirs();
+
+        List<String> warnings = new ArrayList<String>();
+        configuration = new ConfigurationParser(warnings)
+                .parseConfiguration(new StringReader(
+                        getConfigurationXml()));
+        totals = new long[PHASES.length][2];
+    }
+
+    private String getConfigurationXml() {
+        String target = targetDirectory.getAbsolutePath();
+        StringBuilder sb = new StringBuilder();
+        sb.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        sb.append("<!DOCTYPE generatorConfiguration PUBLIC \"-//mybatis.org//DTD MyBatis Generator Configuration 1.0//EN\"");
+        sb.append(" \"http://mybatis.org/dtd/mybatis-generator-config_1_0.dtd\">\n");
+        sb.append("<generatorConfiguration>\n");
+        sb.append("<context id=\"benchmark\" targetRuntime=\"MyBatis3\">\n");
+        sb.append("<jdbcConnection driverClass=\"")
+                .append(SyntheticDriver.class.getName())
+                .append("\" connectionURL=\"jdbc:synthetic:").append(tables)
+                .append(':').append(columns).append("\" />\n");
+        sb.append("<javaModelGenerator targetPackage=\"benchmark.model\" targetProject=\"")
+                .append(target).append("\" />\n");
+        sb.append("<sqlMapGenerator targetPackage=\"benchmark.mapper\" targetProject=\"")
+                .append(target).append("\" />\n");
+        sb.append("<javaClientGenerator type=\"XMLMAPPER\" targetPackage=\"benchmark.client\" targetProject=\"")
+                .append(target).append("\" />\n");
+        for (int i = 0; i < tables; i++) {
+            sb.append("<table tableName=\"").append(getTableName(i))
+                    .append("\" />\n");
+        }
+        sb.append("</context>\n");
+        sb.append("</generatorConfiguration>\n");
+        return sb.toString();
+    }
+
+    private void iteration() throws Exception {
+        NullProgressCallback callback = new NullProgressCallback();
+        List<String> warnings = new ArrayList<String>();
+        Context context = configuration.getContexts().get(0);
+
+        long[] mark = start();
+        context.introspectTables(callback, warnings, null);
+        stop(0, mark);
+
+        List<GeneratedJavaFile> javaFiles = new ArrayList<GeneratedJavaFile>();
+        List<GeneratedXmlFile> xmlFiles = new ArrayList<GeneratedXmlFile>();
+        mark = start();
+        context.generateFiles(callback, javaFiles, xmlFiles, warnings);
+        stop(1, mark);
+
+        List<String> xmlContents = new ArrayList<String>();
+        mark = start();
+        for (GeneratedJavaFile javaFile : javaFiles) {
+            blackhole += javaFile.getFormattedContent().length();
+        }
+        for (GeneratedXmlFile xmlFile : xmlFiles) {
+            xmlContents.add(xmlFile.getFormattedContent());
+        }
+        stop(2, mark);
+
+        // the existing files of the merge are written outside of the
+        // measurement
+        List<File> existingFiles = new ArrayList<File>();
+        for (int i = 0; i < xmlFiles.size(); i++) {
+            File file = new File(targetDirectory, "existing" + i + ".xml");
+            write(file, xmlContents.get(i));
+            existingFiles.add(file);
+        }
+        mark = start();
+        for (int i = 0; i < xmlFiles.size(); i++) {
+            blackhole += XmlFileMergerJaxp.getMergedSource(xmlFiles.get(i),
+                    existingFiles.get(i)).length();
+        }
+        stop(3, mark);
+        for (File file : existingFiles) {
+            file.delete();
+        }
+
+        mark = start();
+        new MyBatisGenerator(configuration, new DefaultShellCallback(true),
+                warnings).generate(null);
+        stop(4, mark);
+    }
+
+    private long[] start() {
+        return new long[] { System.nanoTime(), getAllocatedBytes() };
+    }
+
+    private void stop(int phase, long[] mark) {
+        totals[phase][0] += System.nanoTime() - mark[0];
+        long allocatedBytes = getAllocatedBytes();
+        if (allocatedBytes < 0 || mark[1] < 0) {
+            totals[phase][1] = -1;
+        } else if (totals[phase][1] >= 0) {
+            totals[phase][1] += allocatedBytes - mark[1];
+        }
+    }
+
+    private void report(int iterations) {
+        String schema = tables + "x" + columns;
+        for (int i = 0; i < PHASES.length; i++) {
+            double msPerOp = totals[i][0] / 1000000.0 / iterations;
+            double opsPerSecond = 1000.0 / msPerOp;
+            String mbPerOp = "n/a";
+            String mbPerSecond = "n/a";
+            if (totals[i][1] >= 0) {
+                double mb = totals[i][1] / 1048576.0 / iterations;
+                mbPerOp = String.format("%.2f", mb);
+                mbPerSecond = String.format("%.1f", mb * opsPerSecond);
+            }
+            System.out.println(String.format(
+                    "%-16s %-10s %12.2f %12.3f %12s %12s", schema, PHASES[i],
+                    msPerOp, opsPerSecond, mbPerOp, mbPerSecond));
+        }
+        if (blackhole == 42) {
+            System.out.println();
+        }
+    }
+
+    /**
+     * @return the bytes allocated by the current thread so far, or -1 if the
+     *         JVM does not measure it (the HotSpot ThreadMXBean extension)
+     */
+    private static long getAllocatedBytes() {
+        java.lang.management.ThreadMXBean threadMXBean = ManagementFactory
+                .getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean hotSpotBean = (com.sun.management.ThreadMXBean) threadMXBean;
+            if (hotSpotBean.isThreadAllocatedMemorySupported()
+                    && hotSpotBean.isThreadAllocatedMemoryEnabled()) {
+                return hotSpotBean.getThreadAllocatedBytes(Thread
+                        .currentThread().getId());
+            }
+        }
+        return -1;
+    }
+
+    private static void write(File file, String content) throws IOException {
+        Writer writer = new OutputStreamWriter(new FileOutputStream(file),
+                "UTF-8");
+        try {
+            writer.write(content);
+        } finally {
+            writer.close();
+        }
+    }
+
+    private static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+
+    private static String getTableName(int table) {
+        return String.format("TABLE_%04d", table);
+    }
+
+    /**
+     * A JDBC driver for URLs of the form jdbc:synthetic:tables:columns. The
+     * connection only answers the metadata queries of the introspection.
+     */
+    public static class SyntheticDriver implements Driver {
+
+        private static final String PREFIX = "jdbc:synthetic:";
+
+        public Connection connect(String url, Properties info)
+                throws SQLException {
+            if (!acceptsURL(url)) {
+                return null;
+            }
+
+            String[] counts = url.substring(PREFIX.length()).split(":");
+            SyntheticSchema schema = new SyntheticSchema(
+                    Integer.parseInt(counts[0]), Integer.parseInt(counts[1]));
+            return schema.getConnection();
+        }
+
+        public boolean acceptsURL(String url) {
+            return url != null && url.startsWith(PREFIX);
+        }
+
+        public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+            return new DriverPropertyInfo[0];
+        }
+
+        public int getMajorVersion() {
+            return 1;
+        }
+
+        public int getMinorVersion() {
+            return 0;
+        }
+
+        public boolean jdbcCompliant() {
+            return false;
+        }
+
+        public java.util.logging.Logger getParentLogger()
+                throws SQLFeatureNotSupportedException {
+            throw new SQLFeatureNotSupportedException();
+        }
+    }
+
+    /**
+     * The connection and metadata of a synthetic schema. Every table has a
+     * BIGINT primary key column ID followed by columns of mixed types.
+     */
+    private static class SyntheticSchema implements InvocationHandler {
+
+        private static final int[][] COLUMN_TYPES = {
+                { Types.VARCHAR, 64, 0 }, { Types.INTEGER, 10, 0 },
+                { Types.DECIMAL, 12, 2 }, { Types.TIMESTAMP, 26, 0 },
+                { Types.CHAR, 1, 0 }, { Types.BIGINT, 19, 0 },
+                { Types.DATE, 10, 0 }, { Types.LONGVARCHAR, 4000, 0 } };
+
+        private int tables;
+
+        private int columns;
+
+        private Connection connection;
+
+        private DatabaseMetaData databaseMetaData;
+
+        private SyntheticSchema(int tables, int columns) {
+            this.tables = tables;
+            this.columns = columns;
+            ClassLoader classLoader = Connection.class.getClassLoader();
+            connection = (Connection) Proxy.newProxyInstance(classLoader,
+                    new Class<?>[] { Connection.class }, this);
+            databaseMetaData = (DatabaseMetaData) Proxy.newProxyInstance(
+                    classLoader, new Class<?>[] { DatabaseMetaData.class },
+                    this);
+        }
+
+        private Connection getConnection() {
+            return connection;
+        }
+
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            String name = method.getName();
+            if ("getMetaData".equals(name)) {
+                return databaseMetaData;
+            } else if ("getConnection".equals(name)) {
+                return connection;
+            } else if ("getSearchStringEscape".equals(name)) {
+                return "\\";
+            } else if ("storesUpperCaseIdentifiers".equals(name)) {
+                return Boolean.TRUE;
+            } else if ("getColumns".equals(name)) {
+                return getColumns((String) args[2]);
+            } else if ("getPrimaryKeys".equals(name)) {
+                return getPrimaryKeys((String) args[2]);
+            } else if ("getTables".equals(name)) {
+                return getTables((String) args[2]);
+            } else if ("hashCode".equals(name)) {
+                return System.identityHashCode(proxy);
+            } else if ("equals".equals(name)) {
+                return proxy == args[0];
+            } else if ("toString".equals(name)) {
+                return "SyntheticSchema[" + tables + "x" + columns + "]";
+            }
+
+            return getDefaultValue(method.getReturnType());
+        }
+
+        private boolean exists(String tableName) {
+            if (tableName == null || !tableName.startsWith("TABLE_")) {
+                return false;
+            }
+            try {
+                return Integer.parseInt(tableName.substring(6)) < tables;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+
+        private ResultSet getColumns(String tableName) {
+            List<Map<String, Object>> rows = new ArrayList<Map<String, Object>>();
+            if (exists(tableName)) {
+                for (int i = 0; i < columns; i++) {
+                    Map<String, Object> row = new HashMap<String, Object>();
+                    row.put("TABLE_NAME", tableName);
+                    if (i == 0) {
+                        row.put("COLUMN_NAME", "ID");
+                        row.put("DATA_TYPE", Types.BIGINT);
+                        row.put("TYPE_NAME", "BIGINT");
+                        row.put("COLUMN_SIZE", 19);
+                        row.put("NULLABLE", DatabaseMetaData.columnNoNulls);
+                    } else {
+                        int[] type = COLUMN_TYPES[i % COLUMN_TYPES.length];
+                        row.put("COLUMN_NAME", String.format("COLUMN_%03d", i));
+                        row.put("DATA_TYPE", type[0]);
+                        row.put("TYPE_NAME", "TYPE_" + type[0]);
+                        row.put("COLUMN_SIZE", type[1]);
+                        row.put("DECIMAL_DIGITS", type[2]);
+                        row.put("NULLABLE", DatabaseMetaData.columnNullable);
+                        row.put("REMARKS", "Column " + i + " of " + tableName);
+                    }
+                    rows.add(row);
+                }
+            }
+            return SyntheticResultSet.create(rows);
+        }
+
+        private ResultSet getPrimaryKeys(String tableName) {
+            List<Map<String, Object>> rows = new ArrayList<Map<String, Object>>();
+            if (exists(tableName)) {
+                Map<String, Object> row = new HashMap<String, Object>();
+                row.put("TABLE_NAME", tableName);
+                row.put("COLUMN_NAME", "ID");
+                row.put("KEY_SEQ", 1);
+                rows.add(row);
+            }
+            return SyntheticResultSet.create(rows);
+        }
+
+        private ResultSet getTables(String tableName) {
+            List<Map<String, Object>> rows = new ArrayList<Map<String, Object>>();
+            if (exists(tableName)) {
+                Map<String, Object> row = new HashMap<String, Object>();
+                row.put("TABLE_NAME", tableName);
+                row.put("TABLE_TYPE", "TABLE");
+                row.put("REMARKS", "Table " + tableName);
+                rows.add(row);
+            }
+            return SyntheticResultSet.create(rows);
+        }
+    }
+
+    /**
+     * A forward only result set over a list of rows.
+     */
+    private static class SyntheticResultSet implements InvocationHandler {
+
+        private List<Map<String, Object>> rows;
+
+        private int row = -1;
+
+        private boolean wasNull;
+
+        private SyntheticResultSet(List<Map<String, Object>> rows) {
+            this.rows = rows;
+        }
+
+        private static ResultSet create(List<Map<String, Object>> rows) {
+            return (ResultSet) Proxy.newProxyInstance(
+                    ResultSet.class.getClassLoader(),
+                    new Class<?>[] { ResultSet.class },
+                    new SyntheticResultSet(rows));
+        }
+
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            String name = method.getName();
+            if ("next".equals(name)) {
+                row++;
+                return row < rows.size();
+            } else if ("wasNull".equals(name)) {
+                return wasNull;
+            } else if (name.startsWith("get") && args != null
+                    && args.length == 1 && args[0] instanceof String) {
+                Object value = rows.get(row).get(args[0]);
+                wasNull = value == null;
+                Class<?> returnType = method.getReturnType();
+                if (value == null) {
+                    return getDefaultValue(returnType);
+                } else if (returnType == String.class) {
+                    return value.toString();
+                } else if (returnType == int.class) {
+                    return ((Number) value).intValue();
+                } else if (returnType == short.class) {
+                    return ((Number) value).shortValue();
+                }
+                return value;
+            } else if ("hashCode".equals(name)) {
+                return System.identityHashCode(proxy);
+            } else if ("equals".equals(name)) {
+                return proxy == args[0];
+            }
+
+            return getDefaultValue(method.getReturnType());
+        }
+    }
+
+    private static Object getDefaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return Boolean.FALSE;
+        } else if (type == int.class) {
+            return 0;
+        } else if (type == long.class) {
+            return 0L;
+        } else if (type == short.class) {
+            return (short) 0;
+        } else if (type == byte.class) {
+            return (byte) 0;
+        } else if (type == float.class) {
+            return 0f;
+        } else if (type == double.class) {
+            return 0d;
+        }
+        return null;
+    }
+}
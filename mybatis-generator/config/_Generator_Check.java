@@ -0,0 +1,192 @@
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.mybatis.generator.api.GeneratedJavaFile;
+import org.mybatis.generator.api.GeneratedXmlFile;
+import org.mybatis.generator.api.dom.java.CompilationUnit;
+import org.mybatis.generator.api.dom.java.Interface;
+import org.mybatis.generator.api.dom.java.Method;
+import org.mybatis.generator.api.dom.java.Parameter;
+import org.mybatis.generator.api.dom.java.TopLevelClass;
+import org.mybatis.generator.config.Configuration;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.xml.ConfigurationParser;
+import org.mybatis.generator.internal.NullProgressCallback;
+
+/**
+ * Generates the client of a synthetic schema (see _Generator_Benchmark) for
+ * each combination of target runtime, client type and Criteria plugin, and
+ * checks the generated client methods without compiling them:
+ * <ul>
+ * <li>no method declares two parameters with the same name</li>
+ * <li>the selectByParamsWithHandler methods keep their RowHandler or
+ * ResultHandler parameter</li>
+ * <li>every method of a DAO implementation has the parameters of the method
+ * of the same name in the DAO interface</li>
+ * </ul>
+ * Usage: _Generator_Check. The exit code is 1 if any check fails.
+ */
+public class _Generator_Check {
+
+    /**
+     * {target runtime, client type, plugin or null}
+     */
+    private static final String[][] COMBINATIONS = {
+            { "Ibatis2Java5", "GENERIC-CI", null },
+            { "Ibatis2Java5", "GENERIC-CI",
+                    "org.mybatis.generator.plugins.IbatisCriteriaPlugin" },
+            { "MyBatis3", "XMLMAPPER", null },
+            { "MyBatis3", "XMLMAPPER",
+                    "org.mybatis.generator.plugins.MybatisCriteriaPlugin" },
+            { "MyBatis3", "XMLMAPPER",
+                    "org.mybatis.generator.plugins.MybatisCriteriaPlugin2" } };
+
+    private static final String TABLE_ATTRIBUTES = "enableSelectByParamsWithHandler=\"true\""
+            + " enableSelectByPrimaryKeys=\"true\" enableDeleteByPrimaryKeys=\"true\"";
+
+    private List<String> errors = new ArrayList<String>();
+
+    public static void main(String[] args) throws Exception {
+        _Generator_Check check = new _Generator_Check();
+        for (String[] combination : COMBINATIONS) {
+            check.run(combination[0], combination[1], combination[2]);
+        }
+
+        for (String error : check.errors) {
+            System.out.println(error);
+        }
+        System.out.println(check.errors.isEmpty() ? "OK" : check.errors.size()
+                + " errors");
+        if (!check.errors.isEmpty()) {
+            System.exit(1);
+        }
+    }
+
+    private void run(String targetRuntime, String clientType, String plugin)
+            throws Exception {
+        String name = targetRuntime + "/" + clientType
+                + (plugin == null ? "" : "/" + plugin.substring(plugin.lastIndexOf('.') + 1));
+        List<String> warnings = new ArrayList<String>();
+        Configuration configuration = new ConfigurationParser(warnings)
+                .parseConfiguration(new StringReader(getConfigurationXml(
+                        targetRuntime, clientType, plugin)));
+        Context context = configuration.getContexts().get(0);
+
+        NullProgressCallback callback = new NullProgressCallback();
+        context.introspectTables(callback, warnings, null);
+        List<GeneratedJavaFile> javaFiles = new ArrayList<GeneratedJavaFile>();
+        List<GeneratedXmlFile> xmlFiles = new ArrayList<GeneratedXmlFile>();
+        context.generateFiles(callback, javaFiles, xmlFiles, warnings);
+
+        // key is the interface name + '.' + the method name
+        Map<String, Method> interfaceMethods = new HashMap<String, Method>();
+        Map<String, Method> classMethods = new HashMap<String, Method>();
+        for (GeneratedJavaFile javaFile : javaFiles) {
+            CompilationUnit compilationUnit = javaFile.getCompilationUnit();
+            List<Method> methods;
+            if (compilationUnit instanceof Interface) {
+                methods = ((Interface) compilationUnit).getMethods();
+                for (Method method : methods) {
+                    interfaceMethods.put(compilationUnit.getType().getShortName()
+                            + '.' + method.getName(), method);
+                }
+            } else {
+                methods = ((TopLevelClass) compilationUnit).getMethods();
+                String shortName = compilationUnit.getType().getShortName();
+                if (shortName.endsWith("DAOImpl")) {
+                    for (Method method : methods) {
+                        classMethods.put(shortName.substring(0,
+                                shortName.length() - 4) + '.' + method.getName(),
+                                method);
+                    }
+                }
+            }
+
+            String fileName = name + " " + compilationUnit.getType().getShortName();
+            for (Method method : methods) {
+                checkParameterNames(fileName, method);
+                if (method.getName().endsWith("WithHandler")) {
+                    checkHandlerParameter(fileName, method);
+                }
+            }
+        }
+
+        for (Map.Entry<String, Method> entry : classMethods.entrySet()) {
+            Method method = entry.getValue();
+            Method interfaceMethod = interfaceMethods.get(entry.getKey());
+            if (interfaceMethod != null
+                    && !getSignature(interfaceMethod).equals(getSignature(method))) {
+                errors.add(name + " " + entry.getKey()
+                        + " of the DAO implementation is " + getSignature(method)
+                        + ", the DAO interface declares " + getSignature(interfaceMethod));
+            }
+        }
+    }
+
+    private void checkParameterNames(String fileName, Method method) {
+        Set<String> parameterNames = new HashSet<String>();
+        for (Parameter parameter : method.getParameters()) {
+            if (!parameterNames.add(parameter.getName())) {
+                errors.add(fileName + "." + method.getName()
+                        + " declares parameter " + parameter.getName() + " twice");
+            }
+        }
+    }
+
+    private void checkHandlerParameter(String fileName, Method method) {
+        for (Parameter parameter : method.getParameters()) {
+            if (parameter.getType().getShortName().endsWith("Handler")) {
+                return;
+            }
+        }
+        errors.add(fileName + "." + method.getName()
+                + " has no handler parameter");
+    }
+
+    private static String getSignature(Method method) {
+        StringBuilder sb = new StringBuilder();
+        sb.append('(');
+        for (Parameter parameter : method.getParameters()) {
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(parameter.getType().getShortName()).append(' ')
+                    .append(parameter.getName());
+        }
+        sb.append(')');
+        return sb.toString();
+    }
+
+    private static String getConfigurationXml(String targetRuntime,
+            String clientType, String plugin) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        sb.append("<!DOCTYPE generatorConfiguration PUBLIC \"-//mybatis.org//DTD MyBatis Generator Configuration 1.0//EN\"");
+        sb.append(" \"http://mybatis.org/dtd/mybatis-generator-config_1_0.dtd\">\n");
+        sb.append("<generatorConfiguration>\n");
+        sb.append("<context id=\"check\" targetRuntime=\"")
+                .append(targetRuntime).append("\">\n");
+        if (plugin != null) {
+            sb.append("<plugin type=\"").append(plugin).append("\" />\n");
+        }
+        sb.append("<jdbcConnection driverClass=\"")
+                .append(_Generator_Benchmark.SyntheticDriver.class.getName())
+                .append("\" connectionURL=\"jdbc:synthetic:2:5\" />\n");
+        sb.append("<javaModelGenerator targetPackage=\"check.model\" targetProject=\"check\" />\n");
+        sb.append("<sqlMapGenerator targetPackage=\"check.mapper\" targetProject=\"check\" />\n");
+        sb.append("<javaClientGenerator type=\"").append(clientType)
+                .append("\" targetPackage=\"check.client\" targetProject=\"check\" />\n");
+        for (int i = 0; i < 2; i++) {
+            sb.append("<table tableName=\"TABLE_000").append(i).append("\" ")
+                    .append(TABLE_ATTRIBUTES).append(" />\n");
+        }
+        sb.append("</context>\n");
+        sb.append("</generatorConfiguration>\n");
+        return sb.toString();
+    }
+}
@@ -16,6 +16,8 @@
 
 package org.mybatis.generator.ant;
 
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
 import org.apache.tools.ant.Project;
 import org.apache.tools.ant.Task;
 import org.mybatis.generator.internal.NullProgressCallback;
@@ -46,4 +48,11 @@ public class AntProgressCallback extends NullProgressCallback {
 			task.log(subTaskName, Project.MSG_VERBOSE);
 		}
 	}
+
+	@Override
+	public void saveFinished(int writtenFiles, int skippedFiles, int mergedFiles) {
+		task.log(getString("Progress.21", //$NON-NLS-1$
+				Integer.toString(writtenFiles), Integer.toString(skippedFiles), Integer.toString(mergedFiles)),
+				verbose ? Project.MSG_INFO : Project.MSG_VERBOSE);
+	}
 }
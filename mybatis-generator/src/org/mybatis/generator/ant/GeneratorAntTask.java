@@ -38,6 +38,7 @@ import org.mybatis.generator.config.xml.ConfigurationParser;
 import org.mybatis.generator.exception.InvalidConfigurationException;
 import org.mybatis.generator.exception.XMLParserException;
 import org.mybatis.generator.internal.DefaultShellCallback;
+import org.mybatis.generator.internal.MetricsCollector;
 
 /**
  * This is an Ant task that will run the generator. The following is a sample
@@ -72,6 +73,25 @@ import org.mybatis.generator.internal.DefaultShellCallback;
  * <li>"contextIds" - a comma delimited list of contaxtIds to use for this run</li>
  * <li>"fullyQualifiedTableNames" - a comma delimited list of fully qualified
  * table names to use for this run</li>
+ * <li>"useSnapshot" - if true, then the introspected tables are saved in a
+ * snapshot file next to the configuration file, and reused as long as the
+ * configuration and the database schema have not changed. Default is false</li>
+ * <li>"offline" - if true, then the generator generates from the snapshot file
+ * without connecting to the database. Default is false</li>
+ * <li>"pipeline" - if true, then each table is generated as soon as it has been
+ * introspected, and its files are written as soon as they have been generated.
+ * Default is false</li>
+ * <li>"skipUnchanged" - if true, then generated files are not written if the
+ * existing file already has the same content. The hashes of the written files
+ * are kept in a manifest file next to the configuration file. Default is
+ * false</li>
+ * <li>"incremental" - if true, then tables whose columns and configuration
+ * have not changed since the last run are not generated again. The table
+ * fingerprints are kept in a manifest file next to the configuration file.
+ * Default is false</li>
+ * <li>"metrics" - if true, then the timings of the run per phase, table and
+ * plugin method are written as JSON to a file next to the configuration file.
+ * Default is false</li>
  * </ul>
  * 
  * 
@@ -85,6 +105,12 @@ public class GeneratorAntTask extends Task {
 	private boolean verbose;
 	private String contextIds;
 	private String fullyQualifiedTableNames;
+	private boolean useSnapshot;
+	private boolean offline;
+	private boolean pipeline;
+	private boolean skipUnchanged;
+	private boolean incremental;
+	private boolean metrics;
 
 	/**
      * 
@@ -143,8 +169,33 @@ public class GeneratorAntTask extends Task {
 
 			MyBatisGenerator myBatisGenerator = new MyBatisGenerator(config, callback, warnings);
 
+			if (useSnapshot || offline) {
+				myBatisGenerator.setSnapshotFile(new File(configurationFile.getAbsolutePath() + ".snapshot")); //$NON-NLS-1$
+				myBatisGenerator.setOffline(offline);
+			}
+
+			myBatisGenerator.setPipelined(pipeline);
+
+			if (skipUnchanged) {
+				myBatisGenerator.setManifestFile(new File(configurationFile.getAbsolutePath() + ".manifest")); //$NON-NLS-1$
+			}
+
+			if (incremental) {
+				myBatisGenerator.setTableManifestFile(new File(configurationFile.getAbsolutePath() + ".tables")); //$NON-NLS-1$
+			}
+
+			MetricsCollector metricsCollector = null;
+			if (metrics) {
+				metricsCollector = new MetricsCollector();
+				myBatisGenerator.setGenerationMetrics(metricsCollector);
+			}
+
 			myBatisGenerator.generate(new AntProgressCallback(this, verbose), contexts, fullyqualifiedTables);
 
+			if (metricsCollector != null) {
+				metricsCollector.save(new File(configurationFile.getAbsolutePath() + ".metrics.json")); //$NON-NLS-1$
+			}
+
 		} catch (XMLParserException e) {
 			for (String error : e.getErrors()) {
 				log(error, Project.MSG_ERR);
@@ -235,4 +286,52 @@ public class GeneratorAntTask extends Task {
 	public void setFullyQualifiedTableNames(String fullyQualifiedTableNames) {
 		this.fullyQualifiedTableNames = fullyQualifiedTableNames;
 	}
+
+	public boolean isUseSnapshot() {
+		return useSnapshot;
+	}
+
+	public void setUseSnapshot(boolean useSnapshot) {
+		this.useSnapshot = useSnapshot;
+	}
+
+	public boolean isOffline() {
+		return offline;
+	}
+
+	public void setOffline(boolean offline) {
+		this.offline = offline;
+	}
+
+	public boolean isPipeline() {
+		return pipeline;
+	}
+
+	public void setPipeline(boolean pipeline) {
+		this.pipeline = pipeline;
+	}
+
+	public boolean isSkipUnchanged() {
+		return skipUnchanged;
+	}
+
+	public void setSkipUnchanged(boolean skipUnchanged) {
+		this.skipUnchanged = skipUnchanged;
+	}
+
+	public boolean isIncremental() {
+		return incremental;
+	}
+
+	public void setIncremental(boolean incremental) {
+		this.incremental = incremental;
+	}
+
+	public boolean isMetrics() {
+		return metrics;
+	}
+
+	public void setMetrics(boolean metrics) {
+		this.metrics = metrics;
+	}
 }
@@ -0,0 +1,302 @@
+/*
+ *  Copyright 2005 The Apache Software Foundation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mybatis.generator.api;
+
+import static org.mybatis.generator.internal.util.StringUtility.composeFullyQualifiedTableName;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.mybatis.generator.config.Configuration;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.PluginConfiguration;
+import org.mybatis.generator.config.TableConfiguration;
+import org.mybatis.generator.config.xml.ConfigurationParser;
+import org.mybatis.generator.exception.XMLParserException;
+import org.mybatis.generator.internal.ObjectFactory;
+import org.mybatis.generator.internal.TableFingerprintManifest;
+import org.mybatis.generator.internal.db.SchemaFingerprint;
+
+/**
+ * Watches a configuration file for the -watch mode of the ShellRunner, and
+ * finds the tables that must be generated again after a change.
+ * <p>
+ * The file is checked once a second (by modification time and length). After
+ * a change, the parsed configuration is compared with the previous one: if
+ * the configuration of a context outside of its tables has changed (including
+ * its plugins), the whole context is generated again, otherwise only the
+ * tables whose table configuration has changed. A context with a plugin that
+ * is not a ThreadSafePlugin is always generated as a whole, because such a
+ * plugin may need all tables to generate the files of the context.
+ * <p>
+ * Optionally the columns of the watched tables are read from the database at
+ * an interval (see SchemaFingerprint.calculateTables), so that tables changed
+ * by DDL are generated again as well.
+ */
+public class ConfigurationWatcher {
+
+	private static final long FILE_POLL_INTERVAL = 1000;
+
+	/**
+	 * The result of a change of the configuration file or the schema.
+	 */
+	public static class Change {
+		private Configuration configuration;
+		private List<String> warnings;
+		private Map<String, Set<String>> tables;
+
+		private Change(Configuration configuration, List<String> warnings) {
+			this.configuration = configuration;
+			this.warnings = warnings;
+			this.tables = new LinkedHashMap<String, Set<String>>();
+		}
+
+		/**
+		 * @return the current configuration
+		 */
+		public Configuration getConfiguration() {
+			return configuration;
+		}
+
+		/**
+		 * @return the warnings of the configuration parser
+		 */
+		public List<String> getWarnings() {
+			return warnings;
+		}
+
+		/**
+		 * @return the tables to generate. Key is the context id, value is the
+		 *         fully qualified names of the tables to generate - an empty
+		 *         set means all tables of the context.
+		 */
+		public Map<String, Set<String>> getTables() {
+			return tables;
+		}
+	}
+
+	private File configurationFile;
+
+	private Set<String> contextIds;
+
+	private Set<String> fullyQualifiedTableNames;
+
+	private long schemaPollInterval;
+
+	private long nextSchemaPoll;
+
+	private long lastModified = -1;
+
+	private long length = -1;
+
+	private Configuration configuration;
+
+	private List<String> warnings;
+
+	/**
+	 * Key is the context id
+	 */
+	private Map<String, String> contextFingerprints;
+
+	/**
+	 * Key is context id + '\n' + fully qualified table name
+	 */
+	private Map<String, String> tableFingerprints;
+
+	/**
+	 * Key is context id + '\n' + fully qualified table name
+	 */
+	private Map<String, String> schemaFingerprints;
+
+	/**
+	 * @param contextIds
+	 *            the contexts to watch, or an empty set for all contexts
+	 * @param fullyQualifiedTableNames
+	 *            the tables to watch, or an empty set for all tables
+	 */
+	public ConfigurationWatcher(File configurationFile, Set<String> contextIds, Set<String> fullyQualifiedTableNames) {
+		super();
+		this.configurationFile = configurationFile;
+		this.contextIds = contextIds;
+		this.fullyQualifiedTableNames = fullyQualifiedTableNames;
+		contextFingerprints = new HashMap<String, String>();
+		tableFingerprints = new HashMap<String, String>();
+		schemaFingerprints = new HashMap<String, String>();
+	}
+
+	/**
+	 * @param schemaPollInterval
+	 *            the milliseconds between two reads of the table columns, or
+	 *            0 (the default) to not watch the database
+	 */
+	public void setSchemaPollInterval(long schemaPollInterval) {
+		this.schemaPollInterval = schemaPollInterval;
+	}
+
+	/**
+	 * Waits until the configuration file or (if watched) the columns of a
+	 * table have changed. The first call returns at once with every watched
+	 * context.
+	 *
+	 * @return the tables to generate
+	 * @throws XMLParserException
+	 *             if the changed configuration file cannot be parsed. The
+	 *             previous configuration is kept, and the next call waits for
+	 *             the next change.
+	 * @throws SQLException
+	 *             if the columns cannot be read from the database
+	 */
+	public Change waitForChange() throws IOException, XMLParserException, SQLException, InterruptedException {
+		while (true) {
+			if (lastModified != configurationFile.lastModified() || length != configurationFile.length()) {
+				lastModified = configurationFile.lastModified();
+				length = configurationFile.length();
+				Change change = parseConfiguration();
+				if (!change.getTables().isEmpty()) {
+					return change;
+				}
+			}
+
+			if (configuration != null && schemaPollInterval > 0 && System.currentTimeMillis() >= nextSchemaPoll) {
+				nextSchemaPoll = System.currentTimeMillis() + schemaPollInterval;
+				Change change = pollSchema();
+				if (!change.getTables().isEmpty()) {
+					return change;
+				}
+			}
+
+			Thread.sleep(FILE_POLL_INTERVAL);
+		}
+	}
+
+	private Change parseConfiguration() throws IOException, XMLParserException {
+		List<String> newWarnings = new ArrayList<String>();
+		Configuration newConfiguration = new ConfigurationParser(newWarnings).parseConfiguration(configurationFile);
+
+		Change change = new Change(newConfiguration, newWarnings);
+		Map<String, String> newContextFingerprints = new HashMap<String, String>();
+		Map<String, String> newTableFingerprints = new HashMap<String, String>();
+		for (Context context : newConfiguration.getContexts()) {
+			if (!isWatched(context)) {
+				continue;
+			}
+
+			String contextFingerprint = TableFingerprintManifest.calculateContextFingerprint(context);
+			newContextFingerprints.put(context.getId(), contextFingerprint);
+			boolean contextChanged = !contextFingerprint.equals(contextFingerprints.get(context.getId()));
+
+			Set<String> changedTables = new HashSet<String>();
+			for (TableConfiguration tc : context.getTableConfigurations()) {
+				String tableName = composeFullyQualifiedTableName(tc.getCatalog(), tc.getSchema(), tc.getTableName(),
+						'.');
+				if (!isWatched(tableName)) {
+					continue;
+				}
+
+				String key = context.getId() + '\n' + tableName;
+				String tableFingerprint = TableFingerprintManifest.calculateTableConfigurationFingerprint(tc);
+				newTableFingerprints.put(key, tableFingerprint);
+				if (!tableFingerprint.equals(tableFingerprints.get(key))) {
+					changedTables.add(tableName);
+				}
+			}
+
+			if (contextChanged || (!changedTables.isEmpty() && !isThreadSafe(context))) {
+				change.getTables().put(context.getId(), new HashSet<String>(fullyQualifiedTableNames));
+			} else if (!changedTables.isEmpty()) {
+				change.getTables().put(context.getId(), changedTables);
+			}
+		}
+
+		configuration = newConfiguration;
+		warnings = newWarnings;
+		contextFingerprints = newContextFingerprints;
+		tableFingerprints = newTableFingerprints;
+		return change;
+	}
+
+	/**
+	 * Reads the columns of the watched tables. A table whose columns have
+	 * changed since the last poll is generated again. The first poll only
+	 * records the columns.
+	 */
+	private Change pollSchema() throws SQLException {
+		Change change = new Change(configuration, warnings);
+		for (Context context : configuration.getContexts()) {
+			if (!isWatched(context)) {
+				continue;
+			}
+
+			Map<String, String> fingerprints;
+			Connection connection = context.getConnection();
+			try {
+				fingerprints = SchemaFingerprint.calculateTables(connection, context, fullyQualifiedTableNames);
+			} finally {
+				connection.close();
+			}
+
+			Set<String> changedTables = new HashSet<String>();
+			for (Map.Entry<String, String> entry : fingerprints.entrySet()) {
+				String previous = schemaFingerprints.put(context.getId() + '\n' + entry.getKey(), entry.getValue());
+				if (previous != null && !previous.equals(entry.getValue())) {
+					changedTables.add(entry.getKey());
+				}
+			}
+
+			if (!changedTables.isEmpty()) {
+				change.getTables().put(context.getId(),
+						isThreadSafe(context) ? changedTables : new HashSet<String>(fullyQualifiedTableNames));
+			}
+		}
+
+		return change;
+	}
+
+	private boolean isWatched(Context context) {
+		return contextIds.isEmpty() || contextIds.contains(context.getId());
+	}
+
+	private boolean isWatched(String tableName) {
+		return fullyQualifiedTableNames.isEmpty() || fullyQualifiedTableNames.contains(tableName);
+	}
+
+	/**
+	 * @return true if every plugin of the context is a ThreadSafePlugin
+	 */
+	private static boolean isThreadSafe(Context context) {
+		for (PluginConfiguration pluginConfiguration : context.getPluginConfigurations()) {
+			try {
+				Class<?> pluginClass = ObjectFactory.internalClassForName(pluginConfiguration.getConfigurationType());
+				if (!ThreadSafePlugin.class.isAssignableFrom(pluginClass)) {
+					return false;
+				}
+			} catch (ClassNotFoundException e) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+}
@@ -40,6 +40,14 @@ public interface DAOMethodNameCalculator {
 	 */
 	String getInsertSelectiveMethodName(IntrospectedTable introspectedTable);
 
+	/**
+	 * Calculates and returns a name for the insert batch method.
+	 * 
+	 * @param introspectedTable
+	 * @return the calculated name
+	 */
+	String getInsertBatchMethodName(IntrospectedTable introspectedTable);
+
 	/**
 	 * Calculates and returns a name for the update by primary key without BLOBs
 	 * method.
@@ -93,6 +101,40 @@ public interface DAOMethodNameCalculator {
 	 */
 	String getSelectByParamsWithBLOBsMethodName(IntrospectedTable introspectedTable);
 
+	/**
+	 * Calculates and returns a name for the select by example with row handler
+	 * method.
+	 * 
+	 * @param introspectedTable
+	 * @return the calculated name
+	 */
+	String getSelectByParamsWithHandlerMethodName(IntrospectedTable introspectedTable);
+
+	/**
+	 * Calculates and returns a name for the select by example with BLOBs and
+	 * row handler method.
+	 * 
+	 * @param introspectedTable
+	 * @return the calculated name
+	 */
+	String getSelectByParamsWithBLOBsWithHandlerMethodName(IntrospectedTable introspectedTable);
+
+	/**
+	 * Calculates and returns a name for the select by primary keys method.
+	 * 
+	 * @param introspectedTable
+	 * @return the calculated name
+	 */
+	String getSelectByPrimaryKeysMethodName(IntrospectedTable introspectedTable);
+
+	/**
+	 * Calculates and returns a name for the delete by primary keys method.
+	 * 
+	 * @param introspectedTable
+	 * @return the calculated name
+	 */
+	String getDeleteByPrimaryKeysMethodName(IntrospectedTable introspectedTable);
+
 	/**
 	 * Calculates and returns a name for the delete by primary key method.
 	 * 
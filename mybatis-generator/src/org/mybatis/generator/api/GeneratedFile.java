@@ -15,6 +15,9 @@
  */
 package org.mybatis.generator.api;
 
+import java.io.IOException;
+import java.io.Writer;
+
 /**
  * Abstract class that holds information common to all generated files.
  * 
@@ -23,6 +26,10 @@ package org.mybatis.generator.api;
 public abstract class GeneratedFile {
 	private String targetProject;
 
+	private String contextId;
+
+	private String tableName;
+
 	/**
 	 *  
 	 */
@@ -42,6 +49,21 @@ public abstract class GeneratedFile {
 	 */
 	public abstract String getFormattedContent();
 
+	/**
+	 * Writes the entire contents of the generated file to the writer. This
+	 * writes the same content as getFormattedContent(), but subclasses render
+	 * the file directly into the writer without building it as a String
+	 * first.
+	 * 
+	 * @param writer
+	 *            the writer. The writer is not closed.
+	 * @throws IOException
+	 *             if the writer fails
+	 */
+	public void writeTo(Writer writer) throws IOException {
+		writer.write(getFormattedContent());
+	}
+
 	/**
 	 * Get the file name (without any path). Clients should use this method to
 	 * determine how to save the results.
@@ -74,4 +96,28 @@ public abstract class GeneratedFile {
 	}
 
 	public abstract boolean isMergeable();
+
+	/**
+	 * @return the id of the context that generated the file, or null if not
+	 *         known
+	 */
+	public String getContextId() {
+		return contextId;
+	}
+
+	public void setContextId(String contextId) {
+		this.contextId = contextId;
+	}
+
+	/**
+	 * @return the name of the table the file was generated for, or null if the
+	 *         file was not generated for a single table
+	 */
+	public String getTableName() {
+		return tableName;
+	}
+
+	public void setTableName(String tableName) {
+		this.tableName = tableName;
+	}
 }
@@ -15,6 +15,9 @@
  */
 package org.mybatis.generator.api;
 
+import java.io.IOException;
+import java.io.Writer;
+
 import org.mybatis.generator.api.dom.java.CompilationUnit;
 
 /**
@@ -36,6 +39,11 @@ public class GeneratedJavaFile extends GeneratedFile {
 		return compilationUnit.getFormattedContent();
 	}
 
+	@Override
+	public void writeTo(Writer writer) throws IOException {
+		compilationUnit.writeFormattedContent(writer);
+	}
+
 	@Override
 	public String getFileName() {
 		return compilationUnit.getType().getShortName() + ".java"; //$NON-NLS-1$
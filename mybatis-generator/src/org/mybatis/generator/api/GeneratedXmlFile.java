@@ -15,6 +15,9 @@
  */
 package org.mybatis.generator.api;
 
+import java.io.IOException;
+import java.io.Writer;
+
 import org.mybatis.generator.api.dom.xml.Document;
 
 /**
@@ -53,6 +56,11 @@ public class GeneratedXmlFile extends GeneratedFile {
 		return document.getFormattedContent();
 	}
 
+	@Override
+	public void writeTo(Writer writer) throws IOException {
+		document.writeFormattedContent(writer);
+	}
+
 	/**
 	 * @return Returns the fileName.
 	 */
@@ -0,0 +1,88 @@
+/*
+ *  Copyright 2005 The Apache Software Foundation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mybatis.generator.api;
+
+import java.io.File;
+
+/**
+ * This interface receives the timings and counters of a generator run (see
+ * MyBatisGenerator.setGenerationMetrics()). It shows where the time of a run
+ * is spent - in the database, in the code generators, in the plugins, or in
+ * merging and writing files.
+ * <p>
+ * All times are in nanoseconds. CPU times are those of the thread that did the
+ * work, or -1 if the JVM does not measure thread CPU time. The methods are
+ * called from the worker threads of the parallel and pipelined modes, so
+ * implementations must be thread safe.
+ *
+ * @see org.mybatis.generator.internal.MetricsCollector
+ */
+public interface GenerationMetrics {
+
+	/**
+	 * Called at the end of each phase of the run: "introspection",
+	 * "generation" and "save", or a single "pipeline" phase in pipeline mode
+	 * where the three overlap. The CPU time is that of the thread that called
+	 * MyBatisGenerator.generate().
+	 */
+	void phaseFinished(String phase, long wallTime, long cpuTime);
+
+	/**
+	 * Called after a table configuration has been introspected.
+	 *
+	 * @param jdbcCalls
+	 *            the number of database metadata queries
+	 */
+	void tableIntrospected(String contextId, String tableName, long wallTime, long cpuTime, int jdbcCalls);
+
+	/**
+	 * Called after the files of a table have been generated, including the
+	 * plugin calls for the table.
+	 */
+	void tableGenerated(String contextId, String tableName, long wallTime, long cpuTime);
+
+	/**
+	 * Called after each call of a plugin method. Methods that a plugin
+	 * inherits from PluginAdapter are not called at all, so they are not
+	 * reported.
+	 *
+	 * @param pluginType
+	 *            the class name of the plugin
+	 * @param hook
+	 *            the name of the plugin method
+	 */
+	void pluginCalled(String contextId, String pluginType, String hook, long wallTime);
+
+	/**
+	 * Called after each generated file has been saved or skipped.
+	 *
+	 * @param contextId
+	 *            the context of the file, or null if not known
+	 * @param tableName
+	 *            the table of the file, or null for files of the whole context
+	 * @param bytes
+	 *            the number of bytes written, 0 if the file was skipped
+	 * @param skipped
+	 *            true if the file was not written because its content was
+	 *            unchanged
+	 * @param merged
+	 *            true if the generated file was merged with the existing file
+	 * @param wallTime
+	 *            the time to merge and write the file
+	 */
+	void fileSaved(String contextId, String tableName, File file, long bytes, boolean skipped, boolean merged,
+			long wallTime);
+}
@@ -0,0 +1,405 @@
+/*
+ *  Copyright 2005 The Apache Software Foundation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mybatis.generator.api;
+
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.mybatis.generator.config.Configuration;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.xml.ConfigurationParser;
+import org.mybatis.generator.exception.XMLParserException;
+import org.mybatis.generator.internal.db.ConnectionPool;
+import org.mybatis.generator.internal.db.IntrospectionSnapshot;
+
+/**
+ * A long running generator process for scripts that run the generator many
+ * times (ShellRunner -daemon). Each run is sent by a client (ShellRunner
+ * -useDaemon) over a local socket, and the output of the run is sent back.
+ * Between runs the daemon keeps:
+ * <ul>
+ * <li>the loaded classes, including the JDBC driver and the plugins</li>
+ * <li>the parsed configuration of each configuration file. It is parsed again
+ * if the file has been modified (changes of a properties file that the
+ * configuration refers to are not noticed)</li>
+ * <li>an open database connection per context</li>
+ * <li>the introspected tables, in an in-memory introspection snapshot. The
+ * tables are introspected again if the context configuration or the schema
+ * fingerprint of the database has changed</li>
+ * </ul>
+ * The runs are done one after the other. The daemon only accepts connections
+ * from the local host. Relative target projects are resolved against the
+ * directory of the daemon, not of the client.
+ * <p>
+ * Other users of the host can connect to the port too, so every request must
+ * start with a token. On start the daemon writes a new random token to
+ * ~/.mybatis-generator/daemon-&lt;port&gt;.token, in a directory and file
+ * that only the owner can read, and deletes the file when it stops. A client
+ * can only send runs if it can read that file, i.e. if it runs as the same
+ * user as the daemon.
+ * <p>
+ * The request is the token, the number of arguments and the arguments, one
+ * per line, in UTF-8. The response is the UTF-8 output of the run, and ends
+ * when the daemon closes the connection. A connection that does not send the
+ * token and a valid request in time is closed without running anything and
+ * without a response.
+ */
+public class GeneratorDaemon {
+
+	public static final int DEFAULT_PORT = 7410;
+
+	/**
+	 * The largest number of arguments accepted in a request
+	 */
+	private static final int MAX_ARGUMENTS = 1000;
+
+	/**
+	 * The milliseconds a client may take to send its request
+	 */
+	private static final int REQUEST_TIMEOUT = 10000;
+
+	/**
+	 * The number of random bytes of the token
+	 */
+	private static final int TOKEN_LENGTH = 32;
+
+	private static class CachedConfiguration {
+		private long lastModified;
+		private long length;
+		private Configuration configuration;
+		private List<String> warnings;
+		private List<ConnectionPool> connectionPools;
+		private IntrospectionSnapshot snapshot;
+
+		private boolean isCurrent(File configurationFile) {
+			return lastModified == configurationFile.lastModified() && length == configurationFile.length();
+		}
+
+		private void closeConnectionPools() {
+			for (ConnectionPool connectionPool : connectionPools) {
+				connectionPool.close();
+			}
+		}
+	}
+
+	private int port;
+
+	/**
+	 * The token that the requests must start with
+	 */
+	private String token;
+
+	/**
+	 * Key is the canonical path of the configuration file
+	 */
+	private Map<String, CachedConfiguration> configurations;
+
+	public GeneratorDaemon(int port) {
+		super();
+		this.port = port;
+		configurations = new HashMap<String, CachedConfiguration>();
+	}
+
+	/**
+	 * Serves requests until the process is stopped.
+	 */
+	public void run() throws IOException {
+		ServerSocket serverSocket = new ServerSocket(port, 0, InetAddress.getByName(null));
+		File tokenFile = getTokenFile(port);
+		try {
+			token = writeTokenFile(tokenFile);
+		} catch (IOException e) {
+			serverSocket.close();
+			throw e;
+		}
+		System.out.println(getString("Progress.23", Integer.toString(port))); //$NON-NLS-1$
+
+		try {
+			while (true) {
+				Socket socket = serverSocket.accept();
+				try {
+					handleRequest(socket);
+				} catch (IOException e) {
+					// ignore - the client went away, serve the next one
+					;
+				} catch (RuntimeException e) {
+					// a failed request must not stop the daemon
+					e.printStackTrace();
+				} finally {
+					socket.close();
+				}
+			}
+		} finally {
+			serverSocket.close();
+			tokenFile.delete();
+			for (CachedConfiguration cachedConfiguration : configurations.values()) {
+				cachedConfiguration.closeConnectionPools();
+			}
+		}
+	}
+
+	private void handleRequest(Socket socket) throws IOException {
+		socket.setSoTimeout(REQUEST_TIMEOUT);
+		BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), "UTF-8")); //$NON-NLS-1$
+		if (!isToken(reader.readLine())) {
+			// the client cannot read the token file
+			return;
+		}
+
+		String count = reader.readLine();
+		if (count == null) {
+			return;
+		}
+
+		int argumentCount;
+		try {
+			argumentCount = Integer.parseInt(count.trim());
+		} catch (NumberFormatException e) {
+			// not a request of ShellRunner -useDaemon
+			return;
+		}
+		if (argumentCount < 0 || argumentCount > MAX_ARGUMENTS) {
+			return;
+		}
+
+		String[] args = new String[argumentCount];
+		for (int i = 0; i < args.length; i++) {
+			args[i] = reader.readLine();
+			if (args[i] == null) {
+				return;
+			}
+		}
+
+		PrintStream out = new PrintStream(socket.getOutputStream(), true, "UTF-8"); //$NON-NLS-1$
+		try {
+			ShellRunner.run(args, out, this);
+		} catch (RuntimeException e) {
+			e.printStackTrace(out);
+		}
+		out.flush();
+	}
+
+	/**
+	 * Compares the whole string, so that the time taken does not tell how many
+	 * leading characters are right.
+	 */
+	private boolean isToken(String s) {
+		if (s == null || s.length() != token.length()) {
+			return false;
+		}
+
+		int difference = 0;
+		for (int i = 0; i < s.length(); i++) {
+			difference |= s.charAt(i) ^ token.charAt(i);
+		}
+		return difference == 0;
+	}
+
+	/**
+	 * @return the file that holds the token of the daemon on the port
+	 */
+	private static File getTokenFile(int port) {
+		File directory = new File(System.getProperty("user.home"), ".mybatis-generator"); //$NON-NLS-1$ //$NON-NLS-2$
+		return new File(directory, "daemon-" + port + ".token"); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Writes a new random token to the file. The directory and the file are
+	 * made readable by the owner only before the token is written.
+	 *
+	 * @return the token
+	 */
+	private static String writeTokenFile(File tokenFile) throws IOException {
+		File directory = tokenFile.getParentFile();
+		if (!directory.isDirectory() && !directory.mkdirs()) {
+			throw new IOException(getString("RuntimeError.29", tokenFile.getPath())); //$NON-NLS-1$
+		}
+		setOwnerOnly(directory, true);
+
+		// a new file, so that no one else still has the old one open
+		if ((tokenFile.exists() && !tokenFile.delete()) || !tokenFile.createNewFile()) {
+			throw new IOException(getString("RuntimeError.29", tokenFile.getPath())); //$NON-NLS-1$
+		}
+		tokenFile.deleteOnExit();
+		setOwnerOnly(tokenFile, false);
+
+		byte[] bytes = new byte[TOKEN_LENGTH];
+		new SecureRandom().nextBytes(bytes);
+		StringBuilder sb = new StringBuilder();
+		for (byte b : bytes) {
+			sb.append(Character.forDigit((b >> 4) & 0xf, 16));
+			sb.append(Character.forDigit(b & 0xf, 16));
+		}
+		String token = sb.toString();
+
+		Writer writer = new OutputStreamWriter(new FileOutputStream(tokenFile), "UTF-8"); //$NON-NLS-1$
+		try {
+			writer.write(token);
+			writer.write('\n');
+		} finally {
+			writer.close();
+		}
+
+		return token;
+	}
+
+	/**
+	 * Removes the permissions of everybody else, like chmod 700 for a
+	 * directory and chmod 600 for a file. File systems without these
+	 * permissions (Windows) ignore this - there the home directory of the
+	 * user is private already.
+	 */
+	private static void setOwnerOnly(File file, boolean executable) {
+		file.setReadable(false, false);
+		file.setReadable(true, true);
+		file.setWritable(false, false);
+		file.setWritable(true, true);
+		file.setExecutable(false, false);
+		if (executable) {
+			file.setExecutable(true, true);
+		}
+	}
+
+	/**
+	 * Returns the parsed configuration of the file, parsing it only if it is
+	 * new or has been modified since the last run.
+	 *
+	 * @param warnings
+	 *            receives the warnings of the parser
+	 */
+	Configuration getConfiguration(File configurationFile, List<String> warnings) throws IOException,
+			XMLParserException {
+		CachedConfiguration cachedConfiguration = getCachedConfiguration(configurationFile);
+		warnings.addAll(cachedConfiguration.warnings);
+		return cachedConfiguration.configuration;
+	}
+
+	/**
+	 * @return the in-memory introspection snapshot of the configuration file.
+	 *         The snapshot is kept when the file is parsed again - the
+	 *         configuration fingerprint of each context decides whether its
+	 *         tables are still valid.
+	 */
+	IntrospectionSnapshot getIntrospectionSnapshot(File configurationFile) throws IOException {
+		String key = configurationFile.getCanonicalPath();
+		return configurations.get(key).snapshot;
+	}
+
+	private CachedConfiguration getCachedConfiguration(File configurationFile) throws IOException,
+			XMLParserException {
+		String key = configurationFile.getCanonicalPath();
+		CachedConfiguration cachedConfiguration = configurations.get(key);
+		if (cachedConfiguration != null && cachedConfiguration.isCurrent(configurationFile)) {
+			return cachedConfiguration;
+		}
+
+		IntrospectionSnapshot snapshot;
+		if (cachedConfiguration == null) {
+			snapshot = new IntrospectionSnapshot();
+		} else {
+			cachedConfiguration.closeConnectionPools();
+			configurations.remove(key);
+			snapshot = cachedConfiguration.snapshot;
+		}
+
+		CachedConfiguration newConfiguration = new CachedConfiguration();
+		newConfiguration.lastModified = configurationFile.lastModified();
+		newConfiguration.length = configurationFile.length();
+		newConfiguration.warnings = new ArrayList<String>();
+		newConfiguration.configuration = new ConfigurationParser(newConfiguration.warnings)
+				.parseConfiguration(configurationFile);
+		newConfiguration.connectionPools = new ArrayList<ConnectionPool>();
+		for (Context context : newConfiguration.configuration.getContexts()) {
+			ConnectionPool connectionPool = new ConnectionPool(context.getJdbcConnectionConfiguration(), 1);
+			connectionPool.setValidateIdleConnections(true);
+			context.setConnectionPool(connectionPool);
+			newConfiguration.connectionPools.add(connectionPool);
+		}
+		newConfiguration.snapshot = snapshot;
+
+		configurations.put(key, newConfiguration);
+		return newConfiguration;
+	}
+
+	/**
+	 * Sends a run to the daemon and copies its output to the stream.
+	 *
+	 * @param args
+	 *            the command line arguments of the run
+	 * @throws IOException
+	 *             if the daemon is not running, its token file cannot be
+	 *             read or the connection fails
+	 */
+	public static void sendRequest(int port, List<String> args, PrintStream out) throws IOException {
+		String token = readTokenFile(getTokenFile(port));
+		Socket socket = new Socket(InetAddress.getByName(null), port);
+		try {
+			Writer writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), "UTF-8")); //$NON-NLS-1$
+			writer.write(token);
+			writer.write('\n');
+			writer.write(Integer.toString(args.size()));
+			writer.write('\n');
+			for (String arg : args) {
+				writer.write(arg);
+				writer.write('\n');
+			}
+			writer.flush();
+
+			Reader reader = new InputStreamReader(socket.getInputStream(), "UTF-8"); //$NON-NLS-1$
+			char[] buffer = new char[4096];
+			int length;
+			while ((length = reader.read(buffer)) != -1) {
+				out.print(new String(buffer, 0, length));
+			}
+			out.flush();
+		} finally {
+			socket.close();
+		}
+	}
+
+	private static String readTokenFile(File tokenFile) throws IOException {
+		if (!tokenFile.isFile()) {
+			throw new IOException(getString("RuntimeError.30", tokenFile.getPath())); //$NON-NLS-1$
+		}
+
+		BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(tokenFile), "UTF-8")); //$NON-NLS-1$
+		try {
+			String token = reader.readLine();
+			return token == null ? "" : token; //$NON-NLS-1$
+		} finally {
+			reader.close();
+		}
+	}
+}
@@ -20,6 +20,7 @@ import static org.mybatis.generator.internal.util.StringUtility.isTrue;
 import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -34,6 +35,8 @@ import org.mybatis.generator.config.ModelType;
 import org.mybatis.generator.config.PropertyRegistry;
 import org.mybatis.generator.config.SqlMapGeneratorConfiguration;
 import org.mybatis.generator.config.TableConfiguration;
+import org.mybatis.generator.internal.db.InsertBatchDialects;
+import org.mybatis.generator.internal.db.UpsertDialects;
 import org.mybatis.generator.internal.rules.ConditionalModelRules;
 import org.mybatis.generator.internal.rules.FlatModelRules;
 import org.mybatis.generator.internal.rules.HierarchicalModelRules;
@@ -55,7 +58,7 @@ public abstract class IntrospectedTable {
 	protected enum InternalAttribute {
 		ATTR_DAO_IMPLEMENTATION_TYPE, ATTR_DAO_INTERFACE_TYPE, ATTR_PRIMARY_KEY_TYPE, ATTR_BASE_RECORD_TYPE, ATTR_RECORD_WITH_BLOBS_TYPE, ATTR_EXAMPLE_TYPE, ATTR_IBATIS2_SQL_MAP_PACKAGE, ATTR_IBATIS2_SQL_MAP_FILE_NAME, ATTR_IBATIS2_SQL_MAP_NAMESPACE, ATTR_MYBATIS3_XML_MAPPER_PACKAGE, ATTR_MYBATIS3_XML_MAPPER_FILE_NAME,
 		/** also used as XML Mapper namespace if a DAO mapper is generated */
-		ATTR_MYBATIS3_JAVA_MAPPER_TYPE, ATTR_FULLY_QUALIFIED_TABLE_NAME_AT_RUNTIME, ATTR_ALIASED_FULLY_QUALIFIED_TABLE_NAME_AT_RUNTIME, ATTR_COUNT_BY_EXAMPLE_STATEMENT_ID, ATTR_DELETE_BY_EXAMPLE_STATEMENT_ID, ATTR_DELETE_BY_PRIMARY_KEY_STATEMENT_ID, ATTR_INSERT_STATEMENT_ID, ATTR_INSERT_SELECTIVE_STATEMENT_ID, ATTR_SELECT_BY_EXAMPLE_STATEMENT_ID, ATTR_SELECT_BY_EXAMPLE_WITH_BLOBS_STATEMENT_ID, ATTR_SELECT_BY_PRIMARY_KEY_STATEMENT_ID, ATTR_UPDATE_BY_EXAMPLE_STATEMENT_ID, ATTR_UPDATE_BY_EXAMPLE_SELECTIVE_STATEMENT_ID, ATTR_UPDATE_BY_EXAMPLE_WITH_BLOBS_STATEMENT_ID, ATTR_UPDATE_BY_PRIMARY_KEY_STATEMENT_ID, ATTR_UPDATE_BY_PRIMARY_KEY_SELECTIVE_STATEMENT_ID, ATTR_UPDATE_BY_PRIMARY_KEY_WITH_BLOBS_STATEMENT_ID, ATTR_BASE_RESULT_MAP_ID, ATTR_RESULT_MAP_WITH_BLOBS_ID, ATTR_EXAMPLE_WHERE_CLAUSE_ID, ATTR_BASE_COLUMN_LIST_ID, ATTR_BLOB_COLUMN_LIST_ID, ATTR_MYBATIS3_UPDATE_BY_EXAMPLE_WHERE_CLAUSE_ID, ATTR_MYBATIS3_SQL_PROVIDER_TYPE
+		ATTR_MYBATIS3_JAVA_MAPPER_TYPE, ATTR_FULLY_QUALIFIED_TABLE_NAME_AT_RUNTIME, ATTR_ALIASED_FULLY_QUALIFIED_TABLE_NAME_AT_RUNTIME, ATTR_COUNT_BY_EXAMPLE_STATEMENT_ID, ATTR_DELETE_BY_EXAMPLE_STATEMENT_ID, ATTR_DELETE_BY_PRIMARY_KEY_STATEMENT_ID, ATTR_DELETE_BY_PRIMARY_KEYS_STATEMENT_ID, ATTR_INSERT_STATEMENT_ID, ATTR_INSERT_SELECTIVE_STATEMENT_ID, ATTR_INSERT_BATCH_STATEMENT_ID, ATTR_UPSERT_STATEMENT_ID, ATTR_UPSERT_SELECTIVE_STATEMENT_ID, ATTR_UPSERT_BATCH_STATEMENT_ID, ATTR_SELECT_BY_EXAMPLE_STATEMENT_ID, ATTR_SELECT_BY_EXAMPLE_WITH_BLOBS_STATEMENT_ID, ATTR_SELECT_BY_EXAMPLE_WITH_HANDLER_STATEMENT_ID, ATTR_SELECT_BY_EXAMPLE_WITH_BLOBS_WITH_HANDLER_STATEMENT_ID, ATTR_SELECT_BY_PRIMARY_KEY_STATEMENT_ID, ATTR_SELECT_BY_PRIMARY_KEYS_STATEMENT_ID, ATTR_UPDATE_BY_EXAMPLE_STATEMENT_ID, ATTR_UPDATE_BY_EXAMPLE_SELECTIVE_STATEMENT_ID, ATTR_UPDATE_BY_EXAMPLE_WITH_BLOBS_STATEMENT_ID, ATTR_UPDATE_BY_PRIMARY_KEY_STATEMENT_ID, ATTR_UPDATE_BY_PRIMARY_KEY_SELECTIVE_STATEMENT_ID, ATTR_UPDATE_BY_PRIMARY_KEY_WITH_BLOBS_STATEMENT_ID, ATTR_BASE_RESULT_MAP_ID, ATTR_RESULT_MAP_WITH_BLOBS_ID, ATTR_EXAMPLE_WHERE_CLAUSE_ID, ATTR_BASE_COLUMN_LIST_ID, ATTR_BLOB_COLUMN_LIST_ID, ATTR_MYBATIS3_UPDATE_BY_EXAMPLE_WHERE_CLAUSE_ID, ATTR_MYBATIS3_SQL_PROVIDER_TYPE
 	}
 
 	protected TableConfiguration tableConfiguration;
@@ -66,6 +69,29 @@ public abstract class IntrospectedTable {
 	protected List<IntrospectedColumn> baseColumns;
 	protected List<IntrospectedColumn> blobColumns;
 	protected TargetRuntime targetRuntime;
+
+	/**
+	 * The following values are calculated when they are first needed, and
+	 * discarded when a column is added or moved to the primary key
+	 */
+	private List<IntrospectedColumn> allColumns;
+	private List<IntrospectedColumn> nonBLOBColumns;
+	private List<IntrospectedColumn> nonPrimaryKeyColumns;
+
+	/**
+	 * Key is the actual name of a delimited column
+	 */
+	private Map<String, IntrospectedColumn> delimitedColumnIndex;
+
+	/**
+	 * Key is the case folded actual name of a column that is not delimited
+	 */
+	private Map<String, IntrospectedColumn> columnIndex;
+
+	// the column counts when the values above were calculated
+	private int cachedPrimaryKeyColumnCount;
+	private int cachedBaseColumnCount;
+	private int cachedBLOBColumnCount;
 	/**
 	 * 表注释
 	 */
@@ -127,48 +153,79 @@ public abstract class IntrospectedTable {
 	public IntrospectedColumn getColumn(String columnName) {
 		if (columnName == null) {
 			return null;
-		} else {
-			// search primary key columns
-			for (IntrospectedColumn introspectedColumn : primaryKeyColumns) {
-				if (introspectedColumn.isColumnNameDelimited()) {
-					if (introspectedColumn.getActualColumnName().equals(columnName)) {
-						return introspectedColumn;
-					}
-				} else {
-					if (introspectedColumn.getActualColumnName().equalsIgnoreCase(columnName)) {
-						return introspectedColumn;
-					}
-				}
-			}
+		}
 
-			// search base columns
-			for (IntrospectedColumn introspectedColumn : baseColumns) {
-				if (introspectedColumn.isColumnNameDelimited()) {
-					if (introspectedColumn.getActualColumnName().equals(columnName)) {
-						return introspectedColumn;
-					}
-				} else {
-					if (introspectedColumn.getActualColumnName().equalsIgnoreCase(columnName)) {
-						return introspectedColumn;
-					}
-				}
-			}
+		validateColumnCaches();
+		if (columnIndex == null) {
+			buildColumnIndex();
+		}
+
+		IntrospectedColumn delimitedColumn = delimitedColumnIndex.get(columnName);
+		IntrospectedColumn column = columnIndex.get(foldCase(columnName));
+		if (delimitedColumn == null) {
+			return column;
+		} else if (column == null) {
+			return delimitedColumn;
+		}
 
-			// search blob columns
-			for (IntrospectedColumn introspectedColumn : blobColumns) {
-				if (introspectedColumn.isColumnNameDelimited()) {
-					if (introspectedColumn.getActualColumnName().equals(columnName)) {
-						return introspectedColumn;
-					}
-				} else {
-					if (introspectedColumn.getActualColumnName().equalsIgnoreCase(columnName)) {
-						return introspectedColumn;
-					}
+		// both match - return the column that comes first in the table
+		List<IntrospectedColumn> columns = getAllColumns();
+		return columns.indexOf(delimitedColumn) < columns.indexOf(column) ? delimitedColumn : column;
+	}
+
+	private void buildColumnIndex() {
+		delimitedColumnIndex = new HashMap<String, IntrospectedColumn>();
+		columnIndex = new HashMap<String, IntrospectedColumn>();
+		for (IntrospectedColumn introspectedColumn : getAllColumns()) {
+			String columnName = introspectedColumn.getActualColumnName();
+			if (introspectedColumn.isColumnNameDelimited()) {
+				if (!delimitedColumnIndex.containsKey(columnName)) {
+					delimitedColumnIndex.put(columnName, introspectedColumn);
+				}
+			} else {
+				String key = foldCase(columnName);
+				if (!columnIndex.containsKey(key)) {
+					columnIndex.put(key, introspectedColumn);
 				}
 			}
+		}
+	}
 
-			return null;
+	/**
+	 * Two names are equal ignoring case (as in String.equalsIgnoreCase) if
+	 * their folded names are equal.
+	 */
+	private static String foldCase(String name) {
+		char[] chars = name.toCharArray();
+		for (int i = 0; i < chars.length; i++) {
+			chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
 		}
+
+		return new String(chars);
+	}
+
+	/**
+	 * Discards the cached column lists and index if the column lists have
+	 * been changed directly, rather than by addColumn() or
+	 * addPrimaryKeyColumn().
+	 */
+	private void validateColumnCaches() {
+		if (primaryKeyColumns.size() != cachedPrimaryKeyColumnCount
+				|| baseColumns.size() != cachedBaseColumnCount
+				|| blobColumns.size() != cachedBLOBColumnCount) {
+			clearColumnCaches();
+		}
+	}
+
+	private void clearColumnCaches() {
+		allColumns = null;
+		nonBLOBColumns = null;
+		nonPrimaryKeyColumns = null;
+		delimitedColumnIndex = null;
+		columnIndex = null;
+		cachedPrimaryKeyColumnCount = primaryKeyColumns.size();
+		cachedBaseColumnCount = baseColumns.size();
+		cachedBLOBColumnCount = blobColumns.size();
 	}
 
 	/**
@@ -250,42 +307,59 @@ public abstract class IntrospectedTable {
 	 * Returns all columns in the table (for use by the select by primary key
 	 * and select by example with BLOBs methods)
 	 * 
-	 * @return a List of ColumnDefinition objects for all columns in the table
+	 * @return an unmodifiable List of ColumnDefinition objects for all columns
+	 *         in the table
 	 */
 	public List<IntrospectedColumn> getAllColumns() {
-		List<IntrospectedColumn> answer = new ArrayList<IntrospectedColumn>();
-		answer.addAll(primaryKeyColumns);
-		answer.addAll(baseColumns);
-		answer.addAll(blobColumns);
+		validateColumnCaches();
+		if (allColumns == null) {
+			List<IntrospectedColumn> answer = new ArrayList<IntrospectedColumn>();
+			answer.addAll(primaryKeyColumns);
+			answer.addAll(baseColumns);
+			answer.addAll(blobColumns);
+			allColumns = Collections.unmodifiableList(answer);
+		}
 
-		return answer;
+		return allColumns;
 	}
 
 	/**
 	 * Returns all columns except BLOBs (for use by the select by example
 	 * without BLOBs method)
 	 * 
-	 * @return a List of ColumnDefinition objects for columns in the table that
-	 *         are non BLOBs
+	 * @return an unmodifiable List of ColumnDefinition objects for columns in
+	 *         the table that are non BLOBs
 	 */
 	public List<IntrospectedColumn> getNonBLOBColumns() {
-		List<IntrospectedColumn> answer = new ArrayList<IntrospectedColumn>();
-		answer.addAll(primaryKeyColumns);
-		answer.addAll(baseColumns);
+		validateColumnCaches();
+		if (nonBLOBColumns == null) {
+			List<IntrospectedColumn> answer = new ArrayList<IntrospectedColumn>();
+			answer.addAll(primaryKeyColumns);
+			answer.addAll(baseColumns);
+			nonBLOBColumns = Collections.unmodifiableList(answer);
+		}
 
-		return answer;
+		return nonBLOBColumns;
 	}
 
 	public int getNonBLOBColumnCount() {
 		return primaryKeyColumns.size() + baseColumns.size();
 	}
 
+	/**
+	 * @return an unmodifiable List of ColumnDefinition objects for columns in
+	 *         the table that are not part of the primary key
+	 */
 	public List<IntrospectedColumn> getNonPrimaryKeyColumns() {
-		List<IntrospectedColumn> answer = new ArrayList<IntrospectedColumn>();
-		answer.addAll(baseColumns);
-		answer.addAll(blobColumns);
+		validateColumnCaches();
+		if (nonPrimaryKeyColumns == null) {
+			List<IntrospectedColumn> answer = new ArrayList<IntrospectedColumn>();
+			answer.addAll(baseColumns);
+			answer.addAll(blobColumns);
+			nonPrimaryKeyColumns = Collections.unmodifiableList(answer);
+		}
 
-		return answer;
+		return nonPrimaryKeyColumns;
 	}
 
 	public List<IntrospectedColumn> getBLOBColumns() {
@@ -308,6 +382,142 @@ public abstract class IntrospectedTable {
 		return tableConfiguration.getProperty(property);
 	}
 
+	/**
+	 * @return the SQL form of the insertBatch statement, from the
+	 *         insertBatchDialect property of the table or else of the context,
+	 *         or else guessed from the JDBC driver (Oracle drivers use INSERT
+	 *         ALL). For a driver with no known dialect the default is a
+	 *         multi-row VALUES list, which most databases accept.
+	 */
+	public InsertBatchDialects getInsertBatchDialect() {
+		String dialect = getTableConfigurationProperty(PropertyRegistry.ANY_INSERT_BATCH_DIALECT);
+		if (!stringHasValue(dialect)) {
+			dialect = context.getProperty(PropertyRegistry.ANY_INSERT_BATCH_DIALECT);
+		}
+
+		InsertBatchDialects answer;
+		if (stringHasValue(dialect)) {
+			answer = InsertBatchDialects.getInsertBatchDialect(dialect);
+		} else {
+			answer = InsertBatchDialects.getInsertBatchDialectForDriver(context.getJdbcConnectionConfiguration()
+					.getDriverClass());
+		}
+		return answer == null ? InsertBatchDialects.VALUES : answer;
+	}
+
+	/**
+	 * @return the maximum number of records per insertBatch statement, from the
+	 *         insertBatchMaxRows property of the table or else of the context.
+	 *         The default is 500.
+	 */
+	public int getInsertBatchMaxRows() {
+		String maxRows = getTableConfigurationProperty(PropertyRegistry.ANY_INSERT_BATCH_MAX_ROWS);
+		if (!stringHasValue(maxRows)) {
+			maxRows = context.getProperty(PropertyRegistry.ANY_INSERT_BATCH_MAX_ROWS);
+		}
+
+		if (stringHasValue(maxRows)) {
+			try {
+				return Integer.parseInt(maxRows.trim());
+			} catch (NumberFormatException e) {
+				// ignore - reported by the validation
+				;
+			}
+		}
+
+		return 500;
+	}
+
+	/**
+	 * @return the SQL form of the upsert statements, from the upsertDialect
+	 *         property of the table or else of the context, or else guessed
+	 *         from the JDBC driver. May return null if there is no known
+	 *         dialect (the validation reports this).
+	 */
+	public UpsertDialects getUpsertDialect() {
+		String dialect = getTableConfigurationProperty(PropertyRegistry.ANY_UPSERT_DIALECT);
+		if (!stringHasValue(dialect)) {
+			dialect = context.getProperty(PropertyRegistry.ANY_UPSERT_DIALECT);
+		}
+
+		if (stringHasValue(dialect)) {
+			return UpsertDialects.getUpsertDialect(dialect);
+		}
+
+		return UpsertDialects.getUpsertDialectForDriver(context.getJdbcConnectionConfiguration().getDriverClass());
+	}
+
+	/**
+	 * @return the JDBC fetch size of the selectByParams statements, from the
+	 *         fetchSize property of the table or else of the context, or null
+	 *         if it is not set (the driver default is used)
+	 */
+	public String getFetchSize() {
+		String fetchSize = getTableConfigurationProperty(PropertyRegistry.ANY_FETCH_SIZE);
+		if (!stringHasValue(fetchSize)) {
+			fetchSize = context.getProperty(PropertyRegistry.ANY_FETCH_SIZE);
+		}
+
+		return stringHasValue(fetchSize) ? fetchSize.trim() : null;
+	}
+
+	/**
+	 * @return true if the columnProjection property of the table (or else of
+	 *         the context) is true. The example class then gets a Column enum
+	 *         and setSelectColumns(Column...), and the selectByParams
+	 *         statements select only the requested columns. Constructor based
+	 *         result maps need every column, so there is no projection for
+	 *         constructor based (and immutable) records.
+	 */
+	public boolean isColumnProjectionEnabled() {
+		String columnProjection = getTableConfigurationProperty(PropertyRegistry.ANY_COLUMN_PROJECTION);
+		if (!stringHasValue(columnProjection)) {
+			columnProjection = context.getProperty(PropertyRegistry.ANY_COLUMN_PROJECTION);
+		}
+
+		return isTrue(columnProjection) && !isConstructorBased();
+	}
+
+	/**
+	 * @return the maximum number of keys in one IN list of the
+	 *         selectByPrimaryKeys and deleteByPrimaryKeys statements, from the
+	 *         inListMaxSize property of the table or else of the context. The
+	 *         default is 1000, the limit of Oracle.
+	 */
+	public int getInListMaxSize() {
+		String maxSize = getTableConfigurationProperty(PropertyRegistry.ANY_IN_LIST_MAX_SIZE);
+		if (!stringHasValue(maxSize)) {
+			maxSize = context.getProperty(PropertyRegistry.ANY_IN_LIST_MAX_SIZE);
+		}
+
+		if (stringHasValue(maxSize)) {
+			try {
+				return Integer.parseInt(maxSize.trim());
+			} catch (NumberFormatException e) {
+				// ignore - reported by the validation
+				;
+			}
+		}
+
+		return 1000;
+	}
+
+	/**
+	 * Guesses from the class name of the JDBC driver whether the database
+	 * supports row value constructors in IN lists, like (A, B) in ((1, 2), (3,
+	 * 4)). MySQL, Oracle, PostgreSQL, DB2 and H2 do; for other databases the
+	 * composite keys are compared with OR.
+	 * 
+	 * @return true if the database supports row values in IN lists
+	 */
+	public boolean isRowValueInListSupported() {
+		String driverClass = context.getJdbcConnectionConfiguration().getDriverClass();
+		String driver = driverClass == null ? "" : driverClass.toLowerCase(); //$NON-NLS-1$
+		return driver.contains("mysql") || driver.contains("mariadb") //$NON-NLS-1$ //$NON-NLS-2$
+				|| driver.contains("oracle") || driver.contains("postgresql") //$NON-NLS-1$ //$NON-NLS-2$
+				|| driver.contains("db2") || driver.contains("h2"); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
 	public String getPrimaryKeyType() {
 		return internalAttributes.get(InternalAttribute.ATTR_PRIMARY_KEY_TYPE);
 	}
@@ -396,6 +606,7 @@ public abstract class IntrospectedTable {
 		}
 
 		introspectedColumn.setIntrospectedTable(this);
+		clearColumnCaches();
 	}
 
 	public void addPrimaryKeyColumn(String columnName) {
@@ -425,6 +636,10 @@ public abstract class IntrospectedTable {
 				}
 			}
 		}
+
+		if (found) {
+			clearColumnCaches();
+		}
 	}
 
 	public Object getAttribute(String name) {
@@ -472,11 +687,19 @@ public abstract class IntrospectedTable {
 		setCountByParamsStatementId("countByParams"); //$NON-NLS-1$
 		setDeleteByParamsStatementId("deleteByParams"); //$NON-NLS-1$
 		setDeleteByPrimaryKeyStatementId("deleteByPrimaryKey"); //$NON-NLS-1$
+		setDeleteByPrimaryKeysStatementId("deleteByPrimaryKeys"); //$NON-NLS-1$
 		setInsertStatementId("insert"); //$NON-NLS-1$
 		setInsertSelectiveStatementId("insertSelective"); //$NON-NLS-1$
+		setInsertBatchStatementId("insertBatch"); //$NON-NLS-1$
+		setUpsertStatementId("upsert"); //$NON-NLS-1$
+		setUpsertSelectiveStatementId("upsertSelective"); //$NON-NLS-1$
+		setUpsertBatchStatementId("upsertBatch"); //$NON-NLS-1$
 		setSelectByParamsStatementId("selectByParams"); //$NON-NLS-1$
 		setSelectByParamsWithBLOBsStatementId("selectByParamsWithBLOBs"); //$NON-NLS-1$
+		setSelectByParamsWithHandlerStatementId("selectByParamsWithHandler"); //$NON-NLS-1$
+		setSelectByParamsWithBLOBsWithHandlerStatementId("selectByParamsWithBLOBsWithHandler"); //$NON-NLS-1$
 		setSelectByPrimaryKeyStatementId("selectByPrimaryKey"); //$NON-NLS-1$
+		setSelectByPrimaryKeysStatementId("selectByPrimaryKeys"); //$NON-NLS-1$
 		setUpdateByParamsStatementId("updateByParams"); //$NON-NLS-1$
 		setUpdateByParamsSelectiveStatementId("updateByParamsSelective"); //$NON-NLS-1$
 		setUpdateByParamsWithBLOBsStatementId("updateByParamsWithBLOBs"); //$NON-NLS-1$
@@ -543,10 +766,22 @@ public abstract class IntrospectedTable {
 		internalAttributes.put(InternalAttribute.ATTR_SELECT_BY_PRIMARY_KEY_STATEMENT_ID, s);
 	}
 
+	public void setSelectByPrimaryKeysStatementId(String s) {
+		internalAttributes.put(InternalAttribute.ATTR_SELECT_BY_PRIMARY_KEYS_STATEMENT_ID, s);
+	}
+
 	public void setSelectByParamsWithBLOBsStatementId(String s) {
 		internalAttributes.put(InternalAttribute.ATTR_SELECT_BY_EXAMPLE_WITH_BLOBS_STATEMENT_ID, s);
 	}
 
+	public void setSelectByParamsWithHandlerStatementId(String s) {
+		internalAttributes.put(InternalAttribute.ATTR_SELECT_BY_EXAMPLE_WITH_HANDLER_STATEMENT_ID, s);
+	}
+
+	public void setSelectByParamsWithBLOBsWithHandlerStatementId(String s) {
+		internalAttributes.put(InternalAttribute.ATTR_SELECT_BY_EXAMPLE_WITH_BLOBS_WITH_HANDLER_STATEMENT_ID, s);
+	}
+
 	public void setSelectByParamsStatementId(String s) {
 		internalAttributes.put(InternalAttribute.ATTR_SELECT_BY_EXAMPLE_STATEMENT_ID, s);
 	}
@@ -559,10 +794,30 @@ public abstract class IntrospectedTable {
 		internalAttributes.put(InternalAttribute.ATTR_INSERT_STATEMENT_ID, s);
 	}
 
+	public void setInsertBatchStatementId(String s) {
+		internalAttributes.put(InternalAttribute.ATTR_INSERT_BATCH_STATEMENT_ID, s);
+	}
+
+	public void setUpsertStatementId(String s) {
+		internalAttributes.put(InternalAttribute.ATTR_UPSERT_STATEMENT_ID, s);
+	}
+
+	public void setUpsertSelectiveStatementId(String s) {
+		internalAttributes.put(InternalAttribute.ATTR_UPSERT_SELECTIVE_STATEMENT_ID, s);
+	}
+
+	public void setUpsertBatchStatementId(String s) {
+		internalAttributes.put(InternalAttribute.ATTR_UPSERT_BATCH_STATEMENT_ID, s);
+	}
+
 	public void setDeleteByPrimaryKeyStatementId(String s) {
 		internalAttributes.put(InternalAttribute.ATTR_DELETE_BY_PRIMARY_KEY_STATEMENT_ID, s);
 	}
 
+	public void setDeleteByPrimaryKeysStatementId(String s) {
+		internalAttributes.put(InternalAttribute.ATTR_DELETE_BY_PRIMARY_KEYS_STATEMENT_ID, s);
+	}
+
 	public void setDeleteByParamsStatementId(String s) {
 		internalAttributes.put(InternalAttribute.ATTR_DELETE_BY_EXAMPLE_STATEMENT_ID, s);
 	}
@@ -623,10 +878,22 @@ public abstract class IntrospectedTable {
 		return internalAttributes.get(InternalAttribute.ATTR_SELECT_BY_PRIMARY_KEY_STATEMENT_ID);
 	}
 
+	public String getSelectByPrimaryKeysStatementId() {
+		return internalAttributes.get(InternalAttribute.ATTR_SELECT_BY_PRIMARY_KEYS_STATEMENT_ID);
+	}
+
 	public String getSelectByParamsWithBLOBsStatementId() {
 		return internalAttributes.get(InternalAttribute.ATTR_SELECT_BY_EXAMPLE_WITH_BLOBS_STATEMENT_ID);
 	}
 
+	public String getSelectByParamsWithHandlerStatementId() {
+		return internalAttributes.get(InternalAttribute.ATTR_SELECT_BY_EXAMPLE_WITH_HANDLER_STATEMENT_ID);
+	}
+
+	public String getSelectByParamsWithBLOBsWithHandlerStatementId() {
+		return internalAttributes.get(InternalAttribute.ATTR_SELECT_BY_EXAMPLE_WITH_BLOBS_WITH_HANDLER_STATEMENT_ID);
+	}
+
 	public String getSelectByParamsStatementId() {
 		return internalAttributes.get(InternalAttribute.ATTR_SELECT_BY_EXAMPLE_STATEMENT_ID);
 	}
@@ -639,10 +906,30 @@ public abstract class IntrospectedTable {
 		return internalAttributes.get(InternalAttribute.ATTR_INSERT_STATEMENT_ID);
 	}
 
+	public String getInsertBatchStatementId() {
+		return internalAttributes.get(InternalAttribute.ATTR_INSERT_BATCH_STATEMENT_ID);
+	}
+
+	public String getUpsertStatementId() {
+		return internalAttributes.get(InternalAttribute.ATTR_UPSERT_STATEMENT_ID);
+	}
+
+	public String getUpsertSelectiveStatementId() {
+		return internalAttributes.get(InternalAttribute.ATTR_UPSERT_SELECTIVE_STATEMENT_ID);
+	}
+
+	public String getUpsertBatchStatementId() {
+		return internalAttributes.get(InternalAttribute.ATTR_UPSERT_BATCH_STATEMENT_ID);
+	}
+
 	public String getDeleteByPrimaryKeyStatementId() {
 		return internalAttributes.get(InternalAttribute.ATTR_DELETE_BY_PRIMARY_KEY_STATEMENT_ID);
 	}
 
+	public String getDeleteByPrimaryKeysStatementId() {
+		return internalAttributes.get(InternalAttribute.ATTR_DELETE_BY_PRIMARY_KEYS_STATEMENT_ID);
+	}
+
 	public String getDeleteByParamsStatementId() {
 		return internalAttributes.get(InternalAttribute.ATTR_DELETE_BY_EXAMPLE_STATEMENT_ID);
 	}
@@ -20,13 +20,26 @@ import static org.mybatis.generator.internal.util.messages.Messages.getString;
 
 import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileWriter;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.mybatis.generator.config.Configuration;
 import org.mybatis.generator.config.Context;
@@ -34,9 +47,14 @@ import org.mybatis.generator.config.MergeConstants;
 import org.mybatis.generator.exception.InvalidConfigurationException;
 import org.mybatis.generator.exception.ShellException;
 import org.mybatis.generator.internal.DefaultShellCallback;
+import org.mybatis.generator.internal.FileHashManifest;
 import org.mybatis.generator.internal.ObjectFactory;
 import org.mybatis.generator.internal.NullProgressCallback;
+import org.mybatis.generator.internal.PipelineQueue;
+import org.mybatis.generator.internal.TableFingerprintManifest;
 import org.mybatis.generator.internal.XmlFileMergerJaxp;
+import org.mybatis.generator.internal.db.IntrospectionSnapshot;
+import org.mybatis.generator.internal.util.TimingUtility;
 
 /**
  * This class is the main interface to MyBatis generator. A typical execution of
@@ -55,6 +73,27 @@ import org.mybatis.generator.internal.XmlFileMergerJaxp;
  */
 public class MyBatisGenerator {
 
+	/**
+	 * The number of introspected tables that may wait for generation in
+	 * pipeline mode
+	 */
+	private static final int PIPELINE_TABLE_QUEUE_SIZE = 16;
+
+	/**
+	 * The number of generated files that may wait to be written in pipeline
+	 * mode
+	 */
+	private static final int PIPELINE_FILE_QUEUE_SIZE = 64;
+
+	private static final int DEFAULT_WRITER_THREADS = 1;
+
+	/**
+	 * The number of files per writer thread that may wait to be saved
+	 */
+	private static final int WRITER_QUEUE_FACTOR = 4;
+
+	private static final Charset XML_CHARSET = Charset.forName("UTF-8"); //$NON-NLS-1$
+
 	private Configuration configuration;
 
 	private ShellCallback shellCallback;
@@ -67,6 +106,55 @@ public class MyBatisGenerator {
 
 	private Set<String> projects;
 
+	private File snapshotFile;
+
+	private IntrospectionSnapshot introspectionSnapshot;
+
+	private boolean offline;
+
+	private boolean pipelined;
+
+	private File manifestFile;
+
+	private FileHashManifest fileHashManifest;
+
+	private File tableManifestFile;
+
+	private TableFingerprintManifest tableFingerprintManifest;
+
+	/**
+	 * True if a file that does not belong to a table could not be saved. The
+	 * table manifest is then not saved, so that the next run generates every
+	 * changed table again.
+	 */
+	private boolean tableManifestInvalid;
+
+	private GenerationMetrics generationMetrics;
+
+	private int writtenFiles;
+
+	private int skippedFiles;
+
+	private int mergedFiles;
+
+	private int writerThreads = DEFAULT_WRITER_THREADS;
+
+	private Charset javaFileCharset = Charset.defaultCharset();
+
+	/**
+	 * One single thread executor per writer thread. All files of one target
+	 * path are saved by the same executor, in the order they were generated.
+	 */
+	private ExecutorService[] writerExecutors;
+
+	private LinkedList<Future<FileSave>> pendingFileSaves;
+
+	/**
+	 * The directories of the save phase. Key is target project + '\n' +
+	 * target package
+	 */
+	private Map<String, File> directories;
+
 	/**
 	 * Constructs a MyBatisGenerator object.
 	 * 
@@ -113,6 +201,143 @@ public class MyBatisGenerator {
 		this.configuration.validate();
 	}
 
+	/**
+	 * Sets the file of the introspection snapshot. If set, the introspected
+	 * tables of each context are saved in this file and reused by later runs
+	 * as long as the configuration and the database schema have not changed.
+	 * 
+	 * @param snapshotFile
+	 *            the snapshot file, or <code>null</code> to always introspect
+	 *            the database
+	 */
+	public void setSnapshotFile(File snapshotFile) {
+		this.snapshotFile = snapshotFile;
+	}
+
+	/**
+	 * Sets an introspection snapshot that is kept in memory by the caller, so
+	 * that a long running process can reuse the introspected tables without a
+	 * snapshot file (see GeneratorDaemon). The snapshot is only used if no
+	 * snapshot file is set, and is updated like the snapshot file.
+	 * 
+	 * @param introspectionSnapshot
+	 *            the snapshot, or <code>null</code> to always introspect the
+	 *            database
+	 */
+	public void setIntrospectionSnapshot(IntrospectionSnapshot introspectionSnapshot) {
+		this.introspectionSnapshot = introspectionSnapshot;
+	}
+
+	/**
+	 * If offline, the introspected tables are restored from the snapshot file
+	 * without connecting to the database. Generation fails if the snapshot
+	 * does not contain a current introspection of every context.
+	 * 
+	 * @param offline
+	 */
+	public void setOffline(boolean offline) {
+		this.offline = offline;
+	}
+
+	/**
+	 * If pipelined, each context is introspected, generated and saved by three
+	 * concurrent stages connected by bounded queues. A table is generated as
+	 * soon as it has been introspected, and its files are written as soon as
+	 * they have been generated, so the generated sources of the whole
+	 * configuration are never held in memory at once. The files of plugins
+	 * that need the whole context are generated after the last table.
+	 * <p>
+	 * In this mode the generated files are not available from
+	 * getGeneratedJavaFiles() and getGeneratedXmlFiles(), the tables are
+	 * generated one after the other (the generationThreads context property
+	 * is not used), and the progress callback receives no generationStarted
+	 * and saveStarted calls because the totals are not known in advance.
+	 * 
+	 * @param pipelined
+	 */
+	public void setPipelined(boolean pipelined) {
+		this.pipelined = pipelined;
+	}
+
+	/**
+	 * Sets the file of the write manifest. If set, a generated file is not
+	 * written if the existing file already has exactly the generated content,
+	 * so the modification time of unchanged files is kept. The manifest
+	 * records the hash of every written file, so an unchanged file usually
+	 * does not have to be read to find out.
+	 * 
+	 * @param manifestFile
+	 *            the manifest file, or <code>null</code> to always write the
+	 *            generated files
+	 */
+	public void setManifestFile(File manifestFile) {
+		this.manifestFile = manifestFile;
+	}
+
+	/**
+	 * Sets the file of the table manifest (incremental mode). If set, the
+	 * manifest records a fingerprint of every generated table - its
+	 * introspected columns, keys and remarks, its table configuration and the
+	 * rest of the context configuration including the plugins. A table whose
+	 * fingerprint has not changed since the last run is not generated, merged
+	 * or written again.
+	 * <p>
+	 * Tables are only skipped in contexts where every plugin is a
+	 * ThreadSafePlugin, because other plugins may need all tables to generate
+	 * the files of the context. The manifest is only saved after all files
+	 * have been written. If generated files are deleted, the manifest must be
+	 * deleted as well.
+	 * 
+	 * @param tableManifestFile
+	 *            the manifest file, or <code>null</code> to always generate
+	 *            every table
+	 */
+	public void setTableManifestFile(File tableManifestFile) {
+		this.tableManifestFile = tableManifestFile;
+	}
+
+	/**
+	 * Sets the metrics that receive the timings of the run - per phase, per
+	 * table (introspection, generation and save), per plugin method and per
+	 * written file. The metrics are also set on every context that is run.
+	 * 
+	 * @param generationMetrics
+	 *            the metrics, or <code>null</code> (the default) to not
+	 *            measure anything
+	 * @see org.mybatis.generator.internal.MetricsCollector
+	 */
+	public void setGenerationMetrics(GenerationMetrics generationMetrics) {
+		this.generationMetrics = generationMetrics;
+	}
+
+	/**
+	 * Sets the number of threads that merge and write the generated files
+	 * (default 1). The files are still reported to the progress callback and
+	 * the metrics in their order, by the calling thread. Files with the same
+	 * target path (such as a class that a plugin generates for every table)
+	 * are always saved by the same thread, in the order they were generated,
+	 * and ShellCallback.mergeJavaFile is never called by two threads at once.
+	 * 
+	 * @param writerThreads
+	 *            the number of threads, or 1 (the default) to save the files
+	 *            on the calling thread
+	 */
+	public void setWriterThreads(int writerThreads) {
+		this.writerThreads = writerThreads;
+	}
+
+	/**
+	 * Sets the encoding of the generated Java files. The default is the
+	 * platform encoding. XML files are always written in UTF-8, as declared
+	 * in their XML declaration.
+	 * 
+	 * @param javaFileEncoding
+	 *            the name of a charset
+	 */
+	public void setJavaFileEncoding(String javaFileEncoding) {
+		this.javaFileCharset = Charset.forName(javaFileEncoding);
+	}
+
 	/**
 	 * This is the main method for generating code. This method is long running,
 	 * but progress can be provided and the method can be canceled through the
@@ -188,6 +413,13 @@ public class MyBatisGenerator {
 
 		generatedJavaFiles.clear();
 		generatedXmlFiles.clear();
+		writtenFiles = 0;
+		skippedFiles = 0;
+		mergedFiles = 0;
+		fileHashManifest = manifestFile == null ? null : new FileHashManifest(manifestFile);
+		tableManifestInvalid = false;
+		tableFingerprintManifest = tableManifestFile == null ? null : new TableFingerprintManifest(
+				tableManifestFile);
 
 		// calculate the contexts to run
 		List<Context> contextsToRun;
@@ -208,102 +440,501 @@ public class MyBatisGenerator {
 			ObjectFactory.setExternalClassLoader(classLoader);
 		}
 
+		for (Context context : contextsToRun) {
+			context.setGenerationMetrics(generationMetrics);
+		}
+
 		// now run the introspections...
+		long phaseStartTime = System.nanoTime();
+		long phaseStartCpuTime = TimingUtility.getCurrentThreadCpuTime();
 		int totalSteps = 0;
 		for (Context context : contextsToRun) {
 			totalSteps += context.getIntrospectionSteps();
 		}
 		callback.introspectionStarted(totalSteps);
 
-		for (Context context : contextsToRun) {
-			context.introspectTables(callback, warnings, fullyQualifiedTableNames);
+		IntrospectionSnapshot snapshot = null;
+		if (snapshotFile != null) {
+			snapshot = IntrospectionSnapshot.load(snapshotFile);
+		} else if (introspectionSnapshot != null) {
+			snapshot = introspectionSnapshot;
+		} else if (offline) {
+			snapshot = new IntrospectionSnapshot();
 		}
 
-		// now run the generates
-		totalSteps = 0;
-		for (Context context : contextsToRun) {
-			totalSteps += context.getGenerationSteps();
+		if (pipelined) {
+			generatePipelined(callback, contextsToRun, fullyQualifiedTableNames, snapshot);
+		} else {
+			for (Context context : contextsToRun) {
+				context.introspectTables(callback, warnings, fullyQualifiedTableNames, snapshot, offline);
+			}
 		}
-		callback.generationStarted(totalSteps);
 
-		for (Context context : contextsToRun) {
-			context.generateFiles(callback, generatedJavaFiles, generatedXmlFiles, warnings);
+		if (snapshotFile != null && snapshot.isChanged()) {
+			snapshot.save(snapshotFile);
 		}
 
-		// now save the files
-		callback.saveStarted(generatedXmlFiles.size() + generatedJavaFiles.size());
+		if (pipelined) {
+			phaseFinished("pipeline", phaseStartTime, phaseStartCpuTime); //$NON-NLS-1$
+		} else {
+			phaseFinished("introspection", phaseStartTime, phaseStartCpuTime); //$NON-NLS-1$
+
+			// now run the generates
+			phaseStartTime = System.nanoTime();
+			phaseStartCpuTime = TimingUtility.getCurrentThreadCpuTime();
+			totalSteps = 0;
+			for (Context context : contextsToRun) {
+				totalSteps += context.getGenerationSteps();
+			}
+			callback.generationStarted(totalSteps);
+
+			for (Context context : contextsToRun) {
+				context.generateFiles(callback, generatedJavaFiles, generatedXmlFiles, warnings,
+						tableFingerprintManifest);
+			}
 
-		for (GeneratedXmlFile gxf : generatedXmlFiles) {
-			projects.add(gxf.getTargetProject());
+			phaseFinished("generation", phaseStartTime, phaseStartCpuTime); //$NON-NLS-1$
 
-			File targetFile;
-			String source;
+			// now save the files
+			phaseStartTime = System.nanoTime();
+			phaseStartCpuTime = TimingUtility.getCurrentThreadCpuTime();
+			callback.saveStarted(generatedXmlFiles.size() + generatedJavaFiles.size());
+
+			startSaving();
 			try {
-				File directory = shellCallback.getDirectory(gxf.getTargetProject(), gxf.getTargetPackage());
-				targetFile = new File(directory, gxf.getFileName());
-				if (targetFile.exists()) {
-					if (gxf.isMergeable()) {
-						source = XmlFileMergerJaxp.getMergedSource(gxf, targetFile);
-					} else if (shellCallback.isOverwriteEnabled()) {
-						source = gxf.getFormattedContent();
-						warnings.add(getString("Warning.11", //$NON-NLS-1$
-								targetFile.getAbsolutePath()));
-					} else {
-						source = gxf.getFormattedContent();
-						targetFile = getUniqueFileName(directory, gxf.getFileName());
-						warnings.add(getString("Warning.2", targetFile.getAbsolutePath())); //$NON-NLS-1$
+				for (GeneratedXmlFile gxf : generatedXmlFiles) {
+					saveGeneratedFile(gxf, callback, warnings);
+				}
+
+				for (GeneratedJavaFile gjf : generatedJavaFiles) {
+					saveGeneratedFile(gjf, callback, warnings);
+				}
+
+				finishSaving(callback, warnings);
+			} finally {
+				stopSaving();
+			}
+
+			phaseFinished("save", phaseStartTime, phaseStartCpuTime); //$NON-NLS-1$
+		}
+
+		if (fileHashManifest != null) {
+			fileHashManifest.save();
+		}
+
+		if (tableFingerprintManifest != null && !tableManifestInvalid) {
+			tableFingerprintManifest.save();
+		}
+
+		for (String project : projects) {
+			shellCallback.refreshProject(project);
+		}
+
+		callback.saveFinished(writtenFiles, skippedFiles, mergedFiles);
+		callback.done();
+	}
+
+	private void phaseFinished(String phase, long startTime, long startCpuTime) {
+		if (generationMetrics != null) {
+			generationMetrics.phaseFinished(phase, System.nanoTime() - startTime,
+					TimingUtility.getCpuTimeSince(startCpuTime));
+		}
+	}
+
+	/**
+	 * Runs the introspection and the generation of each context on two stage
+	 * threads, and saves the files on the writer threads as they arrive. The
+	 * warnings of each stage are kept apart and added in the same order as in
+	 * the sequential mode.
+	 */
+	private void generatePipelined(ProgressCallback callback, List<Context> contextsToRun,
+			final Set<String> fullyQualifiedTableNames, final IntrospectionSnapshot snapshot) throws SQLException,
+			IOException, InterruptedException {
+
+		final List<String> introspectionWarnings = Collections.synchronizedList(new ArrayList<String>());
+		final List<String> generationWarnings = Collections.synchronizedList(new ArrayList<String>());
+		List<String> saveWarnings = new ArrayList<String>();
+		final PipelineProgressCallback stageCallback = new PipelineProgressCallback();
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		startSaving();
+
+		try {
+			for (final Context context : contextsToRun) {
+				final PipelineQueue<IntrospectedTable> introspectedTableQueue = new PipelineQueue<IntrospectedTable>(
+						PIPELINE_TABLE_QUEUE_SIZE);
+				final PipelineQueue<GeneratedFile> generatedFileQueue = new PipelineQueue<GeneratedFile>(
+						PIPELINE_FILE_QUEUE_SIZE);
+
+				Future<Object> introspection = executor.submit(new Callable<Object>() {
+					public Object call() throws Exception {
+						context.introspectTables(stageCallback, introspectionWarnings, fullyQualifiedTableNames,
+								snapshot, offline, introspectedTableQueue);
+						return null;
 					}
-				} else {
-					source = gxf.getFormattedContent();
+				});
+
+				Future<Object> generation = executor.submit(new Callable<Object>() {
+					public Object call() throws Exception {
+						context.generateFiles(stageCallback, introspectedTableQueue, generatedFileQueue,
+								generationWarnings, tableFingerprintManifest);
+						return null;
+					}
+				});
+
+				GeneratedFile generatedFile;
+				while ((generatedFile = generatedFileQueue.take()) != null) {
+					stageCallback.replay(callback);
+					saveGeneratedFile(generatedFile, callback, saveWarnings);
 				}
-			} catch (ShellException e) {
-				warnings.add(e.getMessage());
-				continue;
+				finishSaving(callback, saveWarnings);
+				stageCallback.replay(callback);
+
+				// the generation stage only fails on its own errors, an
+				// introspection error just ends its input early
+				getStageResult(generation);
+				getStageResult(introspection);
 			}
+		} finally {
+			executor.shutdownNow();
+			stopSaving();
 
-			callback.checkCancel();
-			callback.startTask(getString("Progress.15", targetFile.getName())); //$NON-NLS-1$
-			writeFile(targetFile, source);
+			warnings.addAll(introspectionWarnings);
+			warnings.addAll(generationWarnings);
+			warnings.addAll(saveWarnings);
 		}
+	}
 
-		for (GeneratedJavaFile gjf : generatedJavaFiles) {
-			projects.add(gjf.getTargetProject());
+	private void getStageResult(Future<Object> stage) throws SQLException, IOException, InterruptedException {
+		try {
+			stage.get();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof SQLException) {
+				throw (SQLException) cause;
+			} else if (cause instanceof IOException) {
+				throw (IOException) cause;
+			} else if (cause instanceof InterruptedException) {
+				throw (InterruptedException) cause;
+			} else if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			} else {
+				throw new RuntimeException(cause);
+			}
+		}
+	}
+
+	/**
+	 * Records the progress messages of the pipeline stages so that the calling
+	 * thread can pass them on to the real progress callback. Cancelling is
+	 * done by interrupting the stage threads.
+	 */
+	private static class PipelineProgressCallback implements ProgressCallback {
+		private List<String> taskNames = new ArrayList<String>();
+
+		public synchronized void replay(ProgressCallback callback) {
+			for (String taskName : taskNames) {
+				callback.startTask(taskName);
+			}
+			taskNames.clear();
+		}
+
+		public void introspectionStarted(int totalTasks) {
+		}
+
+		public void generationStarted(int totalTasks) {
+		}
+
+		public void saveStarted(int totalTasks) {
+		}
+
+		public synchronized void startTask(String taskName) {
+			taskNames.add(taskName);
+		}
+
+		public void saveFinished(int writtenFiles, int skippedFiles, int mergedFiles) {
+		}
+
+		public void done() {
+		}
+
+		public void checkCancel() throws InterruptedException {
+			if (Thread.interrupted()) {
+				throw new InterruptedException();
+			}
+		}
+	}
+
+	/**
+	 * Resolves the directory of the file on the calling thread, and saves the
+	 * file on the writer thread of its target path. If too many files are
+	 * waiting, the result of the oldest file is waited for first.
+	 */
+	private void saveGeneratedFile(GeneratedFile generatedFile, ProgressCallback callback, List<String> warnings)
+			throws InterruptedException {
+		callback.checkCancel();
+		projects.add(generatedFile.getTargetProject());
+
+		long startTime = System.nanoTime();
+		File directory;
+		try {
+			directory = getDirectory(generatedFile.getTargetProject(), generatedFile.getTargetPackage());
+		} catch (ShellException e) {
+			warnings.add(e.getMessage());
+			fileSaveFailed(generatedFile);
+			return;
+		}
+
+		FileSave fileSave = new FileSave(generatedFile, directory, startTime);
+		if (writerExecutors == null) {
+			reportFileSave(fileSave.call(), callback, warnings);
+			return;
+		}
+
+		if (pendingFileSaves.size() >= writerExecutors.length * WRITER_QUEUE_FACTOR) {
+			reportFileSave(getFileSaveResult(pendingFileSaves.removeFirst()), callback, warnings);
+		}
+		int hash = new File(directory, generatedFile.getFileName()).getAbsolutePath().hashCode();
+		pendingFileSaves.add(writerExecutors[(hash & Integer.MAX_VALUE) % writerExecutors.length].submit(fileSave));
+	}
+
+	/**
+	 * Starts the writer threads of a save phase, and clears the directory
+	 * cache (directories may have been removed since the last run).
+	 */
+	private void startSaving() {
+		directories = new HashMap<String, File>();
+		pendingFileSaves = new LinkedList<Future<FileSave>>();
+		if (writerThreads > 1) {
+			writerExecutors = new ExecutorService[writerThreads];
+			for (int i = 0; i < writerExecutors.length; i++) {
+				writerExecutors[i] = Executors.newSingleThreadExecutor();
+			}
+		}
+	}
+
+	/**
+	 * Waits for the files that are still being saved, and reports them.
+	 */
+	private void finishSaving(ProgressCallback callback, List<String> warnings) throws InterruptedException {
+		while (!pendingFileSaves.isEmpty()) {
+			reportFileSave(getFileSaveResult(pendingFileSaves.removeFirst()), callback, warnings);
+		}
+	}
+
+	private void stopSaving() {
+		if (writerExecutors != null) {
+			for (ExecutorService writerExecutor : writerExecutors) {
+				writerExecutor.shutdownNow();
+			}
+			writerExecutors = null;
+		}
+	}
+
+	private FileSave getFileSaveResult(Future<FileSave> future) throws InterruptedException {
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			} else {
+				throw new RuntimeException(cause);
+			}
+		}
+	}
+
+	/**
+	 * Reports a saved file to the progress callback and the metrics. This is
+	 * always done on the calling thread, in the order of the files.
+	 */
+	private void reportFileSave(FileSave fileSave, ProgressCallback callback, List<String> warnings) {
+		warnings.addAll(fileSave.warnings);
+		if (fileSave.failed) {
+			fileSaveFailed(fileSave.generatedFile);
+		}
+		if (fileSave.merged) {
+			mergedFiles++;
+		}
+
+		if (!fileSave.saved) {
+			return;
+		}
+
+		if (fileSave.skipped) {
+			callback.startTask(getString("Progress.20", fileSave.targetFile.getName())); //$NON-NLS-1$
+			skippedFiles++;
+		} else {
+			callback.startTask(getString("Progress.15", fileSave.targetFile.getName())); //$NON-NLS-1$
+			writtenFiles++;
+		}
+		fileSaved(fileSave.targetFile, fileSave.generatedFile, fileSave.skipped, fileSave.merged, fileSave.time);
+	}
+
+	/**
+	 * Removes the table of a file that could not be saved from the table
+	 * manifest, so that the table is generated again in the next incremental
+	 * run. If the file does not belong to a table, the manifest is not saved
+	 * at all.
+	 */
+	private void fileSaveFailed(GeneratedFile generatedFile) {
+		if (tableFingerprintManifest == null) {
+			return;
+		}
 
-			File targetFile;
-			String source;
+		if (generatedFile.getContextId() != null && generatedFile.getTableName() != null) {
+			tableFingerprintManifest.remove(generatedFile.getContextId(), generatedFile.getTableName());
+		} else {
+			tableManifestInvalid = true;
+		}
+	}
+
+	/**
+	 * @return the directory of the target project and package. The
+	 *         directories are cached for the save phase, so that the shell
+	 *         callback checks (and creates) each directory only once.
+	 */
+	private File getDirectory(String targetProject, String targetPackage) throws ShellException {
+		String key = targetProject + '\n' + targetPackage;
+		File directory = directories.get(key);
+		if (directory == null) {
+			directory = shellCallback.getDirectory(targetProject, targetPackage);
+			directories.put(key, directory);
+		}
+
+		return directory;
+	}
+
+	/**
+	 * Merges and writes one generated file. The file is written unless the
+	 * write manifest is used and the existing file already has this content.
+	 * An error while merging or writing the file is a warning, the other files
+	 * are still saved.
+	 */
+	private class FileSave implements Callable<FileSave> {
+		private GeneratedFile generatedFile;
+		private File directory;
+		private long startTime;
+		private File targetFile;
+		private boolean merged;
+		private boolean skipped;
+		private boolean saved;
+		private boolean failed;
+		private long time;
+		private List<String> warnings = new ArrayList<String>();
+
+		private FileSave(GeneratedFile generatedFile, File directory, long startTime) {
+			super();
+			this.generatedFile = generatedFile;
+			this.directory = directory;
+			this.startTime = startTime;
+		}
+
+		public FileSave call() {
+			Charset charset = getCharset(generatedFile);
+			targetFile = new File(directory, generatedFile.getFileName());
+			byte[] content = null;
 			try {
-				File directory = shellCallback.getDirectory(gjf.getTargetProject(), gjf.getTargetPackage());
-				targetFile = new File(directory, gjf.getFileName());
 				if (targetFile.exists()) {
-					if (shellCallback.isMergeSupported()) {
-						source = shellCallback.mergeJavaFile(gjf.getFormattedContent(), targetFile.getAbsolutePath(),
-								MergeConstants.OLD_ELEMENT_TAGS);
-					} else if (shellCallback.isOverwriteEnabled()) {
-						source = gjf.getFormattedContent();
-						warnings.add(getString("Warning.11", //$NON-NLS-1$
-								targetFile.getAbsolutePath()));
+					if (generatedFile instanceof GeneratedXmlFile && generatedFile.isMergeable()) {
+						content = XmlFileMergerJaxp.getMergedSource((GeneratedXmlFile) generatedFile, targetFile)
+								.getBytes(charset);
+						merged = true;
+					} else if (generatedFile instanceof GeneratedJavaFile && shellCallback.isMergeSupported()) {
+						content = mergeJavaFile(generatedFile, targetFile).getBytes(charset);
+						merged = true;
 					} else {
-						source = gjf.getFormattedContent();
-						targetFile = getUniqueFileName(directory, gjf.getFileName());
-						warnings.add(getString("Warning.2", targetFile.getAbsolutePath())); //$NON-NLS-1$
+						// an unchanged file is skipped below, so it is
+						// neither overwritten nor saved under a new name
+						if (fileHashManifest != null) {
+							content = generatedFile.getFormattedContent().getBytes(charset);
+						}
+						if (!isUnchanged(targetFile, content)) {
+							if (shellCallback.isOverwriteEnabled()) {
+								warnings.add(getString("Warning.11", //$NON-NLS-1$
+										targetFile.getAbsolutePath()));
+							} else {
+								targetFile = getUniqueFileName(directory, generatedFile.getFileName());
+								warnings.add(getString("Warning.2", targetFile.getAbsolutePath())); //$NON-NLS-1$
+							}
+						}
 					}
-				} else {
-					source = gjf.getFormattedContent();
 				}
-
-				callback.checkCancel();
-				callback.startTask(getString("Progress.15", targetFile.getName())); //$NON-NLS-1$
-				writeFile(targetFile, source);
 			} catch (ShellException e) {
 				warnings.add(e.getMessage());
+				failed = true;
+				return this;
+			} catch (IOException e) {
+				warnings.add(getString("Warning.27", targetFile.getAbsolutePath(), e.getMessage())); //$NON-NLS-1$
+				failed = true;
+				return this;
 			}
+
+			try {
+				if (content == null && fileHashManifest == null) {
+					// the generated file is rendered directly into the file
+					// writer
+					writeFile(targetFile, generatedFile, charset);
+				} else {
+					if (content == null) {
+						content = generatedFile.getFormattedContent().getBytes(charset);
+					}
+					if (isUnchanged(targetFile, content)) {
+						skipped = true;
+					} else {
+						writeFile(targetFile, content);
+						if (fileHashManifest != null) {
+							fileHashManifest.recordFile(targetFile, content);
+						}
+					}
+				}
+				saved = true;
+			} catch (IOException e) {
+				warnings.add(getString("Warning.27", targetFile.getAbsolutePath(), e.getMessage())); //$NON-NLS-1$
+				failed = true;
+			}
+
+			time = System.nanoTime() - startTime;
+			return this;
 		}
+	}
 
-		for (String project : projects) {
-			shellCallback.refreshProject(project);
+	/**
+	 * Merges the Java file with the shell callback. The calls are serialized,
+	 * because shell callbacks are not required to be thread safe.
+	 */
+	private String mergeJavaFile(GeneratedFile generatedFile, File targetFile) throws ShellException {
+		synchronized (shellCallback) {
+			return shellCallback.mergeJavaFile(generatedFile.getFormattedContent(), targetFile.getAbsolutePath(),
+					MergeConstants.OLD_ELEMENT_TAGS);
 		}
+	}
 
-		callback.done();
+	private void fileSaved(File targetFile, GeneratedFile generatedFile, boolean skipped, boolean merged, long time) {
+		if (generationMetrics != null) {
+			generationMetrics.fileSaved(generatedFile.getContextId(), generatedFile.getTableName(), targetFile,
+					skipped ? 0 : targetFile.length(), skipped, merged, time);
+		}
+	}
+
+	/**
+	 * @return the encoding of the file. XML files are always written in
+	 *         UTF-8, the encoding in their XML declaration.
+	 */
+	private Charset getCharset(GeneratedFile generatedFile) {
+		return generatedFile instanceof GeneratedXmlFile ? XML_CHARSET : javaFileCharset;
+	}
+
+	/**
+	 * @return true if the write manifest is used and the file already has
+	 *         this content
+	 */
+	private boolean isUnchanged(File file, byte[] content) throws IOException {
+		return fileHashManifest != null && fileHashManifest.isUnchanged(file, content);
 	}
 
 	/**
@@ -312,10 +943,66 @@ public class MyBatisGenerator {
 	 * @param file
 	 * @param content
 	 */
-	private void writeFile(File file, String content) throws IOException {
-		BufferedWriter bw = new BufferedWriter(new FileWriter(file, false));
-		bw.write(content);
-		bw.close();
+	private static void writeFile(File file, byte[] content) throws IOException {
+		File tempFile = createTempFile(file);
+		try {
+			OutputStream out = new FileOutputStream(tempFile);
+			try {
+				out.write(content);
+			} finally {
+				out.close();
+			}
+			replaceFile(file, tempFile);
+		} finally {
+			tempFile.delete();
+		}
+	}
+
+	/**
+	 * Writes, or overwrites, the specified file with the generated content
+	 * 
+	 * @param file
+	 * @param generatedFile
+	 */
+	private static void writeFile(File file, GeneratedFile generatedFile, Charset charset) throws IOException {
+		File tempFile = createTempFile(file);
+		try {
+			Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(tempFile), charset));
+			try {
+				generatedFile.writeTo(writer);
+			} finally {
+				writer.close();
+			}
+			replaceFile(file, tempFile);
+		} finally {
+			tempFile.delete();
+		}
+	}
+
+	/**
+	 * @return a new temporary file in the directory of the file. Files are
+	 *         written to a temporary file first, so that a failed write never
+	 *         leaves a partial file behind.
+	 */
+	private static File createTempFile(File file) throws IOException {
+		return File.createTempFile("." + file.getName() + '.', ".tmp", file.getParentFile()); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Renames the temporary file to the file. Where the platform supports it
+	 * the rename replaces the file atomically, otherwise (Windows) the file is
+	 * deleted first.
+	 */
+	private static void replaceFile(File file, File tempFile) throws IOException {
+		if (tempFile.renameTo(file)) {
+			return;
+		}
+
+		if (file.delete() && tempFile.renameTo(file)) {
+			return;
+		}
+
+		throw new IOException(getString("RuntimeError.28", tempFile.getAbsolutePath())); //$NON-NLS-1$
 	}
 
 	private File getUniqueFileName(File directory, String fileName) {
@@ -269,6 +269,91 @@ public interface Plugin {
 	 */
 	boolean clientInsertMethodGenerated(Method method, TopLevelClass topLevelClass, IntrospectedTable introspectedTable);
 
+	/**
+	 * This method is called when the insert batch method has been generated in
+	 * the client implementation class.
+	 * 
+	 * @param method
+	 *            the generated insert batch method
+	 * @param topLevelClass
+	 *            the partially implemented client implementation class. You can
+	 *            add additional imported classes to the implementation class if
+	 *            necessary.
+	 * @param introspectedTable
+	 *            The class containing information about the table as
+	 *            introspected from the database
+	 * @return true if the method should be generated, false if the generated
+	 *         method should be ignored. In the case of multiple plugins, the
+	 *         first plugin returning false will disable the calling of further
+	 *         plugins.
+	 */
+	boolean clientInsertBatchMethodGenerated(Method method, TopLevelClass topLevelClass,
+			IntrospectedTable introspectedTable);
+
+	/**
+	 * This method is called when a select by example with row handler method
+	 * (with or without BLOBs) has been generated in the client implementation
+	 * class.
+	 * 
+	 * @param method
+	 *            the generated select by example with row handler method
+	 * @param topLevelClass
+	 *            the partially implemented client implementation class. You can
+	 *            add additional imported classes to the implementation class if
+	 *            necessary.
+	 * @param introspectedTable
+	 *            The class containing information about the table as
+	 *            introspected from the database
+	 * @return true if the method should be generated, false if the generated
+	 *         method should be ignored. In the case of multiple plugins, the
+	 *         first plugin returning false will disable the calling of further
+	 *         plugins.
+	 */
+	boolean clientSelectByParamsWithHandlerMethodGenerated(Method method, TopLevelClass topLevelClass,
+			IntrospectedTable introspectedTable);
+
+	/**
+	 * This method is called when the select by primary keys method has been generated
+	 * in the client implementation class.
+	 * 
+	 * @param method
+	 *            the generated select by primary keys method
+	 * @param topLevelClass
+	 *            the partially implemented client implementation class. You can
+	 *            add additional imported classes to the implementation class if
+	 *            necessary.
+	 * @param introspectedTable
+	 *            The class containing information about the table as
+	 *            introspected from the database
+	 * @return true if the method should be generated, false if the generated
+	 *         method should be ignored. In the case of multiple plugins, the
+	 *         first plugin returning false will disable the calling of further
+	 *         plugins.
+	 */
+	boolean clientSelectByPrimaryKeysMethodGenerated(Method method, TopLevelClass topLevelClass,
+			IntrospectedTable introspectedTable);
+
+	/**
+	 * This method is called when the delete by primary keys method has been generated
+	 * in the client implementation class.
+	 * 
+	 * @param method
+	 *            the generated delete by primary keys method
+	 * @param topLevelClass
+	 *            the partially implemented client implementation class. You can
+	 *            add additional imported classes to the implementation class if
+	 *            necessary.
+	 * @param introspectedTable
+	 *            The class containing information about the table as
+	 *            introspected from the database
+	 * @return true if the method should be generated, false if the generated
+	 *         method should be ignored. In the case of multiple plugins, the
+	 *         first plugin returning false will disable the calling of further
+	 *         plugins.
+	 */
+	boolean clientDeleteByPrimaryKeysMethodGenerated(Method method, TopLevelClass topLevelClass,
+			IntrospectedTable introspectedTable);
+
 	/**
 	 * This method is called when the insert selective method has been generated
 	 * in the client implementation class.
@@ -556,6 +641,141 @@ public interface Plugin {
 	 */
 	boolean clientInsertMethodGenerated(Method method, Interface interfaze, IntrospectedTable introspectedTable);
 
+	/**
+	 * This method is called when the insert batch method has been generated in
+	 * the client interface.
+	 * 
+	 * @param method
+	 *            the generated insert batch method
+	 * @param interfaze
+	 *            the partially implemented client interface. You can add
+	 *            additional imported classes to the interface if necessary.
+	 * @param introspectedTable
+	 *            The class containing information about the table as
+	 *            introspected from the database
+	 * @return true if the method should be generated, false if the generated
+	 *         method should be ignored. In the case of multiple plugins, the
+	 *         first plugin returning false will disable the calling of further
+	 *         plugins.
+	 */
+	boolean clientInsertBatchMethodGenerated(Method method, Interface interfaze, IntrospectedTable introspectedTable);
+
+	/**
+	 * This method is called when a select by example with result handler
+	 * method (with or without BLOBs) has been generated in the client
+	 * interface.
+	 * 
+	 * @param method
+	 *            the generated select by example with result handler method
+	 * @param interfaze
+	 *            the partially implemented client interface. You can add
+	 *            additional imported classes to the interface if necessary.
+	 * @param introspectedTable
+	 *            The class containing information about the table as
+	 *            introspected from the database
+	 * @return true if the method should be generated, false if the generated
+	 *         method should be ignored. In the case of multiple plugins, the
+	 *         first plugin returning false will disable the calling of further
+	 *         plugins.
+	 */
+	boolean clientSelectByParamsWithHandlerMethodGenerated(Method method, Interface interfaze,
+			IntrospectedTable introspectedTable);
+
+	/**
+	 * This method is called when the select by primary keys method has been generated
+	 * in the client interface.
+	 * 
+	 * @param method
+	 *            the generated select by primary keys method
+	 * @param interfaze
+	 *            the partially implemented client interface. You can add
+	 *            additional imported classes to the interface if necessary.
+	 * @param introspectedTable
+	 *            The class containing information about the table as
+	 *            introspected from the database
+	 * @return true if the method should be generated, false if the generated
+	 *         method should be ignored. In the case of multiple plugins, the
+	 *         first plugin returning false will disable the calling of further
+	 *         plugins.
+	 */
+	boolean clientSelectByPrimaryKeysMethodGenerated(Method method, Interface interfaze, IntrospectedTable introspectedTable);
+
+	/**
+	 * This method is called when the delete by primary keys method has been generated
+	 * in the client interface.
+	 * 
+	 * @param method
+	 *            the generated delete by primary keys method
+	 * @param interfaze
+	 *            the partially implemented client interface. You can add
+	 *            additional imported classes to the interface if necessary.
+	 * @param introspectedTable
+	 *            The class containing information about the table as
+	 *            introspected from the database
+	 * @return true if the method should be generated, false if the generated
+	 *         method should be ignored. In the case of multiple plugins, the
+	 *         first plugin returning false will disable the calling of further
+	 *         plugins.
+	 */
+	boolean clientDeleteByPrimaryKeysMethodGenerated(Method method, Interface interfaze, IntrospectedTable introspectedTable);
+
+	/**
+	 * This method is called when the upsert method has been generated in the
+	 * client interface.
+	 * 
+	 * @param method
+	 *            the generated upsert method
+	 * @param interfaze
+	 *            the partially implemented client interface. You can add
+	 *            additional imported classes to the interface if necessary.
+	 * @param introspectedTable
+	 *            The class containing information about the table as
+	 *            introspected from the database
+	 * @return true if the method should be generated, false if the generated
+	 *         method should be ignored. In the case of multiple plugins, the
+	 *         first plugin returning false will disable the calling of further
+	 *         plugins.
+	 */
+	boolean clientUpsertMethodGenerated(Method method, Interface interfaze, IntrospectedTable introspectedTable);
+
+	/**
+	 * This method is called when the upsert selective method has been generated in the
+	 * client interface.
+	 * 
+	 * @param method
+	 *            the generated upsert selective method
+	 * @param interfaze
+	 *            the partially implemented client interface. You can add
+	 *            additional imported classes to the interface if necessary.
+	 * @param introspectedTable
+	 *            The class containing information about the table as
+	 *            introspected from the database
+	 * @return true if the method should be generated, false if the generated
+	 *         method should be ignored. In the case of multiple plugins, the
+	 *         first plugin returning false will disable the calling of further
+	 *         plugins.
+	 */
+	boolean clientUpsertSelectiveMethodGenerated(Method method, Interface interfaze, IntrospectedTable introspectedTable);
+
+	/**
+	 * This method is called when the upsert batch method has been generated in the
+	 * client interface.
+	 * 
+	 * @param method
+	 *            the generated upsert batch method
+	 * @param interfaze
+	 *            the partially implemented client interface. You can add
+	 *            additional imported classes to the interface if necessary.
+	 * @param introspectedTable
+	 *            The class containing information about the table as
+	 *            introspected from the database
+	 * @return true if the method should be generated, false if the generated
+	 *         method should be ignored. In the case of multiple plugins, the
+	 *         first plugin returning false will disable the calling of further
+	 *         plugins.
+	 */
+	boolean clientUpsertBatchMethodGenerated(Method method, Interface interfaze, IntrospectedTable introspectedTable);
+
 	/**
 	 * This method is called when the insert selective method has been generated
 	 * in the client interface.
@@ -1071,6 +1291,112 @@ public interface Plugin {
 	 */
 	boolean sqlMapInsertElementGenerated(XmlElement element, IntrospectedTable introspectedTable);
 
+	/**
+	 * This method is called when the insert batch element is generated.
+	 * 
+	 * @param element
+	 *            the generated &lt;insert&gt; element
+	 * @param introspectedTable
+	 *            The class containing information about the table as
+	 *            introspected from the database
+	 * @return true if the element should be generated, false if the generated
+	 *         element should be ignored. In the case of multiple plugins, the
+	 *         first plugin returning false will disable the calling of further
+	 *         plugins.
+	 */
+	boolean sqlMapInsertBatchElementGenerated(XmlElement element, IntrospectedTable introspectedTable);
+
+	/**
+	 * This method is called when a select by example with result handler
+	 * element (with or without BLOBs) is generated.
+	 * 
+	 * @param element
+	 *            the generated &lt;select&gt; element
+	 * @param introspectedTable
+	 *            The class containing information about the table as
+	 *            introspected from the database
+	 * @return true if the element should be generated, false if the generated
+	 *         element should be ignored. In the case of multiple plugins, the
+	 *         first plugin returning false will disable the calling of further
+	 *         plugins.
+	 */
+	boolean sqlMapSelectByParamsWithHandlerElementGenerated(XmlElement element, IntrospectedTable introspectedTable);
+
+	/**
+	 * This method is called when the select by primary keys element is generated.
+	 * 
+	 * @param element
+	 *            the generated &lt;select&gt; element
+	 * @param introspectedTable
+	 *            The class containing information about the table as
+	 *            introspected from the database
+	 * @return true if the element should be generated, false if the generated
+	 *         element should be ignored. In the case of multiple plugins, the
+	 *         first plugin returning false will disable the calling of further
+	 *         plugins.
+	 */
+	boolean sqlMapSelectByPrimaryKeysElementGenerated(XmlElement element, IntrospectedTable introspectedTable);
+
+	/**
+	 * This method is called when the delete by primary keys element is generated.
+	 * 
+	 * @param element
+	 *            the generated &lt;delete&gt; element
+	 * @param introspectedTable
+	 *            The class containing information about the table as
+	 *            introspected from the database
+	 * @return true if the element should be generated, false if the generated
+	 *         element should be ignored. In the case of multiple plugins, the
+	 *         first plugin returning false will disable the calling of further
+	 *         plugins.
+	 */
+	boolean sqlMapDeleteByPrimaryKeysElementGenerated(XmlElement element, IntrospectedTable introspectedTable);
+
+	/**
+	 * This method is called when the upsert element is generated.
+	 * 
+	 * @param element
+	 *            the generated &lt;insert&gt; element
+	 * @param introspectedTable
+	 *            The class containing information about the table as
+	 *            introspected from the database
+	 * @return true if the element should be generated, false if the generated
+	 *         element should be ignored. In the case of multiple plugins, the
+	 *         first plugin returning false will disable the calling of further
+	 *         plugins.
+	 */
+	boolean sqlMapUpsertElementGenerated(XmlElement element, IntrospectedTable introspectedTable);
+
+	/**
+	 * This method is called when the upsert selective element is generated.
+	 * 
+	 * @param element
+	 *            the generated &lt;insert&gt; element
+	 * @param introspectedTable
+	 *            The class containing information about the table as
+	 *            introspected from the database
+	 * @return true if the element should be generated, false if the generated
+	 *         element should be ignored. In the case of multiple plugins, the
+	 *         first plugin returning false will disable the calling of further
+	 *         plugins.
+	 */
+	boolean sqlMapUpsertSelectiveElementGenerated(XmlElement element, IntrospectedTable introspectedTable);
+
+	/**
+	 * This method is called when the upsert batch element is generated.
+	 * 
+	 * @param element
+	 *            the generated &lt;insert&gt; element
+	 * @param introspectedTable
+	 *            The class containing information about the table as
+	 *            introspected from the database
+	 * @return true if the element should be generated, false if the generated
+	 *         element should be ignored. In the case of multiple plugins, the
+	 *         first plugin returning false will disable the calling of further
+	 *         plugins.
+	 */
+	boolean sqlMapUpsertBatchElementGenerated(XmlElement element, IntrospectedTable introspectedTable);
+
 	/**
 	 * This method is called when the insert selective element is generated.
 	 * 
@@ -1341,6 +1667,26 @@ public interface Plugin {
 	boolean providerInsertSelectiveMethodGenerated(Method method, TopLevelClass topLevelClass,
 			IntrospectedTable introspectedTable);
 
+	/**
+	 * This method is called when the insertBatch method has been generated in
+	 * the SQL provider.
+	 * 
+	 * @param method
+	 *            the generated insertBatch method
+	 * @param topLevelClass
+	 *            the partially generated provider class You can add additional
+	 *            imported classes to the class if necessary.
+	 * @param introspectedTable
+	 *            The class containing information about the table as
+	 *            introspected from the database
+	 * @return true if the method should be generated, false if the generated
+	 *         method should be ignored. In the case of multiple plugins, the
+	 *         first plugin returning false will disable the calling of further
+	 *         plugins.
+	 */
+	boolean providerInsertBatchMethodGenerated(Method method, TopLevelClass topLevelClass,
+			IntrospectedTable introspectedTable);
+
 	/**
 	 * This method is called when the selectByParamsWithBLOBs method has been
 	 * generated in the SQL provider.
@@ -118,6 +118,59 @@ public abstract class PluginAdapter implements Plugin {
 		return true;
 	}
 
+	public boolean clientInsertBatchMethodGenerated(Method method, Interface interfaze,
+			IntrospectedTable introspectedTable) {
+		return true;
+	}
+
+	public boolean clientInsertBatchMethodGenerated(Method method, TopLevelClass topLevelClass,
+			IntrospectedTable introspectedTable) {
+		return true;
+	}
+
+	public boolean clientSelectByParamsWithHandlerMethodGenerated(Method method, Interface interfaze,
+			IntrospectedTable introspectedTable) {
+		return true;
+	}
+
+	public boolean clientSelectByParamsWithHandlerMethodGenerated(Method method, TopLevelClass topLevelClass,
+			IntrospectedTable introspectedTable) {
+		return true;
+	}
+
+	public boolean clientSelectByPrimaryKeysMethodGenerated(Method method, Interface interfaze,
+			IntrospectedTable introspectedTable) {
+		return true;
+	}
+
+	public boolean clientSelectByPrimaryKeysMethodGenerated(Method method, TopLevelClass topLevelClass,
+			IntrospectedTable introspectedTable) {
+		return true;
+	}
+
+	public boolean clientDeleteByPrimaryKeysMethodGenerated(Method method, Interface interfaze,
+			IntrospectedTable introspectedTable) {
+		return true;
+	}
+
+	public boolean clientDeleteByPrimaryKeysMethodGenerated(Method method, TopLevelClass topLevelClass,
+			IntrospectedTable introspectedTable) {
+		return true;
+	}
+
+	public boolean clientUpsertMethodGenerated(Method method, Interface interfaze, IntrospectedTable introspectedTable) {
+		return true;
+	}
+
+	public boolean clientUpsertSelectiveMethodGenerated(Method method, Interface interfaze,
+			IntrospectedTable introspectedTable) {
+		return true;
+	}
+
+	public boolean clientUpsertBatchMethodGenerated(Method method, Interface interfaze, IntrospectedTable introspectedTable) {
+		return true;
+	}
+
 	public boolean clientGenerated(Interface interfaze, TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
 		return true;
 	}
@@ -277,6 +330,36 @@ public abstract class PluginAdapter implements Plugin {
 		return true;
 	}
 
+	public boolean sqlMapInsertBatchElementGenerated(XmlElement element, IntrospectedTable introspectedTable) {
+		return true;
+	}
+
+	public boolean sqlMapSelectByParamsWithHandlerElementGenerated(XmlElement element,
+			IntrospectedTable introspectedTable) {
+		return true;
+	}
+
+	public boolean sqlMapSelectByPrimaryKeysElementGenerated(XmlElement element, IntrospectedTable introspectedTable) {
+		return true;
+	}
+
+	public boolean sqlMapDeleteByPrimaryKeysElementGenerated(XmlElement element, IntrospectedTable introspectedTable) {
+		return true;
+	}
+
+	public boolean sqlMapUpsertElementGenerated(XmlElement element, IntrospectedTable introspectedTable) {
+		return true;
+	}
+
+	public boolean sqlMapUpsertSelectiveElementGenerated(XmlElement element,
+			IntrospectedTable introspectedTable) {
+		return true;
+	}
+
+	public boolean sqlMapUpsertBatchElementGenerated(XmlElement element, IntrospectedTable introspectedTable) {
+		return true;
+	}
+
 	public boolean sqlMapResultMapWithBLOBsElementGenerated(XmlElement element, IntrospectedTable introspectedTable) {
 		return true;
 	}
@@ -374,6 +457,11 @@ public abstract class PluginAdapter implements Plugin {
 		return true;
 	}
 
+	public boolean providerInsertBatchMethodGenerated(Method method, TopLevelClass topLevelClass,
+			IntrospectedTable introspectedTable) {
+		return true;
+	}
+
 	public boolean providerSelectByParamsWithBLOBsMethodGenerated(Method method, TopLevelClass topLevelClass,
 			IntrospectedTable introspectedTable) {
 		return true;
@@ -82,6 +82,21 @@ public interface ProgressCallback {
 	 */
 	void startTask(String taskName);
 
+	/**
+	 * This method is called when all generated files have been saved, just
+	 * before done().
+	 * 
+	 * @param writtenFiles
+	 *            the number of files written
+	 * @param skippedFiles
+	 *            the number of files not written because the existing file
+	 *            already has the generated content
+	 * @param mergedFiles
+	 *            the number of files merged with an existing file. These files
+	 *            are also counted as written or skipped.
+	 */
+	void saveFinished(int writtenFiles, int skippedFiles, int mergedFiles);
+
 	/**
 	 * This method is called when all generated files have been saved
 	 */
@@ -19,6 +19,7 @@ import static org.mybatis.generator.internal.util.messages.Messages.getString;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.PrintStream;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -33,6 +34,7 @@ import org.mybatis.generator.config.xml.ConfigurationParser;
 import org.mybatis.generator.exception.InvalidConfigurationException;
 import org.mybatis.generator.exception.XMLParserException;
 import org.mybatis.generator.internal.DefaultShellCallback;
+import org.mybatis.generator.internal.MetricsCollector;
 import org.mybatis.generator.logging.LogFactory;
 
 /**
@@ -47,35 +49,146 @@ public class ShellRunner {
 	private static final String TABLES = "-tables"; //$NON-NLS-1$
 	private static final String VERBOSE = "-verbose"; //$NON-NLS-1$
 	private static final String FORCE_JAVA_LOGGING = "-forceJavaLogging"; //$NON-NLS-1$
+	private static final String USE_SNAPSHOT = "-useSnapshot"; //$NON-NLS-1$
+	private static final String OFFLINE = "-offline"; //$NON-NLS-1$
+	private static final String PIPELINE = "-pipeline"; //$NON-NLS-1$
+	private static final String SKIP_UNCHANGED = "-skipUnchanged"; //$NON-NLS-1$
+	private static final String INCREMENTAL = "-incremental"; //$NON-NLS-1$
+	private static final String METRICS = "-metrics"; //$NON-NLS-1$
+	private static final String DAEMON = "-daemon"; //$NON-NLS-1$
+	private static final String USE_DAEMON = "-useDaemon"; //$NON-NLS-1$
+	private static final String DAEMON_PORT = "-daemonPort"; //$NON-NLS-1$
+	private static final String WATCH = "-watch"; //$NON-NLS-1$
+	private static final String WATCH_SCHEMA = "-watchSchema"; //$NON-NLS-1$
+	private static final String SNAPSHOT_FILE_SUFFIX = ".snapshot"; //$NON-NLS-1$
+	private static final String MANIFEST_FILE_SUFFIX = ".manifest"; //$NON-NLS-1$
+	private static final String TABLE_MANIFEST_FILE_SUFFIX = ".tables"; //$NON-NLS-1$
+	private static final String METRICS_FILE_SUFFIX = ".metrics.json"; //$NON-NLS-1$
 	private static final String HELP_1 = "-?"; //$NON-NLS-1$
 	private static final String HELP_2 = "-h"; //$NON-NLS-1$
 
 	public static void main(String[] args) {
 		if (args.length == 0) {
-			usage();
+			usage(System.out);
 			System.exit(0);
 			return; // only to satisfy compiler, never returns
 		}
 
-		Map<String, String> arguments = parseCommandLine(args);
+		List<String> errors = new ArrayList<String>();
+		Map<String, String> arguments = parseCommandLine(args, errors);
+
+		if (!errors.isEmpty()) {
+			for (String error : errors) {
+				writeLine(System.out, error);
+			}
+
+			System.exit(-1);
+			return; // only to satisfy compiler, never returns
+		}
 
 		if (arguments.containsKey(HELP_1)) {
-			usage();
+			usage(System.out);
 			System.exit(0);
 			return; // only to satisfy compiler, never returns
 		}
 
-		if (!arguments.containsKey(CONFIG_FILE)) {
-			writeLine(getString("RuntimeError.0")); //$NON-NLS-1$
+		int daemonPort = GeneratorDaemon.DEFAULT_PORT;
+		if (arguments.containsKey(DAEMON_PORT)) {
+			daemonPort = Integer.parseInt(arguments.get(DAEMON_PORT));
+		}
+
+		if (arguments.containsKey(DAEMON)) {
+			try {
+				new GeneratorDaemon(daemonPort).run();
+			} catch (IOException e) {
+				e.printStackTrace();
+			}
 			return;
 		}
 
-		List<String> warnings = new ArrayList<String>();
+		if (arguments.containsKey(USE_DAEMON)) {
+			try {
+				GeneratorDaemon.sendRequest(daemonPort, getDaemonRequest(args), System.out);
+			} catch (IOException e) {
+				writeLine(System.out, getString("RuntimeError.26", //$NON-NLS-1$
+						Integer.toString(daemonPort), e.getMessage()));
+				System.exit(-1);
+			}
+			return;
+		}
+
+		run(arguments, System.out, System.err, null);
+	}
+
+	/**
+	 * Runs a request of the GeneratorDaemon. The output is written to the
+	 * stream of the client instead of the console, and the daemon options are
+	 * ignored.
+	 */
+	static void run(String[] args, PrintStream out, GeneratorDaemon daemon) {
+		List<String> errors = new ArrayList<String>();
+		Map<String, String> arguments = parseCommandLine(args, errors);
+
+		if (!errors.isEmpty()) {
+			for (String error : errors) {
+				writeLine(out, error);
+			}
+			return;
+		}
+
+		if (arguments.containsKey(HELP_1)) {
+			usage(out);
+			return;
+		}
+
+		run(arguments, out, out, daemon);
+	}
+
+	/**
+	 * @return the arguments to send to the daemon - without the daemon
+	 *         options, and with the absolute path of the configuration file
+	 *         because the daemon may run in another directory
+	 */
+	private static List<String> getDaemonRequest(String[] args) {
+		List<String> request = new ArrayList<String>();
+		for (int i = 0; i < args.length; i++) {
+			if (USE_DAEMON.equalsIgnoreCase(args[i])) {
+				continue;
+			} else if (DAEMON_PORT.equalsIgnoreCase(args[i])) {
+				i++;
+				continue;
+			}
+
+			request.add(args[i]);
+			if (CONFIG_FILE.equalsIgnoreCase(args[i]) && (i + 1) < args.length) {
+				i++;
+				request.add(new File(args[i]).getAbsolutePath());
+			}
+		}
+
+		return request;
+	}
+
+	/**
+	 * @param out
+	 *            receives the messages
+	 * @param err
+	 *            receives the stack traces of unexpected errors
+	 * @param daemon
+	 *            the daemon that keeps the parsed configurations and the
+	 *            introspected tables between runs, or null
+	 */
+	private static void run(Map<String, String> arguments, PrintStream out, PrintStream err,
+			GeneratorDaemon daemon) {
+		if (!arguments.containsKey(CONFIG_FILE)) {
+			writeLine(out, getString("RuntimeError.0")); //$NON-NLS-1$
+			return;
+		}
 
 		String configfile = arguments.get(CONFIG_FILE);
 		File configurationFile = new File(configfile);
 		if (!configurationFile.exists()) {
-			writeLine(getString("RuntimeError.1", configfile)); //$NON-NLS-1$
+			writeLine(out, getString("RuntimeError.1", configfile)); //$NON-NLS-1$
 			return;
 		}
 
@@ -101,36 +214,130 @@ public class ShellRunner {
 			}
 		}
 
+		// a daemon serves one run at a time, so it cannot watch
+		if (arguments.containsKey(WATCH) && daemon == null) {
+			watch(arguments, configurationFile, contexts, fullyqualifiedTables, out, err);
+			return;
+		}
+
+		generate(arguments, configurationFile, null, new ArrayList<String>(), contexts, fullyqualifiedTables, out,
+				err, daemon);
+	}
+
+	/**
+	 * Generates the files after every change of the configuration file or of
+	 * the watched tables, until the process is stopped.
+	 */
+	private static void watch(Map<String, String> arguments, File configurationFile, Set<String> contexts,
+			Set<String> fullyqualifiedTables, PrintStream out, PrintStream err) {
+		ConfigurationWatcher watcher = new ConfigurationWatcher(configurationFile, contexts, fullyqualifiedTables);
+		if (arguments.containsKey(WATCH_SCHEMA)) {
+			watcher.setSchemaPollInterval(Integer.parseInt(arguments.get(WATCH_SCHEMA)) * 1000L);
+		}
+
+		while (true) {
+			ConfigurationWatcher.Change change;
+			try {
+				change = watcher.waitForChange();
+			} catch (XMLParserException e) {
+				writeXmlParserErrors(out, e);
+				continue;
+			} catch (SQLException e) {
+				writeLine(out, e.getMessage());
+				continue;
+			} catch (IOException e) {
+				e.printStackTrace(err);
+				continue;
+			} catch (InterruptedException e) {
+				return;
+			}
+
+			for (Map.Entry<String, Set<String>> entry : change.getTables().entrySet()) {
+				Set<String> contextIds = new HashSet<String>();
+				contextIds.add(entry.getKey());
+				if (entry.getValue().isEmpty()) {
+					writeLine(out, getString("Progress.24", entry.getKey())); //$NON-NLS-1$
+				} else {
+					writeLine(out, getString("Progress.25", entry.getKey(), entry.getValue().toString())); //$NON-NLS-1$
+				}
+
+				generate(arguments, configurationFile, change.getConfiguration(), new ArrayList<String>(
+						change.getWarnings()), contextIds, entry.getValue(), out, err, null);
+			}
+
+			writeLine(out, getString("Progress.26", configurationFile.getAbsolutePath())); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * @param config
+	 *            the configuration, or null to parse the configuration file
+	 * @param warnings
+	 *            the warnings so far
+	 */
+	private static void generate(Map<String, String> arguments, File configurationFile, Configuration config,
+			List<String> warnings, Set<String> contexts, Set<String> fullyqualifiedTables, PrintStream out,
+			PrintStream err, GeneratorDaemon daemon) {
 		try {
-			ConfigurationParser cp = new ConfigurationParser(warnings);
-			Configuration config = cp.parseConfiguration(configurationFile);
+			if (config == null) {
+				if (daemon == null) {
+					ConfigurationParser cp = new ConfigurationParser(warnings);
+					config = cp.parseConfiguration(configurationFile);
+				} else {
+					config = daemon.getConfiguration(configurationFile, warnings);
+				}
+			}
 
 			DefaultShellCallback shellCallback = new DefaultShellCallback(arguments.containsKey(OVERWRITE));
 
 			MyBatisGenerator myBatisGenerator = new MyBatisGenerator(config, shellCallback, warnings);
 
-			ProgressCallback progressCallback = arguments.containsKey(VERBOSE) ? new VerboseProgressCallback() : null;
+			if (arguments.containsKey(USE_SNAPSHOT) || arguments.containsKey(OFFLINE)) {
+				myBatisGenerator.setSnapshotFile(new File(configurationFile.getAbsolutePath() + SNAPSHOT_FILE_SUFFIX));
+				myBatisGenerator.setOffline(arguments.containsKey(OFFLINE));
+			} else if (daemon != null) {
+				myBatisGenerator.setIntrospectionSnapshot(daemon.getIntrospectionSnapshot(configurationFile));
+			}
+
+			myBatisGenerator.setPipelined(arguments.containsKey(PIPELINE));
+
+			if (arguments.containsKey(SKIP_UNCHANGED)) {
+				myBatisGenerator.setManifestFile(new File(configurationFile.getAbsolutePath() + MANIFEST_FILE_SUFFIX));
+			}
+
+			if (arguments.containsKey(INCREMENTAL)) {
+				myBatisGenerator.setTableManifestFile(new File(configurationFile.getAbsolutePath()
+						+ TABLE_MANIFEST_FILE_SUFFIX));
+			}
+
+			MetricsCollector metricsCollector = null;
+			if (arguments.containsKey(METRICS)) {
+				metricsCollector = new MetricsCollector();
+				myBatisGenerator.setGenerationMetrics(metricsCollector);
+			}
+
+			ProgressCallback progressCallback = arguments.containsKey(VERBOSE) ? new VerboseProgressCallback(out)
+					: null;
 
 			myBatisGenerator.generate(progressCallback, contexts, fullyqualifiedTables);
 
-		} catch (XMLParserException e) {
-			writeLine(getString("Progress.3")); //$NON-NLS-1$
-			writeLine();
-			for (String error : e.getErrors()) {
-				writeLine(error);
+			if (metricsCollector != null) {
+				metricsCollector.save(new File(configurationFile.getAbsolutePath() + METRICS_FILE_SUFFIX));
 			}
 
+		} catch (XMLParserException e) {
+			writeXmlParserErrors(out, e);
 			return;
 		} catch (SQLException e) {
-			e.printStackTrace();
+			e.printStackTrace(err);
 			return;
 		} catch (IOException e) {
-			e.printStackTrace();
+			e.printStackTrace(err);
 			return;
 		} catch (InvalidConfigurationException e) {
-			writeLine(getString("Progress.16")); //$NON-NLS-1$
+			writeLine(out, getString("Progress.16")); //$NON-NLS-1$
 			for (String error : e.getErrors()) {
-				writeLine(error);
+				writeLine(out, error);
 			}
 			return;
 		} catch (InterruptedException e) {
@@ -139,36 +346,43 @@ public class ShellRunner {
 		}
 
 		for (String warning : warnings) {
-			writeLine(warning);
+			writeLine(out, warning);
 		}
 
 		if (warnings.size() == 0) {
-			writeLine(getString("Progress.4")); //$NON-NLS-1$
+			writeLine(out, getString("Progress.4")); //$NON-NLS-1$
 		} else {
-			writeLine();
-			writeLine(getString("Progress.5")); //$NON-NLS-1$
+			writeLine(out);
+			writeLine(out, getString("Progress.5")); //$NON-NLS-1$
 		}
 	}
 
-	private static void usage() {
+	private static void writeXmlParserErrors(PrintStream out, XMLParserException e) {
+		writeLine(out, getString("Progress.3")); //$NON-NLS-1$
+		writeLine(out);
+		for (String error : e.getErrors()) {
+			writeLine(out, error);
+		}
+	}
+
+	private static void usage(PrintStream out) {
 		String lines = getString("Usage.Lines"); //$NON-NLS-1$
 		int iLines = Integer.parseInt(lines);
 		for (int i = 0; i < iLines; i++) {
 			String key = "Usage." + i; //$NON-NLS-1$
-			writeLine(getString(key));
+			writeLine(out, getString(key));
 		}
 	}
 
-	private static void writeLine(String message) {
-		System.out.println(message);
+	private static void writeLine(PrintStream out, String message) {
+		out.println(message);
 	}
 
-	private static void writeLine() {
-		System.out.println();
+	private static void writeLine(PrintStream out) {
+		out.println();
 	}
 
-	private static Map<String, String> parseCommandLine(String[] args) {
-		List<String> errors = new ArrayList<String>();
+	private static Map<String, String> parseCommandLine(String[] args, List<String> errors) {
 		Map<String, String> arguments = new HashMap<String, String>();
 
 		for (int i = 0; i < args.length; i++) {
@@ -189,6 +403,46 @@ public class ShellRunner {
 				// put HELP_1 in the map here too - so we only
 				// have to check for one entry in the mainline
 				arguments.put(HELP_1, "Y"); //$NON-NLS-1$
+			} else if (USE_SNAPSHOT.equalsIgnoreCase(args[i])) {
+				arguments.put(USE_SNAPSHOT, "Y"); //$NON-NLS-1$
+			} else if (OFFLINE.equalsIgnoreCase(args[i])) {
+				arguments.put(OFFLINE, "Y"); //$NON-NLS-1$
+			} else if (PIPELINE.equalsIgnoreCase(args[i])) {
+				arguments.put(PIPELINE, "Y"); //$NON-NLS-1$
+			} else if (SKIP_UNCHANGED.equalsIgnoreCase(args[i])) {
+				arguments.put(SKIP_UNCHANGED, "Y"); //$NON-NLS-1$
+			} else if (INCREMENTAL.equalsIgnoreCase(args[i])) {
+				arguments.put(INCREMENTAL, "Y"); //$NON-NLS-1$
+			} else if (METRICS.equalsIgnoreCase(args[i])) {
+				arguments.put(METRICS, "Y"); //$NON-NLS-1$
+			} else if (WATCH.equalsIgnoreCase(args[i])) {
+				arguments.put(WATCH, "Y"); //$NON-NLS-1$
+			} else if (WATCH_SCHEMA.equalsIgnoreCase(args[i])) {
+				if ((i + 1) < args.length) {
+					if (isPositiveInteger(args[i + 1])) {
+						arguments.put(WATCH_SCHEMA, args[i + 1]);
+					} else {
+						errors.add(getString("RuntimeError.27", args[i + 1])); //$NON-NLS-1$
+					}
+				} else {
+					errors.add(getString("RuntimeError.19", WATCH_SCHEMA)); //$NON-NLS-1$
+				}
+				i++;
+			} else if (DAEMON.equalsIgnoreCase(args[i])) {
+				arguments.put(DAEMON, "Y"); //$NON-NLS-1$
+			} else if (USE_DAEMON.equalsIgnoreCase(args[i])) {
+				arguments.put(USE_DAEMON, "Y"); //$NON-NLS-1$
+			} else if (DAEMON_PORT.equalsIgnoreCase(args[i])) {
+				if ((i + 1) < args.length) {
+					if (isPort(args[i + 1])) {
+						arguments.put(DAEMON_PORT, args[i + 1]);
+					} else {
+						errors.add(getString("RuntimeError.25", args[i + 1])); //$NON-NLS-1$
+					}
+				} else {
+					errors.add(getString("RuntimeError.19", DAEMON_PORT)); //$NON-NLS-1$
+				}
+				i++;
 			} else if (FORCE_JAVA_LOGGING.equalsIgnoreCase(args[i])) {
 				LogFactory.forceJavaLogging();
 			} else if (CONTEXT_IDS.equalsIgnoreCase(args[i])) {
@@ -210,14 +464,23 @@ public class ShellRunner {
 			}
 		}
 
-		if (!errors.isEmpty()) {
-			for (String error : errors) {
-				writeLine(error);
-			}
+		return arguments;
+	}
 
-			System.exit(-1);
+	private static boolean isPositiveInteger(String s) {
+		try {
+			return Integer.parseInt(s) > 0;
+		} catch (NumberFormatException e) {
+			return false;
 		}
+	}
 
-		return arguments;
+	private static boolean isPort(String s) {
+		try {
+			int port = Integer.parseInt(s);
+			return port > 0 && port < 65536;
+		} catch (NumberFormatException e) {
+			return false;
+		}
 	}
 }
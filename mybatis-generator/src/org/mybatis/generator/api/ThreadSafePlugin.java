@@ -0,0 +1,33 @@
+/*
+ *  Copyright 2005 The Apache Software Foundation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mybatis.generator.api;
+
+/**
+ * This is a marker interface for plugins that may be called concurrently for
+ * different introspected tables. A plugin may only implement this interface if
+ * the per table methods do not share any mutable state, and if the result does
+ * not depend on the order in which the tables are processed. The setXXX and
+ * validate methods, and the contextGenerateAdditionalJavaFiles() and
+ * contextGenerateAdditionalXmlFiles() methods without a table, are always
+ * called from a single thread.
+ * <p>
+ * Tables are only generated in parallel (see the "generationThreads" context
+ * property) if every plugin of the context implements this interface.
+ * Otherwise the tables are generated one after the other, so plugins that are
+ * not marked thread safe are always called serially, in table order.
+ */
+public interface ThreadSafePlugin extends Plugin {
+}
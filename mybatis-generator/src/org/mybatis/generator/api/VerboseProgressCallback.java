@@ -16,6 +16,10 @@
 
 package org.mybatis.generator.api;
 
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
+import java.io.PrintStream;
+
 import org.mybatis.generator.internal.NullProgressCallback;
 
 /**
@@ -24,15 +28,32 @@ import org.mybatis.generator.internal.NullProgressCallback;
  */
 public class VerboseProgressCallback extends NullProgressCallback {
 
+	private PrintStream out;
+
 	/**
      * 
      */
 	public VerboseProgressCallback() {
+		this(System.out);
+	}
+
+	/**
+	 * @param out
+	 *            the stream that receives the progress messages
+	 */
+	public VerboseProgressCallback(PrintStream out) {
 		super();
+		this.out = out;
 	}
 
 	@Override
 	public void startTask(String taskName) {
-		System.out.println(taskName);
+		out.println(taskName);
+	}
+
+	@Override
+	public void saveFinished(int writtenFiles, int skippedFiles, int mergedFiles) {
+		out.println(getString("Progress.21", //$NON-NLS-1$
+				Integer.toString(writtenFiles), Integer.toString(skippedFiles), Integer.toString(mergedFiles)));
 	}
 }
@@ -15,6 +15,7 @@
  */
 package org.mybatis.generator.api.dom;
 
+import java.io.IOException;
 import java.util.Set;
 import java.util.TreeSet;
 
@@ -56,6 +57,22 @@ public class OutputUtilities {
 		}
 	}
 
+	/**
+	 * Utility method that indents the output by the default amount for Java
+	 * (four spaces per indent level).
+	 * 
+	 * @param out
+	 *            the output to append to
+	 * @param indentLevel
+	 *            the required indent level
+	 * @throws IOException
+	 */
+	public static void javaIndent(Appendable out, int indentLevel) throws IOException {
+		for (int i = 0; i < indentLevel; i++) {
+			out.append("    "); //$NON-NLS-1$
+		}
+	}
+
 	/**
 	 * Utility method that indents the buffer by the default amount for XML (two
 	 * spaces per indent level).
@@ -71,6 +88,22 @@ public class OutputUtilities {
 		}
 	}
 
+	/**
+	 * Utility method that indents the output by the default amount for XML (two
+	 * spaces per indent level).
+	 * 
+	 * @param out
+	 *            the output to append to
+	 * @param indentLevel
+	 *            the required indent level
+	 * @throws IOException
+	 */
+	public static void xmlIndent(Appendable out, int indentLevel) throws IOException {
+		for (int i = 0; i < indentLevel; i++) {
+			out.append("  "); //$NON-NLS-1$
+		}
+	}
+
 	/**
 	 * Utility method. Adds a newline character to a StringBuilder.
 	 * 
@@ -81,6 +114,17 @@ public class OutputUtilities {
 		sb.append(lineSeparator);
 	}
 
+	/**
+	 * Utility method. Adds a newline character to the output.
+	 * 
+	 * @param out
+	 *            the output to be appended to
+	 * @throws IOException
+	 */
+	public static void newLine(Appendable out) throws IOException {
+		out.append(lineSeparator);
+	}
+
 	/**
 	 * returns a unique set of "import xxx;" Strings for the set of types
 	 * 
@@ -15,6 +15,7 @@
  */
 package org.mybatis.generator.api.dom.java;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Set;
 
@@ -27,6 +28,17 @@ import java.util.Set;
 public interface CompilationUnit {
 	String getFormattedContent();
 
+	/**
+	 * Writes the same content as getFormattedContent() to the output, without
+	 * building the whole file in memory.
+	 * 
+	 * @param out
+	 *            the output
+	 * @throws IOException
+	 *             if the output cannot be written
+	 */
+	void writeFormattedContent(Appendable out) throws IOException;
+
 	Set<FullyQualifiedJavaType> getImportedTypes();
 
 	Set<String> getStaticImports();
@@ -15,6 +15,8 @@
  */
 package org.mybatis.generator.api.dom.java;
 
+import java.io.IOException;
+
 import org.mybatis.generator.api.dom.OutputUtilities;
 
 /**
@@ -86,33 +88,40 @@ public class Field extends JavaElement {
 
 	public String getFormattedContent(int indentLevel) {
 		StringBuilder sb = new StringBuilder();
+		try {
+			writeFormattedContent(sb, indentLevel);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
 
-		addFormattedJavadoc(sb, indentLevel);
-		addFormattedAnnotations(sb, indentLevel);
+		return sb.toString();
+	}
 
-		OutputUtilities.javaIndent(sb, indentLevel);
-		sb.append(getVisibility().getValue());
+	public void writeFormattedContent(Appendable out, int indentLevel) throws IOException {
+		addFormattedJavadoc(out, indentLevel);
+		addFormattedAnnotations(out, indentLevel);
+
+		OutputUtilities.javaIndent(out, indentLevel);
+		out.append(getVisibility().getValue());
 
 		if (isStatic()) {
-			sb.append("static "); //$NON-NLS-1$
+			out.append("static "); //$NON-NLS-1$
 		}
 
 		if (isFinal()) {
-			sb.append("final "); //$NON-NLS-1$
+			out.append("final "); //$NON-NLS-1$
 		}
 
-		sb.append(type.getShortName());
+		out.append(type.getShortName());
 
-		sb.append(' ');
-		sb.append(name);
+		out.append(' ');
+		out.append(name);
 
 		if (initializationString != null && initializationString.length() > 0) {
-			sb.append(" = "); //$NON-NLS-1$
-			sb.append(initializationString);
+			out.append(" = "); //$NON-NLS-1$
+			out.append(initializationString);
 		}
 
-		sb.append(';');
-
-		return sb.toString();
+		out.append(';');
 	}
 }
@@ -19,22 +19,27 @@ import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
 import static org.mybatis.generator.internal.util.messages.Messages.getString;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
+ * Instances returned by the of() method, and by the static getXXXInstance()
+ * methods that do not start with getNew, are shared and cannot be modified.
+ * They compute their names, hash code and import list only once. Use copy() to
+ * obtain a modifiable instance of a shared type.
+ * 
  * @author Jeff Butler
  */
 public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType> {
 	private static final String JAVA_LANG = "java.lang"; //$NON-NLS-1$
-	private static FullyQualifiedJavaType intInstance = null;
-	private static FullyQualifiedJavaType stringInstance = null;
-	private static FullyQualifiedJavaType booleanPrimitiveInstance = null;
-	private static FullyQualifiedJavaType objectInstance = null;
-	private static FullyQualifiedJavaType dateInstance = null;
-	private static FullyQualifiedJavaType integer = null;
-	private static FullyQualifiedJavaType criteriaInstance = null;
-	private static FullyQualifiedJavaType generatedCriteriaInstance = null;
+
+	/**
+	 * Key is the type specification passed to of()
+	 */
+	private static final ConcurrentMap<String, FullyQualifiedJavaType> internedTypes = new ConcurrentHashMap<String, FullyQualifiedJavaType>();
 
 	/**
 	 * The short name without any generic arguments
@@ -57,6 +62,13 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
 	private boolean boundedWildcard;
 	private boolean extendsBoundedWildcard;
 
+	// the following values are only calculated when the type is frozen
+	private boolean frozen;
+	private String fullyQualifiedName;
+	private String shortName;
+	private int hashCode;
+	private List<String> importList;
+
 	/**
 	 * Use this constructor to construct a generic type with the specified type
 	 * parameters
@@ -69,6 +81,65 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
 		parse(fullTypeSpecification);
 	}
 
+	/**
+	 * Returns a shared, unmodifiable instance of the specified type. Use this
+	 * method rather than the constructor for types that will not receive
+	 * additional type arguments.
+	 * 
+	 * @param fullTypeSpecification
+	 * @return the shared instance
+	 */
+	public static FullyQualifiedJavaType of(String fullTypeSpecification) {
+		FullyQualifiedJavaType answer = internedTypes.get(fullTypeSpecification);
+		if (answer == null) {
+			answer = new FullyQualifiedJavaType(fullTypeSpecification);
+			answer.freeze();
+			FullyQualifiedJavaType existing = internedTypes.putIfAbsent(fullTypeSpecification, answer);
+			if (existing != null) {
+				answer = existing;
+			}
+		}
+
+		return answer;
+	}
+
+	/**
+	 * Returns a new, modifiable instance of this type, including any type
+	 * arguments.
+	 */
+	public FullyQualifiedJavaType copy() {
+		return new FullyQualifiedJavaType(getFullyQualifiedName());
+	}
+
+	/**
+	 * @return true if this is a shared instance that cannot be modified
+	 */
+	public boolean isFrozen() {
+		return frozen;
+	}
+
+	/**
+	 * Calculates the names, hash code and import list, and prevents any further
+	 * changes. Type arguments created by parsing are always frozen, so type
+	 * arguments added later must be frozen too.
+	 */
+	void freeze() {
+		if (frozen) {
+			return;
+		}
+
+		for (FullyQualifiedJavaType fqjt : typeArguments) {
+			fqjt.freeze();
+		}
+
+		fullyQualifiedName = getFullyQualifiedName();
+		shortName = getShortName();
+		hashCode = fullyQualifiedName.hashCode();
+		importList = Collections.unmodifiableList(getImportList());
+		typeArguments = Collections.unmodifiableList(typeArguments);
+		frozen = true;
+	}
+
 	/**
 	 * @return Returns the explicitlyImported.
 	 */
@@ -83,6 +154,10 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
 	 * @return Returns the fullyQualifiedName.
 	 */
 	public String getFullyQualifiedName() {
+		if (frozen) {
+			return fullyQualifiedName;
+		}
+
 		StringBuilder sb = new StringBuilder();
 		if (wildcardType) {
 			sb.append('?');
@@ -119,9 +194,14 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
 
 	/**
 	 * Returns a list of Strings that are the fully qualified names of this
-	 * type, and any generic type argument associated with this type.
+	 * type, and any generic type argument associated with this type. The list
+	 * cannot be modified if this type is frozen.
 	 */
 	public List<String> getImportList() {
+		if (frozen) {
+			return importList;
+		}
+
 		List<String> answer = new ArrayList<String>();
 		if (isExplicitlyImported()) {
 			int index = baseShortName.indexOf('.');
@@ -156,6 +236,10 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
 	 * @return Returns the shortName - including any type arguments.
 	 */
 	public String getShortName() {
+		if (frozen) {
+			return shortName;
+		}
+
 		StringBuilder sb = new StringBuilder();
 		if (wildcardType) {
 			sb.append('?');
@@ -217,6 +301,10 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
 	 */
 	@Override
 	public int hashCode() {
+		if (frozen) {
+			return hashCode;
+		}
+
 		return getFullyQualifiedName().hashCode();
 	}
 
@@ -245,18 +333,11 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
 	}
 
 	public static final FullyQualifiedJavaType getIntInstance() {
-		if (intInstance == null) {
-			intInstance = new FullyQualifiedJavaType("int"); //$NON-NLS-1$
-		}
-
-		return intInstance;
+		return of("int"); //$NON-NLS-1$
 	}
 
 	public static final FullyQualifiedJavaType getInteger() {
-		if (integer == null) {
-			integer = new FullyQualifiedJavaType("Integer"); //$NON-NLS-1$
-		}
-		return integer;
+		return of("Integer"); //$NON-NLS-1$
 	}
 
 	public static final FullyQualifiedJavaType getNewMapInstance() {
@@ -285,51 +366,27 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
 	}
 
 	public static final FullyQualifiedJavaType getStringInstance() {
-		if (stringInstance == null) {
-			stringInstance = new FullyQualifiedJavaType("java.lang.String"); //$NON-NLS-1$
-		}
-
-		return stringInstance;
+		return of("java.lang.String"); //$NON-NLS-1$
 	}
 
 	public static final FullyQualifiedJavaType getBooleanPrimitiveInstance() {
-		if (booleanPrimitiveInstance == null) {
-			booleanPrimitiveInstance = new FullyQualifiedJavaType("boolean"); //$NON-NLS-1$
-		}
-
-		return booleanPrimitiveInstance;
+		return of("boolean"); //$NON-NLS-1$
 	}
 
 	public static final FullyQualifiedJavaType getObjectInstance() {
-		if (objectInstance == null) {
-			objectInstance = new FullyQualifiedJavaType("java.lang.Object"); //$NON-NLS-1$
-		}
-
-		return objectInstance;
+		return of("java.lang.Object"); //$NON-NLS-1$
 	}
 
 	public static final FullyQualifiedJavaType getDateInstance() {
-		if (dateInstance == null) {
-			dateInstance = new FullyQualifiedJavaType("java.util.Date"); //$NON-NLS-1$
-		}
-
-		return dateInstance;
+		return of("java.util.Date"); //$NON-NLS-1$
 	}
 
 	public static final FullyQualifiedJavaType getCriteriaInstance() {
-		if (criteriaInstance == null) {
-			criteriaInstance = new FullyQualifiedJavaType("Criteria"); //$NON-NLS-1$
-		}
-
-		return criteriaInstance;
+		return of("Criteria"); //$NON-NLS-1$
 	}
 
 	public static final FullyQualifiedJavaType getGeneratedCriteriaInstance() {
-		if (generatedCriteriaInstance == null) {
-			generatedCriteriaInstance = new FullyQualifiedJavaType("GeneratedCriteria"); //$NON-NLS-1$
-		}
-
-		return generatedCriteriaInstance;
+		return of("GeneratedCriteria"); //$NON-NLS-1$
 	}
 
 	/*
@@ -341,7 +398,17 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
 		return getFullyQualifiedName().compareTo(other.getFullyQualifiedName());
 	}
 
+	/**
+	 * Adds a type argument to a modifiable type.
+	 * 
+	 * @throws UnsupportedOperationException
+	 *             if this type is frozen
+	 */
 	public void addTypeArgument(FullyQualifiedJavaType type) {
+		if (frozen) {
+			throw new UnsupportedOperationException(getString("RuntimeError.24", getFullyQualifiedName())); //$NON-NLS-1$
+		}
+
 		typeArguments.add(type);
 	}
 
@@ -445,7 +512,7 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
 				openCount--;
 			} else if (",".equals(token)) { //$NON-NLS-1$
 				if (openCount == 0) {
-					typeArguments.add(new FullyQualifiedJavaType(sb.toString()));
+					typeArguments.add(of(sb.toString()));
 					sb.setLength(0);
 				} else {
 					sb.append(token);
@@ -461,7 +528,7 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
 
 		String finalType = sb.toString();
 		if (stringHasValue(finalType)) {
-			typeArguments.add(new FullyQualifiedJavaType(finalType));
+			typeArguments.add(of(finalType));
 		}
 	}
 
@@ -15,6 +15,7 @@
  */
 package org.mybatis.generator.api.dom.java;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -76,20 +77,29 @@ public class InitializationBlock {
 
 	public String getFormattedContent(int indentLevel) {
 		StringBuilder sb = new StringBuilder();
+		try {
+			writeFormattedContent(sb, indentLevel);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+
+		return sb.toString();
+	}
 
+	public void writeFormattedContent(Appendable out, int indentLevel) throws IOException {
 		for (String javaDocLine : javaDocLines) {
-			OutputUtilities.javaIndent(sb, indentLevel);
-			sb.append(javaDocLine);
-			OutputUtilities.newLine(sb);
+			OutputUtilities.javaIndent(out, indentLevel);
+			out.append(javaDocLine);
+			OutputUtilities.newLine(out);
 		}
 
-		OutputUtilities.javaIndent(sb, indentLevel);
+		OutputUtilities.javaIndent(out, indentLevel);
 
 		if (isStatic) {
-			sb.append("static "); //$NON-NLS-1$
+			out.append("static "); //$NON-NLS-1$
 		}
 
-		sb.append('{');
+		out.append('{');
 		indentLevel++;
 
 		ListIterator<String> listIter = bodyLines.listIterator();
@@ -99,9 +109,9 @@ public class InitializationBlock {
 				indentLevel--;
 			}
 
-			OutputUtilities.newLine(sb);
-			OutputUtilities.javaIndent(sb, indentLevel);
-			sb.append(line);
+			OutputUtilities.newLine(out);
+			OutputUtilities.javaIndent(out, indentLevel);
+			out.append(line);
 
 			if ((line.endsWith("{") && !line.startsWith("switch")) //$NON-NLS-1$ //$NON-NLS-2$
 					|| line.endsWith(":")) { //$NON-NLS-1$
@@ -124,10 +134,8 @@ public class InitializationBlock {
 		}
 
 		indentLevel--;
-		OutputUtilities.newLine(sb);
-		OutputUtilities.javaIndent(sb, indentLevel);
-		sb.append('}');
-
-		return sb.toString();
+		OutputUtilities.newLine(out);
+		OutputUtilities.javaIndent(out, indentLevel);
+		out.append('}');
 	}
 }
@@ -15,6 +15,7 @@
  */
 package org.mybatis.generator.api.dom.java;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -81,6 +82,20 @@ public class InnerClass extends JavaElement {
 		fields.add(field);
 	}
 
+	/**
+	 * @return the field with the specified name, or null if this class does
+	 *         not have that field
+	 */
+	public Field getField(String name) {
+		for (Field field : fields) {
+			if (field.getName().equals(name)) {
+				return field;
+			}
+		}
+
+		return null;
+	}
+
 	/**
 	 * @return Returns the superClass.
 	 */
@@ -129,122 +144,129 @@ public class InnerClass extends JavaElement {
 
 	public String getFormattedContent(int indentLevel) {
 		StringBuilder sb = new StringBuilder();
+		try {
+			writeFormattedContent(sb, indentLevel);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+
+		return sb.toString();
+	}
 
-		addFormattedJavadoc(sb, indentLevel);
-		addFormattedAnnotations(sb, indentLevel);
+	public void writeFormattedContent(Appendable out, int indentLevel) throws IOException {
+		addFormattedJavadoc(out, indentLevel);
+		addFormattedAnnotations(out, indentLevel);
 
-		OutputUtilities.javaIndent(sb, indentLevel);
-		sb.append(getVisibility().getValue());
+		OutputUtilities.javaIndent(out, indentLevel);
+		out.append(getVisibility().getValue());
 
 		if (isAbstract()) {
-			sb.append("abstract "); //$NON-NLS-1$
+			out.append("abstract "); //$NON-NLS-1$
 		}
 
 		if (isStatic()) {
-			sb.append("static "); //$NON-NLS-1$
+			out.append("static "); //$NON-NLS-1$
 		}
 
 		if (isFinal()) {
-			sb.append("final "); //$NON-NLS-1$
+			out.append("final "); //$NON-NLS-1$
 		}
 
-		sb.append("class "); //$NON-NLS-1$
-		sb.append(getType().getShortName());
+		out.append("class "); //$NON-NLS-1$
+		out.append(getType().getShortName());
 
 		if (superClass != null) {
-			sb.append(" extends "); //$NON-NLS-1$
-			sb.append(superClass.getShortName());
+			out.append(" extends "); //$NON-NLS-1$
+			out.append(superClass.getShortName());
 		}
 
 		if (superInterfaceTypes.size() > 0) {
-			sb.append(" implements "); //$NON-NLS-1$
+			out.append(" implements "); //$NON-NLS-1$
 
 			boolean comma = false;
 			for (FullyQualifiedJavaType fqjt : superInterfaceTypes) {
 				if (comma) {
-					sb.append(", "); //$NON-NLS-1$
+					out.append(", "); //$NON-NLS-1$
 				} else {
 					comma = true;
 				}
 
-				sb.append(fqjt.getShortName());
+				out.append(fqjt.getShortName());
 			}
 		}
 
-		sb.append(" {"); //$NON-NLS-1$
+		out.append(" {"); //$NON-NLS-1$
 		indentLevel++;
 
 		Iterator<Field> fldIter = fields.iterator();
 		while (fldIter.hasNext()) {
-			OutputUtilities.newLine(sb);
+			OutputUtilities.newLine(out);
 			Field field = fldIter.next();
-			sb.append(field.getFormattedContent(indentLevel));
+			field.writeFormattedContent(out, indentLevel);
 			if (fldIter.hasNext()) {
-				OutputUtilities.newLine(sb);
+				OutputUtilities.newLine(out);
 			}
 		}
 
 		if (initializationBlocks.size() > 0) {
-			OutputUtilities.newLine(sb);
+			OutputUtilities.newLine(out);
 		}
 
 		Iterator<InitializationBlock> blkIter = initializationBlocks.iterator();
 		while (blkIter.hasNext()) {
-			OutputUtilities.newLine(sb);
+			OutputUtilities.newLine(out);
 			InitializationBlock initializationBlock = blkIter.next();
-			sb.append(initializationBlock.getFormattedContent(indentLevel));
+			initializationBlock.writeFormattedContent(out, indentLevel);
 			if (blkIter.hasNext()) {
-				OutputUtilities.newLine(sb);
+				OutputUtilities.newLine(out);
 			}
 		}
 
 		if (methods.size() > 0) {
-			OutputUtilities.newLine(sb);
+			OutputUtilities.newLine(out);
 		}
 
 		Iterator<Method> mtdIter = methods.iterator();
 		while (mtdIter.hasNext()) {
-			OutputUtilities.newLine(sb);
+			OutputUtilities.newLine(out);
 			Method method = mtdIter.next();
-			sb.append(method.getFormattedContent(indentLevel, false));
+			method.writeFormattedContent(out, indentLevel, false);
 			if (mtdIter.hasNext()) {
-				OutputUtilities.newLine(sb);
+				OutputUtilities.newLine(out);
 			}
 		}
 
 		if (innerClasses.size() > 0) {
-			OutputUtilities.newLine(sb);
+			OutputUtilities.newLine(out);
 		}
 		Iterator<InnerClass> icIter = innerClasses.iterator();
 		while (icIter.hasNext()) {
-			OutputUtilities.newLine(sb);
+			OutputUtilities.newLine(out);
 			InnerClass innerClass = icIter.next();
-			sb.append(innerClass.getFormattedContent(indentLevel));
+			innerClass.writeFormattedContent(out, indentLevel);
 			if (icIter.hasNext()) {
-				OutputUtilities.newLine(sb);
+				OutputUtilities.newLine(out);
 			}
 		}
 
 		if (innerEnums.size() > 0) {
-			OutputUtilities.newLine(sb);
+			OutputUtilities.newLine(out);
 		}
 
 		Iterator<InnerEnum> ieIter = innerEnums.iterator();
 		while (ieIter.hasNext()) {
-			OutputUtilities.newLine(sb);
+			OutputUtilities.newLine(out);
 			InnerEnum innerEnum = ieIter.next();
-			sb.append(innerEnum.getFormattedContent(indentLevel));
+			innerEnum.writeFormattedContent(out, indentLevel);
 			if (ieIter.hasNext()) {
-				OutputUtilities.newLine(sb);
+				OutputUtilities.newLine(out);
 			}
 		}
 
 		indentLevel--;
-		OutputUtilities.newLine(sb);
-		OutputUtilities.javaIndent(sb, indentLevel);
-		sb.append('}');
-
-		return sb.toString();
+		OutputUtilities.newLine(out);
+		OutputUtilities.javaIndent(out, indentLevel);
+		out.append('}');
 	}
 
 	/**
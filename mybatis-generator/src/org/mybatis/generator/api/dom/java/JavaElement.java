@@ -15,6 +15,7 @@
  */
 package org.mybatis.generator.api.dom.java;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -104,6 +105,22 @@ public abstract class JavaElement {
 		}
 	}
 
+	public void addFormattedJavadoc(Appendable out, int indentLevel) throws IOException {
+		for (String javaDocLine : javaDocLines) {
+			OutputUtilities.javaIndent(out, indentLevel);
+			out.append(javaDocLine);
+			OutputUtilities.newLine(out);
+		}
+	}
+
+	public void addFormattedAnnotations(Appendable out, int indentLevel) throws IOException {
+		for (String annotation : annotations) {
+			OutputUtilities.javaIndent(out, indentLevel);
+			out.append(annotation);
+			OutputUtilities.newLine(out);
+		}
+	}
+
 	public boolean isFinal() {
 		return isFinal;
 	}
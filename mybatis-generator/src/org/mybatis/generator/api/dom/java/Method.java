@@ -15,6 +15,7 @@
  */
 package org.mybatis.generator.api.dom.java;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -85,72 +86,81 @@ public class Method extends JavaElement {
 
 	public String getFormattedContent(int indentLevel, boolean interfaceMethod) {
 		StringBuilder sb = new StringBuilder();
+		try {
+			writeFormattedContent(sb, indentLevel, interfaceMethod);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+
+		return sb.toString();
+	}
 
-		addFormattedJavadoc(sb, indentLevel);
-		addFormattedAnnotations(sb, indentLevel);
+	public void writeFormattedContent(Appendable out, int indentLevel, boolean interfaceMethod) throws IOException {
+		addFormattedJavadoc(out, indentLevel);
+		addFormattedAnnotations(out, indentLevel);
 
-		OutputUtilities.javaIndent(sb, indentLevel);
+		OutputUtilities.javaIndent(out, indentLevel);
 
 		if (!interfaceMethod) {
-			sb.append(getVisibility().getValue());
+			out.append(getVisibility().getValue());
 
 			if (isStatic()) {
-				sb.append("static "); //$NON-NLS-1$
+				out.append("static "); //$NON-NLS-1$
 			}
 
 			if (isFinal()) {
-				sb.append("final "); //$NON-NLS-1$
+				out.append("final "); //$NON-NLS-1$
 			}
 
 			if (bodyLines.size() == 0) {
-				sb.append("abstract "); //$NON-NLS-1$
+				out.append("abstract "); //$NON-NLS-1$
 			}
 		}
 
 		if (!constructor) {
 			if (getReturnType() == null) {
-				sb.append("void"); //$NON-NLS-1$
+				out.append("void"); //$NON-NLS-1$
 			} else {
-				sb.append(getReturnType().getShortName());
+				out.append(getReturnType().getShortName());
 			}
-			sb.append(' ');
+			out.append(' ');
 		}
 
-		sb.append(getName());
-		sb.append('(');
+		out.append(getName());
+		out.append('(');
 
 		boolean comma = false;
 		for (Parameter parameter : getParameters()) {
 			if (comma) {
-				sb.append(", "); //$NON-NLS-1$
+				out.append(", "); //$NON-NLS-1$
 			} else {
 				comma = true;
 			}
 
-			sb.append(parameter.getFormattedContent());
+			out.append(parameter.getFormattedContent());
 		}
 
-		sb.append(')');
+		out.append(')');
 
 		if (getExceptions().size() > 0) {
-			sb.append(" throws "); //$NON-NLS-1$
+			out.append(" throws "); //$NON-NLS-1$
 			comma = false;
 			for (FullyQualifiedJavaType fqjt : getExceptions()) {
 				if (comma) {
-					sb.append(", "); //$NON-NLS-1$
+					out.append(", "); //$NON-NLS-1$
 				} else {
 					comma = true;
 				}
 
-				sb.append(fqjt.getShortName());
+				out.append(fqjt.getShortName());
 			}
 		}
 
 		// if no body lines, then this is an abstract method
 		if (bodyLines.size() == 0) {
-			sb.append(';');
+			out.append(';');
 		} else {
-			sb.append(" {"); //$NON-NLS-1$
+			out.append(" {"); //$NON-NLS-1$
 			indentLevel++;
 
 			ListIterator<String> listIter = bodyLines.listIterator();
@@ -160,9 +170,9 @@ public class Method extends JavaElement {
 					indentLevel--;
 				}
 
-				OutputUtilities.newLine(sb);
-				OutputUtilities.javaIndent(sb, indentLevel);
-				sb.append(line);
+				OutputUtilities.newLine(out);
+				OutputUtilities.javaIndent(out, indentLevel);
+				out.append(line);
 
 				if ((line.endsWith("{") && !line.startsWith("switch")) //$NON-NLS-1$ //$NON-NLS-2$
 						|| line.endsWith(":")) { //$NON-NLS-1$
@@ -185,12 +195,10 @@ public class Method extends JavaElement {
 			}
 
 			indentLevel--;
-			OutputUtilities.newLine(sb);
-			OutputUtilities.javaIndent(sb, indentLevel);
-			sb.append('}');
+			OutputUtilities.newLine(out);
+			OutputUtilities.javaIndent(out, indentLevel);
+			out.append('}');
 		}
-
-		return sb.toString();
 	}
 
 	/**
@@ -24,6 +24,7 @@ import java.util.List;
 public class Parameter {
 	private String name;
 	private FullyQualifiedJavaType type;
+	private boolean isVarargs;
 
 	private List<String> annotations;
 
@@ -39,6 +40,16 @@ public class Parameter {
 		addAnnotation(annotation);
 	}
 
+	/**
+	 * @param isVarargs
+	 *            true for a variable arity parameter (type... name). The type
+	 *            is the type of one argument.
+	 */
+	public Parameter(FullyQualifiedJavaType type, String name, boolean isVarargs) {
+		this(type, name);
+		this.isVarargs = isVarargs;
+	}
+
 	/**
 	 * @return Returns the name.
 	 */
@@ -53,6 +64,10 @@ public class Parameter {
 		return type;
 	}
 
+	public boolean isVarargs() {
+		return isVarargs;
+	}
+
 	public List<String> getAnnotations() {
 		return annotations;
 	}
@@ -70,6 +85,9 @@ public class Parameter {
 		}
 
 		sb.append(type.getShortName());
+		if (isVarargs) {
+			sb.append("..."); //$NON-NLS-1$
+		}
 		sb.append(' ');
 		sb.append(name);
 
@@ -44,6 +44,7 @@ public class PrimitiveTypeWrapper extends FullyQualifiedJavaType {
 	private PrimitiveTypeWrapper(String fullyQualifiedName, String toPrimitiveMethod) {
 		super(fullyQualifiedName);
 		this.toPrimitiveMethod = toPrimitiveMethod;
+		freeze();
 	}
 
 	public String getToPrimitiveMethod() {
@@ -15,6 +15,8 @@
  */
 package org.mybatis.generator.api.dom.xml;
 
+import java.io.IOException;
+
 import org.mybatis.generator.api.dom.OutputUtilities;
 
 /**
@@ -55,6 +57,16 @@ public class Document {
 		this.rootElement = rootElement;
 	}
 
+	/**
+	 * Returns the first element (in document order) with the specified id
+	 * attribute.
+	 * 
+	 * @return the element, or null if no element has that id
+	 */
+	public XmlElement findElementById(String id) {
+		return rootElement == null ? null : rootElement.findElementById(id);
+	}
+
 	/**
 	 * @return Returns the publicId.
 	 */
@@ -71,23 +83,30 @@ public class Document {
 
 	public String getFormattedContent() {
 		StringBuilder sb = new StringBuilder();
+		try {
+			writeFormattedContent(sb);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
 
-		sb.append("<?xml version=\"1.0\" encoding=\"UTF-8\" ?>"); //$NON-NLS-1$
+		return sb.toString();
+	}
+
+	public void writeFormattedContent(Appendable out) throws IOException {
+		out.append("<?xml version=\"1.0\" encoding=\"UTF-8\" ?>"); //$NON-NLS-1$
 
 		if (publicId != null && systemId != null) {
-			OutputUtilities.newLine(sb);
-			sb.append("<!DOCTYPE "); //$NON-NLS-1$
-			sb.append(rootElement.getName());
-			sb.append(" PUBLIC \""); //$NON-NLS-1$
-			sb.append(publicId);
-			sb.append("\" \""); //$NON-NLS-1$
-			sb.append(systemId);
-			sb.append("\" >"); //$NON-NLS-1$
+			OutputUtilities.newLine(out);
+			out.append("<!DOCTYPE "); //$NON-NLS-1$
+			out.append(rootElement.getName());
+			out.append(" PUBLIC \""); //$NON-NLS-1$
+			out.append(publicId);
+			out.append("\" \""); //$NON-NLS-1$
+			out.append(systemId);
+			out.append("\" >"); //$NON-NLS-1$
 		}
 
-		OutputUtilities.newLine(sb);
-		sb.append(rootElement.getFormattedContent(0));
-
-		return sb.toString();
+		OutputUtilities.newLine(out);
+		rootElement.writeFormattedContent(out, 0);
 	}
 }
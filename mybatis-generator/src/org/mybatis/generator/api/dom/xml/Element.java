@@ -15,6 +15,8 @@
  */
 package org.mybatis.generator.api.dom.xml;
 
+import java.io.IOException;
+
 /**
  * @author Jeff Butler
  */
@@ -28,4 +30,20 @@ public abstract class Element {
 	}
 
 	public abstract String getFormattedContent(int indentLevel);
+
+	/**
+	 * Writes the formatted content of this element to the output without
+	 * building a String for it. The default implementation writes the result
+	 * of getFormattedContent(), subclasses write their content directly.
+	 * 
+	 * @param out
+	 *            the output
+	 * @param indentLevel
+	 *            the required indent level
+	 * @throws IOException
+	 *             if the output cannot be written
+	 */
+	public void writeFormattedContent(Appendable out, int indentLevel) throws IOException {
+		out.append(getFormattedContent(indentLevel));
+	}
 }
@@ -15,6 +15,8 @@
  */
 package org.mybatis.generator.api.dom.xml;
 
+import java.io.IOException;
+
 import org.mybatis.generator.api.dom.OutputUtilities;
 
 /**
@@ -34,8 +36,18 @@ public class TextElement extends Element {
 	@Override
 	public String getFormattedContent(int indentLevel) {
 		StringBuilder sb = new StringBuilder();
-		OutputUtilities.xmlIndent(sb, indentLevel);
-		sb.append(content);
+		try {
+			writeFormattedContent(sb, indentLevel);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+
 		return sb.toString();
 	}
+
+	@Override
+	public void writeFormattedContent(Appendable out, int indentLevel) throws IOException {
+		OutputUtilities.xmlIndent(out, indentLevel);
+		out.append(content);
+	}
 }
@@ -15,6 +15,7 @@
  */
 package org.mybatis.generator.api.dom.xml;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -89,36 +90,158 @@ public class XmlElement extends Element {
 		return name;
 	}
 
+	/**
+	 * @return the attribute with the specified name, or null if this element
+	 *         does not have that attribute
+	 */
+	public Attribute getAttribute(String name) {
+		for (Attribute attribute : attributes) {
+			if (attribute.getName().equals(name)) {
+				return attribute;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * @return the value of the attribute with the specified name, or null if
+	 *         this element does not have that attribute
+	 */
+	public String getAttributeValue(String name) {
+		Attribute attribute = getAttribute(name);
+		return attribute == null ? null : attribute.getValue();
+	}
+
+	/**
+	 * Returns the first element (in document order) with the specified id
+	 * attribute. The search includes this element and all its descendants.
+	 * 
+	 * @return the element, or null if no element has that id
+	 */
+	public XmlElement findElementById(String id) {
+		if (id.equals(getAttributeValue("id"))) { //$NON-NLS-1$
+			return this;
+		}
+
+		for (Element element : elements) {
+			if (element instanceof XmlElement) {
+				XmlElement answer = ((XmlElement) element).findElementById(id);
+				if (answer != null) {
+					return answer;
+				}
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns the elements with the specified name, in document order. The
+	 * search includes this element and all its descendants.
+	 */
+	public List<XmlElement> findElementsByName(String name) {
+		List<XmlElement> answer = new ArrayList<XmlElement>();
+		findElements(name, null, null, answer);
+		return answer;
+	}
+
+	/**
+	 * Returns the elements that have any attribute with the specified value,
+	 * in document order. The search includes this element and all its
+	 * descendants.
+	 */
+	public List<XmlElement> findElementsByAttributeValue(String value) {
+		List<XmlElement> answer = new ArrayList<XmlElement>();
+		findElements(null, null, value, answer);
+		return answer;
+	}
+
+	/**
+	 * Returns the elements where the specified attribute has the specified
+	 * value, in document order. The search includes this element and all its
+	 * descendants.
+	 */
+	public List<XmlElement> findElementsByAttributeValue(String attributeName, String value) {
+		List<XmlElement> answer = new ArrayList<XmlElement>();
+		findElements(null, attributeName, value, answer);
+		return answer;
+	}
+
+	/**
+	 * A null argument matches any element name, attribute name or attribute
+	 * value.
+	 */
+	private void findElements(String elementName, String attributeName, String attributeValue,
+			List<XmlElement> answer) {
+		if (matches(elementName, attributeName, attributeValue)) {
+			answer.add(this);
+		}
+
+		for (Element element : elements) {
+			if (element instanceof XmlElement) {
+				((XmlElement) element).findElements(elementName, attributeName, attributeValue, answer);
+			}
+		}
+	}
+
+	private boolean matches(String elementName, String attributeName, String attributeValue) {
+		if (elementName != null && !elementName.equals(name)) {
+			return false;
+		}
+
+		if (attributeName == null && attributeValue == null) {
+			return true;
+		}
+
+		for (Attribute attribute : attributes) {
+			if ((attributeName == null || attributeName.equals(attribute.getName()))
+					&& (attributeValue == null || attributeValue.equals(attribute.getValue()))) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
 	@Override
 	public String getFormattedContent(int indentLevel) {
 		StringBuilder sb = new StringBuilder();
+		try {
+			writeFormattedContent(sb, indentLevel);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
 
-		OutputUtilities.xmlIndent(sb, indentLevel);
-		sb.append('<');
-		sb.append(name);
+		return sb.toString();
+	}
+
+	@Override
+	public void writeFormattedContent(Appendable out, int indentLevel) throws IOException {
+		OutputUtilities.xmlIndent(out, indentLevel);
+		out.append('<');
+		out.append(name);
 
 		for (Attribute att : attributes) {
-			sb.append(' ');
-			sb.append(att.getFormattedContent());
+			out.append(' ');
+			out.append(att.getFormattedContent());
 		}
 
 		if (elements.size() > 0) {
-			sb.append(" >"); //$NON-NLS-1$
+			out.append(" >"); //$NON-NLS-1$
 			for (Element element : elements) {
-				OutputUtilities.newLine(sb);
-				sb.append(element.getFormattedContent(indentLevel + 1));
+				OutputUtilities.newLine(out);
+				element.writeFormattedContent(out, indentLevel + 1);
 			}
-			OutputUtilities.newLine(sb);
-			OutputUtilities.xmlIndent(sb, indentLevel);
-			sb.append("</"); //$NON-NLS-1$
-			sb.append(name);
-			sb.append('>');
+			OutputUtilities.newLine(out);
+			OutputUtilities.xmlIndent(out, indentLevel);
+			out.append("</"); //$NON-NLS-1$
+			out.append(name);
+			out.append('>');
 
 		} else {
-			sb.append(" />"); //$NON-NLS-1$
+			out.append(" />"); //$NON-NLS-1$
 		}
-
-		return sb.toString();
 	}
 
 	public void setName(String name) {
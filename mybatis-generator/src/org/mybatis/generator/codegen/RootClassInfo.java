@@ -46,6 +46,10 @@ public class RootClassInfo {
 		if (classInfo == null) {
 			classInfo = new RootClassInfo(className, warnings);
 			rootClassInfoMap.put(className, classInfo);
+		} else if (classInfo.warnings != warnings) {
+			// several tables may be generated concurrently, each with its own
+			// warnings list - report the property warnings to the caller
+			classInfo = new RootClassInfo(classInfo, warnings);
 		}
 
 		return classInfo;
@@ -55,6 +59,13 @@ public class RootClassInfo {
 	private String className;
 	private List<String> warnings;
 
+	private RootClassInfo(RootClassInfo rootClassInfo, List<String> warnings) {
+		super();
+		this.className = rootClassInfo.className;
+		this.propertyDescriptors = rootClassInfo.propertyDescriptors;
+		this.warnings = warnings;
+	}
+
 	private RootClassInfo(String className, List<String> warnings) {
 		super();
 		this.className = className;
@@ -36,11 +36,15 @@ import org.mybatis.generator.codegen.ibatis2.dao.elements.AbstractDAOElementGene
 import org.mybatis.generator.codegen.ibatis2.dao.elements.CountByParamsMethodGenerator;
 import org.mybatis.generator.codegen.ibatis2.dao.elements.DeleteByParamsMethodGenerator;
 import org.mybatis.generator.codegen.ibatis2.dao.elements.DeleteByPrimaryKeyMethodGenerator;
+import org.mybatis.generator.codegen.ibatis2.dao.elements.DeleteByPrimaryKeysMethodGenerator;
 import org.mybatis.generator.codegen.ibatis2.dao.elements.InsertMethodGenerator;
+import org.mybatis.generator.codegen.ibatis2.dao.elements.InsertBatchMethodGenerator;
 import org.mybatis.generator.codegen.ibatis2.dao.elements.InsertSelectiveMethodGenerator;
 import org.mybatis.generator.codegen.ibatis2.dao.elements.SelectByParamsWithBLOBsMethodGenerator;
+import org.mybatis.generator.codegen.ibatis2.dao.elements.SelectByParamsWithHandlerMethodGenerator;
 import org.mybatis.generator.codegen.ibatis2.dao.elements.SelectByParamsWithoutBLOBsMethodGenerator;
 import org.mybatis.generator.codegen.ibatis2.dao.elements.SelectByPrimaryKeyMethodGenerator;
+import org.mybatis.generator.codegen.ibatis2.dao.elements.SelectByPrimaryKeysMethodGenerator;
 import org.mybatis.generator.codegen.ibatis2.dao.elements.UpdateByParamsParmsInnerclassGenerator;
 import org.mybatis.generator.codegen.ibatis2.dao.elements.UpdateByParamsSelectiveMethodGenerator;
 import org.mybatis.generator.codegen.ibatis2.dao.elements.UpdateByParamsWithBLOBsMethodGenerator;
@@ -78,11 +82,16 @@ public class DAOGenerator extends AbstractJavaClientGenerator {
 		addCountByParamsMethod(topLevelClass, interfaze);
 		addDeleteByParamsMethod(topLevelClass, interfaze);
 		addDeleteByPrimaryKeyMethod(topLevelClass, interfaze);
+		addDeleteByPrimaryKeysMethod(topLevelClass, interfaze);
 		addInsertMethod(topLevelClass, interfaze);
 		addInsertSelectiveMethod(topLevelClass, interfaze);
+		addInsertBatchMethod(topLevelClass, interfaze);
 		addSelectByParamsWithBLOBsMethod(topLevelClass, interfaze);
 		addSelectByParamsWithoutBLOBsMethod(topLevelClass, interfaze);
+		addSelectByParamsWithHandlerMethod(topLevelClass, interfaze);
+		addSelectByParamsWithBLOBsWithHandlerMethod(topLevelClass, interfaze);
 		addSelectByPrimaryKeyMethod(topLevelClass, interfaze);
+		addSelectByPrimaryKeysMethod(topLevelClass, interfaze);
 		addUpdateByParamsParmsInnerclass(topLevelClass, interfaze);
 		addUpdateByParamsSelectiveMethod(topLevelClass, interfaze);
 		addUpdateByParamsWithBLOBsMethod(topLevelClass, interfaze);
@@ -101,8 +110,8 @@ public class DAOGenerator extends AbstractJavaClientGenerator {
 	}
 
 	protected TopLevelClass getTopLevelClassShell() {
-		FullyQualifiedJavaType interfaceType = new FullyQualifiedJavaType(introspectedTable.getDAOInterfaceType());
-		FullyQualifiedJavaType implementationType = new FullyQualifiedJavaType(
+		FullyQualifiedJavaType interfaceType = FullyQualifiedJavaType.of(introspectedTable.getDAOInterfaceType());
+		FullyQualifiedJavaType implementationType = FullyQualifiedJavaType.of(
 				introspectedTable.getDAOImplementationType());
 
 		CommentGenerator commentGenerator = context.getCommentGenerator();
@@ -137,7 +146,7 @@ public class DAOGenerator extends AbstractJavaClientGenerator {
 	}
 
 	protected Interface getInterfaceShell() {
-		Interface answer = new Interface(new FullyQualifiedJavaType(introspectedTable.getDAOInterfaceType()));
+		Interface answer = new Interface(FullyQualifiedJavaType.of(introspectedTable.getDAOInterfaceType()));
 		answer.setVisibility(JavaVisibility.PUBLIC);
 
 		String rootInterface = introspectedTable.getTableConfigurationProperty(PropertyRegistry.ANY_ROOT_INTERFACE);
@@ -147,7 +156,7 @@ public class DAOGenerator extends AbstractJavaClientGenerator {
 		}
 
 		if (stringHasValue(rootInterface)) {
-			FullyQualifiedJavaType fqjt = new FullyQualifiedJavaType(rootInterface);
+			FullyQualifiedJavaType fqjt = FullyQualifiedJavaType.of(rootInterface);
 			answer.addSuperInterface(fqjt);
 			answer.addImportedType(fqjt);
 		}
@@ -182,6 +191,13 @@ public class DAOGenerator extends AbstractJavaClientGenerator {
 		}
 	}
 
+	protected void addDeleteByPrimaryKeysMethod(TopLevelClass topLevelClass, Interface interfaze) {
+		if (introspectedTable.getRules().generateDeleteByPrimaryKeys()) {
+			AbstractDAOElementGenerator methodGenerator = new DeleteByPrimaryKeysMethodGenerator(generateForJava5);
+			initializeAndExecuteGenerator(methodGenerator, topLevelClass, interfaze);
+		}
+	}
+
 	protected void addInsertMethod(TopLevelClass topLevelClass, Interface interfaze) {
 		if (introspectedTable.getRules().generateInsert()) {
 			AbstractDAOElementGenerator methodGenerator = new InsertMethodGenerator();
@@ -196,6 +212,13 @@ public class DAOGenerator extends AbstractJavaClientGenerator {
 		}
 	}
 
+	protected void addInsertBatchMethod(TopLevelClass topLevelClass, Interface interfaze) {
+		if (introspectedTable.getRules().generateInsertBatch()) {
+			AbstractDAOElementGenerator methodGenerator = new InsertBatchMethodGenerator(generateForJava5);
+			initializeAndExecuteGenerator(methodGenerator, topLevelClass, interfaze);
+		}
+	}
+
 	protected void addSelectByParamsWithBLOBsMethod(TopLevelClass topLevelClass, Interface interfaze) {
 		if (introspectedTable.getRules().generateSelectByParamsWithBLOBs()) {
 			AbstractDAOElementGenerator methodGenerator = new SelectByParamsWithBLOBsMethodGenerator(generateForJava5);
@@ -211,6 +234,20 @@ public class DAOGenerator extends AbstractJavaClientGenerator {
 		}
 	}
 
+	protected void addSelectByParamsWithHandlerMethod(TopLevelClass topLevelClass, Interface interfaze) {
+		if (introspectedTable.getRules().generateSelectByParamsWithHandler()) {
+			AbstractDAOElementGenerator methodGenerator = new SelectByParamsWithHandlerMethodGenerator(false);
+			initializeAndExecuteGenerator(methodGenerator, topLevelClass, interfaze);
+		}
+	}
+
+	protected void addSelectByParamsWithBLOBsWithHandlerMethod(TopLevelClass topLevelClass, Interface interfaze) {
+		if (introspectedTable.getRules().generateSelectByParamsWithBLOBsWithHandler()) {
+			AbstractDAOElementGenerator methodGenerator = new SelectByParamsWithHandlerMethodGenerator(true);
+			initializeAndExecuteGenerator(methodGenerator, topLevelClass, interfaze);
+		}
+	}
+
 	protected void addSelectByPrimaryKeyMethod(TopLevelClass topLevelClass, Interface interfaze) {
 		if (introspectedTable.getRules().generateSelectByPrimaryKey()) {
 			AbstractDAOElementGenerator methodGenerator = new SelectByPrimaryKeyMethodGenerator();
@@ -218,6 +255,13 @@ public class DAOGenerator extends AbstractJavaClientGenerator {
 		}
 	}
 
+	protected void addSelectByPrimaryKeysMethod(TopLevelClass topLevelClass, Interface interfaze) {
+		if (introspectedTable.getRules().generateSelectByPrimaryKeys()) {
+			AbstractDAOElementGenerator methodGenerator = new SelectByPrimaryKeysMethodGenerator(generateForJava5);
+			initializeAndExecuteGenerator(methodGenerator, topLevelClass, interfaze);
+		}
+	}
+
 	protected void addUpdateByParamsParmsInnerclass(TopLevelClass topLevelClass, Interface interfaze) {
 		Rules rules = introspectedTable.getRules();
 		if (rules.generateUpdateByParamsSelective() || rules.generateUpdateByParamsWithBLOBs()
@@ -19,6 +19,7 @@ import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
 import static org.mybatis.generator.internal.util.messages.Messages.getString;
 
 import org.mybatis.generator.api.DAOMethodNameCalculator;
+import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
 import org.mybatis.generator.api.dom.java.Interface;
 import org.mybatis.generator.api.dom.java.JavaVisibility;
 import org.mybatis.generator.api.dom.java.TopLevelClass;
@@ -75,6 +76,26 @@ public abstract class AbstractDAOElementGenerator extends AbstractGenerator {
 		return dAOMethodNameCalculator;
 	}
 
+	/**
+	 * @return the type of the keys of selectByPrimaryKeys and
+	 *         deleteByPrimaryKeys: the value of a single key column if there
+	 *         is no primary key class, otherwise the primary key class (or the
+	 *         record class, which then holds the key fields)
+	 */
+	protected FullyQualifiedJavaType getPrimaryKeysItemType() {
+		if (introspectedTable.getRules().generatePrimaryKeyClass()) {
+			return FullyQualifiedJavaType.of(introspectedTable.getPrimaryKeyType());
+		} else if (introspectedTable.getPrimaryKeyColumns().size() == 1) {
+			FullyQualifiedJavaType type = introspectedTable.getPrimaryKeyColumns().get(0).getFullyQualifiedJavaType();
+			if (type.isPrimitive()) {
+				type = type.getPrimitiveTypeWrapper();
+			}
+			return type;
+		} else {
+			return FullyQualifiedJavaType.of(introspectedTable.getBaseRecordType());
+		}
+	}
+
 	public JavaVisibility getExampleMethodVisibility() {
 		if (exampleMethodVisibility == null) {
 			String type = context.getJavaClientGeneratorConfiguration().getProperty(
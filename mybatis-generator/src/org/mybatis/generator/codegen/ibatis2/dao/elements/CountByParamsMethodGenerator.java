@@ -78,7 +78,7 @@ public class CountByParamsMethodGenerator extends AbstractDAOElementGenerator {
 	}
 
 	private Method getMethodShell(Set<FullyQualifiedJavaType> importedTypes) {
-		FullyQualifiedJavaType type = new FullyQualifiedJavaType(introspectedTable.getExampleType());
+		FullyQualifiedJavaType type = FullyQualifiedJavaType.of(introspectedTable.getExampleType());
 		importedTypes.add(type);
 
 		Method method = new Method();
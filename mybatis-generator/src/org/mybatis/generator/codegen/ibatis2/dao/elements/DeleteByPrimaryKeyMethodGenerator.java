@@ -49,7 +49,7 @@ public class DeleteByPrimaryKeyMethodGenerator extends AbstractDAOElementGenerat
 		if (!introspectedTable.getRules().generatePrimaryKeyClass()) {
 			// no primary key class, but primary key is enabled. Primary
 			// key columns must be in the base class.
-			FullyQualifiedJavaType keyType = new FullyQualifiedJavaType(introspectedTable.getBaseRecordType());
+			FullyQualifiedJavaType keyType = FullyQualifiedJavaType.of(introspectedTable.getBaseRecordType());
 			topLevelClass.addImportedType(keyType);
 
 			sb.setLength(0);
@@ -101,7 +101,7 @@ public class DeleteByPrimaryKeyMethodGenerator extends AbstractDAOElementGenerat
 		method.setName(getDAOMethodNameCalculator().getDeleteByPrimaryKeyMethodName(introspectedTable));
 
 		if (introspectedTable.getRules().generatePrimaryKeyClass()) {
-			FullyQualifiedJavaType type = new FullyQualifiedJavaType(introspectedTable.getPrimaryKeyType());
+			FullyQualifiedJavaType type = FullyQualifiedJavaType.of(introspectedTable.getPrimaryKeyType());
 			importedTypes.add(type);
 			method.addParameter(new Parameter(type, "_key")); //$NON-NLS-1$
 		} else {
@@ -0,0 +1,103 @@
+/*
+ *  Copyright 2009 The Apache Software Foundation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mybatis.generator.codegen.ibatis2.dao.elements;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+import org.mybatis.generator.api.dom.java.Interface;
+import org.mybatis.generator.api.dom.java.JavaVisibility;
+import org.mybatis.generator.api.dom.java.Method;
+import org.mybatis.generator.api.dom.java.Parameter;
+import org.mybatis.generator.api.dom.java.TopLevelClass;
+
+/**
+ * Generates the insertBatch DAO method. The implementation executes the
+ * insertBatch statement once per chunk of at most insertBatchMaxRows records,
+ * so a long list does not exceed the parameter limit of the driver.
+ */
+public class InsertBatchMethodGenerator extends AbstractDAOElementGenerator {
+
+	private boolean generateForJava5;
+
+	public InsertBatchMethodGenerator(boolean generateForJava5) {
+		super();
+		this.generateForJava5 = generateForJava5;
+	}
+
+	@Override
+	public void addImplementationElements(TopLevelClass topLevelClass) {
+		Set<FullyQualifiedJavaType> importedTypes = new TreeSet<FullyQualifiedJavaType>();
+		Method method = getMethodShell(importedTypes);
+
+		int maxRows = introspectedTable.getInsertBatchMaxRows();
+
+		method.addBodyLine("int rows = 0;"); //$NON-NLS-1$
+		method.addBodyLine(String.format("for (int i = 0; i < records.size(); i += %d) {", maxRows)); //$NON-NLS-1$
+		method.addBodyLine(String.format("int end = Math.min(i + %d, records.size());", maxRows)); //$NON-NLS-1$
+
+		StringBuilder sb = new StringBuilder();
+		sb.append("rows += "); //$NON-NLS-1$
+		sb.append(daoTemplate.getUpdateMethod(introspectedTable.getIbatis2SqlMapNamespace(),
+				introspectedTable.getInsertBatchStatementId(), "records.subList(i, end)")); //$NON-NLS-1$
+		method.addBodyLine(sb.toString());
+		method.addBodyLine("}"); //$NON-NLS-1$
+		method.addBodyLine("return rows;"); //$NON-NLS-1$
+
+		if (context.getPlugins().clientInsertBatchMethodGenerated(method, topLevelClass, introspectedTable)) {
+			topLevelClass.addImportedTypes(importedTypes);
+			topLevelClass.addMethod(method);
+		}
+	}
+
+	@Override
+	public void addInterfaceElements(Interface interfaze) {
+		Set<FullyQualifiedJavaType> importedTypes = new TreeSet<FullyQualifiedJavaType>();
+		Method method = getMethodShell(importedTypes);
+		context.getCommentGenerator().addGeneralMethodComment(method, introspectedTable,
+				"批量保存记录,每" + introspectedTable.getInsertBatchMaxRows() + "条记录执行一条语句");
+		if (context.getPlugins().clientInsertBatchMethodGenerated(method, interfaze, introspectedTable)) {
+			interfaze.addImportedTypes(importedTypes);
+			interfaze.addMethod(method);
+		}
+	}
+
+	private Method getMethodShell(Set<FullyQualifiedJavaType> importedTypes) {
+		Method method = new Method();
+		method.setVisibility(JavaVisibility.PUBLIC);
+		method.setReturnType(FullyQualifiedJavaType.getIntInstance());
+		method.setName(getDAOMethodNameCalculator().getInsertBatchMethodName(introspectedTable));
+
+		FullyQualifiedJavaType recordType = introspectedTable.getRules().calculateAllFieldsClass();
+		FullyQualifiedJavaType parameterType = FullyQualifiedJavaType.getNewListInstance();
+		if (generateForJava5) {
+			parameterType.addTypeArgument(recordType);
+			importedTypes.add(recordType);
+		}
+		importedTypes.add(FullyQualifiedJavaType.getNewListInstance());
+		method.addParameter(new Parameter(parameterType, "records")); //$NON-NLS-1$
+
+		for (FullyQualifiedJavaType fqjt : daoTemplate.getCheckedExceptions()) {
+			method.addException(fqjt);
+			importedTypes.add(fqjt);
+		}
+
+		context.getCommentGenerator().addGeneralMethodComment(method, introspectedTable);
+
+		return method;
+	}
+}
@@ -78,7 +78,7 @@ public class SelectByParamsWithBLOBsMethodGenerator extends AbstractDAOElementGe
 	}
 
 	private Method getMethodShell(Set<FullyQualifiedJavaType> importedTypes) {
-		FullyQualifiedJavaType type = new FullyQualifiedJavaType(introspectedTable.getExampleType());
+		FullyQualifiedJavaType type = FullyQualifiedJavaType.of(introspectedTable.getExampleType());
 		importedTypes.add(type);
 		importedTypes.add(FullyQualifiedJavaType.getNewListInstance());
 
@@ -89,10 +89,10 @@ public class SelectByParamsWithBLOBsMethodGenerator extends AbstractDAOElementGe
 		if (generateForJava5) {
 			FullyQualifiedJavaType fqjt;
 			if (introspectedTable.getRules().generateRecordWithBLOBsClass()) {
-				fqjt = new FullyQualifiedJavaType(introspectedTable.getRecordWithBLOBsType());
+				fqjt = FullyQualifiedJavaType.of(introspectedTable.getRecordWithBLOBsType());
 			} else {
 				// the blob fields must be rolled up into the base class
-				fqjt = new FullyQualifiedJavaType(introspectedTable.getBaseRecordType());
+				fqjt = FullyQualifiedJavaType.of(introspectedTable.getBaseRecordType());
 			}
 
 			importedTypes.add(fqjt);
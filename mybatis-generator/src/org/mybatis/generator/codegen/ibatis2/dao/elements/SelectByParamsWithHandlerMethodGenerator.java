@@ -0,0 +1,114 @@
+/*
+ *  Copyright 2008 The Apache Software Foundation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mybatis.generator.codegen.ibatis2.dao.elements;
+
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+import org.mybatis.generator.api.dom.java.Interface;
+import org.mybatis.generator.api.dom.java.JavaVisibility;
+import org.mybatis.generator.api.dom.java.Method;
+import org.mybatis.generator.api.dom.java.Parameter;
+import org.mybatis.generator.api.dom.java.TopLevelClass;
+
+/**
+ * Generates the DAO method that passes the rows of a select by example to a
+ * RowHandler, so that large result sets are not kept in memory.
+ */
+public class SelectByParamsWithHandlerMethodGenerator extends AbstractDAOElementGenerator {
+
+	private boolean withBLOBs;
+
+	/**
+	 * @param withBLOBs
+	 *            true for the variant of selectByParamsWithBLOBs
+	 */
+	public SelectByParamsWithHandlerMethodGenerator(boolean withBLOBs) {
+		super();
+		this.withBLOBs = withBLOBs;
+	}
+
+	@Override
+	public void addImplementationElements(TopLevelClass topLevelClass) {
+		if (!daoTemplate.hasQueryWithRowHandlerMethod()) {
+			warnings.add(getString("Warning.29", introspectedTable.getFullyQualifiedTable().toString())); //$NON-NLS-1$
+			return;
+		}
+
+		Set<FullyQualifiedJavaType> importedTypes = new TreeSet<FullyQualifiedJavaType>();
+		Method method = getMethodShell(importedTypes);
+		method.addBodyLine(daoTemplate.getQueryWithRowHandlerMethod(introspectedTable.getIbatis2SqlMapNamespace(),
+				getStatementId(), "example", "rowHandler")); //$NON-NLS-1$ //$NON-NLS-2$
+
+		if (context.getPlugins().clientSelectByParamsWithHandlerMethodGenerated(method, topLevelClass,
+				introspectedTable)) {
+			topLevelClass.addImportedTypes(importedTypes);
+			topLevelClass.addMethod(method);
+		}
+	}
+
+	@Override
+	public void addInterfaceElements(Interface interfaze) {
+		if (getExampleMethodVisibility() == JavaVisibility.PUBLIC && daoTemplate.hasQueryWithRowHandlerMethod()) {
+			Set<FullyQualifiedJavaType> importedTypes = new TreeSet<FullyQualifiedJavaType>();
+			Method method = getMethodShell(importedTypes);
+			context.getCommentGenerator().addGeneralMethodComment(method, introspectedTable,
+					"根据条件查询记录，逐条交给rowHandler处理，不在内存中保留整个结果集");
+			if (context.getPlugins().clientSelectByParamsWithHandlerMethodGenerated(method, interfaze,
+					introspectedTable)) {
+				interfaze.addImportedTypes(importedTypes);
+				interfaze.addMethod(method);
+			}
+		}
+	}
+
+	private String getStatementId() {
+		return withBLOBs ? introspectedTable.getSelectByParamsWithBLOBsWithHandlerStatementId() : introspectedTable
+				.getSelectByParamsWithHandlerStatementId();
+	}
+
+	private Method getMethodShell(Set<FullyQualifiedJavaType> importedTypes) {
+		FullyQualifiedJavaType type = FullyQualifiedJavaType.of(introspectedTable.getExampleType());
+		importedTypes.add(type);
+		FullyQualifiedJavaType rowHandlerType = FullyQualifiedJavaType
+				.of("com.ibatis.sqlmap.client.event.RowHandler"); //$NON-NLS-1$
+		importedTypes.add(rowHandlerType);
+
+		Method method = new Method();
+		method.setVisibility(getExampleMethodVisibility());
+
+		if (withBLOBs) {
+			method.setName(getDAOMethodNameCalculator().getSelectByParamsWithBLOBsWithHandlerMethodName(
+					introspectedTable));
+		} else {
+			method.setName(getDAOMethodNameCalculator().getSelectByParamsWithHandlerMethodName(introspectedTable));
+		}
+		method.addParameter(new Parameter(type, "example")); //$NON-NLS-1$
+		method.addParameter(new Parameter(rowHandlerType, "rowHandler")); //$NON-NLS-1$
+
+		for (FullyQualifiedJavaType fqjt : daoTemplate.getCheckedExceptions()) {
+			method.addException(fqjt);
+			importedTypes.add(fqjt);
+		}
+
+		context.getCommentGenerator().addGeneralMethodComment(method, introspectedTable);
+
+		return method;
+	}
+}
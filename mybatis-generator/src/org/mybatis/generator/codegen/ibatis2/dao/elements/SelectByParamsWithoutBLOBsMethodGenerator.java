@@ -80,7 +80,7 @@ public class SelectByParamsWithoutBLOBsMethodGenerator extends AbstractDAOElemen
 	}
 
 	private Method getMethodShell(Set<FullyQualifiedJavaType> importedTypes) {
-		FullyQualifiedJavaType type = new FullyQualifiedJavaType(introspectedTable.getExampleType());
+		FullyQualifiedJavaType type = FullyQualifiedJavaType.of(introspectedTable.getExampleType());
 		importedTypes.add(type);
 		importedTypes.add(FullyQualifiedJavaType.getNewListInstance());
 
@@ -92,9 +92,9 @@ public class SelectByParamsWithoutBLOBsMethodGenerator extends AbstractDAOElemen
 		if (generateForJava5) {
 			FullyQualifiedJavaType fqjt;
 			if (introspectedTable.getRules().generateBaseRecordClass()) {
-				fqjt = new FullyQualifiedJavaType(introspectedTable.getBaseRecordType());
+				fqjt = FullyQualifiedJavaType.of(introspectedTable.getBaseRecordType());
 			} else if (introspectedTable.getRules().generatePrimaryKeyClass()) {
-				fqjt = new FullyQualifiedJavaType(introspectedTable.getPrimaryKeyType());
+				fqjt = FullyQualifiedJavaType.of(introspectedTable.getPrimaryKeyType());
 			} else {
 				throw new RuntimeException(getString("RuntimeError.12")); //$NON-NLS-1$
 			}
@@ -0,0 +1,147 @@
+/*
+ *  Copyright 2009 The Apache Software Foundation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mybatis.generator.codegen.ibatis2.dao.elements;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+import org.mybatis.generator.api.dom.java.Interface;
+import org.mybatis.generator.api.dom.java.JavaVisibility;
+import org.mybatis.generator.api.dom.java.Method;
+import org.mybatis.generator.api.dom.java.Parameter;
+import org.mybatis.generator.api.dom.java.TopLevelClass;
+
+/**
+ * Generates the selectByPrimaryKeys DAO method. The implementation executes the
+ * selectByPrimaryKeys statement once per chunk of at most inListMaxSize keys, so
+ * the IN list does not exceed the limit of the database (1000 for Oracle).
+ */
+public class SelectByPrimaryKeysMethodGenerator extends AbstractDAOElementGenerator {
+
+	private boolean generateForJava5;
+
+	public SelectByPrimaryKeysMethodGenerator(boolean generateForJava5) {
+		super();
+		this.generateForJava5 = generateForJava5;
+	}
+
+	@Override
+	public void addImplementationElements(TopLevelClass topLevelClass) {
+		Set<FullyQualifiedJavaType> importedTypes = new TreeSet<FullyQualifiedJavaType>();
+		Method method = getMethodShell(importedTypes);
+
+		int maxSize = introspectedTable.getInListMaxSize();
+
+		FullyQualifiedJavaType listType = FullyQualifiedJavaType.getNewListInstance();
+		FullyQualifiedJavaType arrayListType = FullyQualifiedJavaType.getNewArrayListInstance();
+		if (generateForJava5) {
+			FullyQualifiedJavaType keyType = getPrimaryKeysItemType();
+			listType.addTypeArgument(keyType);
+			arrayListType.addTypeArgument(keyType);
+		}
+		importedTypes.add(FullyQualifiedJavaType.getNewListInstance());
+		importedTypes.add(FullyQualifiedJavaType.getNewArrayListInstance());
+
+		StringBuilder sb = new StringBuilder();
+		sb.append(listType.getShortName());
+		sb.append(" keyList = new "); //$NON-NLS-1$
+		sb.append(arrayListType.getShortName());
+		sb.append("(keys);"); //$NON-NLS-1$
+		method.addBodyLine(sb.toString());
+
+		if (generateForJava5) {
+			method.addSuppressTypeWarningsAnnotation();
+		}
+
+		FullyQualifiedJavaType returnType = method.getReturnType();
+		FullyQualifiedJavaType recordsType = FullyQualifiedJavaType.getNewArrayListInstance();
+		if (generateForJava5) {
+			recordsType.addTypeArgument(introspectedTable.getRules().calculateAllFieldsClass());
+		}
+
+		sb.setLength(0);
+		sb.append(returnType.getShortName());
+		sb.append(" records = new "); //$NON-NLS-1$
+		sb.append(recordsType.getShortName());
+		sb.append("();"); //$NON-NLS-1$
+		method.addBodyLine(sb.toString());
+		method.addBodyLine(String.format("for (int i = 0; i < keyList.size(); i += %d) {", maxSize)); //$NON-NLS-1$
+		method.addBodyLine(String.format("int end = Math.min(i + %d, keyList.size());", maxSize)); //$NON-NLS-1$
+
+		sb.setLength(0);
+		sb.append("records.addAll("); //$NON-NLS-1$
+		String query = daoTemplate.getQueryForListMethod(introspectedTable.getIbatis2SqlMapNamespace(),
+				introspectedTable.getSelectByPrimaryKeysStatementId(), "keyList.subList(i, end)"); //$NON-NLS-1$
+		// the template ends the call with a semicolon
+		sb.append(query.substring(0, query.length() - 1));
+		sb.append(");"); //$NON-NLS-1$
+		method.addBodyLine(sb.toString());
+		method.addBodyLine("}"); //$NON-NLS-1$
+		method.addBodyLine("return records;"); //$NON-NLS-1$
+
+		if (context.getPlugins().clientSelectByPrimaryKeysMethodGenerated(method, topLevelClass, introspectedTable)) {
+			topLevelClass.addImportedTypes(importedTypes);
+			topLevelClass.addMethod(method);
+		}
+	}
+
+	@Override
+	public void addInterfaceElements(Interface interfaze) {
+		Set<FullyQualifiedJavaType> importedTypes = new TreeSet<FullyQualifiedJavaType>();
+		Method method = getMethodShell(importedTypes);
+		context.getCommentGenerator().addGeneralMethodComment(method, introspectedTable,
+				"根据主键集合批量查询记录,每" + introspectedTable.getInListMaxSize() + "个主键执行一条语句");
+		if (context.getPlugins().clientSelectByPrimaryKeysMethodGenerated(method, interfaze, introspectedTable)) {
+			interfaze.addImportedTypes(importedTypes);
+			interfaze.addMethod(method);
+		}
+	}
+
+	private Method getMethodShell(Set<FullyQualifiedJavaType> importedTypes) {
+		Method method = new Method();
+		method.setVisibility(JavaVisibility.PUBLIC);
+
+		FullyQualifiedJavaType returnType = FullyQualifiedJavaType.getNewListInstance();
+		if (generateForJava5) {
+			FullyQualifiedJavaType recordType = introspectedTable.getRules().calculateAllFieldsClass();
+			returnType.addTypeArgument(recordType);
+			importedTypes.add(recordType);
+		}
+		importedTypes.add(FullyQualifiedJavaType.getNewListInstance());
+		method.setReturnType(returnType);
+
+		method.setName(getDAOMethodNameCalculator().getSelectByPrimaryKeysMethodName(introspectedTable));
+
+		FullyQualifiedJavaType parameterType = new FullyQualifiedJavaType("java.util.Collection"); //$NON-NLS-1$
+		if (generateForJava5) {
+			FullyQualifiedJavaType keyType = getPrimaryKeysItemType();
+			parameterType.addTypeArgument(keyType);
+			importedTypes.add(keyType);
+		}
+		importedTypes.add(FullyQualifiedJavaType.of("java.util.Collection")); //$NON-NLS-1$
+		method.addParameter(new Parameter(parameterType, "keys")); //$NON-NLS-1$
+
+		for (FullyQualifiedJavaType fqjt : daoTemplate.getCheckedExceptions()) {
+			method.addException(fqjt);
+			importedTypes.add(fqjt);
+		}
+
+		context.getCommentGenerator().addGeneralMethodComment(method, introspectedTable);
+
+		return method;
+	}
+}
@@ -37,9 +37,9 @@ public class UpdateByParamsParmsInnerclassGenerator extends AbstractDAOElementGe
 
 	@Override
 	public void addImplementationElements(TopLevelClass topLevelClass) {
-		topLevelClass.addImportedType(new FullyQualifiedJavaType(introspectedTable.getExampleType()));
+		topLevelClass.addImportedType(FullyQualifiedJavaType.of(introspectedTable.getExampleType()));
 
-		InnerClass innerClass = new InnerClass(new FullyQualifiedJavaType("UpdateByParamsParms")); //$NON-NLS-1$
+		InnerClass innerClass = new InnerClass(FullyQualifiedJavaType.of("UpdateByParamsParms")); //$NON-NLS-1$
 		innerClass.setVisibility(JavaVisibility.PROTECTED);
 		innerClass.setStatic(true);
 		innerClass.setSuperClass(introspectedTable.getExampleType());
@@ -50,7 +50,7 @@ public class UpdateByParamsParmsInnerclassGenerator extends AbstractDAOElementGe
 		method.setVisibility(JavaVisibility.PUBLIC);
 		method.setName(innerClass.getType().getShortName());
 		method.addParameter(new Parameter(FullyQualifiedJavaType.getObjectInstance(), "record")); //$NON-NLS-1$
-		method.addParameter(new Parameter(new FullyQualifiedJavaType(introspectedTable.getExampleType()), "example")); //$NON-NLS-1$
+		method.addParameter(new Parameter(FullyQualifiedJavaType.of(introspectedTable.getExampleType()), "example")); //$NON-NLS-1$
 		method.addBodyLine("super(example);"); //$NON-NLS-1$
 		method.addBodyLine("this.record = record;"); //$NON-NLS-1$
 		innerClass.addMethod(method);
@@ -74,11 +74,11 @@ public class UpdateByParamsSelectiveMethodGenerator extends AbstractDAOElementGe
 		FullyQualifiedJavaType parameterType;
 
 		if (introspectedTable.getRules().generateRecordWithBLOBsClass()) {
-			parameterType = new FullyQualifiedJavaType(introspectedTable.getRecordWithBLOBsType());
+			parameterType = FullyQualifiedJavaType.of(introspectedTable.getRecordWithBLOBsType());
 		} else if (introspectedTable.getRules().generateBaseRecordClass()) {
-			parameterType = new FullyQualifiedJavaType(introspectedTable.getBaseRecordType());
+			parameterType = FullyQualifiedJavaType.of(introspectedTable.getBaseRecordType());
 		} else {
-			parameterType = new FullyQualifiedJavaType(introspectedTable.getPrimaryKeyType());
+			parameterType = FullyQualifiedJavaType.of(introspectedTable.getPrimaryKeyType());
 		}
 
 		importedTypes.add(parameterType);
@@ -88,7 +88,7 @@ public class UpdateByParamsSelectiveMethodGenerator extends AbstractDAOElementGe
 		method.setReturnType(FullyQualifiedJavaType.getIntInstance());
 		method.setName(getDAOMethodNameCalculator().getUpdateByParamsSelectiveMethodName(introspectedTable));
 		method.addParameter(new Parameter(parameterType, "record")); //$NON-NLS-1$
-		method.addParameter(new Parameter(new FullyQualifiedJavaType(introspectedTable.getExampleType()), "example")); //$NON-NLS-1$
+		method.addParameter(new Parameter(FullyQualifiedJavaType.of(introspectedTable.getExampleType()), "example")); //$NON-NLS-1$
 
 		for (FullyQualifiedJavaType fqjt : daoTemplate.getCheckedExceptions()) {
 			method.addException(fqjt);
@@ -75,9 +75,9 @@ public class UpdateByParamsWithBLOBsMethodGenerator extends AbstractDAOElementGe
 	private Method getMethodShell(Set<FullyQualifiedJavaType> importedTypes) {
 		FullyQualifiedJavaType parameterType;
 		if (introspectedTable.getRules().generateRecordWithBLOBsClass()) {
-			parameterType = new FullyQualifiedJavaType(introspectedTable.getRecordWithBLOBsType());
+			parameterType = FullyQualifiedJavaType.of(introspectedTable.getRecordWithBLOBsType());
 		} else {
-			parameterType = new FullyQualifiedJavaType(introspectedTable.getBaseRecordType());
+			parameterType = FullyQualifiedJavaType.of(introspectedTable.getBaseRecordType());
 		}
 
 		importedTypes.add(parameterType);
@@ -87,7 +87,7 @@ public class UpdateByParamsWithBLOBsMethodGenerator extends AbstractDAOElementGe
 		method.setReturnType(FullyQualifiedJavaType.getIntInstance());
 		method.setName(getDAOMethodNameCalculator().getUpdateByParamsWithBLOBsMethodName(introspectedTable));
 		method.addParameter(new Parameter(parameterType, "record")); //$NON-NLS-1$
-		method.addParameter(new Parameter(new FullyQualifiedJavaType(introspectedTable.getExampleType()), "example")); //$NON-NLS-1$
+		method.addParameter(new Parameter(FullyQualifiedJavaType.of(introspectedTable.getExampleType()), "example")); //$NON-NLS-1$
 
 		for (FullyQualifiedJavaType fqjt : daoTemplate.getCheckedExceptions()) {
 			method.addException(fqjt);
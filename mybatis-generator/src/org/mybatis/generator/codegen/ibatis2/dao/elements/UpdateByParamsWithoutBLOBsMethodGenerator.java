@@ -75,9 +75,9 @@ public class UpdateByParamsWithoutBLOBsMethodGenerator extends AbstractDAOElemen
 	private Method getMethodShell(Set<FullyQualifiedJavaType> importedTypes) {
 		FullyQualifiedJavaType parameterType;
 		if (introspectedTable.getRules().generateBaseRecordClass()) {
-			parameterType = new FullyQualifiedJavaType(introspectedTable.getBaseRecordType());
+			parameterType = FullyQualifiedJavaType.of(introspectedTable.getBaseRecordType());
 		} else {
-			parameterType = new FullyQualifiedJavaType(introspectedTable.getPrimaryKeyType());
+			parameterType = FullyQualifiedJavaType.of(introspectedTable.getPrimaryKeyType());
 		}
 
 		importedTypes.add(parameterType);
@@ -87,7 +87,7 @@ public class UpdateByParamsWithoutBLOBsMethodGenerator extends AbstractDAOElemen
 		method.setReturnType(FullyQualifiedJavaType.getIntInstance());
 		method.setName(getDAOMethodNameCalculator().getUpdateByParamsWithoutBLOBsMethodName(introspectedTable));
 		method.addParameter(new Parameter(parameterType, "record")); //$NON-NLS-1$
-		method.addParameter(new Parameter(new FullyQualifiedJavaType(introspectedTable.getExampleType()), "example")); //$NON-NLS-1$
+		method.addParameter(new Parameter(FullyQualifiedJavaType.of(introspectedTable.getExampleType()), "example")); //$NON-NLS-1$
 
 		for (FullyQualifiedJavaType fqjt : daoTemplate.getCheckedExceptions()) {
 			method.addException(fqjt);
@@ -71,9 +71,9 @@ public class UpdateByPrimaryKeyWithBLOBsMethodGenerator extends AbstractDAOEleme
 		FullyQualifiedJavaType parameterType;
 
 		if (introspectedTable.getRules().generateRecordWithBLOBsClass()) {
-			parameterType = new FullyQualifiedJavaType(introspectedTable.getRecordWithBLOBsType());
+			parameterType = FullyQualifiedJavaType.of(introspectedTable.getRecordWithBLOBsType());
 		} else {
-			parameterType = new FullyQualifiedJavaType(introspectedTable.getBaseRecordType());
+			parameterType = FullyQualifiedJavaType.of(introspectedTable.getBaseRecordType());
 		}
 
 		importedTypes.add(parameterType);
@@ -69,7 +69,7 @@ public class UpdateByPrimaryKeyWithoutBLOBsMethodGenerator extends AbstractDAOEl
 	}
 
 	private Method getMethodShell(Set<FullyQualifiedJavaType> importedTypes) {
-		FullyQualifiedJavaType parameterType = new FullyQualifiedJavaType(introspectedTable.getBaseRecordType());
+		FullyQualifiedJavaType parameterType = FullyQualifiedJavaType.of(introspectedTable.getBaseRecordType());
 		importedTypes.add(parameterType);
 
 		Method method = new Method();
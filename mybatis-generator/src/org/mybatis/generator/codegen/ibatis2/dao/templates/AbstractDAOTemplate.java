@@ -58,6 +58,8 @@ public abstract class AbstractDAOTemplate {
 
 	private String queryForListMethodTemplate;
 
+	private String queryWithRowHandlerMethodTemplate;
+
 	private boolean configured;
 
 	/**
@@ -131,6 +133,23 @@ public abstract class AbstractDAOTemplate {
 		return answer;
 	}
 
+	/**
+	 * @return true if this template has a queryWithRowHandler method template
+	 */
+	public final boolean hasQueryWithRowHandlerMethod() {
+		configure();
+		return queryWithRowHandlerMethodTemplate != null;
+	}
+
+	public final String getQueryWithRowHandlerMethod(String sqlMapNamespace, String statementId, String parameter,
+			String rowHandler) {
+		configure();
+		String answer = MessageFormat.format(queryWithRowHandlerMethodTemplate, new Object[] { sqlMapNamespace,
+				statementId, parameter, rowHandler });
+
+		return answer;
+	}
+
 	public final String getQueryForObjectMethod(String sqlMapNamespace, String statementId, String parameter) {
 		configure();
 		String answer = MessageFormat.format(queryForObjectMethodTemplate, new Object[] { sqlMapNamespace, statementId,
@@ -233,6 +252,10 @@ public abstract class AbstractDAOTemplate {
 		this.queryForListMethodTemplate = queryForListMethodTemplate;
 	}
 
+	protected void setQueryWithRowHandlerMethodTemplate(String queryWithRowHandlerMethodTemplate) {
+		this.queryWithRowHandlerMethodTemplate = queryWithRowHandlerMethodTemplate;
+	}
+
 	protected void setQueryForObjectMethodTemplate(String queryForObjectMethodTemplate) {
 		this.queryForObjectMethodTemplate = queryForObjectMethodTemplate;
 	}
@@ -274,6 +297,7 @@ public abstract class AbstractDAOTemplate {
 			configureInterfaceImports();
 			configureMethods();
 			configureQueryForListMethodTemplate();
+			configureQueryWithRowHandlerMethodTemplate();
 			configureQueryForObjectMethodTemplate();
 			configureSuperClass();
 			configureUpdateMethodTemplate();
@@ -386,6 +410,27 @@ public abstract class AbstractDAOTemplate {
 	 */
 	protected abstract void configureQueryForListMethodTemplate();
 
+	/**
+	 * Override this method to configure a queryWithRowHandler method template.
+	 * The substitution markers are the same as for the queryForList method
+	 * template, with one more:
+	 * <ul>
+	 * <li>{3} - The row handler</li>
+	 * </ul>
+	 * 
+	 * For example, when calling methods in the SqlMapClient interface, the
+	 * template would be:
+	 * 
+	 * sqlMapClient.queryWithRowHandler(\"{0}.{1}\", {2}, {3});
+	 * 
+	 * Overriding methods should call the
+	 * <code>setQueryWithRowHandlerMethodTemplate(String)</code method to set
+	 * the template. Without a template no selectByParamsWithHandler methods are
+	 * generated.
+	 */
+	protected void configureQueryWithRowHandlerMethodTemplate() {
+	}
+
 	/**
 	 * Override this method to configure a queryForObject method template. A
 	 * method template is a string with three substitution markers that we will
@@ -26,7 +26,7 @@ import org.mybatis.generator.api.dom.java.Parameter;
  */
 public class GenericCIDAOTemplate extends AbstractDAOTemplate {
 
-	private FullyQualifiedJavaType sqlMapClientType = new FullyQualifiedJavaType(
+	private FullyQualifiedJavaType sqlMapClientType = FullyQualifiedJavaType.of(
 			"com.ibatis.sqlmap.client.SqlMapClient"); //$NON-NLS-1$
 
 	/**
@@ -38,7 +38,7 @@ public class GenericCIDAOTemplate extends AbstractDAOTemplate {
 
 	@Override
 	protected void configureCheckedExceptions() {
-		addCheckedException(new FullyQualifiedJavaType("java.sql.SQLException")); //$NON-NLS-1$
+		addCheckedException(FullyQualifiedJavaType.of("java.sql.SQLException")); //$NON-NLS-1$
 	}
 
 	@Override
@@ -81,6 +81,11 @@ public class GenericCIDAOTemplate extends AbstractDAOTemplate {
 		setQueryForListMethodTemplate("sqlMapClient.queryForList(\"{0}.{1}\", {2});"); //$NON-NLS-1$
 	}
 
+	@Override
+	protected void configureQueryWithRowHandlerMethodTemplate() {
+		setQueryWithRowHandlerMethodTemplate("sqlMapClient.queryWithRowHandler(\"{0}.{1}\", {2}, {3});"); //$NON-NLS-1$
+	}
+
 	@Override
 	protected void configureQueryForObjectMethodTemplate() {
 		setQueryForObjectMethodTemplate("sqlMapClient.queryForObject(\"{0}.{1}\", {2});"); //$NON-NLS-1$
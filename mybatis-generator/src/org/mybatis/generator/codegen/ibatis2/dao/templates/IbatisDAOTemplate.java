@@ -25,7 +25,7 @@ import org.mybatis.generator.api.dom.java.Parameter;
  */
 public class IbatisDAOTemplate extends AbstractDAOTemplate {
 
-	private FullyQualifiedJavaType fqjt = new FullyQualifiedJavaType("com.ibatis.dao.client.DaoManager"); //$NON-NLS-1$
+	private FullyQualifiedJavaType fqjt = FullyQualifiedJavaType.of("com.ibatis.dao.client.DaoManager"); //$NON-NLS-1$
 
 	/**
      *  
@@ -64,6 +64,11 @@ public class IbatisDAOTemplate extends AbstractDAOTemplate {
 		setQueryForListMethodTemplate("queryForList(\"{0}.{1}\", {2});"); //$NON-NLS-1$
 	}
 
+	@Override
+	protected void configureQueryWithRowHandlerMethodTemplate() {
+		setQueryWithRowHandlerMethodTemplate("queryWithRowHandler(\"{0}.{1}\", {2}, {3});"); //$NON-NLS-1$
+	}
+
 	@Override
 	protected void configureQueryForObjectMethodTemplate() {
 		setQueryForObjectMethodTemplate("queryForObject(\"{0}.{1}\", {2});"); //$NON-NLS-1$
@@ -71,7 +76,7 @@ public class IbatisDAOTemplate extends AbstractDAOTemplate {
 
 	@Override
 	protected void configureSuperClass() {
-		setSuperClass(new FullyQualifiedJavaType("com.ibatis.dao.client.template.SqlMapDaoTemplate")); //$NON-NLS-1$
+		setSuperClass(FullyQualifiedJavaType.of("com.ibatis.dao.client.template.SqlMapDaoTemplate")); //$NON-NLS-1$
 	}
 
 	@Override
@@ -55,6 +55,11 @@ public class SpringDAOTemplate extends AbstractDAOTemplate {
 		setQueryForListMethodTemplate("getSqlMapClientTemplate().queryForList(\"{0}.{1}\", {2});"); //$NON-NLS-1$
 	}
 
+	@Override
+	protected void configureQueryWithRowHandlerMethodTemplate() {
+		setQueryWithRowHandlerMethodTemplate("getSqlMapClientTemplate().queryWithRowHandler(\"{0}.{1}\", {2}, {3});"); //$NON-NLS-1$
+	}
+
 	@Override
 	protected void configureQueryForObjectMethodTemplate() {
 		setQueryForObjectMethodTemplate("getSqlMapClientTemplate().queryForObject(\"{0}.{1}\", {2});"); //$NON-NLS-1$
@@ -62,7 +67,7 @@ public class SpringDAOTemplate extends AbstractDAOTemplate {
 
 	@Override
 	protected void configureSuperClass() {
-		setSuperClass(new FullyQualifiedJavaType("org.springframework.orm.ibatis.support.SqlMapClientDaoSupport")); //$NON-NLS-1$
+		setSuperClass(FullyQualifiedJavaType.of("org.springframework.orm.ibatis.support.SqlMapClientDaoSupport")); //$NON-NLS-1$
 	}
 
 	@Override
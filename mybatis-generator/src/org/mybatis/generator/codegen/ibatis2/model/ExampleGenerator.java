@@ -59,7 +59,7 @@ public class ExampleGenerator extends AbstractJavaGenerator {
 		progressCallback.startTask(getString("Progress.6", table.toString())); //$NON-NLS-1$
 		CommentGenerator commentGenerator = context.getCommentGenerator();
 
-		FullyQualifiedJavaType type = new FullyQualifiedJavaType(introspectedTable.getExampleType());
+		FullyQualifiedJavaType type = FullyQualifiedJavaType.of(introspectedTable.getExampleType());
 		TopLevelClass topLevelClass = new TopLevelClass(type);
 		topLevelClass.setVisibility(JavaVisibility.PUBLIC);
 		commentGenerator.addJavaFileComment(topLevelClass);
@@ -150,9 +150,9 @@ public class ExampleGenerator extends AbstractJavaGenerator {
 
 		FullyQualifiedJavaType fqjt;
 		if (generateForJava5) {
-			fqjt = new FullyQualifiedJavaType("java.util.List<Criteria>"); //$NON-NLS-1$
+			fqjt = FullyQualifiedJavaType.of("java.util.List<Criteria>"); //$NON-NLS-1$
 		} else {
-			fqjt = new FullyQualifiedJavaType("java.util.List"); //$NON-NLS-1$
+			fqjt = FullyQualifiedJavaType.of("java.util.List"); //$NON-NLS-1$
 		}
 
 		field.setType(fqjt);
@@ -326,9 +326,9 @@ public class ExampleGenerator extends AbstractJavaGenerator {
 		field.setVisibility(JavaVisibility.PROTECTED);
 		FullyQualifiedJavaType listOfStrings;
 		if (generateForJava5) {
-			listOfStrings = new FullyQualifiedJavaType("java.util.List<java.lang.String>"); //$NON-NLS-1$
+			listOfStrings = FullyQualifiedJavaType.of("java.util.List<java.lang.String>"); //$NON-NLS-1$
 		} else {
-			listOfStrings = new FullyQualifiedJavaType("java.util.List"); //$NON-NLS-1$
+			listOfStrings = FullyQualifiedJavaType.of("java.util.List"); //$NON-NLS-1$
 		}
 		field.setType(listOfStrings);
 		field.setName("criteriaWithoutValue"); //$NON-NLS-1$
@@ -343,9 +343,9 @@ public class ExampleGenerator extends AbstractJavaGenerator {
 
 		FullyQualifiedJavaType listOfMaps;
 		if (generateForJava5) {
-			listOfMaps = new FullyQualifiedJavaType("java.util.List<java.util.Map<java.lang.String, java.lang.Object>>"); //$NON-NLS-1$
+			listOfMaps = FullyQualifiedJavaType.of("java.util.List<java.util.Map<java.lang.String, java.lang.Object>>"); //$NON-NLS-1$
 		} else {
-			listOfMaps = new FullyQualifiedJavaType("java.util.List"); //$NON-NLS-1$
+			listOfMaps = FullyQualifiedJavaType.of("java.util.List"); //$NON-NLS-1$
 		}
 
 		field = new Field();
@@ -420,9 +420,9 @@ public class ExampleGenerator extends AbstractJavaGenerator {
 
 		FullyQualifiedJavaType listOfObjects;
 		if (generateForJava5) {
-			listOfObjects = new FullyQualifiedJavaType("java.util.List<? extends java.lang.Object>"); //$NON-NLS-1$
+			listOfObjects = FullyQualifiedJavaType.of("java.util.List<? extends java.lang.Object>"); //$NON-NLS-1$
 		} else {
-			listOfObjects = new FullyQualifiedJavaType("java.util.List"); //$NON-NLS-1$
+			listOfObjects = FullyQualifiedJavaType.of("java.util.List"); //$NON-NLS-1$
 		}
 
 		method = new Method();
@@ -475,9 +475,9 @@ public class ExampleGenerator extends AbstractJavaGenerator {
 
 		FullyQualifiedJavaType listOfDates;
 		if (generateForJava5) {
-			listOfDates = new FullyQualifiedJavaType("java.util.List<java.util.Date>"); //$NON-NLS-1$
+			listOfDates = FullyQualifiedJavaType.of("java.util.List<java.util.Date>"); //$NON-NLS-1$
 		} else {
-			listOfDates = new FullyQualifiedJavaType("java.util.List"); //$NON-NLS-1$
+			listOfDates = FullyQualifiedJavaType.of("java.util.List"); //$NON-NLS-1$
 		}
 
 		if (introspectedTable.hasJDBCDateColumns()) {
@@ -634,9 +634,9 @@ public class ExampleGenerator extends AbstractJavaGenerator {
 		// add new private fields and public accessors in the class
 		FullyQualifiedJavaType listOfMaps;
 		if (generateForJava5) {
-			listOfMaps = new FullyQualifiedJavaType("java.util.List<java.util.Map<java.lang.String, java.lang.Object>>"); //$NON-NLS-1$
+			listOfMaps = FullyQualifiedJavaType.of("java.util.List<java.util.Map<java.lang.String, java.lang.Object>>"); //$NON-NLS-1$
 		} else {
-			listOfMaps = new FullyQualifiedJavaType("java.util.List"); //$NON-NLS-1$
+			listOfMaps = FullyQualifiedJavaType.of("java.util.List"); //$NON-NLS-1$
 		}
 
 		sb.setLength(0);
@@ -29,14 +29,17 @@ import org.mybatis.generator.codegen.ibatis2.sqlmap.elements.BlobColumnListEleme
 import org.mybatis.generator.codegen.ibatis2.sqlmap.elements.CountByParamsElementGenerator;
 import org.mybatis.generator.codegen.ibatis2.sqlmap.elements.DeleteByParamsElementGenerator;
 import org.mybatis.generator.codegen.ibatis2.sqlmap.elements.DeleteByPrimaryKeyElementGenerator;
+import org.mybatis.generator.codegen.ibatis2.sqlmap.elements.DeleteByPrimaryKeysElementGenerator;
 import org.mybatis.generator.codegen.ibatis2.sqlmap.elements.ExampleWhereClauseElementGenerator;
 import org.mybatis.generator.codegen.ibatis2.sqlmap.elements.InsertElementGenerator;
+import org.mybatis.generator.codegen.ibatis2.sqlmap.elements.InsertBatchElementGenerator;
 import org.mybatis.generator.codegen.ibatis2.sqlmap.elements.InsertSelectiveElementGenerator;
 import org.mybatis.generator.codegen.ibatis2.sqlmap.elements.ResultMapWithBLOBsElementGenerator;
 import org.mybatis.generator.codegen.ibatis2.sqlmap.elements.ResultMapWithoutBLOBsElementGenerator;
 import org.mybatis.generator.codegen.ibatis2.sqlmap.elements.SelectByParamsWithBLOBsElementGenerator;
 import org.mybatis.generator.codegen.ibatis2.sqlmap.elements.SelectByParamsWithoutBLOBsElementGenerator;
 import org.mybatis.generator.codegen.ibatis2.sqlmap.elements.SelectByPrimaryKeyElementGenerator;
+import org.mybatis.generator.codegen.ibatis2.sqlmap.elements.SelectByPrimaryKeysElementGenerator;
 import org.mybatis.generator.codegen.ibatis2.sqlmap.elements.UpdateByParamsSelectiveElementGenerator;
 import org.mybatis.generator.codegen.ibatis2.sqlmap.elements.UpdateByParamsWithBLOBsElementGenerator;
 import org.mybatis.generator.codegen.ibatis2.sqlmap.elements.UpdateByParamsWithoutBLOBsElementGenerator;
@@ -71,11 +74,17 @@ public class SqlMapGenerator extends AbstractXmlGenerator {
 		addBlobColumnListElement(answer);
 		addSelectByParamsWithBLOBsElement(answer);
 		addSelectByParamsWithoutBLOBsElement(answer);
+		addSelectByParamsWithHandlerElement(answer);
+		addSelectByParamsWithBLOBsWithHandlerElement(answer);
 		addSelectByPrimaryKeyElement(answer);
+		addSelectByPrimaryKeysElement(answer);
 		addDeleteByPrimaryKeyElement(answer);
+		addDeleteByPrimaryKeysElement(answer);
 		addDeleteByParamsElement(answer);
 		addInsertElement(answer);
 		addInsertSelectiveElement(answer);
+		addInsertBatchElement(answer);
+		addUpsertElement(answer);
 		addCountByParamsElement(answer);
 		addUpdateByParamsSelectiveElement(answer);
 		addUpdateByParamsWithBLOBsElement(answer);
@@ -87,6 +96,12 @@ public class SqlMapGenerator extends AbstractXmlGenerator {
 		return answer;
 	}
 
+	protected void addUpsertElement(XmlElement parentElement) {
+		if (introspectedTable.getRules().generateUpsert()) {
+			warnings.add(getString("Warning.28", introspectedTable.getFullyQualifiedTable().toString())); //$NON-NLS-1$
+		}
+	}
+
 	protected void addResultMapWithoutBLOBsElement(XmlElement parentElement) {
 		if (introspectedTable.getRules().generateBaseResultMap()) {
 			AbstractXmlElementGenerator elementGenerator = new ResultMapWithoutBLOBsElementGenerator();
@@ -136,6 +151,20 @@ public class SqlMapGenerator extends AbstractXmlGenerator {
 		}
 	}
 
+	protected void addSelectByParamsWithHandlerElement(XmlElement parentElement) {
+		if (introspectedTable.getRules().generateSelectByParamsWithHandler()) {
+			AbstractXmlElementGenerator elementGenerator = new SelectByParamsWithoutBLOBsElementGenerator(true);
+			initializeAndExecuteGenerator(elementGenerator, parentElement);
+		}
+	}
+
+	protected void addSelectByParamsWithBLOBsWithHandlerElement(XmlElement parentElement) {
+		if (introspectedTable.getRules().generateSelectByParamsWithBLOBsWithHandler()) {
+			AbstractXmlElementGenerator elementGenerator = new SelectByParamsWithBLOBsElementGenerator(true);
+			initializeAndExecuteGenerator(elementGenerator, parentElement);
+		}
+	}
+
 	protected void addSelectByPrimaryKeyElement(XmlElement parentElement) {
 		if (introspectedTable.getRules().generateSelectByPrimaryKey()) {
 			AbstractXmlElementGenerator elementGenerator = new SelectByPrimaryKeyElementGenerator();
@@ -143,6 +172,13 @@ public class SqlMapGenerator extends AbstractXmlGenerator {
 		}
 	}
 
+	protected void addSelectByPrimaryKeysElement(XmlElement parentElement) {
+		if (introspectedTable.getRules().generateSelectByPrimaryKeys()) {
+			AbstractXmlElementGenerator elementGenerator = new SelectByPrimaryKeysElementGenerator();
+			initializeAndExecuteGenerator(elementGenerator, parentElement);
+		}
+	}
+
 	protected void addDeleteByParamsElement(XmlElement parentElement) {
 		if (introspectedTable.getRules().generateDeleteByParams()) {
 			AbstractXmlElementGenerator elementGenerator = new DeleteByParamsElementGenerator();
@@ -157,6 +193,13 @@ public class SqlMapGenerator extends AbstractXmlGenerator {
 		}
 	}
 
+	protected void addDeleteByPrimaryKeysElement(XmlElement parentElement) {
+		if (introspectedTable.getRules().generateDeleteByPrimaryKeys()) {
+			AbstractXmlElementGenerator elementGenerator = new DeleteByPrimaryKeysElementGenerator();
+			initializeAndExecuteGenerator(elementGenerator, parentElement);
+		}
+	}
+
 	protected void addInsertElement(XmlElement parentElement) {
 		if (introspectedTable.getRules().generateInsert()) {
 			AbstractXmlElementGenerator elementGenerator = new InsertElementGenerator();
@@ -171,6 +214,13 @@ public class SqlMapGenerator extends AbstractXmlGenerator {
 		}
 	}
 
+	protected void addInsertBatchElement(XmlElement parentElement) {
+		if (introspectedTable.getRules().generateInsertBatch()) {
+			AbstractXmlElementGenerator elementGenerator = new InsertBatchElementGenerator();
+			initializeAndExecuteGenerator(elementGenerator, parentElement);
+		}
+	}
+
 	protected void addCountByParamsElement(XmlElement parentElement) {
 		if (introspectedTable.getRules().generateCountByParams()) {
 			AbstractXmlElementGenerator elementGenerator = new CountByParamsElementGenerator();
@@ -17,11 +17,14 @@ package org.mybatis.generator.codegen.ibatis2.sqlmap.elements;
 
 import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
 
+import java.util.List;
+
 import org.mybatis.generator.api.IntrospectedColumn;
 import org.mybatis.generator.api.dom.xml.Attribute;
 import org.mybatis.generator.api.dom.xml.TextElement;
 import org.mybatis.generator.api.dom.xml.XmlElement;
 import org.mybatis.generator.codegen.AbstractGenerator;
+import org.mybatis.generator.codegen.ibatis2.Ibatis2FormattingUtilities;
 import org.mybatis.generator.config.GeneratedKey;
 
 /**
@@ -46,6 +49,73 @@ public abstract class AbstractXmlElementGenerator extends AbstractGenerator {
 	 *            the generated key for the current table
 	 * @return the selectKey element
 	 */
+	/**
+	 * Adds the where clause of the selectByPrimaryKeys and deleteByPrimaryKeys
+	 * elements. The parameter is a list of keys, which the DAO splits into
+	 * lists of at most inListMaxSize keys. Composite keys are compared with
+	 * row value constructors if the database supports them, otherwise with
+	 * one (A = ? and B = ?) term per key.
+	 * 
+	 * @param aliased
+	 *            true to use the aliased column names
+	 */
+	protected void addPrimaryKeysWhereClause(XmlElement answer, boolean aliased) {
+		List<IntrospectedColumn> primaryKeyColumns = introspectedTable.getPrimaryKeyColumns();
+		boolean rowValue = primaryKeyColumns.size() > 1 && introspectedTable.isRowValueInListSupported();
+
+		StringBuilder columns = new StringBuilder();
+		StringBuilder parameters = new StringBuilder();
+		for (IntrospectedColumn introspectedColumn : primaryKeyColumns) {
+			String columnName;
+			if (aliased) {
+				columnName = Ibatis2FormattingUtilities.getAliasedEscapedColumnName(introspectedColumn);
+			} else {
+				columnName = Ibatis2FormattingUtilities.getEscapedColumnName(introspectedColumn);
+			}
+
+			String parameterClause;
+			if (primaryKeyColumns.size() == 1 && !introspectedTable.getRules().generatePrimaryKeyClass()) {
+				// without a key class a single key is passed as the value itself
+				parameterClause = Ibatis2FormattingUtilities.getParameterClause(introspectedColumn);
+				parameterClause = "#[]" //$NON-NLS-1$
+						+ parameterClause.substring(1 + introspectedColumn.getJavaProperty().length());
+			} else {
+				parameterClause = Ibatis2FormattingUtilities.getParameterClause(introspectedColumn, "[]."); //$NON-NLS-1$
+			}
+
+			if (columns.length() > 0) {
+				columns.append(rowValue ? ", " : " and "); //$NON-NLS-1$ //$NON-NLS-2$
+				parameters.append(", "); //$NON-NLS-1$
+			}
+			columns.append(columnName);
+			if (rowValue || primaryKeyColumns.size() == 1) {
+				parameters.append(parameterClause);
+			} else {
+				columns.append(" = "); //$NON-NLS-1$
+				columns.append(parameterClause);
+			}
+		}
+
+		XmlElement iterateElement = new XmlElement("iterate"); //$NON-NLS-1$
+		if (primaryKeyColumns.size() > 1 && !rowValue) {
+			answer.addElement(new TextElement("where")); //$NON-NLS-1$
+			iterateElement.addAttribute(new Attribute("conjunction", "or")); //$NON-NLS-1$ //$NON-NLS-2$
+			iterateElement.addElement(new TextElement('(' + columns.toString() + ')'));
+		} else {
+			if (rowValue) {
+				answer.addElement(new TextElement("where (" + columns + ") in")); //$NON-NLS-1$ //$NON-NLS-2$
+				iterateElement.addElement(new TextElement('(' + parameters.toString() + ')'));
+			} else {
+				answer.addElement(new TextElement("where " + columns + " in")); //$NON-NLS-1$ //$NON-NLS-2$
+				iterateElement.addElement(new TextElement(parameters.toString()));
+			}
+			iterateElement.addAttribute(new Attribute("open", "(")); //$NON-NLS-1$ //$NON-NLS-2$
+			iterateElement.addAttribute(new Attribute("close", ")")); //$NON-NLS-1$ //$NON-NLS-2$
+			iterateElement.addAttribute(new Attribute("conjunction", ",")); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		answer.addElement(iterateElement);
+	}
+
 	protected XmlElement getSelectKey(IntrospectedColumn introspectedColumn, GeneratedKey generatedKey) {
 		String identityColumnType = introspectedColumn.getFullyQualifiedJavaType().getFullyQualifiedName();
 
@@ -60,6 +130,20 @@ public abstract class AbstractXmlElementGenerator extends AbstractGenerator {
 		return answer;
 	}
 
+	/**
+	 * Adds the fetchSize attribute (if the fetchSize property is set) and, for
+	 * a statement that passes its rows to a handler, a forward only result set.
+	 */
+	protected void addFetchAttributes(XmlElement answer, boolean withHandler) {
+		String fetchSize = introspectedTable.getFetchSize();
+		if (fetchSize != null) {
+			answer.addAttribute(new Attribute("fetchSize", fetchSize)); //$NON-NLS-1$
+		}
+		if (withHandler) {
+			answer.addAttribute(new Attribute("resultSetType", "FORWARD_ONLY")); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
 	protected XmlElement getBaseColumnListElement() {
 		XmlElement answer = new XmlElement("include"); //$NON-NLS-1$
 		answer.addAttribute(new Attribute("refid", //$NON-NLS-1$
@@ -0,0 +1,114 @@
+/*
+ *  Copyright 2009 The Apache Software Foundation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mybatis.generator.codegen.ibatis2.sqlmap.elements;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.dom.OutputUtilities;
+import org.mybatis.generator.api.dom.xml.Attribute;
+import org.mybatis.generator.api.dom.xml.TextElement;
+import org.mybatis.generator.api.dom.xml.XmlElement;
+import org.mybatis.generator.codegen.ibatis2.Ibatis2FormattingUtilities;
+import org.mybatis.generator.internal.db.InsertBatchDialects;
+
+/**
+ * Generates the insertBatch element: one multi-row insert statement for a
+ * list of records, in the SQL form of the insertBatch dialect of the table.
+ */
+public class InsertBatchElementGenerator extends AbstractXmlElementGenerator {
+
+	public InsertBatchElementGenerator() {
+		super();
+	}
+
+	@Override
+	public void addElements(XmlElement parentElement) {
+		XmlElement answer = new XmlElement("insert"); //$NON-NLS-1$
+
+		answer.addAttribute(new Attribute("id", introspectedTable.getInsertBatchStatementId())); //$NON-NLS-1$
+		answer.addAttribute(new Attribute("parameterClass", "java.util.List")); //$NON-NLS-1$ //$NON-NLS-2$
+
+		context.getCommentGenerator().addComment(answer);
+
+		List<String> columns = new ArrayList<String>();
+		List<String> values = new ArrayList<String>();
+		for (IntrospectedColumn introspectedColumn : introspectedTable.getAllColumns()) {
+			if (introspectedColumn.isIdentity()) {
+				// cannot set values on identity fields
+				continue;
+			}
+
+			columns.add(Ibatis2FormattingUtilities.getEscapedColumnName(introspectedColumn));
+			values.add(Ibatis2FormattingUtilities.getParameterClause(introspectedColumn, "[].")); //$NON-NLS-1$
+		}
+
+		String tableName = introspectedTable.getFullyQualifiedTableNameAtRuntime();
+
+		XmlElement iterateElement = new XmlElement("iterate"); //$NON-NLS-1$
+
+		InsertBatchDialects dialect = introspectedTable.getInsertBatchDialect();
+		if (dialect == InsertBatchDialects.INSERT_ALL) {
+			answer.addElement(new TextElement("insert all")); //$NON-NLS-1$
+			addClauses(iterateElement, "into " + tableName + " (", columns, ")"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			addClauses(iterateElement, "values (", values, ")"); //$NON-NLS-1$ //$NON-NLS-2$
+			answer.addElement(iterateElement);
+			answer.addElement(new TextElement("select 1 from dual")); //$NON-NLS-1$
+		} else if (dialect == InsertBatchDialects.UNION_ALL) {
+			addClauses(answer, "insert into " + tableName + " (", columns, ")"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			iterateElement.addAttribute(new Attribute("conjunction", "union all")); //$NON-NLS-1$ //$NON-NLS-2$
+			addClauses(iterateElement, "select ", values, " from dual"); //$NON-NLS-1$ //$NON-NLS-2$
+			answer.addElement(iterateElement);
+		} else {
+			addClauses(answer, "insert into " + tableName + " (", columns, ")"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			answer.addElement(new TextElement("values")); //$NON-NLS-1$
+			iterateElement.addAttribute(new Attribute("conjunction", ",")); //$NON-NLS-1$ //$NON-NLS-2$
+			addClauses(iterateElement, "(", values, ")"); //$NON-NLS-1$ //$NON-NLS-2$
+			answer.addElement(iterateElement);
+		}
+
+		if (context.getPlugins().sqlMapInsertBatchElementGenerated(answer, introspectedTable)) {
+			parentElement.addElement(answer);
+		}
+	}
+
+	/**
+	 * Adds the comma separated parts as text elements, breaking the lines
+	 * after 80 characters like the insert element.
+	 */
+	private void addClauses(XmlElement element, String prefix, List<String> parts, String suffix) {
+		StringBuilder sb = new StringBuilder();
+		sb.append(prefix);
+
+		Iterator<String> iter = parts.iterator();
+		while (iter.hasNext()) {
+			sb.append(iter.next());
+			if (iter.hasNext()) {
+				sb.append(", "); //$NON-NLS-1$
+				if (sb.length() > 80) {
+					element.addElement(new TextElement(sb.toString()));
+					sb.setLength(0);
+					OutputUtilities.xmlIndent(sb, 1);
+				}
+			}
+		}
+
+		sb.append(suffix);
+		element.addElement(new TextElement(sb.toString()));
+	}
+}
@@ -28,16 +28,31 @@ import org.mybatis.generator.api.dom.xml.XmlElement;
  */
 public class SelectByParamsWithBLOBsElementGenerator extends AbstractXmlElementGenerator {
 
+	private boolean withHandler;
+
 	public SelectByParamsWithBLOBsElementGenerator() {
 		super();
 	}
 
+	/**
+	 * @param withHandler
+	 *            true for the statement of the method that passes the rows to
+	 *            a result handler
+	 */
+	public SelectByParamsWithBLOBsElementGenerator(boolean withHandler) {
+		super();
+		this.withHandler = withHandler;
+	}
+
 	@Override
 	public void addElements(XmlElement parentElement) {
 		XmlElement answer = new XmlElement("select"); //$NON-NLS-1$
-		answer.addAttribute(new Attribute("id", introspectedTable.getSelectByParamsWithBLOBsStatementId())); //$NON-NLS-1$
+		answer.addAttribute(new Attribute("id", //$NON-NLS-1$
+				withHandler ? introspectedTable.getSelectByParamsWithBLOBsWithHandlerStatementId() : introspectedTable
+						.getSelectByParamsWithBLOBsStatementId()));
 		answer.addAttribute(new Attribute("resultMap", introspectedTable.getResultMapWithBLOBsId())); //$NON-NLS-1$
 		answer.addAttribute(new Attribute("parameterClass", introspectedTable.getExampleType())); //$NON-NLS-1$
+		addFetchAttributes(answer, withHandler);
 
 		context.getCommentGenerator().addComment(answer);
 
@@ -80,7 +95,11 @@ public class SelectByParamsWithBLOBsElementGenerator extends AbstractXmlElementG
 		isNotNullElement.addElement(new TextElement("order by $orderByClause$")); //$NON-NLS-1$
 		isParameterPresenteElement.addElement(isNotNullElement);
 
-		if (context.getPlugins().sqlMapSelectByParamsWithBLOBsElementGenerated(answer, introspectedTable)) {
+		if (withHandler) {
+			if (context.getPlugins().sqlMapSelectByParamsWithHandlerElementGenerated(answer, introspectedTable)) {
+				parentElement.addElement(answer);
+			}
+		} else if (context.getPlugins().sqlMapSelectByParamsWithBLOBsElementGenerated(answer, introspectedTable)) {
 			parentElement.addElement(answer);
 		}
 	}
@@ -28,18 +28,32 @@ import org.mybatis.generator.api.dom.xml.XmlElement;
  */
 public class SelectByParamsWithoutBLOBsElementGenerator extends AbstractXmlElementGenerator {
 
+	private boolean withHandler;
+
 	public SelectByParamsWithoutBLOBsElementGenerator() {
 		super();
 	}
 
+	/**
+	 * @param withHandler
+	 *            true for the statement of the method that passes the rows to
+	 *            a result handler
+	 */
+	public SelectByParamsWithoutBLOBsElementGenerator(boolean withHandler) {
+		super();
+		this.withHandler = withHandler;
+	}
+
 	@Override
 	public void addElements(XmlElement parentElement) {
 		XmlElement answer = new XmlElement("select"); //$NON-NLS-1$
 
 		answer.addAttribute(new Attribute("id", //$NON-NLS-1$
-				introspectedTable.getSelectByParamsStatementId()));
+				withHandler ? introspectedTable.getSelectByParamsWithHandlerStatementId() : introspectedTable
+						.getSelectByParamsStatementId()));
 		answer.addAttribute(new Attribute("resultMap", introspectedTable.getBaseResultMapId())); //$NON-NLS-1$
 		answer.addAttribute(new Attribute("parameterClass", introspectedTable.getExampleType())); //$NON-NLS-1$
+		addFetchAttributes(answer, withHandler);
 
 		context.getCommentGenerator().addComment(answer);
 
@@ -80,7 +94,11 @@ public class SelectByParamsWithoutBLOBsElementGenerator extends AbstractXmlEleme
 		isNotNullElement.addElement(new TextElement("order by $orderByClause$")); //$NON-NLS-1$
 		isParameterPresenteElement.addElement(isNotNullElement);
 
-		if (context.getPlugins().sqlMapSelectByParamsWithoutBLOBsElementGenerated(answer, introspectedTable)) {
+		if (withHandler) {
+			if (context.getPlugins().sqlMapSelectByParamsWithHandlerElementGenerated(answer, introspectedTable)) {
+				parentElement.addElement(answer);
+			}
+		} else if (context.getPlugins().sqlMapSelectByParamsWithoutBLOBsElementGenerated(answer, introspectedTable)) {
 			parentElement.addElement(answer);
 		}
 	}
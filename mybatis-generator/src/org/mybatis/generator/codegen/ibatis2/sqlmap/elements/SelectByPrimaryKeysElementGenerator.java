@@ -0,0 +1,77 @@
+/*
+ *  Copyright 2009 The Apache Software Foundation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mybatis.generator.codegen.ibatis2.sqlmap.elements;
+
+import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
+
+import org.mybatis.generator.api.dom.xml.Attribute;
+import org.mybatis.generator.api.dom.xml.TextElement;
+import org.mybatis.generator.api.dom.xml.XmlElement;
+
+/**
+ * Generates the selectByPrimaryKeys element, which selects the records of a
+ * list of primary keys with one statement.
+ * 
+ */
+public class SelectByPrimaryKeysElementGenerator extends AbstractXmlElementGenerator {
+
+	public SelectByPrimaryKeysElementGenerator() {
+		super();
+	}
+
+	@Override
+	public void addElements(XmlElement parentElement) {
+		XmlElement answer = new XmlElement("select"); //$NON-NLS-1$
+
+		answer.addAttribute(new Attribute("id", introspectedTable.getSelectByPrimaryKeysStatementId())); //$NON-NLS-1$
+		if (introspectedTable.getRules().generateResultMapWithBLOBs()) {
+			answer.addAttribute(new Attribute("resultMap", //$NON-NLS-1$
+					introspectedTable.getResultMapWithBLOBsId()));
+		} else {
+			answer.addAttribute(new Attribute("resultMap", //$NON-NLS-1$
+					introspectedTable.getBaseResultMapId()));
+		}
+		answer.addAttribute(new Attribute("parameterClass", "java.util.List")); //$NON-NLS-1$ //$NON-NLS-2$
+
+		context.getCommentGenerator().addComment(answer);
+
+		StringBuilder sb = new StringBuilder();
+		sb.append("select "); //$NON-NLS-1$
+
+		if (stringHasValue(introspectedTable.getSelectByPrimaryKeyQueryId())) {
+			sb.append('\'');
+			sb.append(introspectedTable.getSelectByPrimaryKeyQueryId());
+			sb.append("' as QUERYID,"); //$NON-NLS-1$
+		}
+		answer.addElement(new TextElement(sb.toString()));
+		answer.addElement(getBaseColumnListElement());
+		if (introspectedTable.hasBLOBColumns()) {
+			answer.addElement(new TextElement(",")); //$NON-NLS-1$
+			answer.addElement(getBlobColumnListElement());
+		}
+
+		sb.setLength(0);
+		sb.append("from "); //$NON-NLS-1$
+		sb.append(introspectedTable.getAliasedFullyQualifiedTableNameAtRuntime());
+		answer.addElement(new TextElement(sb.toString()));
+
+		addPrimaryKeysWhereClause(answer, true);
+
+		if (context.getPlugins().sqlMapSelectByPrimaryKeysElementGenerated(answer, introspectedTable)) {
+			parentElement.addElement(answer);
+		}
+	}
+}
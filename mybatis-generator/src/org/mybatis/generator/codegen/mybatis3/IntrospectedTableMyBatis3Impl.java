@@ -23,6 +23,7 @@ import org.mybatis.generator.api.GeneratedXmlFile;
 import org.mybatis.generator.api.IntrospectedTable;
 import org.mybatis.generator.api.ProgressCallback;
 import org.mybatis.generator.api.dom.java.CompilationUnit;
+import org.mybatis.generator.api.dom.java.TopLevelClass;
 import org.mybatis.generator.api.dom.xml.Document;
 import org.mybatis.generator.codegen.AbstractGenerator;
 import org.mybatis.generator.codegen.AbstractJavaClientGenerator;
@@ -163,14 +164,15 @@ public class IntrospectedTableMyBatis3Impl extends IntrospectedTable {
 		List<PluginConfiguration> list = context.getPluginConfigurations();
 		for (int i = 0; i < list.size(); i++) {
 			PluginConfiguration p = list.get(i);
-			if (p.toXmlElement().getFormattedContent(0).contains("CriteriaPlugin")) {
+			if (p.getConfigurationType() != null && p.getConfigurationType().contains("CriteriaPlugin")) {
 				isExample = false;
 			}
 		}
 		for (AbstractJavaGenerator javaGenerator : javaModelGenerators) {
 			List<CompilationUnit> compilationUnits = javaGenerator.getCompilationUnits();
 			for (CompilationUnit compilationUnit : compilationUnits) {
-				if(compilationUnit.getFormattedContent().contains("oredCriteria")){
+				if (compilationUnit instanceof TopLevelClass
+						&& ((TopLevelClass) compilationUnit).getField("oredCriteria") != null) {
 					if(!isExample){
 						break;
 					}
@@ -1,5 +1,7 @@
 package org.mybatis.generator.codegen.mybatis3.javamapper;
 
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
 import java.util.List;
 
 import org.mybatis.generator.api.dom.java.CompilationUnit;
@@ -9,6 +11,7 @@ import org.mybatis.generator.codegen.mybatis3.javamapper.elements.AbstractJavaMa
 import org.mybatis.generator.codegen.mybatis3.javamapper.elements.annotated.AnnotatedCountByParamsMethodGenerator;
 import org.mybatis.generator.codegen.mybatis3.javamapper.elements.annotated.AnnotatedDeleteByParamsMethodGenerator;
 import org.mybatis.generator.codegen.mybatis3.javamapper.elements.annotated.AnnotatedDeleteByPrimaryKeyMethodGenerator;
+import org.mybatis.generator.codegen.mybatis3.javamapper.elements.annotated.AnnotatedInsertBatchMethodGenerator;
 import org.mybatis.generator.codegen.mybatis3.javamapper.elements.annotated.AnnotatedInsertMethodGenerator;
 import org.mybatis.generator.codegen.mybatis3.javamapper.elements.annotated.AnnotatedInsertSelectiveMethodGenerator;
 import org.mybatis.generator.codegen.mybatis3.javamapper.elements.annotated.AnnotatedSelectByParamsWithBLOBsMethodGenerator;
@@ -67,6 +70,33 @@ public class AnnotatedClientGenerator extends JavaMapperGenerator {
 		}
 	}
 
+	@Override
+	protected void addInsertBatchMethod(Interface interfaze) {
+		if (introspectedTable.getRules().generateInsertBatch()) {
+			AbstractJavaMapperMethodGenerator methodGenerator = new AnnotatedInsertBatchMethodGenerator();
+			initializeAndExecuteGenerator(methodGenerator, interfaze);
+		}
+	}
+
+	@Override
+	protected void addUpsertMethod(Interface interfaze) {
+		if (introspectedTable.getRules().generateUpsert()) {
+			warnings.add(getString("Warning.28", introspectedTable.getFullyQualifiedTable().toString())); //$NON-NLS-1$
+		}
+	}
+
+	@Override
+	protected void addUpsertSelectiveMethod(Interface interfaze) {
+		// upsert statements are only generated for XML mappers
+		;
+	}
+
+	@Override
+	protected void addUpsertBatchMethod(Interface interfaze) {
+		// upsert statements are only generated for XML mappers
+		;
+	}
+
 	@Override
 	protected void addSelectByParamsWithBLOBsMethod(Interface interfaze) {
 		if (introspectedTable.getRules().generateSelectByParamsWithBLOBs()) {
@@ -83,6 +113,22 @@ public class AnnotatedClientGenerator extends JavaMapperGenerator {
 		}
 	}
 
+	@Override
+	protected void addSelectByParamsWithHandlerMethod(Interface interfaze) {
+		if (introspectedTable.getRules().generateSelectByParamsWithHandler()) {
+			AbstractJavaMapperMethodGenerator methodGenerator = new AnnotatedSelectByParamsWithoutBLOBsMethodGenerator(true);
+			initializeAndExecuteGenerator(methodGenerator, interfaze);
+		}
+	}
+
+	@Override
+	protected void addSelectByParamsWithBLOBsWithHandlerMethod(Interface interfaze) {
+		if (introspectedTable.getRules().generateSelectByParamsWithBLOBsWithHandler()) {
+			AbstractJavaMapperMethodGenerator methodGenerator = new AnnotatedSelectByParamsWithBLOBsMethodGenerator(true);
+			initializeAndExecuteGenerator(methodGenerator, interfaze);
+		}
+	}
+
 	@Override
 	protected void addSelectByPrimaryKeyMethod(Interface interfaze) {
 		if (introspectedTable.getRules().generateSelectByPrimaryKey()) {
@@ -91,6 +137,20 @@ public class AnnotatedClientGenerator extends JavaMapperGenerator {
 		}
 	}
 
+	@Override
+	protected void addSelectByPrimaryKeysMethod(Interface interfaze) {
+		if (introspectedTable.getRules().generateSelectByPrimaryKeys()
+				|| introspectedTable.getRules().generateDeleteByPrimaryKeys()) {
+			warnings.add(getString("Warning.30", introspectedTable.getFullyQualifiedTable().toString())); //$NON-NLS-1$
+		}
+	}
+
+	@Override
+	protected void addDeleteByPrimaryKeysMethod(Interface interfaze) {
+		// the IN lists of a key collection are only generated for XML mappers
+		;
+	}
+
 	@Override
 	protected void addUpdateByParamsSelectiveMethod(Interface interfaze) {
 		if (introspectedTable.getRules().generateUpdateByParamsSelective()) {
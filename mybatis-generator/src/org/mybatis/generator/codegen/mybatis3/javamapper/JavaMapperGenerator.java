@@ -33,17 +33,23 @@ import org.mybatis.generator.codegen.mybatis3.javamapper.elements.AbstractJavaMa
 import org.mybatis.generator.codegen.mybatis3.javamapper.elements.CountByParamsMethodGenerator;
 import org.mybatis.generator.codegen.mybatis3.javamapper.elements.DeleteByParamsMethodGenerator;
 import org.mybatis.generator.codegen.mybatis3.javamapper.elements.DeleteByPrimaryKeyMethodGenerator;
+import org.mybatis.generator.codegen.mybatis3.javamapper.elements.DeleteByPrimaryKeysMethodGenerator;
 import org.mybatis.generator.codegen.mybatis3.javamapper.elements.InsertMethodGenerator;
+import org.mybatis.generator.codegen.mybatis3.javamapper.elements.InsertBatchMethodGenerator;
 import org.mybatis.generator.codegen.mybatis3.javamapper.elements.InsertSelectiveMethodGenerator;
 import org.mybatis.generator.codegen.mybatis3.javamapper.elements.SelectByParamsWithBLOBsMethodGenerator;
 import org.mybatis.generator.codegen.mybatis3.javamapper.elements.SelectByParamsWithoutBLOBsMethodGenerator;
 import org.mybatis.generator.codegen.mybatis3.javamapper.elements.SelectByPrimaryKeyMethodGenerator;
+import org.mybatis.generator.codegen.mybatis3.javamapper.elements.SelectByPrimaryKeysMethodGenerator;
 import org.mybatis.generator.codegen.mybatis3.javamapper.elements.UpdateByParamsSelectiveMethodGenerator;
 import org.mybatis.generator.codegen.mybatis3.javamapper.elements.UpdateByParamsWithBLOBsMethodGenerator;
 import org.mybatis.generator.codegen.mybatis3.javamapper.elements.UpdateByParamsWithoutBLOBsMethodGenerator;
 import org.mybatis.generator.codegen.mybatis3.javamapper.elements.UpdateByPrimaryKeySelectiveMethodGenerator;
 import org.mybatis.generator.codegen.mybatis3.javamapper.elements.UpdateByPrimaryKeyWithBLOBsMethodGenerator;
 import org.mybatis.generator.codegen.mybatis3.javamapper.elements.UpdateByPrimaryKeyWithoutBLOBsMethodGenerator;
+import org.mybatis.generator.codegen.mybatis3.javamapper.elements.UpsertBatchMethodGenerator;
+import org.mybatis.generator.codegen.mybatis3.javamapper.elements.UpsertMethodGenerator;
+import org.mybatis.generator.codegen.mybatis3.javamapper.elements.UpsertSelectiveMethodGenerator;
 import org.mybatis.generator.codegen.mybatis3.xmlmapper.XMLMapperGenerator;
 import org.mybatis.generator.config.PropertyRegistry;
 
@@ -70,7 +76,7 @@ public class JavaMapperGenerator extends AbstractJavaClientGenerator {
 				introspectedTable.getFullyQualifiedTable().toString()));
 		CommentGenerator commentGenerator = context.getCommentGenerator();
 
-		FullyQualifiedJavaType type = new FullyQualifiedJavaType(introspectedTable.getMyBatis3JavaMapperType());
+		FullyQualifiedJavaType type = FullyQualifiedJavaType.of(introspectedTable.getMyBatis3JavaMapperType());
 		Interface interfaze = new Interface(type);
 		interfaze.setVisibility(JavaVisibility.PUBLIC);
 		commentGenerator.addJavaFileComment(interfaze);
@@ -82,7 +88,7 @@ public class JavaMapperGenerator extends AbstractJavaClientGenerator {
 		}
 
 		if (stringHasValue(rootInterface)) {
-			FullyQualifiedJavaType fqjt = new FullyQualifiedJavaType(rootInterface);
+			FullyQualifiedJavaType fqjt = FullyQualifiedJavaType.of(rootInterface);
 			interfaze.addSuperInterface(fqjt);
 			interfaze.addImportedType(fqjt);
 		}
@@ -90,11 +96,19 @@ public class JavaMapperGenerator extends AbstractJavaClientGenerator {
 		addCountByParamsMethod(interfaze);
 		addDeleteByParamsMethod(interfaze);
 		addDeleteByPrimaryKeyMethod(interfaze);
+		addDeleteByPrimaryKeysMethod(interfaze);
 		addInsertMethod(interfaze);
 		addInsertSelectiveMethod(interfaze);
+		addInsertBatchMethod(interfaze);
+		addUpsertMethod(interfaze);
+		addUpsertSelectiveMethod(interfaze);
+		addUpsertBatchMethod(interfaze);
 		addSelectByParamsWithBLOBsMethod(interfaze);
 		addSelectByParamsWithoutBLOBsMethod(interfaze);
+		addSelectByParamsWithHandlerMethod(interfaze);
+		addSelectByParamsWithBLOBsWithHandlerMethod(interfaze);
 		addSelectByPrimaryKeyMethod(interfaze);
+		addSelectByPrimaryKeysMethod(interfaze);
 		addUpdateByParamsSelectiveMethod(interfaze);
 		addUpdateByParamsWithBLOBsMethod(interfaze);
 		addUpdateByParamsWithoutBLOBsMethod(interfaze);
@@ -136,6 +150,13 @@ public class JavaMapperGenerator extends AbstractJavaClientGenerator {
 		}
 	}
 
+	protected void addDeleteByPrimaryKeysMethod(Interface interfaze) {
+		if (introspectedTable.getRules().generateDeleteByPrimaryKeys()) {
+			AbstractJavaMapperMethodGenerator methodGenerator = new DeleteByPrimaryKeysMethodGenerator();
+			initializeAndExecuteGenerator(methodGenerator, interfaze);
+		}
+	}
+
 	protected void addInsertMethod(Interface interfaze) {
 		if (introspectedTable.getRules().generateInsert()) {
 			AbstractJavaMapperMethodGenerator methodGenerator = new InsertMethodGenerator();
@@ -150,6 +171,34 @@ public class JavaMapperGenerator extends AbstractJavaClientGenerator {
 		}
 	}
 
+	protected void addInsertBatchMethod(Interface interfaze) {
+		if (introspectedTable.getRules().generateInsertBatch()) {
+			AbstractJavaMapperMethodGenerator methodGenerator = new InsertBatchMethodGenerator();
+			initializeAndExecuteGenerator(methodGenerator, interfaze);
+		}
+	}
+
+	protected void addUpsertMethod(Interface interfaze) {
+		if (introspectedTable.getRules().generateUpsert()) {
+			AbstractJavaMapperMethodGenerator methodGenerator = new UpsertMethodGenerator();
+			initializeAndExecuteGenerator(methodGenerator, interfaze);
+		}
+	}
+
+	protected void addUpsertSelectiveMethod(Interface interfaze) {
+		if (introspectedTable.getRules().generateUpsert()) {
+			AbstractJavaMapperMethodGenerator methodGenerator = new UpsertSelectiveMethodGenerator();
+			initializeAndExecuteGenerator(methodGenerator, interfaze);
+		}
+	}
+
+	protected void addUpsertBatchMethod(Interface interfaze) {
+		if (introspectedTable.getRules().generateUpsertBatch()) {
+			AbstractJavaMapperMethodGenerator methodGenerator = new UpsertBatchMethodGenerator();
+			initializeAndExecuteGenerator(methodGenerator, interfaze);
+		}
+	}
+
 	protected void addSelectByParamsWithBLOBsMethod(Interface interfaze) {
 		if (introspectedTable.getRules().generateSelectByParamsWithBLOBs()) {
 			AbstractJavaMapperMethodGenerator methodGenerator = new SelectByParamsWithBLOBsMethodGenerator();
@@ -164,6 +213,20 @@ public class JavaMapperGenerator extends AbstractJavaClientGenerator {
 		}
 	}
 
+	protected void addSelectByParamsWithHandlerMethod(Interface interfaze) {
+		if (introspectedTable.getRules().generateSelectByParamsWithHandler()) {
+			AbstractJavaMapperMethodGenerator methodGenerator = new SelectByParamsWithoutBLOBsMethodGenerator(true);
+			initializeAndExecuteGenerator(methodGenerator, interfaze);
+		}
+	}
+
+	protected void addSelectByParamsWithBLOBsWithHandlerMethod(Interface interfaze) {
+		if (introspectedTable.getRules().generateSelectByParamsWithBLOBsWithHandler()) {
+			AbstractJavaMapperMethodGenerator methodGenerator = new SelectByParamsWithBLOBsMethodGenerator(true);
+			initializeAndExecuteGenerator(methodGenerator, interfaze);
+		}
+	}
+
 	protected void addSelectByPrimaryKeyMethod(Interface interfaze) {
 		if (introspectedTable.getRules().generateSelectByPrimaryKey()) {
 			AbstractJavaMapperMethodGenerator methodGenerator = new SelectByPrimaryKeyMethodGenerator();
@@ -171,6 +234,13 @@ public class JavaMapperGenerator extends AbstractJavaClientGenerator {
 		}
 	}
 
+	protected void addSelectByPrimaryKeysMethod(Interface interfaze) {
+		if (introspectedTable.getRules().generateSelectByPrimaryKeys()) {
+			AbstractJavaMapperMethodGenerator methodGenerator = new SelectByPrimaryKeysMethodGenerator();
+			initializeAndExecuteGenerator(methodGenerator, interfaze);
+		}
+	}
+
 	protected void addUpdateByParamsSelectiveMethod(Interface interfaze) {
 		if (introspectedTable.getRules().generateUpdateByParamsSelective()) {
 			AbstractJavaMapperMethodGenerator methodGenerator = new UpdateByParamsSelectiveMethodGenerator();
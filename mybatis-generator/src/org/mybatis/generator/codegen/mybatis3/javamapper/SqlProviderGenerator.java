@@ -30,6 +30,7 @@ import org.mybatis.generator.codegen.mybatis3.javamapper.elements.sqlprovider.Ab
 import org.mybatis.generator.codegen.mybatis3.javamapper.elements.sqlprovider.ProviderApplyWhereMethodGenerator;
 import org.mybatis.generator.codegen.mybatis3.javamapper.elements.sqlprovider.ProviderCountByParamsMethodGenerator;
 import org.mybatis.generator.codegen.mybatis3.javamapper.elements.sqlprovider.ProviderDeleteByParamsMethodGenerator;
+import org.mybatis.generator.codegen.mybatis3.javamapper.elements.sqlprovider.ProviderInsertBatchMethodGenerator;
 import org.mybatis.generator.codegen.mybatis3.javamapper.elements.sqlprovider.ProviderInsertSelectiveMethodGenerator;
 import org.mybatis.generator.codegen.mybatis3.javamapper.elements.sqlprovider.ProviderSelectByParamsWithBLOBsMethodGenerator;
 import org.mybatis.generator.codegen.mybatis3.javamapper.elements.sqlprovider.ProviderSelectByParamsWithoutBLOBsMethodGenerator;
@@ -55,7 +56,7 @@ public class SqlProviderGenerator extends AbstractJavaGenerator {
 				introspectedTable.getFullyQualifiedTable().toString()));
 		CommentGenerator commentGenerator = context.getCommentGenerator();
 
-		FullyQualifiedJavaType type = new FullyQualifiedJavaType(introspectedTable.getMyBatis3SqlProviderType());
+		FullyQualifiedJavaType type = FullyQualifiedJavaType.of(introspectedTable.getMyBatis3SqlProviderType());
 		TopLevelClass topLevelClass = new TopLevelClass(type);
 		topLevelClass.setVisibility(JavaVisibility.PUBLIC);
 		commentGenerator.addJavaFileComment(topLevelClass);
@@ -64,6 +65,7 @@ public class SqlProviderGenerator extends AbstractJavaGenerator {
 		addApplyWhereMethod |= addCountByParamsMethod(topLevelClass);
 		addApplyWhereMethod |= addDeleteByParamsMethod(topLevelClass);
 		addInsertSelectiveMethod(topLevelClass);
+		addInsertBatchMethod(topLevelClass);
 		addApplyWhereMethod |= addSelectByParamsWithBLOBsMethod(topLevelClass);
 		addApplyWhereMethod |= addSelectByParamsWithoutBLOBsMethod(topLevelClass);
 		addApplyWhereMethod |= addUpdateByParamsSelectiveMethod(topLevelClass);
@@ -115,9 +117,18 @@ public class SqlProviderGenerator extends AbstractJavaGenerator {
 		}
 	}
 
+	protected void addInsertBatchMethod(TopLevelClass topLevelClass) {
+		if (introspectedTable.getRules().generateInsertBatch()) {
+			AbstractJavaProviderMethodGenerator methodGenerator = new ProviderInsertBatchMethodGenerator();
+			initializeAndExecuteGenerator(methodGenerator, topLevelClass);
+		}
+	}
+
 	protected boolean addSelectByParamsWithBLOBsMethod(TopLevelClass topLevelClass) {
 		boolean rc = false;
-		if (introspectedTable.getRules().generateSelectByParamsWithBLOBs()) {
+		// selectByParamsWithHandler的注解方法也使用这个provider方法
+		if (introspectedTable.getRules().generateSelectByParamsWithBLOBs()
+				|| introspectedTable.getRules().generateSelectByParamsWithBLOBsWithHandler()) {
 			AbstractJavaProviderMethodGenerator methodGenerator = new ProviderSelectByParamsWithBLOBsMethodGenerator();
 			initializeAndExecuteGenerator(methodGenerator, topLevelClass);
 			rc = true;
@@ -128,7 +139,9 @@ public class SqlProviderGenerator extends AbstractJavaGenerator {
 
 	protected boolean addSelectByParamsWithoutBLOBsMethod(TopLevelClass topLevelClass) {
 		boolean rc = false;
-		if (introspectedTable.getRules().generateSelectByParamsWithoutBLOBs()) {
+		// selectByParamsWithHandler的注解方法也使用这个provider方法
+		if (introspectedTable.getRules().generateSelectByParamsWithoutBLOBs()
+				|| introspectedTable.getRules().generateSelectByParamsWithHandler()) {
 			AbstractJavaProviderMethodGenerator methodGenerator = new ProviderSelectByParamsWithoutBLOBsMethodGenerator();
 			initializeAndExecuteGenerator(methodGenerator, topLevelClass);
 			rc = true;
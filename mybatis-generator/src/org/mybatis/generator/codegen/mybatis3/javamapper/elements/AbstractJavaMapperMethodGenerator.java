@@ -55,7 +55,7 @@ public abstract class AbstractJavaMapperMethodGenerator extends AbstractGenerato
 		}
 
 		if (stringHasValue(introspectedColumn.getTypeHandler())) {
-			FullyQualifiedJavaType fqjt = new FullyQualifiedJavaType(introspectedColumn.getTypeHandler());
+			FullyQualifiedJavaType fqjt = FullyQualifiedJavaType.of(introspectedColumn.getTypeHandler());
 			interfaze.addImportedType(fqjt);
 			sb.append(", typeHandler="); //$NON-NLS-1$
 			sb.append(fqjt.getShortName());
@@ -72,18 +72,67 @@ public abstract class AbstractJavaMapperMethodGenerator extends AbstractGenerato
 		return sb.toString();
 	}
 
+	/**
+	 * @return the type of the keys of selectByPrimaryKeys and
+	 *         deleteByPrimaryKeys: the value of a single key column if there
+	 *         is no primary key class, otherwise the primary key class (or the
+	 *         record class, which then holds the key fields)
+	 */
+	protected FullyQualifiedJavaType getPrimaryKeysItemType() {
+		if (introspectedTable.getRules().generatePrimaryKeyClass()) {
+			return FullyQualifiedJavaType.of(introspectedTable.getPrimaryKeyType());
+		} else if (introspectedTable.getPrimaryKeyColumns().size() == 1) {
+			FullyQualifiedJavaType type = introspectedTable.getPrimaryKeyColumns().get(0).getFullyQualifiedJavaType();
+			if (type.isPrimitive()) {
+				type = type.getPrimitiveTypeWrapper();
+			}
+			return type;
+		} else {
+			return FullyQualifiedJavaType.of(introspectedTable.getBaseRecordType());
+		}
+	}
+
+	/**
+	 * Adds an @Options annotation with the fetch size (if the fetchSize
+	 * property is set) and, for a method that passes the rows to a result
+	 * handler, a forward only result set.
+	 */
+	protected void addFetchOptionsAnnotation(Interface interfaze, Method method, boolean withHandler) {
+		String fetchSize = introspectedTable.getFetchSize();
+		if (fetchSize == null && !withHandler) {
+			return;
+		}
+
+		interfaze.addImportedType(FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Options")); //$NON-NLS-1$
+		StringBuilder sb = new StringBuilder();
+		sb.append("@Options("); //$NON-NLS-1$
+		if (fetchSize != null) {
+			sb.append("fetchSize="); //$NON-NLS-1$
+			sb.append(fetchSize);
+		}
+		if (withHandler) {
+			interfaze.addImportedType(FullyQualifiedJavaType.of("org.apache.ibatis.mapping.ResultSetType")); //$NON-NLS-1$
+			if (fetchSize != null) {
+				sb.append(", "); //$NON-NLS-1$
+			}
+			sb.append("resultSetType=ResultSetType.FORWARD_ONLY"); //$NON-NLS-1$
+		}
+		sb.append(')');
+		method.addAnnotation(sb.toString());
+	}
+
 	protected void addGeneratedKeyAnnotation(Interface interfaze, Method method, GeneratedKey gk) {
 		StringBuilder sb = new StringBuilder();
 		IntrospectedColumn introspectedColumn = introspectedTable.getColumn(gk.getColumn());
 		if (introspectedColumn != null) {
 			if (gk.isJdbcStandard()) {
-				interfaze.addImportedType(new FullyQualifiedJavaType("org.apache.ibatis.annotations.Options")); //$NON-NLS-1$
+				interfaze.addImportedType(FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Options")); //$NON-NLS-1$
 				sb.append("@Options(useGeneratedKeys=true,keyProperty=\""); //$NON-NLS-1$
 				sb.append(introspectedColumn.getJavaProperty());
 				sb.append("\")"); //$NON-NLS-1$
 				method.addAnnotation(sb.toString());
 			} else {
-				interfaze.addImportedType(new FullyQualifiedJavaType("org.apache.ibatis.annotations.SelectKey")); //$NON-NLS-1$
+				interfaze.addImportedType(FullyQualifiedJavaType.of("org.apache.ibatis.annotations.SelectKey")); //$NON-NLS-1$
 				FullyQualifiedJavaType fqjt = introspectedColumn.getFullyQualifiedJavaType();
 				interfaze.addImportedType(fqjt);
 				sb.append("@SelectKey(statement=\""); //$NON-NLS-1$
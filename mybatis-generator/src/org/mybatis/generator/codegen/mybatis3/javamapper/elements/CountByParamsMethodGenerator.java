@@ -37,7 +37,7 @@ public class CountByParamsMethodGenerator extends AbstractJavaMapperMethodGenera
 
 	@Override
 	public void addInterfaceElements(Interface interfaze) {
-		FullyQualifiedJavaType fqjt = new FullyQualifiedJavaType(introspectedTable.getExampleType());
+		FullyQualifiedJavaType fqjt = FullyQualifiedJavaType.of(introspectedTable.getExampleType());
 
 		Set<FullyQualifiedJavaType> importedTypes = new TreeSet<FullyQualifiedJavaType>();
 		importedTypes.add(fqjt);
@@ -38,7 +38,7 @@ public class DeleteByParamsMethodGenerator extends AbstractJavaMapperMethodGener
 	@Override
 	public void addInterfaceElements(Interface interfaze) {
 		Set<FullyQualifiedJavaType> importedTypes = new TreeSet<FullyQualifiedJavaType>();
-		FullyQualifiedJavaType type = new FullyQualifiedJavaType(introspectedTable.getExampleType());
+		FullyQualifiedJavaType type = FullyQualifiedJavaType.of(introspectedTable.getExampleType());
 		importedTypes.add(type);
 
 		Method method = new Method();
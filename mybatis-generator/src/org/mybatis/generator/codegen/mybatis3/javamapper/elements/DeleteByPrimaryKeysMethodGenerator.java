@@ -0,0 +1,67 @@
+/*
+ *  Copyright 2009 The Apache Software Foundation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mybatis.generator.codegen.mybatis3.javamapper.elements;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+import org.mybatis.generator.api.dom.java.Interface;
+import org.mybatis.generator.api.dom.java.JavaVisibility;
+import org.mybatis.generator.api.dom.java.Method;
+import org.mybatis.generator.api.dom.java.Parameter;
+
+/**
+ * Generates the deleteByPrimaryKeys method, which deletes the records of a collection of
+ * primary keys with one statement.
+ */
+public class DeleteByPrimaryKeysMethodGenerator extends AbstractJavaMapperMethodGenerator {
+
+	public DeleteByPrimaryKeysMethodGenerator() {
+		super();
+	}
+
+	@Override
+	public void addInterfaceElements(Interface interfaze) {
+		Set<FullyQualifiedJavaType> importedTypes = new TreeSet<FullyQualifiedJavaType>();
+		Method method = new Method();
+		method.setVisibility(JavaVisibility.PUBLIC);
+
+		method.setReturnType(FullyQualifiedJavaType.getIntInstance());
+		method.setName(introspectedTable.getDeleteByPrimaryKeysStatementId());
+
+		FullyQualifiedJavaType keyType = getPrimaryKeysItemType();
+		FullyQualifiedJavaType parameterType = new FullyQualifiedJavaType("java.util.Collection"); //$NON-NLS-1$
+		importedTypes.add(FullyQualifiedJavaType.of("java.util.Collection")); //$NON-NLS-1$
+		importedTypes.add(keyType);
+		parameterType.addTypeArgument(keyType);
+		method.addParameter(new Parameter(parameterType, "keys")); //$NON-NLS-1$
+
+		addMapperAnnotations(interfaze, method);
+
+		context.getCommentGenerator().addGeneralMethodComment(method, introspectedTable,
+				"根据主键集合批量删除记录,每" + introspectedTable.getInListMaxSize() + "个主键一个IN列表,空集合不能传入");
+
+		if (context.getPlugins().clientDeleteByPrimaryKeysMethodGenerated(method, interfaze, introspectedTable)) {
+			interfaze.addImportedTypes(importedTypes);
+			interfaze.addMethod(method);
+		}
+	}
+
+	public void addMapperAnnotations(Interface interfaze, Method method) {
+		return;
+	}
+}
@@ -33,42 +33,73 @@ import org.mybatis.generator.api.dom.java.Parameter;
  */
 public class SelectByParamsWithoutBLOBsMethodGenerator extends AbstractJavaMapperMethodGenerator {
 
+	private boolean withHandler;
+
 	public SelectByParamsWithoutBLOBsMethodGenerator() {
 		super();
 	}
 
+	/**
+	 * @param withHandler
+	 *            true for the method that passes the rows to a ResultHandler
+	 *            instead of returning a list
+	 */
+	public SelectByParamsWithoutBLOBsMethodGenerator(boolean withHandler) {
+		super();
+		this.withHandler = withHandler;
+	}
+
 	@Override
 	public void addInterfaceElements(Interface interfaze) {
 		Set<FullyQualifiedJavaType> importedTypes = new TreeSet<FullyQualifiedJavaType>();
-		FullyQualifiedJavaType type = new FullyQualifiedJavaType(introspectedTable.getExampleType());
+		FullyQualifiedJavaType type = FullyQualifiedJavaType.of(introspectedTable.getExampleType());
 		importedTypes.add(type);
-		importedTypes.add(FullyQualifiedJavaType.getNewListInstance());
 
 		Method method = new Method();
 		method.setVisibility(JavaVisibility.PUBLIC);
 
-		FullyQualifiedJavaType returnType = FullyQualifiedJavaType.getNewListInstance();
 		FullyQualifiedJavaType listType;
 		if (introspectedTable.getRules().generateBaseRecordClass()) {
-			listType = new FullyQualifiedJavaType(introspectedTable.getBaseRecordType());
+			listType = FullyQualifiedJavaType.of(introspectedTable.getBaseRecordType());
 		} else if (introspectedTable.getRules().generatePrimaryKeyClass()) {
-			listType = new FullyQualifiedJavaType(introspectedTable.getPrimaryKeyType());
+			listType = FullyQualifiedJavaType.of(introspectedTable.getPrimaryKeyType());
 		} else {
 			throw new RuntimeException(getString("RuntimeError.12")); //$NON-NLS-1$
 		}
 
-		importedTypes.add(listType);
-		returnType.addTypeArgument(listType);
-		method.setReturnType(returnType);
+		if (withHandler) {
+			FullyQualifiedJavaType handlerType = FullyQualifiedJavaType.of("org.apache.ibatis.session.ResultHandler"); //$NON-NLS-1$
+			importedTypes.add(handlerType);
 
-		method.setName(introspectedTable.getSelectByParamsStatementId());
-		method.addParameter(new Parameter(type, "example")); //$NON-NLS-1$
+			method.setName(introspectedTable.getSelectByParamsWithHandlerStatementId());
+			method.addParameter(new Parameter(type, "example")); //$NON-NLS-1$
+			method.addParameter(new Parameter(handlerType, "handler")); //$NON-NLS-1$
 
-		context.getCommentGenerator().addGeneralMethodComment(method, introspectedTable,"根据条件查询记录集");
+			context.getCommentGenerator().addGeneralMethodComment(method, introspectedTable,"根据条件查询记录，逐条交给handler处理，不在内存中保留整个结果集");
+		} else {
+			FullyQualifiedJavaType returnType = FullyQualifiedJavaType.getNewListInstance();
+			importedTypes.add(FullyQualifiedJavaType.getNewListInstance());
+			importedTypes.add(listType);
+			returnType.addTypeArgument(listType);
+			method.setReturnType(returnType);
+
+			method.setName(introspectedTable.getSelectByParamsStatementId());
+			method.addParameter(new Parameter(type, "example")); //$NON-NLS-1$
+
+			context.getCommentGenerator().addGeneralMethodComment(method, introspectedTable,"根据条件查询记录集");
+		}
 
 		addMapperAnnotations(interfaze, method);
 
-		if (context.getPlugins().clientSelectByParamsWithoutBLOBsMethodGenerated(method, interfaze, introspectedTable)) {
+		boolean generated;
+		if (withHandler) {
+			generated = context.getPlugins().clientSelectByParamsWithHandlerMethodGenerated(method, interfaze,
+					introspectedTable);
+		} else {
+			generated = context.getPlugins().clientSelectByParamsWithoutBLOBsMethodGenerated(method, interfaze, introspectedTable);
+		}
+
+		if (generated) {
 			interfaze.addImportedTypes(importedTypes);
 			interfaze.addMethod(method);
 		}
@@ -77,4 +108,8 @@ public class SelectByParamsWithoutBLOBsMethodGenerator extends AbstractJavaMappe
 	public void addMapperAnnotations(Interface interfaze, Method method) {
 		return;
 	}
+
+	protected boolean isWithHandler() {
+		return withHandler;
+	}
 }
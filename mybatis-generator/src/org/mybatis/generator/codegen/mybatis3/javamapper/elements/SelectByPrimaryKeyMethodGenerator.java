@@ -50,7 +50,7 @@ public class SelectByPrimaryKeyMethodGenerator extends AbstractJavaMapperMethodG
 		method.setName(introspectedTable.getSelectByPrimaryKeyStatementId());
 
 		if (introspectedTable.getRules().generatePrimaryKeyClass()) {
-			FullyQualifiedJavaType type = new FullyQualifiedJavaType(introspectedTable.getPrimaryKeyType());
+			FullyQualifiedJavaType type = FullyQualifiedJavaType.of(introspectedTable.getPrimaryKeyType());
 			importedTypes.add(type);
 			method.addParameter(new Parameter(type, "key")); //$NON-NLS-1$
 		} else {
@@ -61,7 +61,7 @@ public class SelectByPrimaryKeyMethodGenerator extends AbstractJavaMapperMethodG
 			List<IntrospectedColumn> introspectedColumns = introspectedTable.getPrimaryKeyColumns();
 			boolean annotate = introspectedColumns.size() > 1;
 			if (annotate) {
-				importedTypes.add(new FullyQualifiedJavaType("org.apache.ibatis.annotations.Param")); //$NON-NLS-1$
+				importedTypes.add(FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Param")); //$NON-NLS-1$
 			}
 			StringBuilder sb = new StringBuilder();
 			for (IntrospectedColumn introspectedColumn : introspectedColumns) {
@@ -43,11 +43,11 @@ public class UpdateByParamsSelectiveMethodGenerator extends AbstractJavaMapperMe
 		method.addParameter(new Parameter(parameterType, "record", "@Param(\"record\")")); //$NON-NLS-1$ //$NON-NLS-2$
 		importedTypes.add(parameterType);
 
-		FullyQualifiedJavaType exampleType = new FullyQualifiedJavaType(introspectedTable.getExampleType());
+		FullyQualifiedJavaType exampleType = FullyQualifiedJavaType.of(introspectedTable.getExampleType());
 		method.addParameter(new Parameter(exampleType, "example", "@Param(\"example\")")); //$NON-NLS-1$ //$NON-NLS-2$
 		importedTypes.add(exampleType);
 
-		importedTypes.add(new FullyQualifiedJavaType("org.apache.ibatis.annotations.Param")); //$NON-NLS-1$
+		importedTypes.add(FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Param")); //$NON-NLS-1$
 
 		context.getCommentGenerator().addGeneralMethodComment(method, introspectedTable,"根据条件更新属性不为空的记录");
 
@@ -45,18 +45,18 @@ public class UpdateByParamsWithBLOBsMethodGenerator extends AbstractJavaMapperMe
 
 		FullyQualifiedJavaType parameterType;
 		if (introspectedTable.getRules().generateRecordWithBLOBsClass()) {
-			parameterType = new FullyQualifiedJavaType(introspectedTable.getRecordWithBLOBsType());
+			parameterType = FullyQualifiedJavaType.of(introspectedTable.getRecordWithBLOBsType());
 		} else {
-			parameterType = new FullyQualifiedJavaType(introspectedTable.getBaseRecordType());
+			parameterType = FullyQualifiedJavaType.of(introspectedTable.getBaseRecordType());
 		}
 		method.addParameter(new Parameter(parameterType, "record", "@Param(\"record\")")); //$NON-NLS-1$ //$NON-NLS-2$
 		importedTypes.add(parameterType);
 
-		FullyQualifiedJavaType exampleType = new FullyQualifiedJavaType(introspectedTable.getExampleType());
+		FullyQualifiedJavaType exampleType = FullyQualifiedJavaType.of(introspectedTable.getExampleType());
 		method.addParameter(new Parameter(exampleType, "example", "@Param(\"example\")")); //$NON-NLS-1$ //$NON-NLS-2$
 		importedTypes.add(exampleType);
 
-		importedTypes.add(new FullyQualifiedJavaType("org.apache.ibatis.annotations.Param")); //$NON-NLS-1$
+		importedTypes.add(FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Param")); //$NON-NLS-1$
 
 		context.getCommentGenerator().addGeneralMethodComment(method, introspectedTable,"根据条件更新记录");
 
@@ -38,7 +38,7 @@ public class UpdateByPrimaryKeyWithoutBLOBsMethodGenerator extends AbstractJavaM
 	@Override
 	public void addInterfaceElements(Interface interfaze) {
 		Set<FullyQualifiedJavaType> importedTypes = new TreeSet<FullyQualifiedJavaType>();
-		FullyQualifiedJavaType parameterType = new FullyQualifiedJavaType(introspectedTable.getBaseRecordType());
+		FullyQualifiedJavaType parameterType = FullyQualifiedJavaType.of(introspectedTable.getBaseRecordType());
 		importedTypes.add(parameterType);
 
 		Method method = new Method();
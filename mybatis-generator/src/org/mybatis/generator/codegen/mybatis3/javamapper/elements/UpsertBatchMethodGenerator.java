@@ -0,0 +1,62 @@
+/*
+ *  Copyright 2009 The Apache Software Foundation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mybatis.generator.codegen.mybatis3.javamapper.elements;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+import org.mybatis.generator.api.dom.java.Interface;
+import org.mybatis.generator.api.dom.java.JavaVisibility;
+import org.mybatis.generator.api.dom.java.Method;
+import org.mybatis.generator.api.dom.java.Parameter;
+
+/**
+ * Generates the upsertBatch method, which inserts or updates a list of records
+ * with one statement.
+ */
+public class UpsertBatchMethodGenerator extends AbstractJavaMapperMethodGenerator {
+
+	public UpsertBatchMethodGenerator() {
+		super();
+	}
+
+	@Override
+	public void addInterfaceElements(Interface interfaze) {
+		Set<FullyQualifiedJavaType> importedTypes = new TreeSet<FullyQualifiedJavaType>();
+		Method method = new Method();
+
+		method.setReturnType(FullyQualifiedJavaType.getIntInstance());
+		method.setVisibility(JavaVisibility.PUBLIC);
+		method.setName(introspectedTable.getUpsertBatchStatementId());
+
+		FullyQualifiedJavaType recordType = introspectedTable.getRules().calculateAllFieldsClass();
+		FullyQualifiedJavaType parameterType = FullyQualifiedJavaType.getNewListInstance();
+		parameterType.addTypeArgument(recordType);
+
+		importedTypes.add(FullyQualifiedJavaType.getNewListInstance());
+		importedTypes.add(recordType);
+		method.addParameter(new Parameter(parameterType, "records")); //$NON-NLS-1$
+
+		context.getCommentGenerator().addGeneralMethodComment(method, introspectedTable,
+				"批量保存或更新记录,一条语句处理整个列表,每次最多传入" + introspectedTable.getInsertBatchMaxRows() + "条记录,空列表不能传入");
+
+		if (context.getPlugins().clientUpsertBatchMethodGenerated(method, interfaze, introspectedTable)) {
+			interfaze.addImportedTypes(importedTypes);
+			interfaze.addMethod(method);
+		}
+	}
+}
@@ -0,0 +1,58 @@
+/*
+ *  Copyright 2009 The Apache Software Foundation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mybatis.generator.codegen.mybatis3.javamapper.elements;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+import org.mybatis.generator.api.dom.java.Interface;
+import org.mybatis.generator.api.dom.java.JavaVisibility;
+import org.mybatis.generator.api.dom.java.Method;
+import org.mybatis.generator.api.dom.java.Parameter;
+
+/**
+ * Generates the upsertSelective method, which inserts or updates only the
+ * fields that are not null.
+ */
+public class UpsertSelectiveMethodGenerator extends AbstractJavaMapperMethodGenerator {
+
+	public UpsertSelectiveMethodGenerator() {
+		super();
+	}
+
+	@Override
+	public void addInterfaceElements(Interface interfaze) {
+		Set<FullyQualifiedJavaType> importedTypes = new TreeSet<FullyQualifiedJavaType>();
+		Method method = new Method();
+
+		method.setReturnType(FullyQualifiedJavaType.getIntInstance());
+		method.setVisibility(JavaVisibility.PUBLIC);
+		method.setName(introspectedTable.getUpsertSelectiveStatementId());
+
+		FullyQualifiedJavaType parameterType = introspectedTable.getRules().calculateAllFieldsClass();
+
+		importedTypes.add(parameterType);
+		method.addParameter(new Parameter(parameterType, "record")); //$NON-NLS-1$
+
+		context.getCommentGenerator().addGeneralMethodComment(method, introspectedTable, "保存或更新属性不为空的字段:主键已存在时更新,否则插入");
+
+		if (context.getPlugins().clientUpsertSelectiveMethodGenerated(method, interfaze, introspectedTable)) {
+			interfaze.addImportedTypes(importedTypes);
+			interfaze.addMethod(method);
+		}
+	}
+}
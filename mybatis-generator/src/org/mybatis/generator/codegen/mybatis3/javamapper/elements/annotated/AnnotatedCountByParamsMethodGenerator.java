@@ -32,8 +32,8 @@ public class AnnotatedCountByParamsMethodGenerator extends CountByParamsMethodGe
 
 	@Override
 	public void addMapperAnnotations(Interface interfaze, Method method) {
-		FullyQualifiedJavaType fqjt = new FullyQualifiedJavaType(introspectedTable.getMyBatis3SqlProviderType());
-		interfaze.addImportedType(new FullyQualifiedJavaType("org.apache.ibatis.annotations.SelectProvider")); //$NON-NLS-1$
+		FullyQualifiedJavaType fqjt = FullyQualifiedJavaType.of(introspectedTable.getMyBatis3SqlProviderType());
+		interfaze.addImportedType(FullyQualifiedJavaType.of("org.apache.ibatis.annotations.SelectProvider")); //$NON-NLS-1$
 		StringBuilder sb = new StringBuilder();
 		sb.append("@SelectProvider(type="); //$NON-NLS-1$
 		sb.append(fqjt.getShortName());
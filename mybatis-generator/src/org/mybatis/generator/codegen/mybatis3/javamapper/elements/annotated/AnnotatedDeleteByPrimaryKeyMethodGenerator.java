@@ -40,7 +40,7 @@ public class AnnotatedDeleteByPrimaryKeyMethodGenerator extends DeleteByPrimaryK
 
 	@Override
 	public void addMapperAnnotations(Interface interfaze, Method method) {
-		interfaze.addImportedType(new FullyQualifiedJavaType("org.apache.ibatis.annotations.Delete")); //$NON-NLS-1$
+		interfaze.addImportedType(FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Delete")); //$NON-NLS-1$
 
 		method.addAnnotation("@Delete({"); //$NON-NLS-1$
 
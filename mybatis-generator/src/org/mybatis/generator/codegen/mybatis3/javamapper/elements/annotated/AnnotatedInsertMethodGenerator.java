@@ -43,7 +43,7 @@ public class AnnotatedInsertMethodGenerator extends InsertMethodGenerator {
 
 	@Override
 	public void addMapperAnnotations(Interface interfaze, Method method) {
-		interfaze.addImportedType(new FullyQualifiedJavaType("org.apache.ibatis.annotations.Insert")); //$NON-NLS-1$
+		interfaze.addImportedType(FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Insert")); //$NON-NLS-1$
 
 		GeneratedKey gk = introspectedTable.getGeneratedKey();
 
@@ -33,8 +33,8 @@ public class AnnotatedInsertSelectiveMethodGenerator extends InsertSelectiveMeth
 
 	@Override
 	public void addMapperAnnotations(Interface interfaze, Method method) {
-		FullyQualifiedJavaType fqjt = new FullyQualifiedJavaType(introspectedTable.getMyBatis3SqlProviderType());
-		interfaze.addImportedType(new FullyQualifiedJavaType("org.apache.ibatis.annotations.InsertProvider")); //$NON-NLS-1$
+		FullyQualifiedJavaType fqjt = FullyQualifiedJavaType.of(introspectedTable.getMyBatis3SqlProviderType());
+		interfaze.addImportedType(FullyQualifiedJavaType.of("org.apache.ibatis.annotations.InsertProvider")); //$NON-NLS-1$
 		StringBuilder sb = new StringBuilder();
 		sb.append("@InsertProvider(type="); //$NON-NLS-1$
 		sb.append(fqjt.getShortName());
@@ -35,18 +35,22 @@ public class AnnotatedSelectByParamsWithBLOBsMethodGenerator extends SelectByPar
 		super();
 	}
 
+	public AnnotatedSelectByParamsWithBLOBsMethodGenerator(boolean withHandler) {
+		super(withHandler);
+	}
+
 	@Override
 	public void addMapperAnnotations(Interface interfaze, Method method) {
-		FullyQualifiedJavaType fqjt = new FullyQualifiedJavaType(introspectedTable.getMyBatis3SqlProviderType());
-		interfaze.addImportedType(new FullyQualifiedJavaType("org.apache.ibatis.annotations.SelectProvider")); //$NON-NLS-1$
-		interfaze.addImportedType(new FullyQualifiedJavaType("org.apache.ibatis.type.JdbcType")); //$NON-NLS-1$
+		FullyQualifiedJavaType fqjt = FullyQualifiedJavaType.of(introspectedTable.getMyBatis3SqlProviderType());
+		interfaze.addImportedType(FullyQualifiedJavaType.of("org.apache.ibatis.annotations.SelectProvider")); //$NON-NLS-1$
+		interfaze.addImportedType(FullyQualifiedJavaType.of("org.apache.ibatis.type.JdbcType")); //$NON-NLS-1$
 
 		if (introspectedTable.isConstructorBased()) {
-			interfaze.addImportedType(new FullyQualifiedJavaType("org.apache.ibatis.annotations.Arg")); //$NON-NLS-1$
-			interfaze.addImportedType(new FullyQualifiedJavaType("org.apache.ibatis.annotations.ConstructorArgs")); //$NON-NLS-1$
+			interfaze.addImportedType(FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Arg")); //$NON-NLS-1$
+			interfaze.addImportedType(FullyQualifiedJavaType.of("org.apache.ibatis.annotations.ConstructorArgs")); //$NON-NLS-1$
 		} else {
-			interfaze.addImportedType(new FullyQualifiedJavaType("org.apache.ibatis.annotations.Result")); //$NON-NLS-1$
-			interfaze.addImportedType(new FullyQualifiedJavaType("org.apache.ibatis.annotations.Results")); //$NON-NLS-1$
+			interfaze.addImportedType(FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Result")); //$NON-NLS-1$
+			interfaze.addImportedType(FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Results")); //$NON-NLS-1$
 		}
 
 		StringBuilder sb = new StringBuilder();
@@ -93,5 +97,7 @@ public class AnnotatedSelectByParamsWithBLOBsMethodGenerator extends SelectByPar
 		}
 
 		method.addAnnotation("})"); //$NON-NLS-1$
+
+		addFetchOptionsAnnotation(interfaze, method, isWithHandler());
 	}
 }
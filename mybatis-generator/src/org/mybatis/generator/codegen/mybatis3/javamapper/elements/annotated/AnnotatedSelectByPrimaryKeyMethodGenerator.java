@@ -44,7 +44,7 @@ public class AnnotatedSelectByPrimaryKeyMethodGenerator extends SelectByPrimaryK
 
 	@Override
 	public void addMapperAnnotations(Interface interfaze, Method method) {
-		interfaze.addImportedType(new FullyQualifiedJavaType("org.apache.ibatis.annotations.Select")); //$NON-NLS-1$
+		interfaze.addImportedType(FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Select")); //$NON-NLS-1$
 
 		StringBuilder sb = new StringBuilder();
 		method.addAnnotation("@Select({"); //$NON-NLS-1$
@@ -127,7 +127,7 @@ public class AnnotatedSelectByPrimaryKeyMethodGenerator extends SelectByPrimaryK
 	}
 
 	private void addResultMapAnnotation(Interface interfaze, Method method) {
-		interfaze.addImportedType(new FullyQualifiedJavaType("org.apache.ibatis.annotations.ResultMap")); //$NON-NLS-1$
+		interfaze.addImportedType(FullyQualifiedJavaType.of("org.apache.ibatis.annotations.ResultMap")); //$NON-NLS-1$
 
 		String annotation = String.format("@ResultMap(\"%s\")", //$NON-NLS-1$
 				introspectedTable.getRules().generateResultMapWithBLOBs() ? introspectedTable.getResultMapWithBLOBsId()
@@ -136,15 +136,15 @@ public class AnnotatedSelectByPrimaryKeyMethodGenerator extends SelectByPrimaryK
 	}
 
 	private void addAnnotatedResults(Interface interfaze, Method method) {
-		interfaze.addImportedType(new FullyQualifiedJavaType("org.apache.ibatis.type.JdbcType")); //$NON-NLS-1$
+		interfaze.addImportedType(FullyQualifiedJavaType.of("org.apache.ibatis.type.JdbcType")); //$NON-NLS-1$
 
 		if (introspectedTable.isConstructorBased()) {
-			interfaze.addImportedType(new FullyQualifiedJavaType("org.apache.ibatis.annotations.Arg")); //$NON-NLS-1$
-			interfaze.addImportedType(new FullyQualifiedJavaType("org.apache.ibatis.annotations.ConstructorArgs")); //$NON-NLS-1$
+			interfaze.addImportedType(FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Arg")); //$NON-NLS-1$
+			interfaze.addImportedType(FullyQualifiedJavaType.of("org.apache.ibatis.annotations.ConstructorArgs")); //$NON-NLS-1$
 			method.addAnnotation("@ConstructorArgs({"); //$NON-NLS-1$
 		} else {
-			interfaze.addImportedType(new FullyQualifiedJavaType("org.apache.ibatis.annotations.Result")); //$NON-NLS-1$
-			interfaze.addImportedType(new FullyQualifiedJavaType("org.apache.ibatis.annotations.Results")); //$NON-NLS-1$
+			interfaze.addImportedType(FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Result")); //$NON-NLS-1$
+			interfaze.addImportedType(FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Results")); //$NON-NLS-1$
 			method.addAnnotation("@Results({"); //$NON-NLS-1$
 		}
 
@@ -40,7 +40,7 @@ public class AnnotatedUpdateByPrimaryKeyWithBLOBsMethodGenerator extends UpdateB
 
 	@Override
 	public void addMapperAnnotations(Interface interfaze, Method method) {
-		interfaze.addImportedType(new FullyQualifiedJavaType("org.apache.ibatis.annotations.Update")); //$NON-NLS-1$
+		interfaze.addImportedType(FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Update")); //$NON-NLS-1$
 
 		method.addAnnotation("@Update({"); //$NON-NLS-1$
 
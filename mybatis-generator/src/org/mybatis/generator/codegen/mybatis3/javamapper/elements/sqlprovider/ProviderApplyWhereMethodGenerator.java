@@ -129,12 +129,12 @@ public class ProviderApplyWhereMethodGenerator extends AbstractJavaProviderMetho
 		Set<FullyQualifiedJavaType> importedTypes = new TreeSet<FullyQualifiedJavaType>();
 
 		staticImports.add("org.apache.ibatis.jdbc.SqlBuilder.WHERE"); //$NON-NLS-1$
-		importedTypes.add(new FullyQualifiedJavaType("java.util.List")); //$NON-NLS-1$
+		importedTypes.add(FullyQualifiedJavaType.of("java.util.List")); //$NON-NLS-1$
 
-		FullyQualifiedJavaType fqjt = new FullyQualifiedJavaType(introspectedTable.getExampleType());
+		FullyQualifiedJavaType fqjt = FullyQualifiedJavaType.of(introspectedTable.getExampleType());
 		importedTypes.add(fqjt);
-		importedTypes.add(new FullyQualifiedJavaType(String.format("%s.Criteria", fqjt.getFullyQualifiedName()))); //$NON-NLS-1$
-		importedTypes.add(new FullyQualifiedJavaType(String.format("%s.Criterion", fqjt.getFullyQualifiedName()))); //$NON-NLS-1$
+		importedTypes.add(FullyQualifiedJavaType.of(String.format("%s.Criteria", fqjt.getFullyQualifiedName()))); //$NON-NLS-1$
+		importedTypes.add(FullyQualifiedJavaType.of(String.format("%s.Criterion", fqjt.getFullyQualifiedName()))); //$NON-NLS-1$
 
 		Method method = new Method("applyWhere"); //$NON-NLS-1$
 		method.setVisibility(JavaVisibility.PROTECTED);
@@ -47,7 +47,7 @@ public class ProviderCountByParamsMethodGenerator extends AbstractJavaProviderMe
 		staticImports.add("org.apache.ibatis.jdbc.SqlBuilder.SELECT"); //$NON-NLS-1$
 		staticImports.add("org.apache.ibatis.jdbc.SqlBuilder.SQL"); //$NON-NLS-1$
 
-		FullyQualifiedJavaType fqjt = new FullyQualifiedJavaType(introspectedTable.getExampleType());
+		FullyQualifiedJavaType fqjt = FullyQualifiedJavaType.of(introspectedTable.getExampleType());
 		importedTypes.add(fqjt);
 
 		Method method = new Method(introspectedTable.getCountByParamsStatementId());
@@ -46,7 +46,7 @@ public class ProviderDeleteByParamsMethodGenerator extends AbstractJavaProviderM
 		staticImports.add("org.apache.ibatis.jdbc.SqlBuilder.DELETE_FROM"); //$NON-NLS-1$
 		staticImports.add("org.apache.ibatis.jdbc.SqlBuilder.SQL"); //$NON-NLS-1$
 
-		FullyQualifiedJavaType fqjt = new FullyQualifiedJavaType(introspectedTable.getExampleType());
+		FullyQualifiedJavaType fqjt = FullyQualifiedJavaType.of(introspectedTable.getExampleType());
 		importedTypes.add(fqjt);
 
 		Method method = new Method(introspectedTable.getDeleteByParamsStatementId());
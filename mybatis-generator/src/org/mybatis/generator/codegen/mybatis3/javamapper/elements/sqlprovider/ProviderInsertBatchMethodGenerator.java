@@ -0,0 +1,158 @@
+/*
+ *  Copyright 2009 The Apache Software Foundation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mybatis.generator.codegen.mybatis3.javamapper.elements.sqlprovider;
+
+import static org.mybatis.generator.codegen.mybatis3.MyBatis3FormattingUtilities.getEscapedColumnName;
+import static org.mybatis.generator.codegen.mybatis3.MyBatis3FormattingUtilities.getParameterClause;
+import static org.mybatis.generator.internal.util.StringUtility.escapeStringForJava;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+import org.mybatis.generator.api.dom.java.JavaVisibility;
+import org.mybatis.generator.api.dom.java.Method;
+import org.mybatis.generator.api.dom.java.Parameter;
+import org.mybatis.generator.api.dom.java.TopLevelClass;
+import org.mybatis.generator.internal.db.InsertBatchDialects;
+
+/**
+ * Generates the insertBatch method of the SQL provider. The statement has one
+ * group of parameters per record, so it is built for the size of the list at
+ * runtime.
+ */
+public class ProviderInsertBatchMethodGenerator extends AbstractJavaProviderMethodGenerator {
+
+	public ProviderInsertBatchMethodGenerator() {
+		super();
+	}
+
+	@Override
+	public void addClassElements(TopLevelClass topLevelClass) {
+		Set<FullyQualifiedJavaType> importedTypes = new TreeSet<FullyQualifiedJavaType>();
+
+		FullyQualifiedJavaType recordType = introspectedTable.getRules().calculateAllFieldsClass();
+		importedTypes.add(recordType);
+		importedTypes.add(FullyQualifiedJavaType.getNewListInstance());
+		importedTypes.add(FullyQualifiedJavaType.getNewMapInstance());
+
+		FullyQualifiedJavaType parameterType = FullyQualifiedJavaType.getNewMapInstance();
+		parameterType.addTypeArgument(FullyQualifiedJavaType.getStringInstance());
+		parameterType.addTypeArgument(FullyQualifiedJavaType.getObjectInstance());
+
+		Method method = new Method(introspectedTable.getInsertBatchStatementId());
+		method.setVisibility(JavaVisibility.PUBLIC);
+		method.setReturnType(FullyQualifiedJavaType.getStringInstance());
+		method.addParameter(new Parameter(parameterType, "parameter")); //$NON-NLS-1$
+		method.addAnnotation("@SuppressWarnings(\"unchecked\")"); //$NON-NLS-1$
+
+		context.getCommentGenerator().addGeneralMethodComment(method, introspectedTable);
+
+		List<String> columns = new ArrayList<String>();
+		List<String> values = new ArrayList<String>();
+		for (IntrospectedColumn introspectedColumn : introspectedTable.getAllColumns()) {
+			if (introspectedColumn.isIdentity()) {
+				// cannot set values on identity fields
+				continue;
+			}
+
+			columns.add(escapeStringForJava(getEscapedColumnName(introspectedColumn)));
+			// the record index is filled in with String.format
+			values.add(getParameterClause(introspectedColumn, "list[%1$d].")); //$NON-NLS-1$
+		}
+
+		String tableName = escapeStringForJava(introspectedTable.getFullyQualifiedTableNameAtRuntime());
+
+		method.addBodyLine(String.format("List<%s> records = (List<%s>) parameter.get(\"list\");", //$NON-NLS-1$
+				recordType.getShortName(), recordType.getShortName()));
+		method.addBodyLine("StringBuilder sb = new StringBuilder();"); //$NON-NLS-1$
+
+		InsertBatchDialects dialect = introspectedTable.getInsertBatchDialect();
+		if (dialect == InsertBatchDialects.INSERT_ALL) {
+			method.addBodyLine("sb.append(\"insert all\");"); //$NON-NLS-1$
+			method.addBodyLine("for (int i = 0; i < records.size(); i++) {"); //$NON-NLS-1$
+			addAppendLines(method, false, " into " + tableName + " (", columns, ")"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			addAppendLines(method, true, " values (", values, ")"); //$NON-NLS-1$ //$NON-NLS-2$
+			method.addBodyLine("}"); //$NON-NLS-1$
+			method.addBodyLine("sb.append(\" select 1 from dual\");"); //$NON-NLS-1$
+		} else {
+			String separator;
+			if (dialect == InsertBatchDialects.UNION_ALL) {
+				addAppendLines(method, false, "insert into " + tableName + " (", columns, ") "); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				separator = " union all "; //$NON-NLS-1$
+			} else {
+				addAppendLines(method, false, "insert into " + tableName + " (", columns, ") values "); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				separator = ", "; //$NON-NLS-1$
+			}
+
+			method.addBodyLine("for (int i = 0; i < records.size(); i++) {"); //$NON-NLS-1$
+			method.addBodyLine("if (i > 0) {"); //$NON-NLS-1$
+			method.addBodyLine(String.format("sb.append(\"%s\");", separator)); //$NON-NLS-1$
+			method.addBodyLine("}"); //$NON-NLS-1$
+			if (dialect == InsertBatchDialects.UNION_ALL) {
+				addAppendLines(method, true, "select ", values, " from dual"); //$NON-NLS-1$ //$NON-NLS-2$
+			} else {
+				addAppendLines(method, true, "(", values, ")"); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			method.addBodyLine("}"); //$NON-NLS-1$
+		}
+
+		method.addBodyLine(""); //$NON-NLS-1$
+		method.addBodyLine("return sb.toString();"); //$NON-NLS-1$
+
+		if (context.getPlugins().providerInsertBatchMethodGenerated(method, topLevelClass, introspectedTable)) {
+			topLevelClass.addImportedTypes(importedTypes);
+			topLevelClass.addMethod(method);
+		}
+	}
+
+	/**
+	 * Adds sb.append() lines for the comma separated parts, one line per 60
+	 * characters. Lines with parameters format the record index i into the
+	 * parameter clauses.
+	 */
+	private void addAppendLines(Method method, boolean format, String prefix, List<String> parts, String suffix) {
+		StringBuilder sb = new StringBuilder();
+		sb.append(prefix);
+
+		Iterator<String> iter = parts.iterator();
+		while (iter.hasNext()) {
+			sb.append(iter.next());
+			if (iter.hasNext()) {
+				sb.append(", "); //$NON-NLS-1$
+				if (sb.length() > 60) {
+					method.addBodyLine(getAppendLine(format, sb.toString()));
+					sb.setLength(0);
+				}
+			}
+		}
+
+		sb.append(suffix);
+		method.addBodyLine(getAppendLine(format, sb.toString()));
+	}
+
+	private String getAppendLine(boolean format, String s) {
+		if (format) {
+			return String.format("sb.append(String.format(\"%s\", i));", s); //$NON-NLS-1$
+		} else {
+			return String.format("sb.append(\"%s\");", s); //$NON-NLS-1$
+		}
+	}
+}
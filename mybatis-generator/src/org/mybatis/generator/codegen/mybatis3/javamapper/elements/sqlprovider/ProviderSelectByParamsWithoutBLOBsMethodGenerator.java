@@ -52,7 +52,7 @@ public class ProviderSelectByParamsWithoutBLOBsMethodGenerator extends AbstractJ
 		staticImports.add("org.apache.ibatis.jdbc.SqlBuilder.ORDER_BY"); //$NON-NLS-1$
 		staticImports.add("org.apache.ibatis.jdbc.SqlBuilder.SQL"); //$NON-NLS-1$
 
-		FullyQualifiedJavaType fqjt = new FullyQualifiedJavaType(introspectedTable.getExampleType());
+		FullyQualifiedJavaType fqjt = FullyQualifiedJavaType.of(introspectedTable.getExampleType());
 		importedTypes.add(fqjt);
 
 		Method method = new Method(getMethodName());
@@ -64,6 +64,19 @@ public class ProviderSelectByParamsWithoutBLOBsMethodGenerator extends AbstractJ
 
 		method.addBodyLine("BEGIN();"); //$NON-NLS-1$
 
+		if (introspectedTable.isColumnProjectionEnabled()) {
+			method.addBodyLine("if (example != null && example.getSelectColumns() != null && !example.getSelectColumns().isEmpty()) {"); //$NON-NLS-1$
+			method.addBodyLine(String.format("for (%s.Column column : example.getSelectColumns()) {", //$NON-NLS-1$
+					fqjt.getShortName()));
+			method.addBodyLine("if (example.isDistinct()) {"); //$NON-NLS-1$
+			method.addBodyLine("SELECT_DISTINCT(column.getSelectListPhrase());"); //$NON-NLS-1$
+			method.addBodyLine("} else {"); //$NON-NLS-1$
+			method.addBodyLine("SELECT(column.getSelectListPhrase());"); //$NON-NLS-1$
+			method.addBodyLine("}"); //$NON-NLS-1$
+			method.addBodyLine("}"); //$NON-NLS-1$
+			method.addBodyLine("} else {"); //$NON-NLS-1$
+		}
+
 		boolean distinctCheck = true;
 		for (IntrospectedColumn introspectedColumn : getColumns()) {
 			if (distinctCheck) {
@@ -82,6 +95,10 @@ public class ProviderSelectByParamsWithoutBLOBsMethodGenerator extends AbstractJ
 			distinctCheck = false;
 		}
 
+		if (introspectedTable.isColumnProjectionEnabled()) {
+			method.addBodyLine("}"); //$NON-NLS-1$
+		}
+
 		method.addBodyLine(String.format("FROM(\"%s\");", //$NON-NLS-1$
 				escapeStringForJava(introspectedTable.getAliasedFullyQualifiedTableNameAtRuntime())));
 		method.addBodyLine("applyWhere(example, false);"); //$NON-NLS-1$
@@ -47,12 +47,12 @@ public class ProviderUpdateByParamsSelectiveMethodGenerator extends AbstractJava
 		staticImports.add("org.apache.ibatis.jdbc.SqlBuilder.SET"); //$NON-NLS-1$
 		staticImports.add("org.apache.ibatis.jdbc.SqlBuilder.SQL"); //$NON-NLS-1$
 
-		importedTypes.add(new FullyQualifiedJavaType("java.util.Map")); //$NON-NLS-1$
+		importedTypes.add(FullyQualifiedJavaType.of("java.util.Map")); //$NON-NLS-1$
 
 		Method method = new Method(introspectedTable.getUpdateByParamsSelectiveStatementId());
 		method.setReturnType(FullyQualifiedJavaType.getStringInstance());
 		method.setVisibility(JavaVisibility.PUBLIC);
-		method.addParameter(new Parameter(new FullyQualifiedJavaType(
+		method.addParameter(new Parameter(FullyQualifiedJavaType.of(
 				"java.util.Map<java.lang.String, java.lang.Object>"), //$NON-NLS-1$
 				"parameter")); //$NON-NLS-1$
 
@@ -61,7 +61,7 @@ public class ProviderUpdateByParamsSelectiveMethodGenerator extends AbstractJava
 		method.addBodyLine(String.format("%s record = (%s) parameter.get(\"record\");", //$NON-NLS-1$
 				record.getShortName(), record.getShortName()));
 
-		FullyQualifiedJavaType example = new FullyQualifiedJavaType(introspectedTable.getExampleType());
+		FullyQualifiedJavaType example = FullyQualifiedJavaType.of(introspectedTable.getExampleType());
 		importedTypes.add(example);
 		method.addBodyLine(String.format("%s example = (%s) parameter.get(\"example\");", //$NON-NLS-1$
 				example.getShortName(), example.getShortName()));
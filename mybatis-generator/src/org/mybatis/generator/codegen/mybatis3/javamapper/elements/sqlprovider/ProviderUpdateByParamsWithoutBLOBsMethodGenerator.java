@@ -51,12 +51,12 @@ public class ProviderUpdateByParamsWithoutBLOBsMethodGenerator extends AbstractJ
 		staticImports.add("org.apache.ibatis.jdbc.SqlBuilder.SET"); //$NON-NLS-1$
 		staticImports.add("org.apache.ibatis.jdbc.SqlBuilder.SQL"); //$NON-NLS-1$
 
-		importedTypes.add(new FullyQualifiedJavaType("java.util.Map")); //$NON-NLS-1$
+		importedTypes.add(FullyQualifiedJavaType.of("java.util.Map")); //$NON-NLS-1$
 
 		Method method = new Method(getMethodName());
 		method.setReturnType(FullyQualifiedJavaType.getStringInstance());
 		method.setVisibility(JavaVisibility.PUBLIC);
-		method.addParameter(new Parameter(new FullyQualifiedJavaType(
+		method.addParameter(new Parameter(FullyQualifiedJavaType.of(
 				"java.util.Map<java.lang.String, java.lang.Object>"), //$NON-NLS-1$
 				"parameter")); //$NON-NLS-1$
 
@@ -79,7 +79,7 @@ public class ProviderUpdateByParamsWithoutBLOBsMethodGenerator extends AbstractJ
 
 		method.addBodyLine(""); //$NON-NLS-1$
 
-		FullyQualifiedJavaType example = new FullyQualifiedJavaType(introspectedTable.getExampleType());
+		FullyQualifiedJavaType example = FullyQualifiedJavaType.of(introspectedTable.getExampleType());
 		importedTypes.add(example);
 		method.addBodyLine(String.format("%s example = (%s) parameter.get(\"example\");", //$NON-NLS-1$
 				example.getShortName(), example.getShortName()));
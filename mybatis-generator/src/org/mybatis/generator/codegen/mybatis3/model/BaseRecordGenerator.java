@@ -52,7 +52,7 @@ public class BaseRecordGenerator extends AbstractJavaGenerator {
 		Plugin plugins = context.getPlugins();
 		CommentGenerator commentGenerator = context.getCommentGenerator();
 
-		FullyQualifiedJavaType type = new FullyQualifiedJavaType(introspectedTable.getBaseRecordType());
+		FullyQualifiedJavaType type = FullyQualifiedJavaType.of(introspectedTable.getBaseRecordType());
 		TopLevelClass topLevelClass = new TopLevelClass(type);
 		topLevelClass.setVisibility(JavaVisibility.PUBLIC);
 		commentGenerator.addJavaFileComment(topLevelClass);
@@ -111,11 +111,11 @@ public class BaseRecordGenerator extends AbstractJavaGenerator {
 	private FullyQualifiedJavaType getSuperClass() {
 		FullyQualifiedJavaType superClass;
 		if (introspectedTable.getRules().generatePrimaryKeyClass()) {
-			superClass = new FullyQualifiedJavaType(introspectedTable.getPrimaryKeyType());
+			superClass = FullyQualifiedJavaType.of(introspectedTable.getPrimaryKeyType());
 		} else {
 			String rootClass = getRootClass();
 			if (rootClass != null) {
-				superClass = new FullyQualifiedJavaType(rootClass);
+				superClass = FullyQualifiedJavaType.of(rootClass);
 			} else {
 				superClass = null;
 			}
@@ -16,6 +16,7 @@
 package org.mybatis.generator.codegen.mybatis3.model;
 
 import static org.mybatis.generator.internal.util.JavaBeansUtil.getGetterMethodName;
+import static org.mybatis.generator.internal.util.StringUtility.escapeStringForJava;
 import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
 import static org.mybatis.generator.internal.util.messages.Messages.getString;
 
@@ -26,11 +27,13 @@ import java.util.List;
 import org.mybatis.generator.api.CommentGenerator;
 import org.mybatis.generator.api.FullyQualifiedTable;
 import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.IntrospectedTable;
 import org.mybatis.generator.api.dom.OutputUtilities;
 import org.mybatis.generator.api.dom.java.CompilationUnit;
 import org.mybatis.generator.api.dom.java.Field;
 import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
 import org.mybatis.generator.api.dom.java.InnerClass;
+import org.mybatis.generator.api.dom.java.InnerEnum;
 import org.mybatis.generator.api.dom.java.JavaVisibility;
 import org.mybatis.generator.api.dom.java.Method;
 import org.mybatis.generator.api.dom.java.Parameter;
@@ -55,7 +58,7 @@ public class ExampleGenerator extends AbstractJavaGenerator {
 		progressCallback.startTask(getString("Progress.6", table.toString())); //$NON-NLS-1$
 		CommentGenerator commentGenerator = context.getCommentGenerator();
 
-		FullyQualifiedJavaType type = new FullyQualifiedJavaType(introspectedTable.getExampleType());
+		FullyQualifiedJavaType type = FullyQualifiedJavaType.of(introspectedTable.getExampleType());
 		TopLevelClass topLevelClass = new TopLevelClass(type);
 		topLevelClass.setVisibility(JavaVisibility.PUBLIC);
 		commentGenerator.addJavaFileComment(topLevelClass);
@@ -118,11 +121,15 @@ public class ExampleGenerator extends AbstractJavaGenerator {
 		commentGenerator.addGeneralMethodComment(method, introspectedTable);
 		topLevelClass.addMethod(method);
 
+		if (introspectedTable.isColumnProjectionEnabled()) {
+			addSelectColumns(topLevelClass);
+		}
+
 		// add field and methods for the list of ored criteria
 		field = new Field();
 		field.setVisibility(JavaVisibility.PROTECTED);
 
-		FullyQualifiedJavaType fqjt = new FullyQualifiedJavaType("java.util.List<Criteria>"); //$NON-NLS-1$
+		FullyQualifiedJavaType fqjt = FullyQualifiedJavaType.of("java.util.List<Criteria>"); //$NON-NLS-1$
 		field.setType(fqjt);
 		field.setName("oredCriteria"); //$NON-NLS-1$
 		commentGenerator.addFieldComment(field, introspectedTable);
@@ -181,6 +188,9 @@ public class ExampleGenerator extends AbstractJavaGenerator {
 		method.addBodyLine("oredCriteria.clear();"); //$NON-NLS-1$
 		method.addBodyLine("orderByClause = null;"); //$NON-NLS-1$
 		method.addBodyLine("distinct = false;"); //$NON-NLS-1$
+		if (introspectedTable.isColumnProjectionEnabled()) {
+			method.addBodyLine("selectColumns = null;"); //$NON-NLS-1$
+		}
 		commentGenerator.addGeneralMethodComment(method, introspectedTable);
 		topLevelClass.addMethod(method);
 
@@ -191,6 +201,10 @@ public class ExampleGenerator extends AbstractJavaGenerator {
 
 		topLevelClass.addInnerClass(getCriterionInnerClass(topLevelClass));
 
+		if (introspectedTable.isColumnProjectionEnabled()) {
+			topLevelClass.addInnerEnum(getColumnInnerEnum(introspectedTable, context.getCommentGenerator()));
+		}
+
 		List<CompilationUnit> answer = new ArrayList<CompilationUnit>();
 		if (context.getPlugins().modelExampleClassGenerated(topLevelClass, introspectedTable)) {
 			answer.add(topLevelClass);
@@ -198,11 +212,120 @@ public class ExampleGenerator extends AbstractJavaGenerator {
 		return answer;
 	}
 
+	/**
+	 * Adds the field and methods of the column projection: the selectByParams
+	 * statements select only the columns set with setSelectColumns, or all
+	 * columns if none are set.
+	 */
+	private void addSelectColumns(TopLevelClass topLevelClass) {
+		CommentGenerator commentGenerator = context.getCommentGenerator();
+
+		FullyQualifiedJavaType columnType = FullyQualifiedJavaType.of("Column"); //$NON-NLS-1$
+		FullyQualifiedJavaType listType = FullyQualifiedJavaType.getNewListInstance();
+		listType.addTypeArgument(columnType);
+		topLevelClass.addImportedType(FullyQualifiedJavaType.getNewListInstance());
+		topLevelClass.addImportedType(FullyQualifiedJavaType.of("java.util.Arrays")); //$NON-NLS-1$
+
+		Field field = new Field();
+		field.setVisibility(JavaVisibility.PROTECTED);
+		field.setType(listType);
+		field.setName("selectColumns"); //$NON-NLS-1$
+		commentGenerator.addFieldComment(field, introspectedTable);
+		topLevelClass.addField(field);
+
+		Method method = new Method();
+		method.setVisibility(JavaVisibility.PUBLIC);
+		method.setName("setSelectColumns"); //$NON-NLS-1$
+		method.addParameter(new Parameter(columnType, "columns", true)); //$NON-NLS-1$
+		method.addBodyLine("this.selectColumns = Arrays.asList(columns);"); //$NON-NLS-1$
+		commentGenerator.addGeneralMethodComment(method, introspectedTable, "设置查询的列,不设置时查询所有列,未查询的属性为null");
+		topLevelClass.addMethod(method);
+
+		method = new Method();
+		method.setVisibility(JavaVisibility.PUBLIC);
+		method.setReturnType(listType);
+		method.setName("getSelectColumns"); //$NON-NLS-1$
+		method.addBodyLine("return selectColumns;"); //$NON-NLS-1$
+		commentGenerator.addGeneralMethodComment(method, introspectedTable);
+		topLevelClass.addMethod(method);
+	}
+
+	/**
+	 * @return the Column enum, with a constant for every column of the table.
+	 *         Each constant holds the phrase of the column in the select list,
+	 *         the same as in Base_Column_List. The Criteria plugins add it to
+	 *         the record class, because they do not generate the example
+	 *         class.
+	 */
+	public static InnerEnum getColumnInnerEnum(IntrospectedTable introspectedTable,
+			CommentGenerator commentGenerator) {
+		InnerEnum answer = new InnerEnum(FullyQualifiedJavaType.of("Column")); //$NON-NLS-1$
+		answer.setVisibility(JavaVisibility.PUBLIC);
+		commentGenerator.addEnumComment(answer, introspectedTable);
+
+		StringBuilder sb = new StringBuilder();
+		for (IntrospectedColumn introspectedColumn : introspectedTable.getAllColumns()) {
+			sb.setLength(0);
+			sb.append(getEnumConstantName(introspectedColumn));
+			sb.append("(\""); //$NON-NLS-1$
+			sb.append(escapeStringForJava(MyBatis3FormattingUtilities.getSelectListPhrase(introspectedColumn)));
+			sb.append("\")"); //$NON-NLS-1$
+			answer.addEnumConstant(sb.toString());
+		}
+
+		Field field = new Field();
+		field.setVisibility(JavaVisibility.PRIVATE);
+		field.setFinal(true);
+		field.setType(FullyQualifiedJavaType.getStringInstance());
+		field.setName("selectListPhrase"); //$NON-NLS-1$
+		answer.addField(field);
+
+		Method method = new Method();
+		method.setVisibility(JavaVisibility.PRIVATE);
+		method.setConstructor(true);
+		method.setName("Column"); //$NON-NLS-1$
+		method.addParameter(new Parameter(FullyQualifiedJavaType.getStringInstance(), "selectListPhrase")); //$NON-NLS-1$
+		method.addBodyLine("this.selectListPhrase = selectListPhrase;"); //$NON-NLS-1$
+		answer.addMethod(method);
+
+		answer.addMethod(getGetter(field));
+
+		return answer;
+	}
+
+	/**
+	 * @return the column name in upper case if it is a Java identifier,
+	 *         otherwise the property name in upper case with an underscore
+	 *         before each word: userName becomes USER_NAME
+	 */
+	private static String getEnumConstantName(IntrospectedColumn introspectedColumn) {
+		String columnName = introspectedColumn.getActualColumnName().toUpperCase();
+		boolean identifier = Character.isJavaIdentifierStart(columnName.charAt(0));
+		for (int i = 1; identifier && i < columnName.length(); i++) {
+			identifier = Character.isJavaIdentifierPart(columnName.charAt(i));
+		}
+		if (identifier) {
+			return columnName;
+		}
+
+		String javaProperty = introspectedColumn.getJavaProperty();
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < javaProperty.length(); i++) {
+			char c = javaProperty.charAt(i);
+			if (i > 0 && Character.isUpperCase(c) && !Character.isUpperCase(javaProperty.charAt(i - 1))) {
+				sb.append('_');
+			}
+			sb.append(Character.toUpperCase(c));
+		}
+
+		return sb.toString();
+	}
+
 	private InnerClass getCriterionInnerClass(TopLevelClass topLevelClass) {
 		Field field;
 		Method method;
 
-		InnerClass answer = new InnerClass(new FullyQualifiedJavaType("Criterion")); //$NON-NLS-1$
+		InnerClass answer = new InnerClass(FullyQualifiedJavaType.of("Criterion")); //$NON-NLS-1$
 		answer.setVisibility(JavaVisibility.PUBLIC);
 		answer.setStatic(true);
 		context.getCommentGenerator().addClassComment(answer, introspectedTable);
@@ -411,7 +534,7 @@ public class ExampleGenerator extends AbstractJavaGenerator {
 		if (criteriaLists.size() > 1) {
 			field = new Field();
 			field.setName("allCriteria"); //$NON-NLS-1$
-			field.setType(new FullyQualifiedJavaType("List<Criterion>")); //$NON-NLS-1$
+			field.setType(FullyQualifiedJavaType.of("List<Criterion>")); //$NON-NLS-1$
 			field.setVisibility(JavaVisibility.PROTECTED);
 			answer.addField(field);
 		}
@@ -419,7 +542,7 @@ public class ExampleGenerator extends AbstractJavaGenerator {
 		method = new Method();
 		method.setVisibility(JavaVisibility.PUBLIC);
 		method.setName("getAllCriteria"); //$NON-NLS-1$
-		method.setReturnType(new FullyQualifiedJavaType("List<Criterion>")); //$NON-NLS-1$
+		method.setReturnType(FullyQualifiedJavaType.of("List<Criterion>")); //$NON-NLS-1$
 		if (criteriaLists.size() < 2) {
 			method.addBodyLine("return criteria;"); //$NON-NLS-1$
 		} else {
@@ -443,7 +566,7 @@ public class ExampleGenerator extends AbstractJavaGenerator {
 
 		field = new Field();
 		field.setVisibility(JavaVisibility.PROTECTED);
-		FullyQualifiedJavaType listOfCriterion = new FullyQualifiedJavaType("java.util.List<Criterion>"); //$NON-NLS-1$
+		FullyQualifiedJavaType listOfCriterion = FullyQualifiedJavaType.of("java.util.List<Criterion>"); //$NON-NLS-1$
 		field.setType(listOfCriterion);
 		field.setName("criteria"); //$NON-NLS-1$
 		answer.addField(field);
@@ -500,7 +623,7 @@ public class ExampleGenerator extends AbstractJavaGenerator {
 		}
 		answer.addMethod(method);
 
-		FullyQualifiedJavaType listOfDates = new FullyQualifiedJavaType("java.util.List<java.util.Date>"); //$NON-NLS-1$
+		FullyQualifiedJavaType listOfDates = FullyQualifiedJavaType.of("java.util.List<java.util.Date>"); //$NON-NLS-1$
 
 		if (introspectedTable.hasJDBCDateColumns()) {
 			topLevelClass.addImportedType(FullyQualifiedJavaType.getDateInstance());
@@ -881,7 +1004,7 @@ public class ExampleGenerator extends AbstractJavaGenerator {
 
 		Field field = new Field();
 		field.setVisibility(JavaVisibility.PROTECTED);
-		field.setType(new FullyQualifiedJavaType("java.util.List<Criterion>")); //$NON-NLS-1$
+		field.setType(FullyQualifiedJavaType.of("java.util.List<Criterion>")); //$NON-NLS-1$
 		field.setName(answer);
 		innerClass.addField(field);
 
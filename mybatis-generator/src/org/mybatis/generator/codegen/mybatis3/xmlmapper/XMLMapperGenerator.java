@@ -29,20 +29,26 @@ import org.mybatis.generator.codegen.mybatis3.xmlmapper.elements.BlobColumnListE
 import org.mybatis.generator.codegen.mybatis3.xmlmapper.elements.CountByParamsElementGenerator;
 import org.mybatis.generator.codegen.mybatis3.xmlmapper.elements.DeleteByParamsElementGenerator;
 import org.mybatis.generator.codegen.mybatis3.xmlmapper.elements.DeleteByPrimaryKeyElementGenerator;
+import org.mybatis.generator.codegen.mybatis3.xmlmapper.elements.DeleteByPrimaryKeysElementGenerator;
 import org.mybatis.generator.codegen.mybatis3.xmlmapper.elements.ExampleWhereClauseElementGenerator;
 import org.mybatis.generator.codegen.mybatis3.xmlmapper.elements.InsertElementGenerator;
+import org.mybatis.generator.codegen.mybatis3.xmlmapper.elements.InsertBatchElementGenerator;
 import org.mybatis.generator.codegen.mybatis3.xmlmapper.elements.InsertSelectiveElementGenerator;
 import org.mybatis.generator.codegen.mybatis3.xmlmapper.elements.ResultMapWithBLOBsElementGenerator;
 import org.mybatis.generator.codegen.mybatis3.xmlmapper.elements.ResultMapWithoutBLOBsElementGenerator;
 import org.mybatis.generator.codegen.mybatis3.xmlmapper.elements.SelectByParamsWithBLOBsElementGenerator;
 import org.mybatis.generator.codegen.mybatis3.xmlmapper.elements.SelectByParamsWithoutBLOBsElementGenerator;
 import org.mybatis.generator.codegen.mybatis3.xmlmapper.elements.SelectByPrimaryKeyElementGenerator;
+import org.mybatis.generator.codegen.mybatis3.xmlmapper.elements.SelectByPrimaryKeysElementGenerator;
 import org.mybatis.generator.codegen.mybatis3.xmlmapper.elements.UpdateByParamsSelectiveElementGenerator;
 import org.mybatis.generator.codegen.mybatis3.xmlmapper.elements.UpdateByParamsWithBLOBsElementGenerator;
 import org.mybatis.generator.codegen.mybatis3.xmlmapper.elements.UpdateByParamsWithoutBLOBsElementGenerator;
 import org.mybatis.generator.codegen.mybatis3.xmlmapper.elements.UpdateByPrimaryKeySelectiveElementGenerator;
 import org.mybatis.generator.codegen.mybatis3.xmlmapper.elements.UpdateByPrimaryKeyWithBLOBsElementGenerator;
 import org.mybatis.generator.codegen.mybatis3.xmlmapper.elements.UpdateByPrimaryKeyWithoutBLOBsElementGenerator;
+import org.mybatis.generator.codegen.mybatis3.xmlmapper.elements.UpsertBatchElementGenerator;
+import org.mybatis.generator.codegen.mybatis3.xmlmapper.elements.UpsertElementGenerator;
+import org.mybatis.generator.codegen.mybatis3.xmlmapper.elements.UpsertSelectiveElementGenerator;
 
 /**
  * 
@@ -77,11 +83,19 @@ public class XMLMapperGenerator extends AbstractXmlGenerator {
 		addBlobColumnListElement(answer);
 		addSelectByParamsWithBLOBsElement(answer);
 		addSelectByParamsWithoutBLOBsElement(answer);
+		addSelectByParamsWithHandlerElement(answer);
+		addSelectByParamsWithBLOBsWithHandlerElement(answer);
 		addSelectByPrimaryKeyElement(answer);
+		addSelectByPrimaryKeysElement(answer);
 		addDeleteByPrimaryKeyElement(answer);
+		addDeleteByPrimaryKeysElement(answer);
 		addDeleteByParamsElement(answer);
 		addInsertElement(answer);
 		addInsertSelectiveElement(answer);
+		addInsertBatchElement(answer);
+		addUpsertElement(answer);
+		addUpsertSelectiveElement(answer);
+		addUpsertBatchElement(answer);
 		addCountByParamsElement(answer);
 		addUpdateByParamsSelectiveElement(answer);
 		addUpdateByParamsWithBLOBsElement(answer);
@@ -149,6 +163,20 @@ public class XMLMapperGenerator extends AbstractXmlGenerator {
 		}
 	}
 
+	protected void addSelectByParamsWithHandlerElement(XmlElement parentElement) {
+		if (introspectedTable.getRules().generateSelectByParamsWithHandler()) {
+			AbstractXmlElementGenerator elementGenerator = new SelectByParamsWithoutBLOBsElementGenerator(true);
+			initializeAndExecuteGenerator(elementGenerator, parentElement);
+		}
+	}
+
+	protected void addSelectByParamsWithBLOBsWithHandlerElement(XmlElement parentElement) {
+		if (introspectedTable.getRules().generateSelectByParamsWithBLOBsWithHandler()) {
+			AbstractXmlElementGenerator elementGenerator = new SelectByParamsWithBLOBsElementGenerator(true);
+			initializeAndExecuteGenerator(elementGenerator, parentElement);
+		}
+	}
+
 	protected void addSelectByPrimaryKeyElement(XmlElement parentElement) {
 		if (introspectedTable.getRules().generateSelectByPrimaryKey()) {
 			AbstractXmlElementGenerator elementGenerator = new SelectByPrimaryKeyElementGenerator();
@@ -156,6 +184,13 @@ public class XMLMapperGenerator extends AbstractXmlGenerator {
 		}
 	}
 
+	protected void addSelectByPrimaryKeysElement(XmlElement parentElement) {
+		if (introspectedTable.getRules().generateSelectByPrimaryKeys()) {
+			AbstractXmlElementGenerator elementGenerator = new SelectByPrimaryKeysElementGenerator();
+			initializeAndExecuteGenerator(elementGenerator, parentElement);
+		}
+	}
+
 	protected void addDeleteByParamsElement(XmlElement parentElement) {
 		if (introspectedTable.getRules().generateDeleteByParams()) {
 			AbstractXmlElementGenerator elementGenerator = new DeleteByParamsElementGenerator();
@@ -170,6 +205,13 @@ public class XMLMapperGenerator extends AbstractXmlGenerator {
 		}
 	}
 
+	protected void addDeleteByPrimaryKeysElement(XmlElement parentElement) {
+		if (introspectedTable.getRules().generateDeleteByPrimaryKeys()) {
+			AbstractXmlElementGenerator elementGenerator = new DeleteByPrimaryKeysElementGenerator();
+			initializeAndExecuteGenerator(elementGenerator, parentElement);
+		}
+	}
+
 	protected void addInsertElement(XmlElement parentElement) {
 		if (introspectedTable.getRules().generateInsert()) {
 			AbstractXmlElementGenerator elementGenerator = new InsertElementGenerator();
@@ -184,6 +226,34 @@ public class XMLMapperGenerator extends AbstractXmlGenerator {
 		}
 	}
 
+	protected void addInsertBatchElement(XmlElement parentElement) {
+		if (introspectedTable.getRules().generateInsertBatch()) {
+			AbstractXmlElementGenerator elementGenerator = new InsertBatchElementGenerator();
+			initializeAndExecuteGenerator(elementGenerator, parentElement);
+		}
+	}
+
+	protected void addUpsertElement(XmlElement parentElement) {
+		if (introspectedTable.getRules().generateUpsert()) {
+			AbstractXmlElementGenerator elementGenerator = new UpsertElementGenerator();
+			initializeAndExecuteGenerator(elementGenerator, parentElement);
+		}
+	}
+
+	protected void addUpsertSelectiveElement(XmlElement parentElement) {
+		if (introspectedTable.getRules().generateUpsert()) {
+			AbstractXmlElementGenerator elementGenerator = new UpsertSelectiveElementGenerator();
+			initializeAndExecuteGenerator(elementGenerator, parentElement);
+		}
+	}
+
+	protected void addUpsertBatchElement(XmlElement parentElement) {
+		if (introspectedTable.getRules().generateUpsertBatch()) {
+			AbstractXmlElementGenerator elementGenerator = new UpsertBatchElementGenerator();
+			initializeAndExecuteGenerator(elementGenerator, parentElement);
+		}
+	}
+
 	protected void addCountByParamsElement(XmlElement parentElement) {
 		if (introspectedTable.getRules().generateCountByParams()) {
 			AbstractXmlElementGenerator elementGenerator = new CountByParamsElementGenerator();
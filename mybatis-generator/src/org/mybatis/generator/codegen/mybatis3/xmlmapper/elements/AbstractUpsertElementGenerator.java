@@ -0,0 +1,181 @@
+/*
+ *  Copyright 2009 The Apache Software Foundation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mybatis.generator.codegen.mybatis3.xmlmapper.elements;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.dom.xml.TextElement;
+import org.mybatis.generator.api.dom.xml.XmlElement;
+import org.mybatis.generator.codegen.mybatis3.MyBatis3FormattingUtilities;
+import org.mybatis.generator.internal.db.UpsertDialects;
+
+/**
+ * Common parts of the upsert elements. A record is matched by its primary
+ * key: the insert part sets all columns except identity columns, the update
+ * part sets all columns except the primary key and identity columns.
+ */
+public abstract class AbstractUpsertElementGenerator extends AbstractXmlElementGenerator {
+
+	public AbstractUpsertElementGenerator() {
+		super();
+	}
+
+	protected List<IntrospectedColumn> getInsertColumns() {
+		List<IntrospectedColumn> answer = new ArrayList<IntrospectedColumn>();
+		for (IntrospectedColumn introspectedColumn : introspectedTable.getAllColumns()) {
+			if (!introspectedColumn.isIdentity()) {
+				answer.add(introspectedColumn);
+			}
+		}
+
+		return answer;
+	}
+
+	protected List<IntrospectedColumn> getUpdateColumns() {
+		List<IntrospectedColumn> answer = new ArrayList<IntrospectedColumn>();
+		for (IntrospectedColumn introspectedColumn : introspectedTable.getNonPrimaryKeyColumns()) {
+			if (!introspectedColumn.isIdentity()) {
+				answer.add(introspectedColumn);
+			}
+		}
+
+		return answer;
+	}
+
+	protected List<String> getColumnNames(List<IntrospectedColumn> columns, String prefix) {
+		List<String> answer = new ArrayList<String>();
+		for (IntrospectedColumn introspectedColumn : columns) {
+			answer.add(prefix + MyBatis3FormattingUtilities.getEscapedColumnName(introspectedColumn));
+		}
+
+		return answer;
+	}
+
+	protected List<String> getParameterClauses(List<IntrospectedColumn> columns, String prefix) {
+		List<String> answer = new ArrayList<String>();
+		for (IntrospectedColumn introspectedColumn : columns) {
+			answer.add(MyBatis3FormattingUtilities.getParameterClause(introspectedColumn, prefix));
+		}
+
+		return answer;
+	}
+
+	/**
+	 * @return the assignments of the update part in the form "COLUMN = value",
+	 *         with the value taken from the parameters (valuePrefix null),
+	 *         from the VALUES of the insert (MySQL), from the excluded row
+	 *         (PostgreSQL) or from the source table of a merge (valuePrefix
+	 *         "s.")
+	 */
+	protected List<String> getUpdateAssignments(List<IntrospectedColumn> columns, UpsertDialects dialect,
+			String valuePrefix) {
+		List<String> answer = new ArrayList<String>();
+		for (IntrospectedColumn introspectedColumn : columns) {
+			String columnName = MyBatis3FormattingUtilities.getEscapedColumnName(introspectedColumn);
+			StringBuilder sb = new StringBuilder();
+			sb.append(columnName);
+			sb.append(" = "); //$NON-NLS-1$
+			if (dialect == UpsertDialects.MYSQL) {
+				sb.append("values("); //$NON-NLS-1$
+				sb.append(columnName);
+				sb.append(')');
+			} else if (dialect == UpsertDialects.POSTGRESQL) {
+				sb.append("excluded."); //$NON-NLS-1$
+				sb.append(columnName);
+			} else if (valuePrefix == null) {
+				sb.append(MyBatis3FormattingUtilities.getParameterClause(introspectedColumn));
+			} else {
+				sb.append(valuePrefix);
+				sb.append(columnName);
+			}
+			answer.add(sb.toString());
+		}
+
+		return answer;
+	}
+
+	/**
+	 * @return the condition on the primary key, comparing the columns with the
+	 *         parameters (sourcePrefix null) or with the source table of a
+	 *         merge
+	 */
+	protected String getPrimaryKeyCondition(String targetPrefix, String sourcePrefix) {
+		StringBuilder sb = new StringBuilder();
+		Iterator<IntrospectedColumn> iter = introspectedTable.getPrimaryKeyColumns().iterator();
+		while (iter.hasNext()) {
+			IntrospectedColumn introspectedColumn = iter.next();
+			String columnName = MyBatis3FormattingUtilities.getEscapedColumnName(introspectedColumn);
+			sb.append(targetPrefix);
+			sb.append(columnName);
+			sb.append(" = "); //$NON-NLS-1$
+			if (sourcePrefix == null) {
+				sb.append(MyBatis3FormattingUtilities.getParameterClause(introspectedColumn));
+			} else {
+				sb.append(sourcePrefix);
+				sb.append(columnName);
+			}
+			if (iter.hasNext()) {
+				sb.append(" and "); //$NON-NLS-1$
+			}
+		}
+
+		return sb.toString();
+	}
+
+	/**
+	 * Adds the on duplicate key update (MySQL) or on conflict (PostgreSQL)
+	 * clause that follows the insert.
+	 */
+	protected void addConflictClause(XmlElement answer, UpsertDialects dialect) {
+		List<IntrospectedColumn> updateColumns = getUpdateColumns();
+		if (dialect == UpsertDialects.POSTGRESQL) {
+			StringBuilder sb = new StringBuilder();
+			sb.append("on conflict ("); //$NON-NLS-1$
+			sb.append(getPrimaryKeyColumnList());
+			sb.append(')');
+			if (updateColumns.isEmpty()) {
+				sb.append(" do nothing"); //$NON-NLS-1$
+				answer.addElement(new TextElement(sb.toString()));
+			} else {
+				answer.addElement(new TextElement(sb.toString()));
+				addClauses(answer, "do update set ", getUpdateAssignments(updateColumns, dialect, null), ""); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		} else {
+			if (updateColumns.isEmpty()) {
+				// a table of primary key columns only - a no-op update keeps
+				// the duplicate row
+				updateColumns = introspectedTable.getPrimaryKeyColumns().subList(0, 1);
+			}
+			addClauses(answer, "on duplicate key update ", getUpdateAssignments(updateColumns, dialect, null), ""); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	protected String getPrimaryKeyColumnList() {
+		StringBuilder sb = new StringBuilder();
+		Iterator<String> iter = getColumnNames(introspectedTable.getPrimaryKeyColumns(), "").iterator(); //$NON-NLS-1$
+		while (iter.hasNext()) {
+			sb.append(iter.next());
+			if (iter.hasNext()) {
+				sb.append(", "); //$NON-NLS-1$
+			}
+		}
+
+		return sb.toString();
+	}
+}
@@ -15,11 +15,17 @@
  */
 package org.mybatis.generator.codegen.mybatis3.xmlmapper.elements;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
 import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.dom.OutputUtilities;
 import org.mybatis.generator.api.dom.xml.Attribute;
 import org.mybatis.generator.api.dom.xml.TextElement;
 import org.mybatis.generator.api.dom.xml.XmlElement;
 import org.mybatis.generator.codegen.AbstractGenerator;
+import org.mybatis.generator.codegen.mybatis3.MyBatis3FormattingUtilities;
 import org.mybatis.generator.config.GeneratedKey;
 
 /**
@@ -58,6 +64,20 @@ public abstract class AbstractXmlElementGenerator extends AbstractGenerator {
 		return answer;
 	}
 
+	/**
+	 * Adds the fetchSize attribute (if the fetchSize property is set) and, for
+	 * a statement that passes its rows to a handler, a forward only result set.
+	 */
+	protected void addFetchAttributes(XmlElement answer, boolean withHandler) {
+		String fetchSize = introspectedTable.getFetchSize();
+		if (fetchSize != null) {
+			answer.addAttribute(new Attribute("fetchSize", fetchSize)); //$NON-NLS-1$
+		}
+		if (withHandler) {
+			answer.addAttribute(new Attribute("resultSetType", "FORWARD_ONLY")); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
 	protected XmlElement getBaseColumnListElement() {
 		XmlElement answer = new XmlElement("include"); //$NON-NLS-1$
 		answer.addAttribute(new Attribute("refid", //$NON-NLS-1$
@@ -72,6 +92,43 @@ public abstract class AbstractXmlElementGenerator extends AbstractGenerator {
 		return answer;
 	}
 
+	/**
+	 * Adds the select list of the selectByParams statements. With column
+	 * projection the columns set in the example are selected, or else all
+	 * columns. The result maps need no change: a column that is not selected
+	 * leaves its property null.
+	 * 
+	 * @param withBLOBs
+	 *            true to select the BLOB columns as well
+	 */
+	protected void addSelectListElements(XmlElement answer, boolean withBLOBs) {
+		XmlElement parent = answer;
+		if (introspectedTable.isColumnProjectionEnabled()) {
+			XmlElement chooseElement = new XmlElement("choose"); //$NON-NLS-1$
+			answer.addElement(chooseElement);
+
+			XmlElement whenElement = new XmlElement("when"); //$NON-NLS-1$
+			whenElement.addAttribute(new Attribute("test", //$NON-NLS-1$
+					"_parameter != null and selectColumns != null and selectColumns.size() > 0")); //$NON-NLS-1$
+			XmlElement foreachElement = new XmlElement("foreach"); //$NON-NLS-1$
+			foreachElement.addAttribute(new Attribute("collection", "selectColumns")); //$NON-NLS-1$ //$NON-NLS-2$
+			foreachElement.addAttribute(new Attribute("item", "column")); //$NON-NLS-1$ //$NON-NLS-2$
+			foreachElement.addAttribute(new Attribute("separator", ",")); //$NON-NLS-1$ //$NON-NLS-2$
+			foreachElement.addElement(new TextElement("${column.selectListPhrase}")); //$NON-NLS-1$
+			whenElement.addElement(foreachElement);
+			chooseElement.addElement(whenElement);
+
+			parent = new XmlElement("otherwise"); //$NON-NLS-1$
+			chooseElement.addElement(parent);
+		}
+
+		parent.addElement(getBaseColumnListElement());
+		if (withBLOBs) {
+			parent.addElement(new TextElement(",")); //$NON-NLS-1$
+			parent.addElement(getBlobColumnListElement());
+		}
+	}
+
 	protected XmlElement getExampleIncludeElement() {
 		XmlElement ifElement = new XmlElement("if"); //$NON-NLS-1$
 		ifElement.addAttribute(new Attribute("test", "_parameter != null")); //$NON-NLS-1$ //$NON-NLS-2$
@@ -95,4 +152,152 @@ public abstract class AbstractXmlElementGenerator extends AbstractGenerator {
 
 		return ifElement;
 	}
+
+	/**
+	 * Adds the where clause of the selectByPrimaryKeys and deleteByPrimaryKeys
+	 * elements. The parameter is a collection of keys. The keys are compared
+	 * in IN lists of at most inListMaxSize keys, joined with OR, because
+	 * Oracle allows at most 1000 expressions in a list. Composite keys are
+	 * compared with row value constructors if the database supports them,
+	 * otherwise with one (A = ? and B = ?) term per key. An empty collection
+	 * matches no rows.
+	 * 
+	 * @param aliased
+	 *            true to use the aliased column names
+	 */
+	protected void addPrimaryKeysWhereClause(XmlElement answer, boolean aliased) {
+		XmlElement chooseElement = new XmlElement("choose"); //$NON-NLS-1$
+		XmlElement whenElement = new XmlElement("when"); //$NON-NLS-1$
+		whenElement.addAttribute(new Attribute("test", "collection != null and collection.size() > 0")); //$NON-NLS-1$ //$NON-NLS-2$
+		addPrimaryKeysCondition(whenElement, aliased);
+		chooseElement.addElement(whenElement);
+
+		// "in ()" is not valid SQL
+		XmlElement otherwiseElement = new XmlElement("otherwise"); //$NON-NLS-1$
+		otherwiseElement.addElement(new TextElement("where 1 = 0")); //$NON-NLS-1$
+		chooseElement.addElement(otherwiseElement);
+
+		answer.addElement(chooseElement);
+	}
+
+	private void addPrimaryKeysCondition(XmlElement answer, boolean aliased) {
+		List<IntrospectedColumn> primaryKeyColumns = introspectedTable.getPrimaryKeyColumns();
+		// without a key class a single key is passed as the value itself
+		boolean keyValue = primaryKeyColumns.size() == 1 && !introspectedTable.getRules().generatePrimaryKeyClass();
+
+		List<String> columns = new ArrayList<String>();
+		List<String> parameters = new ArrayList<String>();
+		for (IntrospectedColumn introspectedColumn : primaryKeyColumns) {
+			if (aliased) {
+				columns.add(MyBatis3FormattingUtilities.getAliasedEscapedColumnName(introspectedColumn));
+			} else {
+				columns.add(MyBatis3FormattingUtilities.getEscapedColumnName(introspectedColumn));
+			}
+
+			if (keyValue) {
+				String parameterClause = MyBatis3FormattingUtilities.getParameterClause(introspectedColumn);
+				parameters.add("#{key" //$NON-NLS-1$
+						+ parameterClause.substring(2 + introspectedColumn.getJavaProperty().length()));
+			} else {
+				parameters.add(MyBatis3FormattingUtilities.getParameterClause(introspectedColumn, "key.")); //$NON-NLS-1$
+			}
+		}
+
+		XmlElement foreachElement = new XmlElement("foreach"); //$NON-NLS-1$
+		foreachElement.addAttribute(new Attribute("collection", "collection")); //$NON-NLS-1$ //$NON-NLS-2$
+		foreachElement.addAttribute(new Attribute("item", "key")); //$NON-NLS-1$ //$NON-NLS-2$
+
+		if (columns.size() > 1 && !introspectedTable.isRowValueInListSupported()) {
+			answer.addElement(new TextElement("where")); //$NON-NLS-1$
+			foreachElement.addAttribute(new Attribute("separator", "or")); //$NON-NLS-1$ //$NON-NLS-2$
+			StringBuilder sb = new StringBuilder();
+			sb.append('(');
+			for (int i = 0; i < columns.size(); i++) {
+				if (i > 0) {
+					sb.append(" and "); //$NON-NLS-1$
+				}
+				sb.append(columns.get(i));
+				sb.append(" = "); //$NON-NLS-1$
+				sb.append(parameters.get(i));
+			}
+			sb.append(')');
+			foreachElement.addElement(new TextElement(sb.toString()));
+			answer.addElement(foreachElement);
+			return;
+		}
+
+		String inColumns;
+		String inParameters;
+		if (columns.size() == 1) {
+			inColumns = columns.get(0);
+			inParameters = parameters.get(0);
+		} else {
+			StringBuilder sb = new StringBuilder();
+			appendRowValue(sb, columns);
+			inColumns = sb.toString();
+			sb.setLength(0);
+			appendRowValue(sb, parameters);
+			inParameters = sb.toString();
+		}
+
+		int maxSize = introspectedTable.getInListMaxSize();
+		answer.addElement(new TextElement("where (" + inColumns + " in")); //$NON-NLS-1$ //$NON-NLS-2$
+		foreachElement.addAttribute(new Attribute("index", "index")); //$NON-NLS-1$ //$NON-NLS-2$
+		foreachElement.addAttribute(new Attribute("open", "(")); //$NON-NLS-1$ //$NON-NLS-2$
+		foreachElement.addAttribute(new Attribute("close", ")")); //$NON-NLS-1$ //$NON-NLS-2$
+
+		XmlElement ifElement = new XmlElement("if"); //$NON-NLS-1$
+		ifElement.addAttribute(new Attribute("test", "index != 0 and index % " + maxSize + " == 0")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		ifElement.addElement(new TextElement(") or " + inColumns + " in (")); //$NON-NLS-1$ //$NON-NLS-2$
+		foreachElement.addElement(ifElement);
+
+		ifElement = new XmlElement("if"); //$NON-NLS-1$
+		ifElement.addAttribute(new Attribute("test", "index % " + maxSize + " != 0")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		ifElement.addElement(new TextElement(",")); //$NON-NLS-1$
+		foreachElement.addElement(ifElement);
+
+		foreachElement.addElement(new TextElement(inParameters));
+		answer.addElement(foreachElement);
+		answer.addElement(new TextElement(")")); //$NON-NLS-1$
+	}
+
+	/**
+	 * Appends the parts as a row value: (part1, part2, ...)
+	 */
+	private void appendRowValue(StringBuilder sb, List<String> parts) {
+		sb.append('(');
+		Iterator<String> iter = parts.iterator();
+		while (iter.hasNext()) {
+			sb.append(iter.next());
+			if (iter.hasNext()) {
+				sb.append(", "); //$NON-NLS-1$
+			}
+		}
+		sb.append(')');
+	}
+
+	/**
+	 * Adds the comma separated parts as text elements, breaking the lines
+	 * after 80 characters like the insert element.
+	 */
+	protected void addClauses(XmlElement element, String prefix, List<String> parts, String suffix) {
+		StringBuilder sb = new StringBuilder();
+		sb.append(prefix);
+
+		Iterator<String> iter = parts.iterator();
+		while (iter.hasNext()) {
+			sb.append(iter.next());
+			if (iter.hasNext()) {
+				sb.append(", "); //$NON-NLS-1$
+				if (sb.length() > 80) {
+					element.addElement(new TextElement(sb.toString()));
+					sb.setLength(0);
+					OutputUtilities.xmlIndent(sb, 1);
+				}
+			}
+		}
+
+		sb.append(suffix);
+		element.addElement(new TextElement(sb.toString()));
+	}
 }
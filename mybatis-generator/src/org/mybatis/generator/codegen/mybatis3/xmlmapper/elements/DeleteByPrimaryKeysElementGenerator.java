@@ -0,0 +1,53 @@
+/*
+ *  Copyright 2009 The Apache Software Foundation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mybatis.generator.codegen.mybatis3.xmlmapper.elements;
+
+import org.mybatis.generator.api.dom.xml.Attribute;
+import org.mybatis.generator.api.dom.xml.TextElement;
+import org.mybatis.generator.api.dom.xml.XmlElement;
+
+/**
+ * Generates the deleteByPrimaryKeys element, which deletes the records of a
+ * collection of primary keys with one statement.
+ * 
+ */
+public class DeleteByPrimaryKeysElementGenerator extends AbstractXmlElementGenerator {
+
+	public DeleteByPrimaryKeysElementGenerator() {
+		super();
+	}
+
+	@Override
+	public void addElements(XmlElement parentElement) {
+		XmlElement answer = new XmlElement("delete"); //$NON-NLS-1$
+
+		answer.addAttribute(new Attribute("id", introspectedTable.getDeleteByPrimaryKeysStatementId())); //$NON-NLS-1$
+		answer.addAttribute(new Attribute("parameterType", "java.util.Collection")); //$NON-NLS-1$ //$NON-NLS-2$
+
+		context.getCommentGenerator().addComment(answer);
+
+		StringBuilder sb = new StringBuilder();
+		sb.append("delete from "); //$NON-NLS-1$
+		sb.append(introspectedTable.getFullyQualifiedTableNameAtRuntime());
+		answer.addElement(new TextElement(sb.toString()));
+
+		addPrimaryKeysWhereClause(answer, false);
+
+		if (context.getPlugins().sqlMapDeleteByPrimaryKeysElementGenerated(answer, introspectedTable)) {
+			parentElement.addElement(answer);
+		}
+	}
+}
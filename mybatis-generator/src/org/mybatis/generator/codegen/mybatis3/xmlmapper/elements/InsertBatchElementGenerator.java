@@ -0,0 +1,89 @@
+/*
+ *  Copyright 2009 The Apache Software Foundation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mybatis.generator.codegen.mybatis3.xmlmapper.elements;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.dom.xml.Attribute;
+import org.mybatis.generator.api.dom.xml.TextElement;
+import org.mybatis.generator.api.dom.xml.XmlElement;
+import org.mybatis.generator.codegen.mybatis3.MyBatis3FormattingUtilities;
+import org.mybatis.generator.internal.db.InsertBatchDialects;
+
+/**
+ * Generates the insertBatch element: one multi-row insert statement for a
+ * list of records, in the SQL form of the insertBatch dialect of the table.
+ */
+public class InsertBatchElementGenerator extends AbstractXmlElementGenerator {
+
+	public InsertBatchElementGenerator() {
+		super();
+	}
+
+	@Override
+	public void addElements(XmlElement parentElement) {
+		XmlElement answer = new XmlElement("insert"); //$NON-NLS-1$
+
+		answer.addAttribute(new Attribute("id", introspectedTable.getInsertBatchStatementId())); //$NON-NLS-1$
+		answer.addAttribute(new Attribute("parameterType", "java.util.List")); //$NON-NLS-1$ //$NON-NLS-2$
+
+		context.getCommentGenerator().addComment(answer);
+
+		List<String> columns = new ArrayList<String>();
+		List<String> values = new ArrayList<String>();
+		for (IntrospectedColumn introspectedColumn : introspectedTable.getAllColumns()) {
+			if (introspectedColumn.isIdentity()) {
+				// cannot set values on identity fields
+				continue;
+			}
+
+			columns.add(MyBatis3FormattingUtilities.getEscapedColumnName(introspectedColumn));
+			values.add(MyBatis3FormattingUtilities.getParameterClause(introspectedColumn, "item.")); //$NON-NLS-1$
+		}
+
+		String tableName = introspectedTable.getFullyQualifiedTableNameAtRuntime();
+
+		XmlElement foreachElement = new XmlElement("foreach"); //$NON-NLS-1$
+		foreachElement.addAttribute(new Attribute("collection", "list")); //$NON-NLS-1$ //$NON-NLS-2$
+		foreachElement.addAttribute(new Attribute("item", "item")); //$NON-NLS-1$ //$NON-NLS-2$
+
+		InsertBatchDialects dialect = introspectedTable.getInsertBatchDialect();
+		if (dialect == InsertBatchDialects.INSERT_ALL) {
+			answer.addElement(new TextElement("insert all")); //$NON-NLS-1$
+			addClauses(foreachElement, "into " + tableName + " (", columns, ")"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			addClauses(foreachElement, "values (", values, ")"); //$NON-NLS-1$ //$NON-NLS-2$
+			answer.addElement(foreachElement);
+			answer.addElement(new TextElement("select 1 from dual")); //$NON-NLS-1$
+		} else if (dialect == InsertBatchDialects.UNION_ALL) {
+			addClauses(answer, "insert into " + tableName + " (", columns, ")"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			foreachElement.addAttribute(new Attribute("separator", "union all")); //$NON-NLS-1$ //$NON-NLS-2$
+			addClauses(foreachElement, "select ", values, " from dual"); //$NON-NLS-1$ //$NON-NLS-2$
+			answer.addElement(foreachElement);
+		} else {
+			addClauses(answer, "insert into " + tableName + " (", columns, ")"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			answer.addElement(new TextElement("values")); //$NON-NLS-1$
+			foreachElement.addAttribute(new Attribute("separator", ",")); //$NON-NLS-1$ //$NON-NLS-2$
+			addClauses(foreachElement, "(", values, ")"); //$NON-NLS-1$ //$NON-NLS-2$
+			answer.addElement(foreachElement);
+		}
+
+		if (context.getPlugins().sqlMapInsertBatchElementGenerated(answer, introspectedTable)) {
+			parentElement.addElement(answer);
+		}
+	}
+}
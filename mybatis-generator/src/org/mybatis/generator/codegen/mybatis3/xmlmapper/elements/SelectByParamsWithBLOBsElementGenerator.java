@@ -28,18 +28,33 @@ import org.mybatis.generator.api.dom.xml.XmlElement;
  */
 public class SelectByParamsWithBLOBsElementGenerator extends AbstractXmlElementGenerator {
 
+	private boolean withHandler;
+
 	public SelectByParamsWithBLOBsElementGenerator() {
 		super();
 	}
 
+	/**
+	 * @param withHandler
+	 *            true for the statement of the method that passes the rows to
+	 *            a result handler
+	 */
+	public SelectByParamsWithBLOBsElementGenerator(boolean withHandler) {
+		super();
+		this.withHandler = withHandler;
+	}
+
 	@Override
 	public void addElements(XmlElement parentElement) {
 		String fqjt = introspectedTable.getExampleType();
 
 		XmlElement answer = new XmlElement("select"); //$NON-NLS-1$
-		answer.addAttribute(new Attribute("id", introspectedTable.getSelectByParamsWithBLOBsStatementId())); //$NON-NLS-1$
+		answer.addAttribute(new Attribute("id", //$NON-NLS-1$
+				withHandler ? introspectedTable.getSelectByParamsWithBLOBsWithHandlerStatementId() : introspectedTable
+						.getSelectByParamsWithBLOBsStatementId()));
 		answer.addAttribute(new Attribute("resultMap", introspectedTable.getResultMapWithBLOBsId())); //$NON-NLS-1$
 		answer.addAttribute(new Attribute("parameterType", fqjt)); //$NON-NLS-1$
+		addFetchAttributes(answer, withHandler);
 
 		context.getCommentGenerator().addComment(answer);
 
@@ -57,9 +72,7 @@ public class SelectByParamsWithBLOBsElementGenerator extends AbstractXmlElementG
 			answer.addElement(new TextElement(sb.toString()));
 		}
 
-		answer.addElement(getBaseColumnListElement());
-		answer.addElement(new TextElement(",")); //$NON-NLS-1$
-		answer.addElement(getBlobColumnListElement());
+		addSelectListElements(answer, true);
 
 		sb.setLength(0);
 		sb.append("from "); //$NON-NLS-1$
@@ -72,7 +85,11 @@ public class SelectByParamsWithBLOBsElementGenerator extends AbstractXmlElementG
 		ifElement.addElement(new TextElement("order by ${orderByClause}")); //$NON-NLS-1$
 		answer.addElement(ifElement);
 
-		if (context.getPlugins().sqlMapSelectByParamsWithBLOBsElementGenerated(answer, introspectedTable)) {
+		if (withHandler) {
+			if (context.getPlugins().sqlMapSelectByParamsWithHandlerElementGenerated(answer, introspectedTable)) {
+				parentElement.addElement(answer);
+			}
+		} else if (context.getPlugins().sqlMapSelectByParamsWithBLOBsElementGenerated(answer, introspectedTable)) {
 			parentElement.addElement(answer);
 		}
 	}
@@ -28,10 +28,22 @@ import org.mybatis.generator.api.dom.xml.XmlElement;
  */
 public class SelectByParamsWithoutBLOBsElementGenerator extends AbstractXmlElementGenerator {
 
+	private boolean withHandler;
+
 	public SelectByParamsWithoutBLOBsElementGenerator() {
 		super();
 	}
 
+	/**
+	 * @param withHandler
+	 *            true for the statement of the method that passes the rows to
+	 *            a result handler
+	 */
+	public SelectByParamsWithoutBLOBsElementGenerator(boolean withHandler) {
+		super();
+		this.withHandler = withHandler;
+	}
+
 	@Override
 	public void addElements(XmlElement parentElement) {
 		String fqjt = introspectedTable.getExampleType();
@@ -39,9 +51,11 @@ public class SelectByParamsWithoutBLOBsElementGenerator extends AbstractXmlEleme
 		XmlElement answer = new XmlElement("select"); //$NON-NLS-1$
 
 		answer.addAttribute(new Attribute("id", //$NON-NLS-1$
-				introspectedTable.getSelectByParamsStatementId()));
+				withHandler ? introspectedTable.getSelectByParamsWithHandlerStatementId() : introspectedTable
+						.getSelectByParamsStatementId()));
 		answer.addAttribute(new Attribute("resultMap", introspectedTable.getBaseResultMapId())); //$NON-NLS-1$
 		answer.addAttribute(new Attribute("parameterType", fqjt)); //$NON-NLS-1$
+		addFetchAttributes(answer, withHandler);
 
 		context.getCommentGenerator().addComment(answer);
 
@@ -58,7 +72,7 @@ public class SelectByParamsWithoutBLOBsElementGenerator extends AbstractXmlEleme
 			sb.append("' as QUERYID,"); //$NON-NLS-1$
 			answer.addElement(new TextElement(sb.toString()));
 		}
-		answer.addElement(getBaseColumnListElement());
+		addSelectListElements(answer, false);
 
 		sb.setLength(0);
 		sb.append("from "); //$NON-NLS-1$
@@ -71,7 +85,11 @@ public class SelectByParamsWithoutBLOBsElementGenerator extends AbstractXmlEleme
 		ifElement.addElement(new TextElement("order by ${orderByClause}")); //$NON-NLS-1$
 		answer.addElement(ifElement);
 
-		if (context.getPlugins().sqlMapSelectByParamsWithoutBLOBsElementGenerated(answer, introspectedTable)) {
+		if (withHandler) {
+			if (context.getPlugins().sqlMapSelectByParamsWithHandlerElementGenerated(answer, introspectedTable)) {
+				parentElement.addElement(answer);
+			}
+		} else if (context.getPlugins().sqlMapSelectByParamsWithoutBLOBsElementGenerated(answer, introspectedTable)) {
 			parentElement.addElement(answer);
 		}
 	}
@@ -0,0 +1,107 @@
+/*
+ *  Copyright 2009 The Apache Software Foundation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mybatis.generator.codegen.mybatis3.xmlmapper.elements;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.dom.xml.Attribute;
+import org.mybatis.generator.api.dom.xml.TextElement;
+import org.mybatis.generator.api.dom.xml.XmlElement;
+import org.mybatis.generator.codegen.mybatis3.MyBatis3FormattingUtilities;
+import org.mybatis.generator.internal.db.UpsertDialects;
+
+/**
+ * Generates the upsertBatch element: the upsert of a list of records in one
+ * statement. Oracle and SQL Server merge from a source table of the records.
+ */
+public class UpsertBatchElementGenerator extends AbstractUpsertElementGenerator {
+
+	public UpsertBatchElementGenerator() {
+		super();
+	}
+
+	@Override
+	public void addElements(XmlElement parentElement) {
+		XmlElement answer = new XmlElement("insert"); //$NON-NLS-1$
+
+		answer.addAttribute(new Attribute("id", introspectedTable.getUpsertBatchStatementId())); //$NON-NLS-1$
+		answer.addAttribute(new Attribute("parameterType", "java.util.List")); //$NON-NLS-1$ //$NON-NLS-2$
+
+		context.getCommentGenerator().addComment(answer);
+
+		UpsertDialects dialect = introspectedTable.getUpsertDialect();
+		String tableName = introspectedTable.getFullyQualifiedTableNameAtRuntime();
+		List<IntrospectedColumn> insertColumns = getInsertColumns();
+		List<IntrospectedColumn> updateColumns = getUpdateColumns();
+
+		XmlElement foreachElement = new XmlElement("foreach"); //$NON-NLS-1$
+		foreachElement.addAttribute(new Attribute("collection", "list")); //$NON-NLS-1$ //$NON-NLS-2$
+		foreachElement.addAttribute(new Attribute("item", "item")); //$NON-NLS-1$ //$NON-NLS-2$
+
+		if (dialect == UpsertDialects.ORACLE || dialect == UpsertDialects.SQLSERVER) {
+			// the source table has the primary key even if it is an identity
+			List<IntrospectedColumn> sourceColumns = new ArrayList<IntrospectedColumn>();
+			for (IntrospectedColumn introspectedColumn : introspectedTable.getAllColumns()) {
+				if (!introspectedColumn.isIdentity()
+						|| introspectedTable.getPrimaryKeyColumns().contains(introspectedColumn)) {
+					sourceColumns.add(introspectedColumn);
+				}
+			}
+
+			if (dialect == UpsertDialects.ORACLE) {
+				List<String> selectList = new ArrayList<String>();
+				for (IntrospectedColumn introspectedColumn : sourceColumns) {
+					selectList.add(MyBatis3FormattingUtilities.getParameterClause(introspectedColumn, "item.") //$NON-NLS-1$
+							+ ' ' + MyBatis3FormattingUtilities.getEscapedColumnName(introspectedColumn));
+				}
+
+				answer.addElement(new TextElement("merge into " + tableName + " t using (")); //$NON-NLS-1$ //$NON-NLS-2$
+				foreachElement.addAttribute(new Attribute("separator", "union all")); //$NON-NLS-1$ //$NON-NLS-2$
+				addClauses(foreachElement, "select ", selectList, " from dual"); //$NON-NLS-1$ //$NON-NLS-2$
+				answer.addElement(foreachElement);
+				answer.addElement(new TextElement(") s on (" + getPrimaryKeyCondition("t.", "s.") + ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+			} else {
+				answer.addElement(new TextElement("merge into " + tableName + " with (holdlock) as t using (values")); //$NON-NLS-1$ //$NON-NLS-2$
+				foreachElement.addAttribute(new Attribute("separator", ",")); //$NON-NLS-1$ //$NON-NLS-2$
+				addClauses(foreachElement, "(", getParameterClauses(sourceColumns, "item."), ")"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				answer.addElement(foreachElement);
+				addClauses(answer, ") as s (", getColumnNames(sourceColumns, ""), ")"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				answer.addElement(new TextElement("on (" + getPrimaryKeyCondition("t.", "s.") + ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+			}
+
+			if (!updateColumns.isEmpty()) {
+				addClauses(answer, "when matched then update set ", //$NON-NLS-1$
+						getUpdateAssignments(updateColumns, dialect, "s."), ""); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			addClauses(answer, "when not matched then insert (", getColumnNames(insertColumns, ""), ")"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			addClauses(answer, "values (", getColumnNames(insertColumns, "s."), //$NON-NLS-1$ //$NON-NLS-2$
+					dialect == UpsertDialects.SQLSERVER ? ");" : ")"); //$NON-NLS-1$ //$NON-NLS-2$
+		} else {
+			addClauses(answer, "insert into " + tableName + " (", getColumnNames(insertColumns, ""), ")"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+			answer.addElement(new TextElement("values")); //$NON-NLS-1$
+			foreachElement.addAttribute(new Attribute("separator", ",")); //$NON-NLS-1$ //$NON-NLS-2$
+			addClauses(foreachElement, "(", getParameterClauses(insertColumns, "item."), ")"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			answer.addElement(foreachElement);
+			addConflictClause(answer, dialect);
+		}
+
+		if (context.getPlugins().sqlMapUpsertBatchElementGenerated(answer, introspectedTable)) {
+			parentElement.addElement(answer);
+		}
+	}
+}
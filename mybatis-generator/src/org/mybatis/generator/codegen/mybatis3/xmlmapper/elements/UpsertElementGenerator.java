@@ -0,0 +1,81 @@
+/*
+ *  Copyright 2009 The Apache Software Foundation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mybatis.generator.codegen.mybatis3.xmlmapper.elements;
+
+import java.util.List;
+
+import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+import org.mybatis.generator.api.dom.xml.Attribute;
+import org.mybatis.generator.api.dom.xml.TextElement;
+import org.mybatis.generator.api.dom.xml.XmlElement;
+import org.mybatis.generator.internal.db.UpsertDialects;
+
+/**
+ * Generates the upsert element: inserts the record, or updates the row with
+ * the same primary key, in one statement.
+ */
+public class UpsertElementGenerator extends AbstractUpsertElementGenerator {
+
+	public UpsertElementGenerator() {
+		super();
+	}
+
+	@Override
+	public void addElements(XmlElement parentElement) {
+		XmlElement answer = new XmlElement("insert"); //$NON-NLS-1$
+
+		answer.addAttribute(new Attribute("id", introspectedTable.getUpsertStatementId())); //$NON-NLS-1$
+
+		FullyQualifiedJavaType parameterType = introspectedTable.getRules().calculateAllFieldsClass();
+
+		answer.addAttribute(new Attribute("parameterType", //$NON-NLS-1$
+				parameterType.getFullyQualifiedName()));
+
+		context.getCommentGenerator().addComment(answer);
+
+		UpsertDialects dialect = introspectedTable.getUpsertDialect();
+		String tableName = introspectedTable.getFullyQualifiedTableNameAtRuntime();
+		List<IntrospectedColumn> insertColumns = getInsertColumns();
+		List<IntrospectedColumn> updateColumns = getUpdateColumns();
+
+		if (dialect == UpsertDialects.ORACLE || dialect == UpsertDialects.SQLSERVER) {
+			if (dialect == UpsertDialects.ORACLE) {
+				answer.addElement(new TextElement("merge into " + tableName)); //$NON-NLS-1$
+				answer.addElement(new TextElement("using dual on (" + getPrimaryKeyCondition("", null) + ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			} else {
+				answer.addElement(new TextElement("merge into " + tableName + " with (holdlock)")); //$NON-NLS-1$ //$NON-NLS-2$
+				answer.addElement(new TextElement("using (select 1 as one) as s on (" //$NON-NLS-1$
+						+ getPrimaryKeyCondition("", null) + ")")); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			if (!updateColumns.isEmpty()) {
+				addClauses(answer, "when matched then update set ", //$NON-NLS-1$
+						getUpdateAssignments(updateColumns, dialect, null), ""); //$NON-NLS-1$
+			}
+			addClauses(answer, "when not matched then insert (", getColumnNames(insertColumns, ""), ")"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			addClauses(answer, "values (", getParameterClauses(insertColumns, null), //$NON-NLS-1$
+					dialect == UpsertDialects.SQLSERVER ? ");" : ")"); //$NON-NLS-1$ //$NON-NLS-2$
+		} else {
+			addClauses(answer, "insert into " + tableName + " (", getColumnNames(insertColumns, ""), ")"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+			addClauses(answer, "values (", getParameterClauses(insertColumns, null), ")"); //$NON-NLS-1$ //$NON-NLS-2$
+			addConflictClause(answer, dialect);
+		}
+
+		if (context.getPlugins().sqlMapUpsertElementGenerated(answer, introspectedTable)) {
+			parentElement.addElement(answer);
+		}
+	}
+}
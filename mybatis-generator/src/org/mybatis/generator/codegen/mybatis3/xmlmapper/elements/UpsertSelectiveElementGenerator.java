@@ -0,0 +1,141 @@
+/*
+ *  Copyright 2009 The Apache Software Foundation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mybatis.generator.codegen.mybatis3.xmlmapper.elements;
+
+import java.util.Collections;
+
+import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+import org.mybatis.generator.api.dom.xml.Attribute;
+import org.mybatis.generator.api.dom.xml.TextElement;
+import org.mybatis.generator.api.dom.xml.XmlElement;
+import org.mybatis.generator.codegen.mybatis3.MyBatis3FormattingUtilities;
+import org.mybatis.generator.internal.db.UpsertDialects;
+
+/**
+ * Generates the upsertSelective element: like upsert, but only the fields
+ * that are not null are inserted or updated. The primary key fields must not
+ * be null.
+ */
+public class UpsertSelectiveElementGenerator extends AbstractUpsertElementGenerator {
+
+	public UpsertSelectiveElementGenerator() {
+		super();
+	}
+
+	@Override
+	public void addElements(XmlElement parentElement) {
+		XmlElement answer = new XmlElement("insert"); //$NON-NLS-1$
+
+		answer.addAttribute(new Attribute("id", introspectedTable.getUpsertSelectiveStatementId())); //$NON-NLS-1$
+
+		FullyQualifiedJavaType parameterType = introspectedTable.getRules().calculateAllFieldsClass();
+
+		answer.addAttribute(new Attribute("parameterType", //$NON-NLS-1$
+				parameterType.getFullyQualifiedName()));
+
+		context.getCommentGenerator().addComment(answer);
+
+		UpsertDialects dialect = introspectedTable.getUpsertDialect();
+		String tableName = introspectedTable.getFullyQualifiedTableNameAtRuntime();
+
+		XmlElement insertTrimElement = new XmlElement("trim"); //$NON-NLS-1$
+		insertTrimElement.addAttribute(new Attribute("prefix", "(")); //$NON-NLS-1$ //$NON-NLS-2$
+		insertTrimElement.addAttribute(new Attribute("suffix", ")")); //$NON-NLS-1$ //$NON-NLS-2$
+		insertTrimElement.addAttribute(new Attribute("suffixOverrides", ",")); //$NON-NLS-1$ //$NON-NLS-2$
+
+		XmlElement valuesTrimElement = new XmlElement("trim"); //$NON-NLS-1$
+		valuesTrimElement.addAttribute(new Attribute("prefix", "values (")); //$NON-NLS-1$ //$NON-NLS-2$
+		valuesTrimElement.addAttribute(new Attribute("suffix", dialect == UpsertDialects.SQLSERVER ? ");" : ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		valuesTrimElement.addAttribute(new Attribute("suffixOverrides", ",")); //$NON-NLS-1$ //$NON-NLS-2$
+
+		for (IntrospectedColumn introspectedColumn : getInsertColumns()) {
+			addClause(insertTrimElement, introspectedColumn,
+					MyBatis3FormattingUtilities.getEscapedColumnName(introspectedColumn));
+			addClause(valuesTrimElement, introspectedColumn,
+					MyBatis3FormattingUtilities.getParameterClause(introspectedColumn));
+		}
+
+		XmlElement updateTrimElement = new XmlElement("trim"); //$NON-NLS-1$
+		String updatePrefix;
+		if (dialect == UpsertDialects.MYSQL) {
+			updatePrefix = "on duplicate key update"; //$NON-NLS-1$
+		} else if (dialect == UpsertDialects.POSTGRESQL) {
+			updatePrefix = "do update set"; //$NON-NLS-1$
+		} else {
+			// the clause is left out if all fields are null
+			updatePrefix = "when matched then update set"; //$NON-NLS-1$
+		}
+		updateTrimElement.addAttribute(new Attribute("prefix", updatePrefix)); //$NON-NLS-1$
+		updateTrimElement.addAttribute(new Attribute("suffixOverrides", ",")); //$NON-NLS-1$ //$NON-NLS-2$
+
+		if (dialect == UpsertDialects.MYSQL || dialect == UpsertDialects.POSTGRESQL) {
+			// a no-op update keeps the row if all fields are null
+			IntrospectedColumn keyColumn = introspectedTable.getPrimaryKeyColumns().get(0);
+			updateTrimElement.addElement(new TextElement(getUpdateAssignments(Collections.singletonList(keyColumn),
+					dialect, null).get(0) + ','));
+		}
+
+		for (IntrospectedColumn introspectedColumn : getUpdateColumns()) {
+			addClause(updateTrimElement, introspectedColumn,
+					getUpdateAssignments(Collections.singletonList(introspectedColumn), dialect, null).get(0));
+		}
+
+		if (dialect == UpsertDialects.ORACLE || dialect == UpsertDialects.SQLSERVER) {
+			if (dialect == UpsertDialects.ORACLE) {
+				answer.addElement(new TextElement("merge into " + tableName)); //$NON-NLS-1$
+				answer.addElement(new TextElement("using dual on (" + getPrimaryKeyCondition("", null) + ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			} else {
+				answer.addElement(new TextElement("merge into " + tableName + " with (holdlock)")); //$NON-NLS-1$ //$NON-NLS-2$
+				answer.addElement(new TextElement("using (select 1 as one) as s on (" //$NON-NLS-1$
+						+ getPrimaryKeyCondition("", null) + ")")); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			answer.addElement(updateTrimElement);
+			answer.addElement(new TextElement("when not matched then insert")); //$NON-NLS-1$
+			answer.addElement(insertTrimElement);
+			answer.addElement(valuesTrimElement);
+		} else {
+			answer.addElement(new TextElement("insert into " + tableName)); //$NON-NLS-1$
+			answer.addElement(insertTrimElement);
+			answer.addElement(valuesTrimElement);
+			if (dialect == UpsertDialects.POSTGRESQL) {
+				answer.addElement(new TextElement("on conflict (" + getPrimaryKeyColumnList() + ")")); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			answer.addElement(updateTrimElement);
+		}
+
+		if (context.getPlugins().sqlMapUpsertSelectiveElementGenerated(answer, introspectedTable)) {
+			parentElement.addElement(answer);
+		}
+	}
+
+	/**
+	 * Adds the clause followed by a comma, inside a null check unless the
+	 * field is part of the primary key, a sequence or a primitive.
+	 */
+	private void addClause(XmlElement trimElement, IntrospectedColumn introspectedColumn, String clause) {
+		TextElement textElement = new TextElement(clause + ',');
+		if (introspectedTable.getPrimaryKeyColumns().contains(introspectedColumn)
+				|| introspectedColumn.isSequenceColumn() || introspectedColumn.getFullyQualifiedJavaType().isPrimitive()) {
+			trimElement.addElement(textElement);
+		} else {
+			XmlElement notNullElement = new XmlElement("if"); //$NON-NLS-1$
+			notNullElement.addAttribute(new Attribute("test", introspectedColumn.getJavaProperty() + " != null")); //$NON-NLS-1$ //$NON-NLS-2$
+			notNullElement.addElement(textElement);
+			trimElement.addElement(notNullElement);
+		}
+	}
+}
@@ -21,13 +21,21 @@ import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
 import static org.mybatis.generator.internal.util.messages.Messages.getString;
 
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.mybatis.generator.api.CommentGenerator;
+import org.mybatis.generator.api.GeneratedFile;
 import org.mybatis.generator.api.GeneratedJavaFile;
+import org.mybatis.generator.api.GenerationMetrics;
 import org.mybatis.generator.api.GeneratedXmlFile;
 import org.mybatis.generator.api.Plugin;
 import org.mybatis.generator.api.IntrospectedTable;
@@ -36,9 +44,20 @@ import org.mybatis.generator.api.ProgressCallback;
 import org.mybatis.generator.api.dom.xml.Attribute;
 import org.mybatis.generator.api.dom.xml.XmlElement;
 import org.mybatis.generator.internal.ObjectFactory;
+import org.mybatis.generator.internal.PipelineQueue;
 import org.mybatis.generator.internal.PluginAggregator;
+import org.mybatis.generator.internal.TableFingerprintManifest;
 import org.mybatis.generator.internal.db.ConnectionFactory;
+import org.mybatis.generator.internal.db.ConnectionPool;
 import org.mybatis.generator.internal.db.DatabaseIntrospector;
+import org.mybatis.generator.internal.db.InsertBatchDialects;
+import org.mybatis.generator.internal.db.IntrospectionSnapshot;
+import org.mybatis.generator.internal.db.JdbcCallCounter;
+import org.mybatis.generator.internal.db.SchemaFingerprint;
+import org.mybatis.generator.internal.db.SchemaMetadataCache;
+import org.mybatis.generator.internal.db.SqlServerRemarksLoader;
+import org.mybatis.generator.internal.db.UpsertDialects;
+import org.mybatis.generator.internal.util.TimingUtility;
 
 /**
  * @author Jeff Butler
@@ -78,6 +97,14 @@ public class Context extends PropertyHolder {
 
 	private Boolean autoDelimitKeywords;
 
+	private GenerationMetrics generationMetrics;
+
+	/**
+	 * If not null, the introspection connections are borrowed from this pool
+	 * instead of being opened and closed for every run
+	 */
+	private ConnectionPool connectionPool;
+
 	/**
 	 * Constructs a Context object.
 	 * 
@@ -187,6 +214,61 @@ public class Context extends PropertyHolder {
 		for (PluginConfiguration pluginConfiguration : pluginConfigurations) {
 			pluginConfiguration.validate(errors, id);
 		}
+
+		validatePositiveIntegerProperty(PropertyRegistry.CONTEXT_INTROSPECTION_THREADS, errors);
+		validatePositiveIntegerProperty(PropertyRegistry.CONTEXT_GENERATION_THREADS, errors);
+		validatePositiveIntegerProperty(PropertyRegistry.ANY_INSERT_BATCH_MAX_ROWS, errors);
+		validatePositiveIntegerProperty(PropertyRegistry.ANY_IN_LIST_MAX_SIZE, errors);
+
+		int fetchSize = getIntegerProperty(PropertyRegistry.ANY_FETCH_SIZE, 0);
+		if (stringHasValue(getProperty(PropertyRegistry.ANY_FETCH_SIZE)) && fetchSize < 1
+				&& fetchSize != Integer.MIN_VALUE) {
+			errors.add(getString("ValidationError.30", PropertyRegistry.ANY_FETCH_SIZE, id)); //$NON-NLS-1$
+		}
+
+		String insertBatchDialect = getProperty(PropertyRegistry.ANY_INSERT_BATCH_DIALECT);
+		if (stringHasValue(insertBatchDialect) && InsertBatchDialects.getInsertBatchDialect(insertBatchDialect) == null) {
+			errors.add(getString("ValidationError.27", //$NON-NLS-1$
+					PropertyRegistry.ANY_INSERT_BATCH_DIALECT, id, insertBatchDialect));
+		}
+
+		String upsertDialect = getProperty(PropertyRegistry.ANY_UPSERT_DIALECT);
+		if (stringHasValue(upsertDialect) && UpsertDialects.getUpsertDialect(upsertDialect) == null) {
+			errors.add(getString("ValidationError.27", //$NON-NLS-1$
+					PropertyRegistry.ANY_UPSERT_DIALECT, id, upsertDialect));
+		}
+
+		if (jdbcConnectionConfiguration != null && !stringHasValue(upsertDialect)) {
+			String driverClass = jdbcConnectionConfiguration.getDriverClass();
+			for (TableConfiguration tc : tableConfigurations) {
+				if (tc.isUpsertStatementEnabled() && !stringHasValue(tc.getProperty(PropertyRegistry.ANY_UPSERT_DIALECT))
+						&& UpsertDialects.getUpsertDialectForDriver(driverClass) == null) {
+					errors.add(getString("ValidationError.29", //$NON-NLS-1$
+							composeFullyQualifiedTableName(tc.getCatalog(), tc.getSchema(), tc.getTableName(), '.'),
+							driverClass));
+				}
+			}
+		}
+	}
+
+	private void validatePositiveIntegerProperty(String name, List<String> errors) {
+		String value = getProperty(name);
+		if (stringHasValue(value) && getIntegerProperty(name, 0) < 1) {
+			errors.add(getString("ValidationError.26", name, id)); //$NON-NLS-1$
+		}
+	}
+
+	private int getIntegerProperty(String name, int defaultValue) {
+		String value = getProperty(name);
+		if (!stringHasValue(value)) {
+			return defaultValue;
+		}
+
+		try {
+			return Integer.parseInt(value.trim());
+		} catch (NumberFormatException e) {
+			return 0;
+		}
 	}
 
 	public String getId() {
@@ -339,6 +421,36 @@ public class Context extends PropertyHolder {
 		this.introspectedColumnImpl = introspectedColumnImpl;
 	}
 
+	public GenerationMetrics getGenerationMetrics() {
+		return generationMetrics;
+	}
+
+	/**
+	 * Sets the metrics that receive the introspection, generation and plugin
+	 * timings of this context. Set to null (the default) to not measure
+	 * anything.
+	 */
+	public void setGenerationMetrics(GenerationMetrics generationMetrics) {
+		this.generationMetrics = generationMetrics;
+	}
+
+	public ConnectionPool getConnectionPool() {
+		return connectionPool;
+	}
+
+	/**
+	 * Sets a pool that keeps the database connection of this context open
+	 * between runs (see GeneratorDaemon). The parallel introspection always
+	 * uses its own pool.
+	 * 
+	 * @param connectionPool
+	 *            the pool, or null (the default) to open a new connection for
+	 *            every run
+	 */
+	public void setConnectionPool(ConnectionPool connectionPool) {
+		this.connectionPool = connectionPool;
+	}
+
 	// methods related to code generation.
 	//
 	// Methods should be called in this order:
@@ -351,6 +463,12 @@ public class Context extends PropertyHolder {
 
 	private List<IntrospectedTable> introspectedTables;
 
+	/**
+	 * If not null, introspected tables are also handed to this queue as soon
+	 * as they are found (pipeline mode)
+	 */
+	private PipelineQueue<IntrospectedTable> introspectedTableQueue;
+
 	public int getIntrospectionSteps() {
 		int steps = 0;
 
@@ -393,16 +511,42 @@ public class Context extends PropertyHolder {
 			throws SQLException, InterruptedException {
 
 		introspectedTables = new ArrayList<IntrospectedTable>();
+
+		SchemaMetadataCache metadataCache = null;
+		if (isTrue(getProperty(PropertyRegistry.CONTEXT_PREFETCH_METADATA))) {
+			metadataCache = new SchemaMetadataCache();
+		}
+
+		SqlServerRemarksLoader remarksLoader = null;
+		String driverClass = jdbcConnectionConfiguration.getDriverClass();
+		if (driverClass != null && driverClass.contains("microsoft")) { //$NON-NLS-1$
+			remarksLoader = new SqlServerRemarksLoader();
+		}
+
+		int introspectionThreads = getIntegerProperty(PropertyRegistry.CONTEXT_INTROSPECTION_THREADS, 1);
+		if (introspectionThreads > 1) {
+			introspectTablesInParallel(callback, warnings, fullyQualifiedTableNames, introspectionThreads,
+					metadataCache, remarksLoader);
+			return;
+		}
+
 		JavaTypeResolver javaTypeResolver = ObjectFactory.createJavaTypeResolver(this, warnings);
 
 		Connection connection = null;
 
 		try {
 			callback.startTask(getString("Progress.0")); //$NON-NLS-1$
-			connection = getConnection();
+			connection = borrowConnection();
 
-			DatabaseIntrospector databaseIntrospector = new DatabaseIntrospector(this, connection.getMetaData(),
-					javaTypeResolver, warnings);
+			DatabaseMetaData databaseMetaData = connection.getMetaData();
+			JdbcCallCounter jdbcCallCounter = null;
+			if (generationMetrics != null) {
+				jdbcCallCounter = new JdbcCallCounter(databaseMetaData);
+				databaseMetaData = jdbcCallCounter.getDatabaseMetaData();
+			}
+
+			DatabaseIntrospector databaseIntrospector = new DatabaseIntrospector(this, databaseMetaData,
+					javaTypeResolver, warnings, metadataCache, remarksLoader);
 
 			for (TableConfiguration tc : tableConfigurations) {
 				String tableName = composeFullyQualifiedTableName(tc.getCatalog(), tc.getSchema(), tc.getTableName(),
@@ -420,10 +564,17 @@ public class Context extends PropertyHolder {
 				}
 
 				callback.startTask(getString("Progress.1", tableName)); //$NON-NLS-1$
+				long startTime = System.nanoTime();
+				long startCpuTime = TimingUtility.getCurrentThreadCpuTime();
+				int startCalls = jdbcCallCounter == null ? 0 : jdbcCallCounter.getCalls();
 				List<IntrospectedTable> tables = databaseIntrospector.introspectTables(tc);
+				if (jdbcCallCounter != null) {
+					generationMetrics.tableIntrospected(id, tableName, System.nanoTime() - startTime,
+							TimingUtility.getCpuTimeSince(startCpuTime), jdbcCallCounter.getCalls() - startCalls);
+				}
 
 				if (tables != null) {
-					introspectedTables.addAll(tables);
+					addIntrospectedTables(tables);
 				}
 
 				callback.checkCancel();
@@ -433,6 +584,257 @@ public class Context extends PropertyHolder {
 		}
 	}
 
+	/**
+	 * Introspect tables, reusing the introspection snapshot of this context if
+	 * it is still valid. The snapshot is valid if the context configuration
+	 * and the requested tables have not changed, and (unless offline) the
+	 * schema fingerprint of the database has not changed. If the tables are
+	 * introspected again, the snapshot of this context is replaced.
+	 * 
+	 * @param callback
+	 *            a progress callback if progress information is desired, or
+	 *            <code>null</code>
+	 * @param warnings
+	 *            any warning generated from this method will be added to the
+	 *            List. Warnings are always Strings.
+	 * @param fullyQualifiedTableNames
+	 *            a set of table names to generate, see
+	 *            {@link #introspectTables(ProgressCallback, List, Set)}
+	 * @param snapshot
+	 *            the introspection snapshot, or <code>null</code> to always
+	 *            introspect the database
+	 * @param offline
+	 *            if true, the tables are restored from the snapshot without
+	 *            connecting to the database at all
+	 * 
+	 * @throws SQLException
+	 *             if some error arises while introspecting the specified
+	 *             database tables, or if offline and the snapshot does not
+	 *             contain a valid introspection of this context
+	 * @throws InterruptedException
+	 *             if the progress callback reports a cancel
+	 */
+	public void introspectTables(ProgressCallback callback, List<String> warnings,
+			Set<String> fullyQualifiedTableNames, IntrospectionSnapshot snapshot, boolean offline)
+			throws SQLException, InterruptedException {
+
+		if (snapshot == null) {
+			introspectTables(callback, warnings, fullyQualifiedTableNames);
+			return;
+		}
+
+		String configurationFingerprint = IntrospectionSnapshot.calculateConfigurationFingerprint(this,
+				fullyQualifiedTableNames);
+		IntrospectionSnapshot.ContextSnapshot contextSnapshot = snapshot.getContextSnapshot(id);
+		if (contextSnapshot != null
+				&& !configurationFingerprint.equals(contextSnapshot.getConfigurationFingerprint())) {
+			contextSnapshot = null;
+		}
+
+		if (offline) {
+			if (contextSnapshot == null) {
+				throw new SQLException(getString("RuntimeError.23", id)); //$NON-NLS-1$
+			}
+
+			restoreIntrospectedTables(callback, warnings, contextSnapshot);
+			return;
+		}
+
+		String schemaFingerprint;
+		Connection connection = null;
+		try {
+			callback.startTask(getString("Progress.0")); //$NON-NLS-1$
+			connection = borrowConnection();
+			schemaFingerprint = SchemaFingerprint.calculate(connection, this, fullyQualifiedTableNames);
+		} finally {
+			closeConnection(connection);
+		}
+
+		if (contextSnapshot != null && schemaFingerprint.equals(contextSnapshot.getSchemaFingerprint())) {
+			restoreIntrospectedTables(callback, warnings, contextSnapshot);
+			return;
+		}
+
+		int firstWarning = warnings.size();
+		introspectTables(callback, warnings, fullyQualifiedTableNames);
+		snapshot.setContextSnapshot(id, new IntrospectionSnapshot.ContextSnapshot(configurationFingerprint,
+				schemaFingerprint, introspectedTables, warnings.subList(firstWarning, warnings.size()), this));
+	}
+
+	/**
+	 * Introspect tables like
+	 * {@link #introspectTables(ProgressCallback, List, Set, IntrospectionSnapshot, boolean)}
+	 * , and hand each introspected table to the queue as soon as it is found.
+	 * The queue is closed when all tables have been introspected, or aborted if
+	 * the introspection fails.
+	 */
+	public void introspectTables(ProgressCallback callback, List<String> warnings,
+			Set<String> fullyQualifiedTableNames, IntrospectionSnapshot snapshot, boolean offline,
+			PipelineQueue<IntrospectedTable> queue) throws SQLException, InterruptedException {
+		boolean complete = false;
+		introspectedTableQueue = queue;
+		try {
+			introspectTables(callback, warnings, fullyQualifiedTableNames, snapshot, offline);
+			complete = true;
+		} finally {
+			introspectedTableQueue = null;
+			if (complete) {
+				queue.close();
+			} else {
+				queue.abort();
+			}
+		}
+	}
+
+	private void addIntrospectedTables(List<IntrospectedTable> tables) throws InterruptedException {
+		introspectedTables.addAll(tables);
+		if (introspectedTableQueue != null) {
+			for (IntrospectedTable introspectedTable : tables) {
+				introspectedTableQueue.put(introspectedTable);
+			}
+		}
+	}
+
+	private void restoreIntrospectedTables(ProgressCallback callback, List<String> warnings,
+			IntrospectionSnapshot.ContextSnapshot contextSnapshot) throws InterruptedException {
+		callback.startTask(getString("Progress.19", id)); //$NON-NLS-1$
+		warnings.addAll(contextSnapshot.getWarnings());
+		introspectedTables = new ArrayList<IntrospectedTable>();
+		addIntrospectedTables(contextSnapshot.restore(this));
+		callback.checkCancel();
+	}
+
+	/**
+	 * Introspects the tables on a pool of worker threads, each with its own
+	 * connection. The progress callback is only called from the calling thread,
+	 * and the results and warnings are collected in configuration order so
+	 * that the outcome is the same as the sequential introspection.
+	 */
+	private void introspectTablesInParallel(ProgressCallback callback, List<String> warnings,
+			Set<String> fullyQualifiedTableNames, int introspectionThreads, SchemaMetadataCache metadataCache,
+			SqlServerRemarksLoader remarksLoader) throws SQLException, InterruptedException {
+
+		callback.startTask(getString("Progress.0")); //$NON-NLS-1$
+		ConnectionPool connectionPool = new ConnectionPool(jdbcConnectionConfiguration, introspectionThreads);
+
+		// make sure the database is reachable before any work is queued
+		connectionPool.releaseConnection(connectionPool.getConnection());
+
+		ExecutorService executor = Executors.newFixedThreadPool(introspectionThreads);
+
+		try {
+			// either a skip warning (String) or a pending table (TableIntrospectionTask)
+			List<Object> steps = new ArrayList<Object>();
+			for (TableConfiguration tc : tableConfigurations) {
+				String tableName = composeFullyQualifiedTableName(tc.getCatalog(), tc.getSchema(), tc.getTableName(),
+						'.');
+
+				if (fullyQualifiedTableNames != null && fullyQualifiedTableNames.size() > 0) {
+					if (!fullyQualifiedTableNames.contains(tableName)) {
+						continue;
+					}
+				}
+
+				if (!tc.areAnyStatementsEnabled()) {
+					steps.add(getString("Warning.0", tableName)); //$NON-NLS-1$
+					continue;
+				}
+
+				TableIntrospectionTask task = new TableIntrospectionTask(tc, tableName, connectionPool,
+						metadataCache, remarksLoader);
+				task.future = executor.submit(task);
+				steps.add(task);
+			}
+
+			for (Object step : steps) {
+				if (step instanceof String) {
+					warnings.add((String) step);
+					continue;
+				}
+
+				TableIntrospectionTask task = (TableIntrospectionTask) step;
+				callback.startTask(getString("Progress.1", task.tableName)); //$NON-NLS-1$
+
+				List<IntrospectedTable> tables;
+				try {
+					tables = task.future.get();
+				} catch (ExecutionException e) {
+					Throwable cause = e.getCause();
+					if (cause instanceof SQLException) {
+						throw (SQLException) cause;
+					} else if (cause instanceof RuntimeException) {
+						throw (RuntimeException) cause;
+					} else if (cause instanceof Error) {
+						throw (Error) cause;
+					} else {
+						throw new RuntimeException(cause);
+					}
+				}
+
+				warnings.addAll(task.warnings);
+				if (tables != null) {
+					addIntrospectedTables(tables);
+				}
+
+				callback.checkCancel();
+			}
+		} finally {
+			executor.shutdownNow();
+			connectionPool.close();
+		}
+	}
+
+	/**
+	 * Introspects a single table configuration on a pooled connection. Each
+	 * task has its own warnings list and type resolver so that nothing is
+	 * shared between the worker threads.
+	 */
+	private class TableIntrospectionTask implements Callable<List<IntrospectedTable>> {
+		private TableConfiguration tc;
+		private String tableName;
+		private ConnectionPool connectionPool;
+		private SchemaMetadataCache metadataCache;
+		private SqlServerRemarksLoader remarksLoader;
+		private List<String> warnings;
+		private Future<List<IntrospectedTable>> future;
+
+		TableIntrospectionTask(TableConfiguration tc, String tableName, ConnectionPool connectionPool,
+				SchemaMetadataCache metadataCache, SqlServerRemarksLoader remarksLoader) {
+			this.tc = tc;
+			this.tableName = tableName;
+			this.connectionPool = connectionPool;
+			this.metadataCache = metadataCache;
+			this.remarksLoader = remarksLoader;
+			this.warnings = new ArrayList<String>();
+		}
+
+		public List<IntrospectedTable> call() throws Exception {
+			Connection connection = connectionPool.getConnection();
+			try {
+				long startTime = System.nanoTime();
+				long startCpuTime = TimingUtility.getCurrentThreadCpuTime();
+				DatabaseMetaData databaseMetaData = connection.getMetaData();
+				JdbcCallCounter jdbcCallCounter = null;
+				if (generationMetrics != null) {
+					jdbcCallCounter = new JdbcCallCounter(databaseMetaData);
+					databaseMetaData = jdbcCallCounter.getDatabaseMetaData();
+				}
+
+				JavaTypeResolver javaTypeResolver = ObjectFactory.createJavaTypeResolver(Context.this, warnings);
+				DatabaseIntrospector databaseIntrospector = new DatabaseIntrospector(Context.this,
+						databaseMetaData, javaTypeResolver, warnings, metadataCache, remarksLoader);
+				List<IntrospectedTable> tables = databaseIntrospector.introspectTables(tc);
+				if (jdbcCallCounter != null) {
+					generationMetrics.tableIntrospected(id, tableName, System.nanoTime() - startTime,
+							TimingUtility.getCpuTimeSince(startCpuTime), jdbcCallCounter.getCalls());
+				}
+				return tables;
+			} finally {
+				connectionPool.releaseConnection(connection);
+			}
+		}
+	}
+
 	public int getGenerationSteps() {
 		int steps = 0;
 
@@ -447,8 +849,175 @@ public class Context extends PropertyHolder {
 
 	public void generateFiles(ProgressCallback callback, List<GeneratedJavaFile> generatedJavaFiles,
 			List<GeneratedXmlFile> generatedXmlFiles, List<String> warnings) throws InterruptedException {
+		generateFiles(callback, generatedJavaFiles, generatedXmlFiles, warnings, null);
+	}
+
+	/**
+	 * Generates the files of the introspected tables.
+	 * 
+	 * @param callback
+	 *            a progress callback
+	 * @param generatedJavaFiles
+	 *            receives the generated Java files
+	 * @param generatedXmlFiles
+	 *            receives the generated XML files
+	 * @param warnings
+	 *            any warning generated from this method will be added to the
+	 *            List
+	 * @param tableManifest
+	 *            if not null (incremental mode), the tables whose fingerprint
+	 *            is unchanged since the last run are not generated
+	 * @throws InterruptedException
+	 *             if the progress callback reports a cancel
+	 */
+	public void generateFiles(ProgressCallback callback, List<GeneratedJavaFile> generatedJavaFiles,
+			List<GeneratedXmlFile> generatedXmlFiles, List<String> warnings, TableFingerprintManifest tableManifest)
+			throws InterruptedException {
+
+		createPluginAggregator(warnings);
+
+		List<IntrospectedTable> tablesToGenerate = new ArrayList<IntrospectedTable>();
+		if (introspectedTables != null) {
+			for (IntrospectedTable introspectedTable : introspectedTables) {
+				if (!isUnchanged(introspectedTable, tableManifest, callback, warnings)) {
+					tablesToGenerate.add(introspectedTable);
+				}
+			}
+		}
+
+		int generationThreads = getIntegerProperty(PropertyRegistry.CONTEXT_GENERATION_THREADS, 1);
+		if (generationThreads > 1 && tablesToGenerate.size() > 1 && pluginAggregator.isThreadSafe()) {
+			generateFilesInParallel(callback, tablesToGenerate, generatedJavaFiles, generatedXmlFiles, warnings,
+					generationThreads);
+		} else {
+			for (IntrospectedTable introspectedTable : tablesToGenerate) {
+				callback.checkCancel();
+
+				generateFiles(introspectedTable, callback, generatedJavaFiles, generatedXmlFiles, warnings);
+			}
+		}
+
+		int firstJavaFile = generatedJavaFiles.size();
+		int firstXmlFile = generatedXmlFiles.size();
+		generatedJavaFiles.addAll(pluginAggregator.contextGenerateAdditionalJavaFiles());
+		generatedXmlFiles.addAll(pluginAggregator.contextGenerateAdditionalXmlFiles());
+		setGeneratedFileOrigin(generatedJavaFiles.subList(firstJavaFile, generatedJavaFiles.size()), null);
+		setGeneratedFileOrigin(generatedXmlFiles.subList(firstXmlFile, generatedXmlFiles.size()), null);
+	}
+
+	/**
+	 * Generates the files of the tables taken from the introspection queue
+	 * (pipeline mode). The generated files of each table are handed to the
+	 * file queue as soon as the table is done, XML files first. The files of
+	 * the plugins that need the whole context are generated after the last
+	 * table. The file queue is closed when all files have been generated, or
+	 * aborted if the introspection or the generation fails.
+	 * <p>
+	 * The tables are generated one after the other on the calling thread, so
+	 * plugins are called in table order just like in the sequential mode.
+	 * 
+	 * @param callback
+	 *            a progress callback
+	 * @param introspectedTableQueue
+	 *            the tables to generate, in introspection order
+	 * @param generatedFileQueue
+	 *            receives the generated files
+	 * @param warnings
+	 *            any warning generated from this method will be added to the
+	 *            List
+	 * @param tableManifest
+	 *            if not null (incremental mode), the tables whose fingerprint
+	 *            is unchanged since the last run are not generated
+	 * @throws InterruptedException
+	 *             if the progress callback reports a cancel
+	 */
+	public void generateFiles(ProgressCallback callback, PipelineQueue<IntrospectedTable> introspectedTableQueue,
+			PipelineQueue<GeneratedFile> generatedFileQueue, List<String> warnings,
+			TableFingerprintManifest tableManifest) throws InterruptedException {
+
+		boolean complete = false;
+		try {
+			createPluginAggregator(warnings);
+
+			List<GeneratedJavaFile> generatedJavaFiles = new ArrayList<GeneratedJavaFile>();
+			List<GeneratedXmlFile> generatedXmlFiles = new ArrayList<GeneratedXmlFile>();
+
+			IntrospectedTable introspectedTable;
+			while ((introspectedTable = introspectedTableQueue.take()) != null) {
+				callback.checkCancel();
+
+				if (isUnchanged(introspectedTable, tableManifest, callback, warnings)) {
+					continue;
+				}
+
+				generateFiles(introspectedTable, callback, generatedJavaFiles, generatedXmlFiles, warnings);
+				putGeneratedFiles(generatedFileQueue, generatedJavaFiles, generatedXmlFiles);
+			}
+
+			if (introspectedTableQueue.isAborted()) {
+				return;
+			}
+
+			generatedJavaFiles.addAll(pluginAggregator.contextGenerateAdditionalJavaFiles());
+			generatedXmlFiles.addAll(pluginAggregator.contextGenerateAdditionalXmlFiles());
+			setGeneratedFileOrigin(generatedJavaFiles, null);
+			setGeneratedFileOrigin(generatedXmlFiles, null);
+			putGeneratedFiles(generatedFileQueue, generatedJavaFiles, generatedXmlFiles);
+			complete = true;
+		} finally {
+			if (complete) {
+				generatedFileQueue.close();
+			} else {
+				generatedFileQueue.abort();
+				introspectedTableQueue.abort();
+			}
+		}
+	}
+
+	private void putGeneratedFiles(PipelineQueue<GeneratedFile> generatedFileQueue,
+			List<GeneratedJavaFile> generatedJavaFiles, List<GeneratedXmlFile> generatedXmlFiles)
+			throws InterruptedException {
+		for (GeneratedXmlFile gxf : generatedXmlFiles) {
+			generatedFileQueue.put(gxf);
+		}
+		for (GeneratedJavaFile gjf : generatedJavaFiles) {
+			generatedFileQueue.put(gjf);
+		}
+
+		generatedXmlFiles.clear();
+		generatedJavaFiles.clear();
+	}
+
+	/**
+	 * Records the fingerprint of the table in the manifest and checks whether
+	 * it has changed since the last run. Unchanged tables are only skipped if
+	 * every plugin is thread safe - other plugins may collect information from
+	 * all tables of the context, and would miss the skipped tables.
+	 */
+	private boolean isUnchanged(IntrospectedTable introspectedTable, TableFingerprintManifest tableManifest,
+			ProgressCallback callback, List<String> warnings) {
+		if (tableManifest == null || !tableManifest.update(this, introspectedTable)) {
+			return false;
+		}
+
+		if (!pluginAggregator.isThreadSafe()) {
+			String warning = getString("Warning.26", id); //$NON-NLS-1$
+			if (!warnings.contains(warning)) {
+				warnings.add(warning);
+			}
+			return false;
+		}
 
+		callback.startTask(getString("Progress.22", //$NON-NLS-1$
+				introspectedTable.getFullyQualifiedTable().toString()));
+		return true;
+	}
+
+	private void createPluginAggregator(List<String> warnings) {
 		pluginAggregator = new PluginAggregator();
+		if (generationMetrics != null) {
+			pluginAggregator.setGenerationMetrics(generationMetrics, id);
+		}
 		for (PluginConfiguration pluginConfiguration : pluginConfigurations) {
 			Plugin plugin = ObjectFactory.createPlugin(this, pluginConfiguration);
 			if (plugin.validate(warnings)) {
@@ -458,23 +1027,146 @@ public class Context extends PropertyHolder {
 						pluginConfiguration.getConfigurationType(), id));
 			}
 		}
+	}
 
-		if (introspectedTables != null) {
-			for (IntrospectedTable introspectedTable : introspectedTables) {
+	private void generateFiles(IntrospectedTable introspectedTable, ProgressCallback callback,
+			List<GeneratedJavaFile> generatedJavaFiles, List<GeneratedXmlFile> generatedXmlFiles,
+			List<String> warnings) {
+		long startTime = System.nanoTime();
+		long startCpuTime = TimingUtility.getCurrentThreadCpuTime();
+		int firstJavaFile = generatedJavaFiles.size();
+		int firstXmlFile = generatedXmlFiles.size();
+
+		introspectedTable.initialize();
+		introspectedTable.calculateGenerators(warnings, callback);
+		generatedJavaFiles.addAll(introspectedTable.getGeneratedJavaFiles());
+		generatedXmlFiles.addAll(introspectedTable.getGeneratedXmlFiles());
+
+		generatedJavaFiles.addAll(pluginAggregator.contextGenerateAdditionalJavaFiles(introspectedTable));
+		generatedXmlFiles.addAll(pluginAggregator.contextGenerateAdditionalXmlFiles(introspectedTable));
+
+		String tableName = introspectedTable.getFullyQualifiedTable().toString();
+		setGeneratedFileOrigin(generatedJavaFiles.subList(firstJavaFile, generatedJavaFiles.size()), tableName);
+		setGeneratedFileOrigin(generatedXmlFiles.subList(firstXmlFile, generatedXmlFiles.size()), tableName);
+
+		if (generationMetrics != null) {
+			generationMetrics.tableGenerated(id, tableName, System.nanoTime() - startTime,
+					TimingUtility.getCpuTimeSince(startCpuTime));
+		}
+	}
+
+	/**
+	 * Records this context and the table (null for files of the whole context)
+	 * on the generated files, so that the save metrics can be reported per
+	 * table.
+	 */
+	private void setGeneratedFileOrigin(List<? extends GeneratedFile> generatedFiles, String tableName) {
+		for (GeneratedFile generatedFile : generatedFiles) {
+			generatedFile.setContextId(id);
+			generatedFile.setTableName(tableName);
+		}
+	}
+
+	/**
+	 * Generates the tables on a pool of worker threads. This is only used if
+	 * every plugin is thread safe. The progress callback is only called from
+	 * the calling thread, and the files and warnings are collected in table
+	 * order so that the outcome is the same as the sequential generation.
+	 */
+	private void generateFilesInParallel(ProgressCallback callback, List<IntrospectedTable> tablesToGenerate,
+			List<GeneratedJavaFile> generatedJavaFiles, List<GeneratedXmlFile> generatedXmlFiles,
+			List<String> warnings, int generationThreads) throws InterruptedException {
+
+		// create the shared comment generator before the workers need it
+		getCommentGenerator();
+
+		ExecutorService executor = Executors.newFixedThreadPool(generationThreads);
+
+		try {
+			List<TableGenerationTask> tasks = new ArrayList<TableGenerationTask>();
+			for (IntrospectedTable introspectedTable : tablesToGenerate) {
+				TableGenerationTask task = new TableGenerationTask(introspectedTable);
+				task.future = executor.submit(task);
+				tasks.add(task);
+			}
+
+			for (TableGenerationTask task : tasks) {
 				callback.checkCancel();
 
-				introspectedTable.initialize();
-				introspectedTable.calculateGenerators(warnings, callback);
-				generatedJavaFiles.addAll(introspectedTable.getGeneratedJavaFiles());
-				generatedXmlFiles.addAll(introspectedTable.getGeneratedXmlFiles());
+				try {
+					task.future.get();
+				} catch (ExecutionException e) {
+					Throwable cause = e.getCause();
+					if (cause instanceof RuntimeException) {
+						throw (RuntimeException) cause;
+					} else if (cause instanceof Error) {
+						throw (Error) cause;
+					} else {
+						throw new RuntimeException(cause);
+					}
+				}
 
-				generatedJavaFiles.addAll(pluginAggregator.contextGenerateAdditionalJavaFiles(introspectedTable));
-				generatedXmlFiles.addAll(pluginAggregator.contextGenerateAdditionalXmlFiles(introspectedTable));
+				for (String taskName : task.taskNames) {
+					callback.startTask(taskName);
+				}
+				warnings.addAll(task.warnings);
+				generatedJavaFiles.addAll(task.generatedJavaFiles);
+				generatedXmlFiles.addAll(task.generatedXmlFiles);
 			}
+		} finally {
+			executor.shutdownNow();
 		}
+	}
 
-		generatedJavaFiles.addAll(pluginAggregator.contextGenerateAdditionalJavaFiles());
-		generatedXmlFiles.addAll(pluginAggregator.contextGenerateAdditionalXmlFiles());
+	/**
+	 * Generates the files of a single table. The progress messages and
+	 * warnings are recorded and replayed by the calling thread.
+	 */
+	private class TableGenerationTask implements Callable<Object>, ProgressCallback {
+		private IntrospectedTable introspectedTable;
+		private List<String> taskNames;
+		private List<String> warnings;
+		private List<GeneratedJavaFile> generatedJavaFiles;
+		private List<GeneratedXmlFile> generatedXmlFiles;
+		private Future<Object> future;
+
+		TableGenerationTask(IntrospectedTable introspectedTable) {
+			this.introspectedTable = introspectedTable;
+			this.taskNames = new ArrayList<String>();
+			this.warnings = new ArrayList<String>();
+			this.generatedJavaFiles = new ArrayList<GeneratedJavaFile>();
+			this.generatedXmlFiles = new ArrayList<GeneratedXmlFile>();
+		}
+
+		public Object call() throws Exception {
+			generateFiles(introspectedTable, this, generatedJavaFiles, generatedXmlFiles, warnings);
+			return null;
+		}
+
+		public void introspectionStarted(int totalTasks) {
+		}
+
+		public void generationStarted(int totalTasks) {
+		}
+
+		public void saveStarted(int totalTasks) {
+		}
+
+		public void startTask(String taskName) {
+			taskNames.add(taskName);
+		}
+
+		public void saveFinished(int writtenFiles, int skippedFiles, int mergedFiles) {
+		}
+
+		public void done() {
+		}
+
+		public void checkCancel() throws InterruptedException {
+			if (Thread.interrupted()) {
+				throw new InterruptedException();
+			}
+		}
 	}
 
 	public Connection getConnection() throws SQLException {
@@ -483,8 +1175,23 @@ public class Context extends PropertyHolder {
 		return connection;
 	}
 
+	/**
+	 * @return a connection of the connection pool if there is one, or else a
+	 *         new connection. The connection must be returned with
+	 *         closeConnection.
+	 */
+	private Connection borrowConnection() throws SQLException, InterruptedException {
+		if (connectionPool != null) {
+			return connectionPool.getConnection();
+		}
+
+		return getConnection();
+	}
+
 	private void closeConnection(Connection connection) {
-		if (connection != null) {
+		if (connectionPool != null) {
+			connectionPool.releaseConnection(connection);
+		} else if (connection != null) {
 			try {
 				connection.close();
 			} catch (SQLException e) {
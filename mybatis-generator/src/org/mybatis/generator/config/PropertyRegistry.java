@@ -39,6 +39,16 @@ public class PropertyRegistry {
 	 */
 	public static final String ANY_ROOT_INTERFACE = "rootInterface"; //$NON-NLS-1$
 
+	/**
+	 * recognized by table and context (the table property wins)
+	 */
+	public static final String ANY_INSERT_BATCH_DIALECT = "insertBatchDialect"; //$NON-NLS-1$
+	public static final String ANY_INSERT_BATCH_MAX_ROWS = "insertBatchMaxRows"; //$NON-NLS-1$
+	public static final String ANY_UPSERT_DIALECT = "upsertDialect"; //$NON-NLS-1$
+	public static final String ANY_FETCH_SIZE = "fetchSize"; //$NON-NLS-1$
+	public static final String ANY_IN_LIST_MAX_SIZE = "inListMaxSize"; //$NON-NLS-1$
+	public static final String ANY_COLUMN_PROJECTION = "columnProjection"; //$NON-NLS-1$
+
 	public static final String TABLE_USE_COLUMN_INDEXES = "useColumnIndexes"; //$NON-NLS-1$
 	public static final String TABLE_USE_ACTUAL_COLUMN_NAMES = "useActualColumnNames"; //$NON-NLS-1$
 	public static final String TABLE_USE_COMPOUND_PROPERTY_NAMES = "useCompoundPropertyNames"; //$NON-NLS-1$
@@ -50,6 +60,9 @@ public class PropertyRegistry {
 	public static final String CONTEXT_BEGINNING_DELIMITER = "beginningDelimiter"; //$NON-NLS-1$
 	public static final String CONTEXT_ENDING_DELIMITER = "endingDelimiter"; //$NON-NLS-1$
 	public static final String CONTEXT_AUTO_DELIMIT_KEYWORDS = "autoDelimitKeywords"; //$NON-NLS-1$
+	public static final String CONTEXT_INTROSPECTION_THREADS = "introspectionThreads"; //$NON-NLS-1$
+	public static final String CONTEXT_PREFETCH_METADATA = "prefetchMetadata"; //$NON-NLS-1$
+	public static final String CONTEXT_GENERATION_THREADS = "generationThreads"; //$NON-NLS-1$
 
 	public static final String DAO_EXAMPLE_METHOD_VISIBILITY = "exampleMethodVisibility"; //$NON-NLS-1$
 	public static final String DAO_METHOD_NAME_CALCULATOR = "methodNameCalculator"; //$NON-NLS-1$
@@ -30,6 +30,8 @@ import java.util.Map;
 
 import org.mybatis.generator.api.dom.xml.Attribute;
 import org.mybatis.generator.api.dom.xml.XmlElement;
+import org.mybatis.generator.internal.db.InsertBatchDialects;
+import org.mybatis.generator.internal.db.UpsertDialects;
 
 /**
  * 
@@ -38,14 +40,24 @@ import org.mybatis.generator.api.dom.xml.XmlElement;
 public class TableConfiguration extends PropertyHolder {
 	private boolean insertStatementEnabled;
 
+	private boolean insertBatchStatementEnabled;
+
+	private boolean upsertStatementEnabled;
+
 	private boolean selectByPrimaryKeyStatementEnabled;
 
 	private boolean selectByParamsStatementEnabled;
 
+	private boolean selectByParamsWithHandlerStatementEnabled;
+
+	private boolean selectByPrimaryKeysStatementEnabled;
+
 	private boolean updateByPrimaryKeyStatementEnabled;
 
 	private boolean deleteByPrimaryKeyStatementEnabled;
 
+	private boolean deleteByPrimaryKeysStatementEnabled;
+
 	private boolean deleteByParamsStatementEnabled;
 
 	private boolean countByParamsStatementEnabled;
@@ -109,6 +121,30 @@ public class TableConfiguration extends PropertyHolder {
 		this.insertStatementEnabled = insertStatementEnabled;
 	}
 
+	public boolean isInsertBatchStatementEnabled() {
+		return insertBatchStatementEnabled;
+	}
+
+	public void setInsertBatchStatementEnabled(boolean insertBatchStatementEnabled) {
+		this.insertBatchStatementEnabled = insertBatchStatementEnabled;
+	}
+
+	public boolean isUpsertStatementEnabled() {
+		return upsertStatementEnabled;
+	}
+
+	public void setUpsertStatementEnabled(boolean upsertStatementEnabled) {
+		this.upsertStatementEnabled = upsertStatementEnabled;
+	}
+
+	public boolean isSelectByParamsWithHandlerStatementEnabled() {
+		return selectByParamsWithHandlerStatementEnabled;
+	}
+
+	public void setSelectByParamsWithHandlerStatementEnabled(boolean selectByParamsWithHandlerStatementEnabled) {
+		this.selectByParamsWithHandlerStatementEnabled = selectByParamsWithHandlerStatementEnabled;
+	}
+
 	public boolean isSelectByPrimaryKeyStatementEnabled() {
 		return selectByPrimaryKeyStatementEnabled;
 	}
@@ -117,6 +153,22 @@ public class TableConfiguration extends PropertyHolder {
 		this.selectByPrimaryKeyStatementEnabled = selectByPrimaryKeyStatementEnabled;
 	}
 
+	public boolean isSelectByPrimaryKeysStatementEnabled() {
+		return selectByPrimaryKeysStatementEnabled;
+	}
+
+	public void setSelectByPrimaryKeysStatementEnabled(boolean selectByPrimaryKeysStatementEnabled) {
+		this.selectByPrimaryKeysStatementEnabled = selectByPrimaryKeysStatementEnabled;
+	}
+
+	public boolean isDeleteByPrimaryKeysStatementEnabled() {
+		return deleteByPrimaryKeysStatementEnabled;
+	}
+
+	public void setDeleteByPrimaryKeysStatementEnabled(boolean deleteByPrimaryKeysStatementEnabled) {
+		this.deleteByPrimaryKeysStatementEnabled = deleteByPrimaryKeysStatementEnabled;
+	}
+
 	public boolean isUpdateByPrimaryKeyStatementEnabled() {
 		return updateByPrimaryKeyStatementEnabled;
 	}
@@ -237,10 +289,11 @@ public class TableConfiguration extends PropertyHolder {
 	}
 
 	public boolean areAnyStatementsEnabled() {
-		return selectByParamsStatementEnabled || selectByPrimaryKeyStatementEnabled || insertStatementEnabled
-				|| updateByPrimaryKeyStatementEnabled || deleteByParamsStatementEnabled
-				|| deleteByPrimaryKeyStatementEnabled || countByParamsStatementEnabled
-				|| updateByParamsStatementEnabled;
+		return selectByParamsStatementEnabled || selectByParamsWithHandlerStatementEnabled
+				|| selectByPrimaryKeyStatementEnabled || selectByPrimaryKeysStatementEnabled || insertStatementEnabled
+				|| insertBatchStatementEnabled || upsertStatementEnabled || updateByPrimaryKeyStatementEnabled
+				|| deleteByParamsStatementEnabled || deleteByPrimaryKeyStatementEnabled
+				|| deleteByPrimaryKeysStatementEnabled || countByParamsStatementEnabled || updateByParamsStatementEnabled;
 	}
 
 	public void setGeneratedKey(GeneratedKey generatedKey) {
@@ -352,10 +405,26 @@ public class TableConfiguration extends PropertyHolder {
 			xmlElement.addAttribute(new Attribute("enableInsert", "false")); //$NON-NLS-1$ //$NON-NLS-2$
 		}
 
+		if (insertBatchStatementEnabled) {
+			xmlElement.addAttribute(new Attribute("enableInsertBatch", "true")); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+
+		if (upsertStatementEnabled) {
+			xmlElement.addAttribute(new Attribute("enableUpsert", "true")); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+
+		if (selectByParamsWithHandlerStatementEnabled) {
+			xmlElement.addAttribute(new Attribute("enableSelectByParamsWithHandler", "true")); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+
 		if (!selectByPrimaryKeyStatementEnabled) {
 			xmlElement.addAttribute(new Attribute("enableSelectByPrimaryKey", "false")); //$NON-NLS-1$ //$NON-NLS-2$
 		}
 
+		if (selectByPrimaryKeysStatementEnabled) {
+			xmlElement.addAttribute(new Attribute("enableSelectByPrimaryKeys", "true")); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+
 		if (!selectByParamsStatementEnabled) {
 			xmlElement.addAttribute(new Attribute("enableSelectByParams", "false")); //$NON-NLS-1$ //$NON-NLS-2$
 		}
@@ -368,6 +437,10 @@ public class TableConfiguration extends PropertyHolder {
 			xmlElement.addAttribute(new Attribute("enableDeleteByPrimaryKey", "false")); //$NON-NLS-1$ //$NON-NLS-2$
 		}
 
+		if (deleteByPrimaryKeysStatementEnabled) {
+			xmlElement.addAttribute(new Attribute("enableDeleteByPrimaryKeys", "true")); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+
 		if (!deleteByParamsStatementEnabled) {
 			xmlElement.addAttribute(new Attribute("enableDeleteByParams", "false")); //$NON-NLS-1$ //$NON-NLS-2$
 		}
@@ -483,6 +556,61 @@ public class TableConfiguration extends PropertyHolder {
 			}
 		}
 
+		String insertBatchDialect = getProperty(PropertyRegistry.ANY_INSERT_BATCH_DIALECT);
+		if (stringHasValue(insertBatchDialect) && InsertBatchDialects.getInsertBatchDialect(insertBatchDialect) == null) {
+			errors.add(getString("ValidationError.27", //$NON-NLS-1$
+					PropertyRegistry.ANY_INSERT_BATCH_DIALECT, fqTableName, insertBatchDialect));
+		}
+
+		String upsertDialect = getProperty(PropertyRegistry.ANY_UPSERT_DIALECT);
+		if (stringHasValue(upsertDialect) && UpsertDialects.getUpsertDialect(upsertDialect) == null) {
+			errors.add(getString("ValidationError.27", //$NON-NLS-1$
+					PropertyRegistry.ANY_UPSERT_DIALECT, fqTableName, upsertDialect));
+		}
+
+		String insertBatchMaxRows = getProperty(PropertyRegistry.ANY_INSERT_BATCH_MAX_ROWS);
+		if (stringHasValue(insertBatchMaxRows)) {
+			boolean valid;
+			try {
+				valid = Integer.parseInt(insertBatchMaxRows.trim()) > 0;
+			} catch (NumberFormatException e) {
+				valid = false;
+			}
+			if (!valid) {
+				errors.add(getString("ValidationError.28", //$NON-NLS-1$
+						PropertyRegistry.ANY_INSERT_BATCH_MAX_ROWS, fqTableName));
+			}
+		}
+
+		String inListMaxSize = getProperty(PropertyRegistry.ANY_IN_LIST_MAX_SIZE);
+		if (stringHasValue(inListMaxSize)) {
+			boolean valid;
+			try {
+				valid = Integer.parseInt(inListMaxSize.trim()) > 0;
+			} catch (NumberFormatException e) {
+				valid = false;
+			}
+			if (!valid) {
+				errors.add(getString("ValidationError.28", //$NON-NLS-1$
+						PropertyRegistry.ANY_IN_LIST_MAX_SIZE, fqTableName));
+			}
+		}
+
+		String fetchSize = getProperty(PropertyRegistry.ANY_FETCH_SIZE);
+		if (stringHasValue(fetchSize)) {
+			boolean valid;
+			try {
+				int value = Integer.parseInt(fetchSize.trim());
+				valid = value > 0 || value == Integer.MIN_VALUE;
+			} catch (NumberFormatException e) {
+				valid = false;
+			}
+			if (!valid) {
+				errors.add(getString("ValidationError.30", //$NON-NLS-1$
+						PropertyRegistry.ANY_FETCH_SIZE, fqTableName));
+			}
+		}
+
 		if (columnRenamingRule != null) {
 			columnRenamingRule.validate(errors, fqTableName);
 		}
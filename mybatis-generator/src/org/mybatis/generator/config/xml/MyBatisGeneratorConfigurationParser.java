@@ -211,10 +211,15 @@ public class MyBatisGeneratorConfigurationParser {
 		String domainObjectName = attributes.getProperty("domainObjectName"); //$NON-NLS-1$
 		String alias = attributes.getProperty("alias"); //$NON-NLS-1$
 		String enableInsert = attributes.getProperty("enableInsert"); //$NON-NLS-1$
+		String enableInsertBatch = attributes.getProperty("enableInsertBatch"); //$NON-NLS-1$
+		String enableUpsert = attributes.getProperty("enableUpsert"); //$NON-NLS-1$
 		String enableSelectByPrimaryKey = attributes.getProperty("enableSelectByPrimaryKey"); //$NON-NLS-1$
 		String enableSelectByParams = attributes.getProperty("enableSelectByParams"); //$NON-NLS-1$
+		String enableSelectByParamsWithHandler = attributes.getProperty("enableSelectByParamsWithHandler"); //$NON-NLS-1$
+		String enableSelectByPrimaryKeys = attributes.getProperty("enableSelectByPrimaryKeys"); //$NON-NLS-1$
 		String enableUpdateByPrimaryKey = attributes.getProperty("enableUpdateByPrimaryKey"); //$NON-NLS-1$
 		String enableDeleteByPrimaryKey = attributes.getProperty("enableDeleteByPrimaryKey"); //$NON-NLS-1$
+		String enableDeleteByPrimaryKeys = attributes.getProperty("enableDeleteByPrimaryKeys"); //$NON-NLS-1$
 		String enableDeleteByParams = attributes.getProperty("enableDeleteByParams"); //$NON-NLS-1$
 		String enableCountByParams = attributes.getProperty("enableCountByParams"); //$NON-NLS-1$
 		String enableUpdateByParams = attributes.getProperty("enableUpdateByParams"); //$NON-NLS-1$
@@ -249,6 +254,14 @@ public class MyBatisGeneratorConfigurationParser {
 			tc.setInsertStatementEnabled(isTrue(enableInsert));
 		}
 
+		if (stringHasValue(enableInsertBatch)) {
+			tc.setInsertBatchStatementEnabled(isTrue(enableInsertBatch));
+		}
+
+		if (stringHasValue(enableUpsert)) {
+			tc.setUpsertStatementEnabled(isTrue(enableUpsert));
+		}
+
 		if (stringHasValue(enableSelectByPrimaryKey)) {
 			tc.setSelectByPrimaryKeyStatementEnabled(isTrue(enableSelectByPrimaryKey));
 		}
@@ -257,6 +270,14 @@ public class MyBatisGeneratorConfigurationParser {
 			tc.setSelectByParamsStatementEnabled(isTrue(enableSelectByParams));
 		}
 
+		if (stringHasValue(enableSelectByParamsWithHandler)) {
+			tc.setSelectByParamsWithHandlerStatementEnabled(isTrue(enableSelectByParamsWithHandler));
+		}
+
+		if (stringHasValue(enableSelectByPrimaryKeys)) {
+			tc.setSelectByPrimaryKeysStatementEnabled(isTrue(enableSelectByPrimaryKeys));
+		}
+
 		if (stringHasValue(enableUpdateByPrimaryKey)) {
 			tc.setUpdateByPrimaryKeyStatementEnabled(isTrue(enableUpdateByPrimaryKey));
 		}
@@ -265,6 +286,10 @@ public class MyBatisGeneratorConfigurationParser {
 			tc.setDeleteByPrimaryKeyStatementEnabled(isTrue(enableDeleteByPrimaryKey));
 		}
 
+		if (stringHasValue(enableDeleteByPrimaryKeys)) {
+			tc.setDeleteByPrimaryKeysStatementEnabled(isTrue(enableDeleteByPrimaryKeys));
+		}
+
 		if (stringHasValue(enableDeleteByParams)) {
 			tc.setDeleteByParamsStatementEnabled(isTrue(enableDeleteByParams));
 		}
@@ -156,4 +156,24 @@ public class DefaultDAOMethodNameCalculator implements DAOMethodNameCalculator {
 	public String getInsertSelectiveMethodName(IntrospectedTable introspectedTable) {
 		return "insertSelective"; //$NON-NLS-1$
 	}
+
+	public String getInsertBatchMethodName(IntrospectedTable introspectedTable) {
+		return "insertBatch"; //$NON-NLS-1$
+	}
+
+	public String getSelectByParamsWithHandlerMethodName(IntrospectedTable introspectedTable) {
+		return getSelectByParamsWithoutBLOBsMethodName(introspectedTable) + "WithHandler"; //$NON-NLS-1$
+	}
+
+	public String getSelectByParamsWithBLOBsWithHandlerMethodName(IntrospectedTable introspectedTable) {
+		return getSelectByParamsWithBLOBsMethodName(introspectedTable) + "WithHandler"; //$NON-NLS-1$
+	}
+
+	public String getSelectByPrimaryKeysMethodName(IntrospectedTable introspectedTable) {
+		return getSelectByPrimaryKeyMethodName(introspectedTable) + "s"; //$NON-NLS-1$
+	}
+
+	public String getDeleteByPrimaryKeysMethodName(IntrospectedTable introspectedTable) {
+		return getDeleteByPrimaryKeyMethodName(introspectedTable) + "s"; //$NON-NLS-1$
+	}
 }
@@ -231,4 +231,29 @@ public class ExtendedDAOMethodNameCalculator implements DAOMethodNameCalculator
 
 		return sb.toString();
 	}
+
+	public String getInsertBatchMethodName(IntrospectedTable introspectedTable) {
+		StringBuilder sb = new StringBuilder();
+		sb.append("insert"); //$NON-NLS-1$
+		sb.append(introspectedTable.getFullyQualifiedTable().getDomainObjectName());
+		sb.append("Batch"); //$NON-NLS-1$
+
+		return sb.toString();
+	}
+
+	public String getSelectByParamsWithHandlerMethodName(IntrospectedTable introspectedTable) {
+		return getSelectByParamsWithoutBLOBsMethodName(introspectedTable) + "WithHandler"; //$NON-NLS-1$
+	}
+
+	public String getSelectByParamsWithBLOBsWithHandlerMethodName(IntrospectedTable introspectedTable) {
+		return getSelectByParamsWithBLOBsMethodName(introspectedTable) + "WithHandler"; //$NON-NLS-1$
+	}
+
+	public String getSelectByPrimaryKeysMethodName(IntrospectedTable introspectedTable) {
+		return getSelectByPrimaryKeyMethodName(introspectedTable) + "s"; //$NON-NLS-1$
+	}
+
+	public String getDeleteByPrimaryKeysMethodName(IntrospectedTable introspectedTable) {
+		return getDeleteByPrimaryKeyMethodName(introspectedTable) + "s"; //$NON-NLS-1$
+	}
 }
@@ -0,0 +1,191 @@
+/*
+ *  Copyright 2005 The Apache Software Foundation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Properties;
+
+import org.mybatis.generator.logging.Log;
+import org.mybatis.generator.logging.LogFactory;
+
+/**
+ * This class remembers the length, modification time and MD5 hash of every
+ * file written by the generator. It is used to skip writing files whose
+ * content has not changed.
+ * <p>
+ * If a file still has the length and modification time recorded in the
+ * manifest, the new content is compared with the recorded hash and the file
+ * is not read. Otherwise (the file was edited, or has never been written with
+ * this manifest) the file is read and compared byte by byte, and the manifest
+ * is updated if the content is the same.
+ * <p>
+ * The content is compared as the bytes that are written, in the encoding of
+ * the file. The manifest may be used by several writer threads at once.
+ */
+public class FileHashManifest {
+
+	private static final Log LOGGER = LogFactory.getLog(FileHashManifest.class);
+
+	private File manifestFile;
+
+	/**
+	 * Key is the absolute path of the file, value is
+	 * "length,lastModified,md5". Properties is synchronized, so the entries
+	 * can be checked and recorded by several threads.
+	 */
+	private Properties entries;
+
+	private volatile boolean changed;
+
+	/**
+	 * Loads the manifest file. A missing or unreadable file results in an
+	 * empty manifest.
+	 */
+	public FileHashManifest(File manifestFile) {
+		super();
+		this.manifestFile = manifestFile;
+		entries = new Properties();
+
+		if (manifestFile.exists()) {
+			InputStream in = null;
+			try {
+				in = new BufferedInputStream(new FileInputStream(manifestFile));
+				entries.load(in);
+			} catch (IOException e) {
+				LOGGER.warn("Ignoring unreadable file manifest " + manifestFile.getAbsolutePath()); //$NON-NLS-1$
+				entries.clear();
+			} finally {
+				closeStream(in);
+			}
+		}
+	}
+
+	/**
+	 * @param file
+	 * @param content
+	 *            the bytes that would be written
+	 * @return true if the file exists and already has exactly this content
+	 * @throws IOException
+	 *             if the existing file cannot be read
+	 */
+	public boolean isUnchanged(File file, byte[] content) throws IOException {
+		if (!file.isFile() || file.length() != content.length) {
+			return false;
+		}
+
+		String key = file.getAbsolutePath();
+		String entry = entries.getProperty(key);
+		if (entry != null) {
+			String[] parts = entry.split(","); //$NON-NLS-1$
+			if (parts.length == 3 && parts[0].equals(Long.toString(file.length()))
+					&& parts[1].equals(Long.toString(file.lastModified()))) {
+				return parts[2].equals(md5(content));
+			}
+		}
+
+		if (Arrays.equals(readFile(file), content)) {
+			recordFile(file, content);
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Records a file that has just been written with the specified content.
+	 */
+	public void recordFile(File file, byte[] content) {
+		StringBuilder sb = new StringBuilder();
+		sb.append(file.length());
+		sb.append(',');
+		sb.append(file.lastModified());
+		sb.append(',');
+		sb.append(md5(content));
+		entries.setProperty(file.getAbsolutePath(), sb.toString());
+		changed = true;
+	}
+
+	/**
+	 * Writes the manifest file if any entry has changed since it was loaded.
+	 */
+	public void save() throws IOException {
+		if (!changed) {
+			return;
+		}
+
+		OutputStream out = new BufferedOutputStream(new FileOutputStream(manifestFile));
+		try {
+			entries.store(out, "MyBatis Generator file manifest"); //$NON-NLS-1$
+		} finally {
+			out.close();
+		}
+		changed = false;
+	}
+
+	private byte[] readFile(File file) throws IOException {
+		byte[] answer = new byte[(int) file.length()];
+		InputStream in = new FileInputStream(file);
+		try {
+			int offset = 0;
+			while (offset < answer.length) {
+				int count = in.read(answer, offset, answer.length - offset);
+				if (count < 0) {
+					break;
+				}
+				offset += count;
+			}
+		} finally {
+			in.close();
+		}
+
+		return answer;
+	}
+
+	static String md5(byte[] content) {
+		try {
+			byte[] digest = MessageDigest.getInstance("MD5").digest(content); //$NON-NLS-1$
+			StringBuilder sb = new StringBuilder();
+			for (byte b : digest) {
+				sb.append(Character.forDigit((b >> 4) & 0xf, 16));
+				sb.append(Character.forDigit(b & 0xf, 16));
+			}
+			return sb.toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private void closeStream(InputStream in) {
+		if (in != null) {
+			try {
+				in.close();
+			} catch (IOException e) {
+				// ignore
+				;
+			}
+		}
+	}
+}
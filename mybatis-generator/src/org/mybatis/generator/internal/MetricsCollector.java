@@ -0,0 +1,303 @@
+/*
+ *  Copyright 2005 The Apache Software Foundation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.mybatis.generator.api.GenerationMetrics;
+
+/**
+ * Collects the metrics of a generator run and writes them as JSON. The tables
+ * are listed by their total time and the plugin methods by their time, slowest
+ * first.
+ */
+public class MetricsCollector implements GenerationMetrics {
+
+	private static class Phase {
+		private String name;
+		private long wallTime;
+		private long cpuTime;
+	}
+
+	private static class TableMetrics {
+		private String contextId;
+		private String tableName;
+		private long introspectionTime;
+		private long introspectionCpuTime;
+		private int jdbcCalls;
+		private long generationTime;
+		private long generationCpuTime;
+		private long saveTime;
+		private int writtenFiles;
+		private int skippedFiles;
+		private int mergedFiles;
+		private long bytesWritten;
+
+		private long getTotalTime() {
+			return introspectionTime + generationTime + saveTime;
+		}
+	}
+
+	private static class PluginMetrics {
+		private String contextId;
+		private String pluginType;
+		private String hook;
+		private int calls;
+		private long wallTime;
+	}
+
+	private List<Phase> phases;
+
+	/**
+	 * Key is contextId + '\n' + tableName
+	 */
+	private Map<String, TableMetrics> tables;
+
+	/**
+	 * Key is contextId + '\n' + pluginType + '\n' + hook
+	 */
+	private Map<String, PluginMetrics> plugins;
+
+	public MetricsCollector() {
+		super();
+		phases = new ArrayList<Phase>();
+		tables = new LinkedHashMap<String, TableMetrics>();
+		plugins = new LinkedHashMap<String, PluginMetrics>();
+	}
+
+	public synchronized void phaseFinished(String phase, long wallTime, long cpuTime) {
+		Phase p = new Phase();
+		p.name = phase;
+		p.wallTime = wallTime;
+		p.cpuTime = cpuTime;
+		phases.add(p);
+	}
+
+	public synchronized void tableIntrospected(String contextId, String tableName, long wallTime, long cpuTime,
+			int jdbcCalls) {
+		TableMetrics table = getTable(contextId, tableName);
+		table.introspectionTime += wallTime;
+		table.introspectionCpuTime = addCpuTime(table.introspectionCpuTime, cpuTime);
+		table.jdbcCalls += jdbcCalls;
+	}
+
+	public synchronized void tableGenerated(String contextId, String tableName, long wallTime, long cpuTime) {
+		TableMetrics table = getTable(contextId, tableName);
+		table.generationTime += wallTime;
+		table.generationCpuTime = addCpuTime(table.generationCpuTime, cpuTime);
+	}
+
+	/**
+	 * @return the sum, or -1 if either time is not known
+	 */
+	private static long addCpuTime(long total, long cpuTime) {
+		return total < 0 || cpuTime < 0 ? -1 : total + cpuTime;
+	}
+
+	public synchronized void pluginCalled(String contextId, String pluginType, String hook, long wallTime) {
+		String key = contextId + '\n' + pluginType + '\n' + hook;
+		PluginMetrics plugin = plugins.get(key);
+		if (plugin == null) {
+			plugin = new PluginMetrics();
+			plugin.contextId = contextId;
+			plugin.pluginType = pluginType;
+			plugin.hook = hook;
+			plugins.put(key, plugin);
+		}
+
+		plugin.calls++;
+		plugin.wallTime += wallTime;
+	}
+
+	public synchronized void fileSaved(String contextId, String tableName, File file, long bytes, boolean skipped,
+			boolean merged, long wallTime) {
+		TableMetrics table = getTable(contextId, tableName);
+		table.saveTime += wallTime;
+		table.bytesWritten += bytes;
+		if (skipped) {
+			table.skippedFiles++;
+		} else {
+			table.writtenFiles++;
+		}
+		if (merged) {
+			table.mergedFiles++;
+		}
+	}
+
+	private TableMetrics getTable(String contextId, String tableName) {
+		String key = contextId + '\n' + tableName;
+		TableMetrics table = tables.get(key);
+		if (table == null) {
+			table = new TableMetrics();
+			table.contextId = contextId;
+			table.tableName = tableName;
+			tables.put(key, table);
+		}
+
+		return table;
+	}
+
+	/**
+	 * Writes the metrics to the file as UTF-8 encoded JSON.
+	 */
+	public void save(File file) throws IOException {
+		Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), "UTF-8")); //$NON-NLS-1$
+		try {
+			writeJson(writer);
+		} finally {
+			writer.close();
+		}
+	}
+
+	public synchronized void writeJson(Writer writer) throws IOException {
+		List<TableMetrics> sortedTables = new ArrayList<TableMetrics>(tables.values());
+		Collections.sort(sortedTables, new Comparator<TableMetrics>() {
+			public int compare(TableMetrics t1, TableMetrics t2) {
+				return compareDescending(t1.getTotalTime(), t2.getTotalTime());
+			}
+		});
+
+		List<PluginMetrics> sortedPlugins = new ArrayList<PluginMetrics>(plugins.values());
+		Collections.sort(sortedPlugins, new Comparator<PluginMetrics>() {
+			public int compare(PluginMetrics p1, PluginMetrics p2) {
+				return compareDescending(p1.wallTime, p2.wallTime);
+			}
+		});
+
+		writer.write("{\n  \"phases\": ["); //$NON-NLS-1$
+		for (int i = 0; i < phases.size(); i++) {
+			Phase phase = phases.get(i);
+			startObject(writer, i);
+			writeField(writer, "phase", phase.name, false); //$NON-NLS-1$
+			writeMillis(writer, "wallMillis", phase.wallTime); //$NON-NLS-1$
+			writeMillis(writer, "cpuMillis", phase.cpuTime); //$NON-NLS-1$
+			writer.write('}');
+		}
+
+		writer.write("\n  ],\n  \"tables\": ["); //$NON-NLS-1$
+		for (int i = 0; i < sortedTables.size(); i++) {
+			TableMetrics table = sortedTables.get(i);
+			startObject(writer, i);
+			writeField(writer, "context", table.contextId, false); //$NON-NLS-1$
+			writeField(writer, "table", table.tableName, true); //$NON-NLS-1$
+			writeMillis(writer, "totalMillis", table.getTotalTime()); //$NON-NLS-1$
+			writeMillis(writer, "introspectionMillis", table.introspectionTime); //$NON-NLS-1$
+			writeMillis(writer, "introspectionCpuMillis", table.introspectionCpuTime); //$NON-NLS-1$
+			writeNumber(writer, "jdbcCalls", table.jdbcCalls); //$NON-NLS-1$
+			writeMillis(writer, "generationMillis", table.generationTime); //$NON-NLS-1$
+			writeMillis(writer, "generationCpuMillis", table.generationCpuTime); //$NON-NLS-1$
+			writeMillis(writer, "saveMillis", table.saveTime); //$NON-NLS-1$
+			writeNumber(writer, "filesWritten", table.writtenFiles); //$NON-NLS-1$
+			writeNumber(writer, "filesSkipped", table.skippedFiles); //$NON-NLS-1$
+			writeNumber(writer, "filesMerged", table.mergedFiles); //$NON-NLS-1$
+			writeNumber(writer, "bytesWritten", table.bytesWritten); //$NON-NLS-1$
+			writer.write('}');
+		}
+
+		writer.write("\n  ],\n  \"plugins\": ["); //$NON-NLS-1$
+		for (int i = 0; i < sortedPlugins.size(); i++) {
+			PluginMetrics plugin = sortedPlugins.get(i);
+			startObject(writer, i);
+			writeField(writer, "context", plugin.contextId, false); //$NON-NLS-1$
+			writeField(writer, "plugin", plugin.pluginType, true); //$NON-NLS-1$
+			writeField(writer, "hook", plugin.hook, true); //$NON-NLS-1$
+			writeNumber(writer, "calls", plugin.calls); //$NON-NLS-1$
+			writeMillis(writer, "wallMillis", plugin.wallTime); //$NON-NLS-1$
+			writer.write('}');
+		}
+
+		writer.write("\n  ]\n}\n"); //$NON-NLS-1$
+	}
+
+	private static int compareDescending(long l1, long l2) {
+		return l1 > l2 ? -1 : (l1 == l2 ? 0 : 1);
+	}
+
+	private static void startObject(Writer writer, int index) throws IOException {
+		writer.write(index == 0 ? "\n    {" : ",\n    {"); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private static void writeName(Writer writer, String name, boolean separator) throws IOException {
+		if (separator) {
+			writer.write(", "); //$NON-NLS-1$
+		}
+		writer.write('"');
+		writer.write(name);
+		writer.write("\": "); //$NON-NLS-1$
+	}
+
+	private static void writeField(Writer writer, String name, String value, boolean separator)
+			throws IOException {
+		writeName(writer, name, separator);
+		if (value == null) {
+			writer.write("null"); //$NON-NLS-1$
+			return;
+		}
+
+		writer.write('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '"' || c == '\\') {
+				writer.write('\\');
+				writer.write(c);
+			} else if (c < 0x20) {
+				writer.write("\\u00"); //$NON-NLS-1$
+				writer.write(Character.forDigit(c >> 4, 16));
+				writer.write(Character.forDigit(c & 0xf, 16));
+			} else {
+				writer.write(c);
+			}
+		}
+		writer.write('"');
+	}
+
+	private static void writeNumber(Writer writer, String name, long value) throws IOException {
+		writeName(writer, name, true);
+		writer.write(Long.toString(value));
+	}
+
+	/**
+	 * Writes nanoseconds as milliseconds with three decimals, or -1 if the
+	 * time was not measured.
+	 */
+	private static void writeMillis(Writer writer, String name, long nanos) throws IOException {
+		writeName(writer, name, true);
+		if (nanos < 0) {
+			writer.write("-1"); //$NON-NLS-1$
+			return;
+		}
+
+		long micros = nanos / 1000;
+		writer.write(Long.toString(micros / 1000));
+		writer.write('.');
+		String fraction = Long.toString(micros % 1000);
+		for (int i = fraction.length(); i < 3; i++) {
+			writer.write('0');
+		}
+		writer.write(fraction);
+	}
+}
@@ -47,6 +47,9 @@ public class NullProgressCallback implements ProgressCallback {
 	public void checkCancel() throws InterruptedException {
 	}
 
+	public void saveFinished(int writtenFiles, int skippedFiles, int mergedFiles) {
+	}
+
 	public void done() {
 	}
 }
@@ -0,0 +1,115 @@
+/*
+ *  Copyright 2005 The Apache Software Foundation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import java.util.LinkedList;
+
+/**
+ * A bounded queue between two stages of the generation pipeline. The
+ * producing stage blocks when the queue is full, and closes the queue when it
+ * is done. The consuming stage blocks when the queue is empty, and sees the
+ * end of the stream as a <code>null</code> element.
+ * <p>
+ * If either stage fails, it aborts the queue instead of closing it. The
+ * consumer then sees the end of the stream, and should check isAborted()
+ * before doing any work that depends on the complete stream. The producer's
+ * further elements are discarded.
+ */
+public class PipelineQueue<T> {
+
+	private int capacity;
+
+	private LinkedList<T> elements;
+
+	private boolean closed;
+
+	private boolean aborted;
+
+	public PipelineQueue(int capacity) {
+		super();
+		this.capacity = capacity < 1 ? 1 : capacity;
+		elements = new LinkedList<T>();
+	}
+
+	/**
+	 * Adds an element, waiting while the queue is full. If the queue has been
+	 * aborted by the consumer, the element is discarded.
+	 *
+	 * @throws InterruptedException
+	 *             if the thread is interrupted while waiting
+	 */
+	public synchronized void put(T element) throws InterruptedException {
+		while (!aborted && elements.size() >= capacity) {
+			wait();
+		}
+
+		if (aborted) {
+			return;
+		}
+
+		if (closed) {
+			throw new IllegalStateException("Pipeline queue is closed"); //$NON-NLS-1$
+		}
+
+		elements.addLast(element);
+		notifyAll();
+	}
+
+	/**
+	 * Removes the next element, waiting while the queue is empty.
+	 *
+	 * @return the next element, or <code>null</code> if the queue is closed
+	 *         and all elements have been taken
+	 * @throws InterruptedException
+	 *             if the thread is interrupted while waiting
+	 */
+	public synchronized T take() throws InterruptedException {
+		while (elements.isEmpty()) {
+			if (closed) {
+				return null;
+			}
+			wait();
+		}
+
+		T element = elements.removeFirst();
+		notifyAll();
+		return element;
+	}
+
+	/**
+	 * Marks the end of the stream. Elements already in the queue can still be
+	 * taken.
+	 */
+	public synchronized void close() {
+		closed = true;
+		notifyAll();
+	}
+
+	/**
+	 * Marks the end of an incomplete stream. Elements still in the queue are
+	 * discarded.
+	 */
+	public synchronized void abort() {
+		aborted = true;
+		closed = true;
+		elements.clear();
+		notifyAll();
+	}
+
+	public synchronized boolean isAborted() {
+		return aborted;
+	}
+}
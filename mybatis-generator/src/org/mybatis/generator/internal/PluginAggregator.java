@@ -16,12 +16,18 @@
 package org.mybatis.generator.internal;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 import org.mybatis.generator.api.GeneratedJavaFile;
 import org.mybatis.generator.api.GeneratedXmlFile;
+import org.mybatis.generator.api.GenerationMetrics;
 import org.mybatis.generator.api.Plugin;
+import org.mybatis.generator.api.PluginAdapter;
+import org.mybatis.generator.api.ThreadSafePlugin;
 import org.mybatis.generator.api.IntrospectedColumn;
 import org.mybatis.generator.api.IntrospectedTable;
 import org.mybatis.generator.api.dom.java.Field;
@@ -38,6 +44,10 @@ import org.mybatis.generator.config.Context;
  * implements the rule that if any plugin returns "false" from a method, then no
  * other plugin is called.
  * <p>
+ * Each method only calls the plugins that implement it. The methods that a
+ * plugin inherits from PluginAdapter do nothing and return true, so the
+ * plugin is left out of those methods when it is added.
+ * <p>
  * This class does not follow the normal plugin lifecycle and should not be
  * subclassed by clients.
  * 
@@ -47,12 +57,95 @@ import org.mybatis.generator.config.Context;
 public final class PluginAggregator implements Plugin {
 	private List<Plugin> plugins;
 
+	/**
+	 * The plugins that implement each plugin method, in the order the plugins
+	 * were added. Key is the method name (both overloads of a method share
+	 * one list).
+	 */
+	private Map<String, List<Plugin>> hookPlugins;
+
+	private GenerationMetrics generationMetrics;
+
+	private String contextId;
+
 	public PluginAggregator() {
 		plugins = new ArrayList<Plugin>();
+		hookPlugins = new HashMap<String, List<Plugin>>();
+	}
+
+	/**
+	 * Sets the metrics that receive the time of every call of a plugin method.
+	 * Only the plugins added after this call are timed, and only in the
+	 * methods they implement.
+	 */
+	public void setGenerationMetrics(GenerationMetrics generationMetrics, String contextId) {
+		this.generationMetrics = generationMetrics;
+		this.contextId = contextId;
 	}
 
 	public void addPlugin(Plugin plugin) {
-		plugins.add(plugin);
+		Plugin dispatchedPlugin = plugin;
+		if (generationMetrics != null) {
+			dispatchedPlugin = PluginTimer.wrap(plugin, generationMetrics, contextId);
+		}
+
+		plugins.add(dispatchedPlugin);
+		for (java.lang.reflect.Method hook : Plugin.class.getMethods()) {
+			if (!isImplemented(plugin.getClass(), hook)) {
+				continue;
+			}
+
+			List<Plugin> list = hookPlugins.get(hook.getName());
+			if (list == null) {
+				list = new ArrayList<Plugin>();
+				hookPlugins.put(hook.getName(), list);
+			}
+
+			// the plugin may already be there for the other overload
+			if (list.isEmpty() || list.get(list.size() - 1) != dispatchedPlugin) {
+				list.add(dispatchedPlugin);
+			}
+		}
+	}
+
+	/**
+	 * @return false if the plugin inherits the method from PluginAdapter
+	 */
+	private static boolean isImplemented(Class<?> pluginClass, java.lang.reflect.Method hook) {
+		try {
+			java.lang.reflect.Method method = pluginClass.getMethod(hook.getName(), hook.getParameterTypes());
+			return method.getDeclaringClass() != PluginAdapter.class;
+		} catch (NoSuchMethodException e) {
+			// cannot happen, the plugin implements the interface
+			return true;
+		}
+	}
+
+	/**
+	 * @return the plugins that implement the method, in the order they were
+	 *         added
+	 */
+	public List<Plugin> getPlugins(String hook) {
+		List<Plugin> list = hookPlugins.get(hook);
+		if (list == null) {
+			return Collections.emptyList();
+		}
+
+		return list;
+	}
+
+	/**
+	 * @return true if every plugin is marked as a ThreadSafePlugin, so the
+	 *         tables of the context may be generated concurrently
+	 */
+	public boolean isThreadSafe() {
+		for (Plugin plugin : plugins) {
+			if (!(plugin instanceof ThreadSafePlugin)) {
+				return false;
+			}
+		}
+
+		return true;
 	}
 
 	public void setContext(Context context) {
@@ -70,7 +163,7 @@ public final class PluginAggregator implements Plugin {
 	public boolean modelBaseRecordClassGenerated(TopLevelClass tlc, IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("modelBaseRecordClassGenerated")) { //$NON-NLS-1$
 			if (!plugin.modelBaseRecordClassGenerated(tlc, introspectedTable)) {
 				rc = false;
 				break;
@@ -83,7 +176,7 @@ public final class PluginAggregator implements Plugin {
 	public boolean modelRecordWithBLOBsClassGenerated(TopLevelClass tlc, IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("modelRecordWithBLOBsClassGenerated")) { //$NON-NLS-1$
 			if (!plugin.modelRecordWithBLOBsClassGenerated(tlc, introspectedTable)) {
 				rc = false;
 				break;
@@ -96,7 +189,7 @@ public final class PluginAggregator implements Plugin {
 	public boolean sqlMapCountByParamsElementGenerated(XmlElement element, IntrospectedTable table) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("sqlMapCountByParamsElementGenerated")) { //$NON-NLS-1$
 			if (!plugin.sqlMapCountByParamsElementGenerated(element, table)) {
 				rc = false;
 				break;
@@ -109,7 +202,7 @@ public final class PluginAggregator implements Plugin {
 	public boolean sqlMapDeleteByParamsElementGenerated(XmlElement element, IntrospectedTable table) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("sqlMapDeleteByParamsElementGenerated")) { //$NON-NLS-1$
 			if (!plugin.sqlMapDeleteByParamsElementGenerated(element, table)) {
 				rc = false;
 				break;
@@ -122,7 +215,7 @@ public final class PluginAggregator implements Plugin {
 	public boolean sqlMapDeleteByPrimaryKeyElementGenerated(XmlElement element, IntrospectedTable table) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("sqlMapDeleteByPrimaryKeyElementGenerated")) { //$NON-NLS-1$
 			if (!plugin.sqlMapDeleteByPrimaryKeyElementGenerated(element, table)) {
 				rc = false;
 				break;
@@ -135,7 +228,7 @@ public final class PluginAggregator implements Plugin {
 	public boolean modelExampleClassGenerated(TopLevelClass tlc, IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("modelExampleClassGenerated")) { //$NON-NLS-1$
 			if (!plugin.modelExampleClassGenerated(tlc, introspectedTable)) {
 				rc = false;
 				break;
@@ -147,7 +240,7 @@ public final class PluginAggregator implements Plugin {
 
 	public List<GeneratedJavaFile> contextGenerateAdditionalJavaFiles(IntrospectedTable introspectedTable) {
 		List<GeneratedJavaFile> answer = new ArrayList<GeneratedJavaFile>();
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("contextGenerateAdditionalJavaFiles")) { //$NON-NLS-1$
 			List<GeneratedJavaFile> temp = plugin.contextGenerateAdditionalJavaFiles(introspectedTable);
 			if (temp != null) {
 				answer.addAll(temp);
@@ -158,7 +251,7 @@ public final class PluginAggregator implements Plugin {
 
 	public List<GeneratedXmlFile> contextGenerateAdditionalXmlFiles(IntrospectedTable introspectedTable) {
 		List<GeneratedXmlFile> answer = new ArrayList<GeneratedXmlFile>();
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("contextGenerateAdditionalXmlFiles")) { //$NON-NLS-1$
 			List<GeneratedXmlFile> temp = plugin.contextGenerateAdditionalXmlFiles(introspectedTable);
 			if (temp != null) {
 				answer.addAll(temp);
@@ -170,7 +263,7 @@ public final class PluginAggregator implements Plugin {
 	public boolean modelPrimaryKeyClassGenerated(TopLevelClass tlc, IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("modelPrimaryKeyClassGenerated")) { //$NON-NLS-1$
 			if (!plugin.modelPrimaryKeyClassGenerated(tlc, introspectedTable)) {
 				rc = false;
 				break;
@@ -183,7 +276,7 @@ public final class PluginAggregator implements Plugin {
 	public boolean sqlMapResultMapWithoutBLOBsElementGenerated(XmlElement element, IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("sqlMapResultMapWithoutBLOBsElementGenerated")) { //$NON-NLS-1$
 			if (!plugin.sqlMapResultMapWithoutBLOBsElementGenerated(element, introspectedTable)) {
 				rc = false;
 				break;
@@ -196,7 +289,7 @@ public final class PluginAggregator implements Plugin {
 	public boolean sqlMapExampleWhereClauseElementGenerated(XmlElement element, IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("sqlMapExampleWhereClauseElementGenerated")) { //$NON-NLS-1$
 			if (!plugin.sqlMapExampleWhereClauseElementGenerated(element, introspectedTable)) {
 				rc = false;
 				break;
@@ -209,7 +302,7 @@ public final class PluginAggregator implements Plugin {
 	public boolean sqlMapInsertElementGenerated(XmlElement element, IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("sqlMapInsertElementGenerated")) { //$NON-NLS-1$
 			if (!plugin.sqlMapInsertElementGenerated(element, introspectedTable)) {
 				rc = false;
 				break;
@@ -219,10 +312,103 @@ public final class PluginAggregator implements Plugin {
 		return rc;
 	}
 
+	public boolean sqlMapInsertBatchElementGenerated(XmlElement element, IntrospectedTable introspectedTable) {
+		boolean rc = true;
+
+		for (Plugin plugin : getPlugins("sqlMapInsertBatchElementGenerated")) { //$NON-NLS-1$
+			if (!plugin.sqlMapInsertBatchElementGenerated(element, introspectedTable)) {
+				rc = false;
+				break;
+			}
+		}
+
+		return rc;
+	}
+
+	public boolean sqlMapSelectByParamsWithHandlerElementGenerated(XmlElement element,
+			IntrospectedTable introspectedTable) {
+		boolean rc = true;
+
+		for (Plugin plugin : getPlugins("sqlMapSelectByParamsWithHandlerElementGenerated")) { //$NON-NLS-1$
+			if (!plugin.sqlMapSelectByParamsWithHandlerElementGenerated(element, introspectedTable)) {
+				rc = false;
+				break;
+			}
+		}
+
+		return rc;
+	}
+
+	public boolean sqlMapSelectByPrimaryKeysElementGenerated(XmlElement element, IntrospectedTable introspectedTable) {
+		boolean rc = true;
+
+		for (Plugin plugin : getPlugins("sqlMapSelectByPrimaryKeysElementGenerated")) { //$NON-NLS-1$
+			if (!plugin.sqlMapSelectByPrimaryKeysElementGenerated(element, introspectedTable)) {
+				rc = false;
+				break;
+			}
+		}
+
+		return rc;
+	}
+
+	public boolean sqlMapDeleteByPrimaryKeysElementGenerated(XmlElement element, IntrospectedTable introspectedTable) {
+		boolean rc = true;
+
+		for (Plugin plugin : getPlugins("sqlMapDeleteByPrimaryKeysElementGenerated")) { //$NON-NLS-1$
+			if (!plugin.sqlMapDeleteByPrimaryKeysElementGenerated(element, introspectedTable)) {
+				rc = false;
+				break;
+			}
+		}
+
+		return rc;
+	}
+
+	public boolean sqlMapUpsertElementGenerated(XmlElement element, IntrospectedTable introspectedTable) {
+		boolean rc = true;
+
+		for (Plugin plugin : getPlugins("sqlMapUpsertElementGenerated")) { //$NON-NLS-1$
+			if (!plugin.sqlMapUpsertElementGenerated(element, introspectedTable)) {
+				rc = false;
+				break;
+			}
+		}
+
+		return rc;
+	}
+
+	public boolean sqlMapUpsertSelectiveElementGenerated(XmlElement element,
+			IntrospectedTable introspectedTable) {
+		boolean rc = true;
+
+		for (Plugin plugin : getPlugins("sqlMapUpsertSelectiveElementGenerated")) { //$NON-NLS-1$
+			if (!plugin.sqlMapUpsertSelectiveElementGenerated(element, introspectedTable)) {
+				rc = false;
+				break;
+			}
+		}
+
+		return rc;
+	}
+
+	public boolean sqlMapUpsertBatchElementGenerated(XmlElement element, IntrospectedTable introspectedTable) {
+		boolean rc = true;
+
+		for (Plugin plugin : getPlugins("sqlMapUpsertBatchElementGenerated")) { //$NON-NLS-1$
+			if (!plugin.sqlMapUpsertBatchElementGenerated(element, introspectedTable)) {
+				rc = false;
+				break;
+			}
+		}
+
+		return rc;
+	}
+
 	public boolean sqlMapResultMapWithBLOBsElementGenerated(XmlElement element, IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("sqlMapResultMapWithBLOBsElementGenerated")) { //$NON-NLS-1$
 			if (!plugin.sqlMapResultMapWithBLOBsElementGenerated(element, introspectedTable)) {
 				rc = false;
 				break;
@@ -236,7 +422,7 @@ public final class PluginAggregator implements Plugin {
 			IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("sqlMapSelectByParamsWithoutBLOBsElementGenerated")) { //$NON-NLS-1$
 			if (!plugin.sqlMapSelectByParamsWithoutBLOBsElementGenerated(element, introspectedTable)) {
 				rc = false;
 				break;
@@ -250,7 +436,7 @@ public final class PluginAggregator implements Plugin {
 			IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("sqlMapSelectByParamsWithBLOBsElementGenerated")) { //$NON-NLS-1$
 			if (!plugin.sqlMapSelectByParamsWithBLOBsElementGenerated(element, introspectedTable)) {
 				rc = false;
 				break;
@@ -263,7 +449,7 @@ public final class PluginAggregator implements Plugin {
 	public boolean sqlMapSelectByPrimaryKeyElementGenerated(XmlElement element, IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("sqlMapSelectByPrimaryKeyElementGenerated")) { //$NON-NLS-1$
 			if (!plugin.sqlMapSelectByPrimaryKeyElementGenerated(element, introspectedTable)) {
 				rc = false;
 				break;
@@ -276,7 +462,7 @@ public final class PluginAggregator implements Plugin {
 	public boolean sqlMapGenerated(GeneratedXmlFile sqlMap, IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("sqlMapGenerated")) { //$NON-NLS-1$
 			if (!plugin.sqlMapGenerated(sqlMap, introspectedTable)) {
 				rc = false;
 				break;
@@ -290,7 +476,7 @@ public final class PluginAggregator implements Plugin {
 			IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("sqlMapUpdateByParamsSelectiveElementGenerated")) { //$NON-NLS-1$
 			if (!plugin.sqlMapUpdateByParamsSelectiveElementGenerated(element, introspectedTable)) {
 				rc = false;
 				break;
@@ -304,7 +490,7 @@ public final class PluginAggregator implements Plugin {
 			IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("sqlMapUpdateByParamsWithBLOBsElementGenerated")) { //$NON-NLS-1$
 			if (!plugin.sqlMapUpdateByParamsWithBLOBsElementGenerated(element, introspectedTable)) {
 				rc = false;
 				break;
@@ -318,7 +504,7 @@ public final class PluginAggregator implements Plugin {
 			IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("sqlMapUpdateByParamsWithoutBLOBsElementGenerated")) { //$NON-NLS-1$
 			if (!plugin.sqlMapUpdateByParamsWithoutBLOBsElementGenerated(element, introspectedTable)) {
 				rc = false;
 				break;
@@ -332,7 +518,7 @@ public final class PluginAggregator implements Plugin {
 			IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("sqlMapUpdateByPrimaryKeySelectiveElementGenerated")) { //$NON-NLS-1$
 			if (!plugin.sqlMapUpdateByPrimaryKeySelectiveElementGenerated(element, introspectedTable)) {
 				rc = false;
 				break;
@@ -346,7 +532,7 @@ public final class PluginAggregator implements Plugin {
 			IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("sqlMapUpdateByPrimaryKeyWithBLOBsElementGenerated")) { //$NON-NLS-1$
 			if (!plugin.sqlMapUpdateByPrimaryKeyWithBLOBsElementGenerated(element, introspectedTable)) {
 				rc = false;
 				break;
@@ -360,7 +546,7 @@ public final class PluginAggregator implements Plugin {
 			IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("sqlMapUpdateByPrimaryKeyWithoutBLOBsElementGenerated")) { //$NON-NLS-1$
 			if (!plugin.sqlMapUpdateByPrimaryKeyWithoutBLOBsElementGenerated(element, introspectedTable)) {
 				rc = false;
 				break;
@@ -374,7 +560,7 @@ public final class PluginAggregator implements Plugin {
 			IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("clientCountByParamsMethodGenerated")) { //$NON-NLS-1$
 			if (!plugin.clientCountByParamsMethodGenerated(method, interfaze, introspectedTable)) {
 				rc = false;
 				break;
@@ -388,7 +574,7 @@ public final class PluginAggregator implements Plugin {
 			IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("clientCountByParamsMethodGenerated")) { //$NON-NLS-1$
 			if (!plugin.clientCountByParamsMethodGenerated(method, topLevelClass, introspectedTable)) {
 				rc = false;
 				break;
@@ -402,7 +588,7 @@ public final class PluginAggregator implements Plugin {
 			IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("clientDeleteByParamsMethodGenerated")) { //$NON-NLS-1$
 			if (!plugin.clientDeleteByParamsMethodGenerated(method, interfaze, introspectedTable)) {
 				rc = false;
 				break;
@@ -416,7 +602,7 @@ public final class PluginAggregator implements Plugin {
 			IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("clientDeleteByParamsMethodGenerated")) { //$NON-NLS-1$
 			if (!plugin.clientDeleteByParamsMethodGenerated(method, topLevelClass, introspectedTable)) {
 				rc = false;
 				break;
@@ -430,7 +616,7 @@ public final class PluginAggregator implements Plugin {
 			IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("clientDeleteByPrimaryKeyMethodGenerated")) { //$NON-NLS-1$
 			if (!plugin.clientDeleteByPrimaryKeyMethodGenerated(method, interfaze, introspectedTable)) {
 				rc = false;
 				break;
@@ -444,7 +630,7 @@ public final class PluginAggregator implements Plugin {
 			IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("clientDeleteByPrimaryKeyMethodGenerated")) { //$NON-NLS-1$
 			if (!plugin.clientDeleteByPrimaryKeyMethodGenerated(method, topLevelClass, introspectedTable)) {
 				rc = false;
 				break;
@@ -457,7 +643,7 @@ public final class PluginAggregator implements Plugin {
 	public boolean clientInsertMethodGenerated(Method method, Interface interfaze, IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("clientInsertMethodGenerated")) { //$NON-NLS-1$
 			if (!plugin.clientInsertMethodGenerated(method, interfaze, introspectedTable)) {
 				rc = false;
 				break;
@@ -471,7 +657,7 @@ public final class PluginAggregator implements Plugin {
 			IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("clientInsertMethodGenerated")) { //$NON-NLS-1$
 			if (!plugin.clientInsertMethodGenerated(method, topLevelClass, introspectedTable)) {
 				rc = false;
 				break;
@@ -481,10 +667,162 @@ public final class PluginAggregator implements Plugin {
 		return rc;
 	}
 
+	public boolean clientInsertBatchMethodGenerated(Method method, Interface interfaze,
+			IntrospectedTable introspectedTable) {
+		boolean rc = true;
+
+		for (Plugin plugin : getPlugins("clientInsertBatchMethodGenerated")) { //$NON-NLS-1$
+			if (!plugin.clientInsertBatchMethodGenerated(method, interfaze, introspectedTable)) {
+				rc = false;
+				break;
+			}
+		}
+
+		return rc;
+	}
+
+	public boolean clientInsertBatchMethodGenerated(Method method, TopLevelClass topLevelClass,
+			IntrospectedTable introspectedTable) {
+		boolean rc = true;
+
+		for (Plugin plugin : getPlugins("clientInsertBatchMethodGenerated")) { //$NON-NLS-1$
+			if (!plugin.clientInsertBatchMethodGenerated(method, topLevelClass, introspectedTable)) {
+				rc = false;
+				break;
+			}
+		}
+
+		return rc;
+	}
+
+	public boolean clientSelectByParamsWithHandlerMethodGenerated(Method method, Interface interfaze,
+			IntrospectedTable introspectedTable) {
+		boolean rc = true;
+
+		for (Plugin plugin : getPlugins("clientSelectByParamsWithHandlerMethodGenerated")) { //$NON-NLS-1$
+			if (!plugin.clientSelectByParamsWithHandlerMethodGenerated(method, interfaze, introspectedTable)) {
+				rc = false;
+				break;
+			}
+		}
+
+		return rc;
+	}
+
+	public boolean clientSelectByParamsWithHandlerMethodGenerated(Method method, TopLevelClass topLevelClass,
+			IntrospectedTable introspectedTable) {
+		boolean rc = true;
+
+		for (Plugin plugin : getPlugins("clientSelectByParamsWithHandlerMethodGenerated")) { //$NON-NLS-1$
+			if (!plugin.clientSelectByParamsWithHandlerMethodGenerated(method, topLevelClass, introspectedTable)) {
+				rc = false;
+				break;
+			}
+		}
+
+		return rc;
+	}
+
+	public boolean clientSelectByPrimaryKeysMethodGenerated(Method method, Interface interfaze,
+			IntrospectedTable introspectedTable) {
+		boolean rc = true;
+
+		for (Plugin plugin : getPlugins("clientSelectByPrimaryKeysMethodGenerated")) { //$NON-NLS-1$
+			if (!plugin.clientSelectByPrimaryKeysMethodGenerated(method, interfaze, introspectedTable)) {
+				rc = false;
+				break;
+			}
+		}
+
+		return rc;
+	}
+
+	public boolean clientSelectByPrimaryKeysMethodGenerated(Method method, TopLevelClass topLevelClass,
+			IntrospectedTable introspectedTable) {
+		boolean rc = true;
+
+		for (Plugin plugin : getPlugins("clientSelectByPrimaryKeysMethodGenerated")) { //$NON-NLS-1$
+			if (!plugin.clientSelectByPrimaryKeysMethodGenerated(method, topLevelClass, introspectedTable)) {
+				rc = false;
+				break;
+			}
+		}
+
+		return rc;
+	}
+
+	public boolean clientDeleteByPrimaryKeysMethodGenerated(Method method, Interface interfaze,
+			IntrospectedTable introspectedTable) {
+		boolean rc = true;
+
+		for (Plugin plugin : getPlugins("clientDeleteByPrimaryKeysMethodGenerated")) { //$NON-NLS-1$
+			if (!plugin.clientDeleteByPrimaryKeysMethodGenerated(method, interfaze, introspectedTable)) {
+				rc = false;
+				break;
+			}
+		}
+
+		return rc;
+	}
+
+	public boolean clientDeleteByPrimaryKeysMethodGenerated(Method method, TopLevelClass topLevelClass,
+			IntrospectedTable introspectedTable) {
+		boolean rc = true;
+
+		for (Plugin plugin : getPlugins("clientDeleteByPrimaryKeysMethodGenerated")) { //$NON-NLS-1$
+			if (!plugin.clientDeleteByPrimaryKeysMethodGenerated(method, topLevelClass, introspectedTable)) {
+				rc = false;
+				break;
+			}
+		}
+
+		return rc;
+	}
+
+	public boolean clientUpsertMethodGenerated(Method method, Interface interfaze, IntrospectedTable introspectedTable) {
+		boolean rc = true;
+
+		for (Plugin plugin : getPlugins("clientUpsertMethodGenerated")) { //$NON-NLS-1$
+			if (!plugin.clientUpsertMethodGenerated(method, interfaze, introspectedTable)) {
+				rc = false;
+				break;
+			}
+		}
+
+		return rc;
+	}
+
+	public boolean clientUpsertSelectiveMethodGenerated(Method method, Interface interfaze,
+			IntrospectedTable introspectedTable) {
+		boolean rc = true;
+
+		for (Plugin plugin : getPlugins("clientUpsertSelectiveMethodGenerated")) { //$NON-NLS-1$
+			if (!plugin.clientUpsertSelectiveMethodGenerated(method, interfaze, introspectedTable)) {
+				rc = false;
+				break;
+			}
+		}
+
+		return rc;
+	}
+
+	public boolean clientUpsertBatchMethodGenerated(Method method, Interface interfaze, IntrospectedTable introspectedTable) {
+		boolean rc = true;
+
+		for (Plugin plugin : getPlugins("clientUpsertBatchMethodGenerated")) { //$NON-NLS-1$
+			if (!plugin.clientUpsertBatchMethodGenerated(method, interfaze, introspectedTable)) {
+				rc = false;
+				break;
+			}
+		}
+
+		return rc;
+	}
+
 	public boolean clientGenerated(Interface interfaze, TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("clientGenerated")) { //$NON-NLS-1$
 			if (!plugin.clientGenerated(interfaze, topLevelClass, introspectedTable)) {
 				rc = false;
 				break;
@@ -498,7 +836,7 @@ public final class PluginAggregator implements Plugin {
 			IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("clientSelectByParamsWithBLOBsMethodGenerated")) { //$NON-NLS-1$
 			if (!plugin.clientSelectByParamsWithBLOBsMethodGenerated(method, interfaze, introspectedTable)) {
 				rc = false;
 				break;
@@ -512,7 +850,7 @@ public final class PluginAggregator implements Plugin {
 			IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("clientSelectByParamsWithBLOBsMethodGenerated")) { //$NON-NLS-1$
 			if (!plugin.clientSelectByParamsWithBLOBsMethodGenerated(method, topLevelClass, introspectedTable)) {
 				rc = false;
 				break;
@@ -526,7 +864,7 @@ public final class PluginAggregator implements Plugin {
 			IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("clientSelectByParamsWithoutBLOBsMethodGenerated")) { //$NON-NLS-1$
 			if (!plugin.clientSelectByParamsWithoutBLOBsMethodGenerated(method, interfaze, introspectedTable)) {
 				rc = false;
 				break;
@@ -540,7 +878,7 @@ public final class PluginAggregator implements Plugin {
 			IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("clientSelectByParamsWithoutBLOBsMethodGenerated")) { //$NON-NLS-1$
 			if (!plugin.clientSelectByParamsWithoutBLOBsMethodGenerated(method, topLevelClass, introspectedTable)) {
 				rc = false;
 				break;
@@ -554,7 +892,7 @@ public final class PluginAggregator implements Plugin {
 			IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("clientSelectByPrimaryKeyMethodGenerated")) { //$NON-NLS-1$
 			if (!plugin.clientSelectByPrimaryKeyMethodGenerated(method, interfaze, introspectedTable)) {
 				rc = false;
 				break;
@@ -568,7 +906,7 @@ public final class PluginAggregator implements Plugin {
 			IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("clientSelectByPrimaryKeyMethodGenerated")) { //$NON-NLS-1$
 			if (!plugin.clientSelectByPrimaryKeyMethodGenerated(method, topLevelClass, introspectedTable)) {
 				rc = false;
 				break;
@@ -582,7 +920,7 @@ public final class PluginAggregator implements Plugin {
 			IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("clientUpdateByParamsSelectiveMethodGenerated")) { //$NON-NLS-1$
 			if (!plugin.clientUpdateByParamsSelectiveMethodGenerated(method, interfaze, introspectedTable)) {
 				rc = false;
 				break;
@@ -596,7 +934,7 @@ public final class PluginAggregator implements Plugin {
 			IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("clientUpdateByParamsSelectiveMethodGenerated")) { //$NON-NLS-1$
 			if (!plugin.clientUpdateByParamsSelectiveMethodGenerated(method, topLevelClass, introspectedTable)) {
 				rc = false;
 				break;
@@ -610,7 +948,7 @@ public final class PluginAggregator implements Plugin {
 			IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("clientUpdateByParamsWithBLOBsMethodGenerated")) { //$NON-NLS-1$
 			if (!plugin.clientUpdateByParamsWithBLOBsMethodGenerated(method, interfaze, introspectedTable)) {
 				rc = false;
 				break;
@@ -624,7 +962,7 @@ public final class PluginAggregator implements Plugin {
 			IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("clientUpdateByParamsWithBLOBsMethodGenerated")) { //$NON-NLS-1$
 			if (!plugin.clientUpdateByParamsWithBLOBsMethodGenerated(method, topLevelClass, introspectedTable)) {
 				rc = false;
 				break;
@@ -638,7 +976,7 @@ public final class PluginAggregator implements Plugin {
 			IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("clientUpdateByParamsWithoutBLOBsMethodGenerated")) { //$NON-NLS-1$
 			if (!plugin.clientUpdateByParamsWithoutBLOBsMethodGenerated(method, interfaze, introspectedTable)) {
 				rc = false;
 				break;
@@ -652,7 +990,7 @@ public final class PluginAggregator implements Plugin {
 			IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("clientUpdateByParamsWithoutBLOBsMethodGenerated")) { //$NON-NLS-1$
 			if (!plugin.clientUpdateByParamsWithoutBLOBsMethodGenerated(method, topLevelClass, introspectedTable)) {
 				rc = false;
 				break;
@@ -666,7 +1004,7 @@ public final class PluginAggregator implements Plugin {
 			IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("clientUpdateByPrimaryKeySelectiveMethodGenerated")) { //$NON-NLS-1$
 			if (!plugin.clientUpdateByPrimaryKeySelectiveMethodGenerated(method, interfaze, introspectedTable)) {
 				rc = false;
 				break;
@@ -680,7 +1018,7 @@ public final class PluginAggregator implements Plugin {
 			IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("clientUpdateByPrimaryKeySelectiveMethodGenerated")) { //$NON-NLS-1$
 			if (!plugin.clientUpdateByPrimaryKeySelectiveMethodGenerated(method, topLevelClass, introspectedTable)) {
 				rc = false;
 				break;
@@ -694,7 +1032,7 @@ public final class PluginAggregator implements Plugin {
 			IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("clientUpdateByPrimaryKeyWithBLOBsMethodGenerated")) { //$NON-NLS-1$
 			if (!plugin.clientUpdateByPrimaryKeyWithBLOBsMethodGenerated(method, interfaze, introspectedTable)) {
 				rc = false;
 				break;
@@ -708,7 +1046,7 @@ public final class PluginAggregator implements Plugin {
 			IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("clientUpdateByPrimaryKeyWithBLOBsMethodGenerated")) { //$NON-NLS-1$
 			if (!plugin.clientUpdateByPrimaryKeyWithBLOBsMethodGenerated(method, topLevelClass, introspectedTable)) {
 				rc = false;
 				break;
@@ -722,7 +1060,7 @@ public final class PluginAggregator implements Plugin {
 			IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("clientUpdateByPrimaryKeyWithoutBLOBsMethodGenerated")) { //$NON-NLS-1$
 			if (!plugin.clientUpdateByPrimaryKeyWithoutBLOBsMethodGenerated(method, interfaze, introspectedTable)) {
 				rc = false;
 				break;
@@ -736,7 +1074,7 @@ public final class PluginAggregator implements Plugin {
 			IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("clientUpdateByPrimaryKeyWithoutBLOBsMethodGenerated")) { //$NON-NLS-1$
 			if (!plugin.clientUpdateByPrimaryKeyWithoutBLOBsMethodGenerated(method, topLevelClass, introspectedTable)) {
 				rc = false;
 				break;
@@ -748,7 +1086,7 @@ public final class PluginAggregator implements Plugin {
 
 	public List<GeneratedJavaFile> contextGenerateAdditionalJavaFiles() {
 		List<GeneratedJavaFile> answer = new ArrayList<GeneratedJavaFile>();
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("contextGenerateAdditionalJavaFiles")) { //$NON-NLS-1$
 			List<GeneratedJavaFile> temp = plugin.contextGenerateAdditionalJavaFiles();
 			if (temp != null) {
 				answer.addAll(temp);
@@ -759,7 +1097,7 @@ public final class PluginAggregator implements Plugin {
 
 	public List<GeneratedXmlFile> contextGenerateAdditionalXmlFiles() {
 		List<GeneratedXmlFile> answer = new ArrayList<GeneratedXmlFile>();
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("contextGenerateAdditionalXmlFiles")) { //$NON-NLS-1$
 			List<GeneratedXmlFile> temp = plugin.contextGenerateAdditionalXmlFiles();
 			if (temp != null) {
 				answer.addAll(temp);
@@ -771,7 +1109,7 @@ public final class PluginAggregator implements Plugin {
 	public boolean sqlMapDocumentGenerated(Document document, IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("sqlMapDocumentGenerated")) { //$NON-NLS-1$
 			if (!plugin.sqlMapDocumentGenerated(document, introspectedTable)) {
 				rc = false;
 				break;
@@ -785,7 +1123,7 @@ public final class PluginAggregator implements Plugin {
 			IntrospectedTable introspectedTable, Plugin.ModelClassType modelClassType) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("modelFieldGenerated")) { //$NON-NLS-1$
 			if (!plugin
 					.modelFieldGenerated(field, topLevelClass, introspectedColumn, introspectedTable, modelClassType)) {
 				rc = false;
@@ -801,7 +1139,7 @@ public final class PluginAggregator implements Plugin {
 			Plugin.ModelClassType modelClassType) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("modelGetterMethodGenerated")) { //$NON-NLS-1$
 			if (!plugin.modelGetterMethodGenerated(method, topLevelClass, introspectedColumn, introspectedTable,
 					modelClassType)) {
 				rc = false;
@@ -817,7 +1155,7 @@ public final class PluginAggregator implements Plugin {
 			Plugin.ModelClassType modelClassType) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("modelSetterMethodGenerated")) { //$NON-NLS-1$
 			if (!plugin.modelSetterMethodGenerated(method, topLevelClass, introspectedColumn, introspectedTable,
 					modelClassType)) {
 				rc = false;
@@ -831,7 +1169,7 @@ public final class PluginAggregator implements Plugin {
 	public boolean sqlMapInsertSelectiveElementGenerated(XmlElement element, IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("sqlMapInsertSelectiveElementGenerated")) { //$NON-NLS-1$
 			if (!plugin.sqlMapInsertSelectiveElementGenerated(element, introspectedTable)) {
 				rc = false;
 				break;
@@ -845,7 +1183,7 @@ public final class PluginAggregator implements Plugin {
 			IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("clientInsertSelectiveMethodGenerated")) { //$NON-NLS-1$
 			if (!plugin.clientInsertSelectiveMethodGenerated(method, interfaze, introspectedTable)) {
 				rc = false;
 				break;
@@ -859,7 +1197,7 @@ public final class PluginAggregator implements Plugin {
 			IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("clientInsertSelectiveMethodGenerated")) { //$NON-NLS-1$
 			if (!plugin.clientInsertSelectiveMethodGenerated(method, topLevelClass, introspectedTable)) {
 				rc = false;
 				break;
@@ -870,7 +1208,7 @@ public final class PluginAggregator implements Plugin {
 	}
 
 	public void initialized(IntrospectedTable introspectedTable) {
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("initialized")) { //$NON-NLS-1$
 			plugin.initialized(introspectedTable);
 		}
 	}
@@ -878,7 +1216,7 @@ public final class PluginAggregator implements Plugin {
 	public boolean sqlMapBaseColumnListElementGenerated(XmlElement element, IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("sqlMapBaseColumnListElementGenerated")) { //$NON-NLS-1$
 			if (!plugin.sqlMapBaseColumnListElementGenerated(element, introspectedTable)) {
 				rc = false;
 				break;
@@ -891,7 +1229,7 @@ public final class PluginAggregator implements Plugin {
 	public boolean sqlMapBlobColumnListElementGenerated(XmlElement element, IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("sqlMapBlobColumnListElementGenerated")) { //$NON-NLS-1$
 			if (!plugin.sqlMapBlobColumnListElementGenerated(element, introspectedTable)) {
 				rc = false;
 				break;
@@ -904,7 +1242,7 @@ public final class PluginAggregator implements Plugin {
 	public boolean providerGenerated(TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("providerGenerated")) { //$NON-NLS-1$
 			if (!plugin.providerGenerated(topLevelClass, introspectedTable)) {
 				rc = false;
 				break;
@@ -918,7 +1256,7 @@ public final class PluginAggregator implements Plugin {
 			IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("providerApplyWhereMethodGenerated")) { //$NON-NLS-1$
 			if (!plugin.providerApplyWhereMethodGenerated(method, topLevelClass, introspectedTable)) {
 				rc = false;
 				break;
@@ -932,7 +1270,7 @@ public final class PluginAggregator implements Plugin {
 			IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("providerCountByParamsMethodGenerated")) { //$NON-NLS-1$
 			if (!plugin.providerCountByParamsMethodGenerated(method, topLevelClass, introspectedTable)) {
 				rc = false;
 				break;
@@ -946,7 +1284,7 @@ public final class PluginAggregator implements Plugin {
 			IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("providerDeleteByParamsMethodGenerated")) { //$NON-NLS-1$
 			if (!plugin.providerDeleteByParamsMethodGenerated(method, topLevelClass, introspectedTable)) {
 				rc = false;
 				break;
@@ -956,11 +1294,25 @@ public final class PluginAggregator implements Plugin {
 		return rc;
 	}
 
+	public boolean providerInsertBatchMethodGenerated(Method method, TopLevelClass topLevelClass,
+			IntrospectedTable introspectedTable) {
+		boolean rc = true;
+
+		for (Plugin plugin : getPlugins("providerInsertBatchMethodGenerated")) { //$NON-NLS-1$
+			if (!plugin.providerInsertBatchMethodGenerated(method, topLevelClass, introspectedTable)) {
+				rc = false;
+				break;
+			}
+		}
+
+		return rc;
+	}
+
 	public boolean providerInsertSelectiveMethodGenerated(Method method, TopLevelClass topLevelClass,
 			IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("providerInsertSelectiveMethodGenerated")) { //$NON-NLS-1$
 			if (!plugin.providerInsertSelectiveMethodGenerated(method, topLevelClass, introspectedTable)) {
 				rc = false;
 				break;
@@ -974,7 +1326,7 @@ public final class PluginAggregator implements Plugin {
 			IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("providerSelectByParamsWithBLOBsMethodGenerated")) { //$NON-NLS-1$
 			if (!plugin.providerSelectByParamsWithBLOBsMethodGenerated(method, topLevelClass, introspectedTable)) {
 				rc = false;
 				break;
@@ -988,7 +1340,7 @@ public final class PluginAggregator implements Plugin {
 			IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("providerSelectByParamsWithoutBLOBsMethodGenerated")) { //$NON-NLS-1$
 			if (!plugin.providerSelectByParamsWithoutBLOBsMethodGenerated(method, topLevelClass, introspectedTable)) {
 				rc = false;
 				break;
@@ -1002,7 +1354,7 @@ public final class PluginAggregator implements Plugin {
 			IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("providerUpdateByParamsSelectiveMethodGenerated")) { //$NON-NLS-1$
 			if (!plugin.providerUpdateByParamsSelectiveMethodGenerated(method, topLevelClass, introspectedTable)) {
 				rc = false;
 				break;
@@ -1016,7 +1368,7 @@ public final class PluginAggregator implements Plugin {
 			IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("providerUpdateByParamsWithBLOBsMethodGenerated")) { //$NON-NLS-1$
 			if (!plugin.providerUpdateByParamsWithBLOBsMethodGenerated(method, topLevelClass, introspectedTable)) {
 				rc = false;
 				break;
@@ -1030,7 +1382,7 @@ public final class PluginAggregator implements Plugin {
 			IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("providerUpdateByParamsWithoutBLOBsMethodGenerated")) { //$NON-NLS-1$
 			if (!plugin.providerUpdateByParamsWithoutBLOBsMethodGenerated(method, topLevelClass, introspectedTable)) {
 				rc = false;
 				break;
@@ -1044,7 +1396,7 @@ public final class PluginAggregator implements Plugin {
 			IntrospectedTable introspectedTable) {
 		boolean rc = true;
 
-		for (Plugin plugin : plugins) {
+		for (Plugin plugin : getPlugins("providerUpdateByPrimaryKeySelectiveMethodGenerated")) { //$NON-NLS-1$
 			if (!plugin.providerUpdateByPrimaryKeySelectiveMethodGenerated(method, topLevelClass, introspectedTable)) {
 				rc = false;
 				break;
@@ -0,0 +1,70 @@
+/*
+ *  Copyright 2005 The Apache Software Foundation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import org.mybatis.generator.api.GenerationMetrics;
+import org.mybatis.generator.api.Plugin;
+import org.mybatis.generator.api.ThreadSafePlugin;
+
+/**
+ * Reports the time of every call of a plugin method to the generation
+ * metrics. The wrapped plugin is a ThreadSafePlugin if and only if the plugin
+ * is one.
+ */
+public class PluginTimer implements InvocationHandler {
+
+	private Plugin plugin;
+
+	private GenerationMetrics metrics;
+
+	private String contextId;
+
+	private String pluginType;
+
+	private PluginTimer(Plugin plugin, GenerationMetrics metrics, String contextId) {
+		super();
+		this.plugin = plugin;
+		this.metrics = metrics;
+		this.contextId = contextId;
+		this.pluginType = plugin.getClass().getName();
+	}
+
+	/**
+	 * @return a plugin that calls the specified plugin and reports the time of
+	 *         each call
+	 */
+	public static Plugin wrap(Plugin plugin, GenerationMetrics metrics, String contextId) {
+		Class<?> pluginInterface = plugin instanceof ThreadSafePlugin ? ThreadSafePlugin.class : Plugin.class;
+		return (Plugin) Proxy.newProxyInstance(Plugin.class.getClassLoader(), new Class<?>[] { pluginInterface },
+				new PluginTimer(plugin, metrics, contextId));
+	}
+
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		long startTime = System.nanoTime();
+		try {
+			return method.invoke(plugin, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		} finally {
+			metrics.pluginCalled(contextId, pluginType, method.getName(), System.nanoTime() - startTime);
+		}
+	}
+}
@@ -0,0 +1,254 @@
+/*
+ *  Copyright 2005 The Apache Software Foundation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.api.dom.xml.Element;
+import org.mybatis.generator.api.dom.xml.XmlElement;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.PluginConfiguration;
+import org.mybatis.generator.config.TableConfiguration;
+import org.mybatis.generator.logging.Log;
+import org.mybatis.generator.logging.LogFactory;
+
+/**
+ * This class remembers a fingerprint of every table generated in incremental
+ * mode. The fingerprint covers the introspected columns, primary key and
+ * remarks of the table, its table configuration, and the rest of the context
+ * configuration including the plugins. A table whose fingerprint has not
+ * changed since the last run does not need to be generated again.
+ * <p>
+ * The fingerprints are only saved after all files of a run have been written,
+ * so a failed run is generated again the next time. The manifest does not know
+ * about the generated files - if they are deleted, the manifest must be deleted
+ * too.
+ */
+public class TableFingerprintManifest {
+
+	private static final Log LOGGER = LogFactory.getLog(TableFingerprintManifest.class);
+
+	private File manifestFile;
+
+	/**
+	 * Key is the context id and the fully qualified table name, value is the
+	 * fingerprint of the table
+	 */
+	private Properties entries;
+
+	/**
+	 * Key is the context id, value is the fingerprint of the context
+	 * configuration without the tables
+	 */
+	private Map<String, String> contextFingerprints;
+
+	private boolean changed;
+
+	/**
+	 * Loads the manifest file. A missing or unreadable file results in an
+	 * empty manifest.
+	 */
+	public TableFingerprintManifest(File manifestFile) {
+		super();
+		this.manifestFile = manifestFile;
+		entries = new Properties();
+		contextFingerprints = new TreeMap<String, String>();
+
+		if (manifestFile.exists()) {
+			InputStream in = null;
+			try {
+				in = new BufferedInputStream(new FileInputStream(manifestFile));
+				entries.load(in);
+			} catch (IOException e) {
+				LOGGER.warn("Ignoring unreadable table manifest " + manifestFile.getAbsolutePath()); //$NON-NLS-1$
+				entries.clear();
+			} finally {
+				if (in != null) {
+					try {
+						in.close();
+					} catch (IOException e) {
+						// ignore
+						;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Calculates the fingerprint of the table and records it.
+	 * 
+	 * @param context
+	 *            the context of the table
+	 * @param introspectedTable
+	 *            the table, before it is initialized for generation
+	 * @return true if the manifest already had the same fingerprint for the
+	 *         table
+	 */
+	public synchronized boolean update(Context context, IntrospectedTable introspectedTable) {
+		String key = context.getId() + ':' + introspectedTable.getFullyQualifiedTable();
+		String fingerprint = calculateFingerprint(context, introspectedTable);
+
+		if (fingerprint.equals(entries.getProperty(key))) {
+			return true;
+		}
+
+		entries.setProperty(key, fingerprint);
+		changed = true;
+		return false;
+	}
+
+	/**
+	 * Removes the fingerprint of a table whose files could not be saved, so
+	 * that the table is generated again in the next run.
+	 * 
+	 * @param contextId
+	 *            the id of the context of the table
+	 * @param tableName
+	 *            the fully qualified name of the table
+	 */
+	public synchronized void remove(String contextId, String tableName) {
+		if (entries.remove(contextId + ':' + tableName) != null) {
+			changed = true;
+		}
+	}
+
+	/**
+	 * Writes the manifest file if any fingerprint has changed since it was
+	 * loaded.
+	 */
+	public synchronized void save() throws IOException {
+		if (!changed) {
+			return;
+		}
+
+		OutputStream out = new BufferedOutputStream(new FileOutputStream(manifestFile));
+		try {
+			entries.store(out, "MyBatis Generator table manifest"); //$NON-NLS-1$
+		} finally {
+			out.close();
+		}
+		changed = false;
+	}
+
+	private String calculateFingerprint(Context context, IntrospectedTable introspectedTable) {
+		StringBuilder sb = new StringBuilder();
+		sb.append(getContextFingerprint(context));
+		sb.append('\n');
+		sb.append(introspectedTable.getTableConfiguration().toXmlElement().getFormattedContent(0));
+		sb.append('\n');
+		sb.append(introspectedTable.getFullyQualifiedTable());
+		sb.append('|');
+		sb.append(introspectedTable.getRemarks());
+		sb.append('\n');
+
+		for (IntrospectedColumn introspectedColumn : introspectedTable.getPrimaryKeyColumns()) {
+			sb.append("PK|"); //$NON-NLS-1$
+			appendColumn(introspectedColumn, sb);
+		}
+		for (IntrospectedColumn introspectedColumn : introspectedTable.getBaseColumns()) {
+			appendColumn(introspectedColumn, sb);
+		}
+		for (IntrospectedColumn introspectedColumn : introspectedTable.getBLOBColumns()) {
+			sb.append("BLOB|"); //$NON-NLS-1$
+			appendColumn(introspectedColumn, sb);
+		}
+
+		return md5(sb.toString());
+	}
+
+	private void appendColumn(IntrospectedColumn introspectedColumn, StringBuilder sb) {
+		sb.append(introspectedColumn.getActualColumnName()).append('|');
+		sb.append(introspectedColumn.getJdbcType()).append('|');
+		sb.append(introspectedColumn.getJdbcTypeName()).append('|');
+		sb.append(introspectedColumn.isNullable()).append('|');
+		sb.append(introspectedColumn.getLength()).append('|');
+		sb.append(introspectedColumn.getScale()).append('|');
+		sb.append(introspectedColumn.isIdentity()).append('|');
+		sb.append(introspectedColumn.isSequenceColumn()).append('|');
+		sb.append(introspectedColumn.getJavaProperty()).append('|');
+		sb.append(introspectedColumn.getFullyQualifiedJavaType().getFullyQualifiedName()).append('|');
+		sb.append(introspectedColumn.getTypeHandler()).append('|');
+		sb.append(introspectedColumn.isColumnNameDelimited()).append('|');
+		sb.append(new TreeMap<Object, Object>(introspectedColumn.getProperties())).append('|');
+		sb.append(introspectedColumn.getRemarks()).append('|');
+		sb.append(introspectedColumn.getDefaultValue()).append('\n');
+	}
+
+	/**
+	 * The context configuration without the table configurations, so that
+	 * changing one table does not regenerate the others. The plugins are
+	 * added because they are not part of the context XML.
+	 */
+	private String getContextFingerprint(Context context) {
+		String answer = contextFingerprints.get(context.getId());
+		if (answer == null) {
+			answer = calculateContextFingerprint(context);
+			contextFingerprints.put(context.getId(), answer);
+		}
+
+		return answer;
+	}
+
+	/**
+	 * @return the fingerprint of the context configuration without the table
+	 *         configurations, including the plugins
+	 */
+	public static String calculateContextFingerprint(Context context) {
+		XmlElement xmlElement = context.toXmlElement();
+		XmlElement contextElement = new XmlElement(xmlElement.getName());
+		for (Element element : xmlElement.getElements()) {
+			if (!(element instanceof XmlElement) || !"table".equals(((XmlElement) element).getName())) { //$NON-NLS-1$
+				contextElement.addElement(element);
+			}
+		}
+		contextElement.getAttributes().addAll(xmlElement.getAttributes());
+
+		for (PluginConfiguration pluginConfiguration : context.getPluginConfigurations()) {
+			contextElement.addElement(pluginConfiguration.toXmlElement());
+		}
+
+		return md5(contextElement.getFormattedContent(0));
+	}
+
+	/**
+	 * @return the fingerprint of the table configuration
+	 */
+	public static String calculateTableConfigurationFingerprint(TableConfiguration tc) {
+		return md5(tc.toXmlElement().getFormattedContent(0));
+	}
+
+	private static String md5(String s) {
+		try {
+			return FileHashManifest.md5(s.getBytes("UTF-8")); //$NON-NLS-1$
+		} catch (UnsupportedEncodingException e) {
+			throw new RuntimeException(e);
+		}
+	}
+}
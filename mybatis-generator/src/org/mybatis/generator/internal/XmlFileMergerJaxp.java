@@ -17,52 +17,86 @@ package org.mybatis.generator.internal;
 
 import static org.mybatis.generator.internal.util.messages.Messages.getString;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Reader;
 import java.io.StringReader;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLResolver;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.stream.StreamSource;
 
 import org.mybatis.generator.api.GeneratedXmlFile;
 import org.mybatis.generator.config.MergeConstants;
 import org.mybatis.generator.exception.ShellException;
-import org.w3c.dom.Comment;
-import org.w3c.dom.Document;
-import org.w3c.dom.DocumentType;
-import org.w3c.dom.Element;
-import org.w3c.dom.NamedNodeMap;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
-import org.w3c.dom.Text;
-import org.xml.sax.EntityResolver;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 
 /**
  * This class handles the task of merging changes into an existing XML file.
- * 
+ * <p>
+ * Both documents are read with a streaming (StAX) parser and the merged
+ * document is written as the existing document is read, so neither document
+ * is built in memory. The result is the existing document with the attributes
+ * of the new root element, followed by the children of the new root element,
+ * followed by the children of the existing root element that were not
+ * generated. The output has the same format as the DomWriter output of the
+ * merged document.
+ *
  * @author Jeff Butler
  */
 public class XmlFileMergerJaxp {
-	private static class NullEntityResolver implements EntityResolver {
+	private static class NullXmlResolver implements XMLResolver {
 		/**
-		 * returns an empty reader. This is done so that the parser doesn't
+		 * returns an empty stream. This is done so that the parser doesn't
 		 * attempt to read a DTD. We don't need that support for the merge and
 		 * it can cause problems on systems that aren't Internet connected.
 		 */
-		public InputSource resolveEntity(String publicId, String systemId) throws SAXException, IOException {
-
-			StringReader sr = new StringReader(""); //$NON-NLS-1$
+		public Object resolveEntity(String publicID, String systemID, String baseURI, String namespace)
+				throws XMLStreamException {
 
-			return new InputSource(sr);
+			return new ByteArrayInputStream(new byte[0]);
 		}
 	}
 
+	/**
+	 * Makes the JDK parser report CDATA sections as CDATA events instead of
+	 * characters, so that they are written as CDATA sections again
+	 */
+	private static final String REPORT_CDATA_EVENT = "http://java.sun.com/xml/stream/properties/report-cdata-event"; //$NON-NLS-1$
+
+	/**
+	 * An XMLInputFactory is not guaranteed to be thread safe, so each thread
+	 * configures its own factory once
+	 */
+	private static final ThreadLocal<XMLInputFactory> INPUT_FACTORY = new ThreadLocal<XMLInputFactory>() {
+		@Override
+		protected XMLInputFactory initialValue() {
+			XMLInputFactory factory = XMLInputFactory.newInstance();
+			factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, Boolean.FALSE);
+			factory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.FALSE);
+			factory.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, Boolean.FALSE);
+			factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+			if (factory.isPropertySupported(REPORT_CDATA_EVENT)) {
+				factory.setProperty(REPORT_CDATA_EVENT, Boolean.TRUE);
+			}
+			factory.setXMLResolver(new NullXmlResolver());
+			return factory;
+		}
+	};
+
 	/**
 	 * Utility class - no instances allowed
 	 */
@@ -72,9 +106,11 @@ public class XmlFileMergerJaxp {
 
 	public static String getMergedSource(GeneratedXmlFile generatedXmlFile, File existingFile) throws ShellException {
 
+		Reader existingFileReader = null;
 		try {
+			existingFileReader = new FileReader(existingFile);
 			return getMergedSource(new InputSource(new StringReader(generatedXmlFile.getFormattedContent())),
-					new InputSource(new FileReader(existingFile)), existingFile.getName());
+					new InputSource(existingFileReader), existingFile.getName());
 		} catch (IOException e) {
 			throw new ShellException(getString("Warning.13", //$NON-NLS-1$
 					existingFile.getName()), e);
@@ -84,155 +120,575 @@ public class XmlFileMergerJaxp {
 		} catch (ParserConfigurationException e) {
 			throw new ShellException(getString("Warning.13", //$NON-NLS-1$
 					existingFile.getName()), e);
+		} finally {
+			if (existingFileReader != null) {
+				try {
+					existingFileReader.close();
+				} catch (IOException e) {
+					// ignore
+					;
+				}
+			}
 		}
 	}
 
 	public static String getMergedSource(InputSource newFile, InputSource existingFile, String existingFileName)
 			throws IOException, SAXException, ParserConfigurationException, ShellException {
 
-		DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-		factory.setExpandEntityReferences(false);
-		DocumentBuilder builder = factory.newDocumentBuilder();
-		builder.setEntityResolver(new NullEntityResolver());
+		XMLStreamReader existingReader = null;
+		XMLStreamReader newReader = null;
+		try {
+			existingReader = createReader(existingFile);
+			newReader = createReader(newFile);
 
-		Document existingDocument = builder.parse(existingFile);
-		Document newDocument = builder.parse(newFile);
+			DocType existingDocType = readPrologue(existingReader);
+			DocType newDocType = readPrologue(newReader);
 
-		DocumentType newDocType = newDocument.getDoctype();
-		DocumentType existingDocType = existingDocument.getDoctype();
+			if (existingDocType == null || newDocType == null || !newDocType.name.equals(existingDocType.name)) {
+				throw new ShellException(getString("Warning.12", //$NON-NLS-1$
+						existingFileName));
+			}
 
-		if (!newDocType.getName().equals(existingDocType.getName())) {
-			throw new ShellException(getString("Warning.12", //$NON-NLS-1$
-					existingFileName));
-		}
+			MergeWriter mergeWriter = new MergeWriter("1.1".equals(existingReader.getVersion())); //$NON-NLS-1$
+			mergeWriter.writeDocType(existingDocType);
+
+			// the existing root element gets the attributes of the new root
+			// element
+			String rootElementName = existingReader.getLocalName();
+			mergeWriter.writeStartElement(rootElementName, getAttributes(newReader));
 
-		Element existingRootElement = existingDocument.getDocumentElement();
-		Element newRootElement = newDocument.getDocumentElement();
+			// the new generated elements come first
+			copyNewChildren(new NodeReader(newReader), mergeWriter);
 
-		// reconcile the root element attributes -
-		// take all attributes from the new element and add to the existing
-		// element
+			// followed by the existing elements that were not generated
+			copyExistingChildren(new NodeReader(existingReader), mergeWriter);
 
-		// remove all attributes from the existing root element
-		NamedNodeMap attributes = existingRootElement.getAttributes();
-		int attributeCount = attributes.getLength();
-		for (int i = attributeCount - 1; i >= 0; i--) {
-			Node node = attributes.item(i);
-			existingRootElement.removeAttribute(node.getNodeName());
+			mergeWriter.writeEndElement(rootElementName);
+
+			return mergeWriter.toString();
+		} catch (XMLStreamException e) {
+			throw new SAXException(e);
+		} finally {
+			closeReader(newReader);
+			closeReader(existingReader);
 		}
+	}
 
-		// add attributes from the new root node to the old root node
-		attributes = newRootElement.getAttributes();
-		attributeCount = attributes.getLength();
-		for (int i = 0; i < attributeCount; i++) {
-			Node node = attributes.item(i);
-			existingRootElement.setAttribute(node.getNodeName(), node.getNodeValue());
+	private static XMLStreamReader createReader(InputSource inputSource) throws XMLStreamException {
+		XMLInputFactory factory = INPUT_FACTORY.get();
+		if (inputSource.getCharacterStream() != null) {
+			return factory.createXMLStreamReader(inputSource.getSystemId(), inputSource.getCharacterStream());
+		} else if (inputSource.getByteStream() != null) {
+			return factory.createXMLStreamReader(inputSource.getSystemId(), inputSource.getByteStream());
+		} else {
+			return factory.createXMLStreamReader(new StreamSource(inputSource.getSystemId()));
 		}
+	}
 
-		// remove the old generated elements and any
-		// white space before the old nodes
-		List<Node> nodesToDelete = new ArrayList<Node>();
-		NodeList children = existingRootElement.getChildNodes();
-		int length = children.getLength();
-		for (int i = 0; i < length; i++) {
-			Node node = children.item(i);
-			if (isGeneratedNode(node)) {
-				nodesToDelete.add(node);
-			} else if (isWhiteSpace(node) && isGeneratedNode(children.item(i + 1))) {
-				nodesToDelete.add(node);
+	private static void closeReader(XMLStreamReader reader) {
+		if (reader != null) {
+			try {
+				reader.close();
+			} catch (XMLStreamException e) {
+				// ignore
+				;
 			}
 		}
+	}
 
-		for (Node node : nodesToDelete) {
-			existingRootElement.removeChild(node);
+	/**
+	 * Reads up to the root element.
+	 *
+	 * @return the document type declaration, or null if there is none
+	 */
+	private static DocType readPrologue(XMLStreamReader reader) throws XMLStreamException {
+		DocType docType = null;
+		int eventType = reader.getEventType();
+		while (eventType != XMLStreamConstants.START_ELEMENT) {
+			if (eventType == XMLStreamConstants.DTD) {
+				docType = new DocType(reader.getText());
+			}
+			eventType = reader.next();
+		}
+
+		return docType;
+	}
+
+	/**
+	 * Copies the children of the new root element. The last child is not
+	 * copied if it is only white space.
+	 */
+	private static void copyNewChildren(NodeReader nodeReader, MergeWriter mergeWriter) throws XMLStreamException {
+		String whiteSpace = null;
+		while (nodeReader.next() != XMLStreamConstants.END_ELEMENT) {
+			if (whiteSpace != null) {
+				mergeWriter.writeText(whiteSpace);
+				whiteSpace = null;
+			}
+
+			if (nodeReader.isWhiteSpace()) {
+				whiteSpace = nodeReader.getText();
+			} else {
+				copyNode(nodeReader, mergeWriter);
+			}
 		}
+	}
+
+	/**
+	 * Copies the children of the existing root element, except the old
+	 * generated elements and any white space directly before them.
+	 */
+	private static void copyExistingChildren(NodeReader nodeReader, MergeWriter mergeWriter)
+			throws XMLStreamException {
+		String whiteSpace = null;
+		while (nodeReader.next() != XMLStreamConstants.END_ELEMENT) {
+			if (nodeReader.isWhiteSpace()) {
+				whiteSpace = nodeReader.getText();
+				continue;
+			}
 
-		// add the new generated elements
-		children = newRootElement.getChildNodes();
-		length = children.getLength();
-		Node firstChild = existingRootElement.getFirstChild();
-		for (int i = 0; i < length; i++) {
-			Node node = children.item(i);
-			// don't add the last node if it is only white space
-			if (i == length - 1) {
-				if (isWhiteSpace(node)) {
-					break;
+			if (nodeReader.getEventType() == XMLStreamConstants.START_ELEMENT) {
+				copyElementUnlessGenerated(nodeReader, mergeWriter, whiteSpace);
+			} else {
+				if (whiteSpace != null) {
+					mergeWriter.writeText(whiteSpace);
 				}
+				copyNode(nodeReader, mergeWriter);
+			}
+			whiteSpace = null;
+		}
+
+		if (whiteSpace != null) {
+			mergeWriter.writeText(whiteSpace);
+		}
+	}
+
+	/**
+	 * Copies the current element and the white space before it, unless the
+	 * element is generated. An element is generated if its id starts with one
+	 * of the old element prefixes, or if one of the comments before its first
+	 * other child node contains one of the element tags. Those leading child
+	 * nodes are held back until this is known.
+	 */
+	private static void copyElementUnlessGenerated(NodeReader nodeReader, MergeWriter mergeWriter,
+			String whiteSpace) throws XMLStreamException {
+		String elementName = nodeReader.getReader().getLocalName();
+		Map<String, String> attributes = getAttributes(nodeReader.getReader());
+
+		if (isGeneratedId(attributes.get("id"))) { //$NON-NLS-1$
+			skipElement(nodeReader, 1);
+			return;
+		}
+
+		boolean generated = false;
+		List<BufferedNode> leadingNodes = new ArrayList<BufferedNode>();
+		int eventType = nodeReader.next();
+		while (nodeReader.isWhiteSpace() || eventType == XMLStreamConstants.COMMENT) {
+			if (eventType == XMLStreamConstants.COMMENT && isGeneratedComment(nodeReader.getText())) {
+				generated = true;
 			}
+			leadingNodes.add(new BufferedNode(eventType, nodeReader.getText()));
+			eventType = nodeReader.next();
+		}
 
-			Node newNode = existingDocument.importNode(node, true);
-			if (firstChild == null) {
-				existingRootElement.appendChild(newNode);
+		if (generated) {
+			if (eventType == XMLStreamConstants.START_ELEMENT) {
+				skipElement(nodeReader, 2);
+			} else if (eventType != XMLStreamConstants.END_ELEMENT) {
+				skipElement(nodeReader, 1);
+			}
+			return;
+		}
+
+		if (whiteSpace != null) {
+			mergeWriter.writeText(whiteSpace);
+		}
+		mergeWriter.writeStartElement(elementName, attributes);
+		for (BufferedNode leadingNode : leadingNodes) {
+			if (leadingNode.eventType == XMLStreamConstants.COMMENT) {
+				mergeWriter.writeComment(leadingNode.text);
 			} else {
-				existingRootElement.insertBefore(newNode, firstChild);
+				mergeWriter.writeText(leadingNode.text);
 			}
 		}
 
-		// pretty print the result
-		return prettyPrint(existingDocument);
+		while (eventType != XMLStreamConstants.END_ELEMENT) {
+			copyNode(nodeReader, mergeWriter);
+			eventType = nodeReader.next();
+		}
+		mergeWriter.writeEndElement(elementName);
 	}
 
-	private static String prettyPrint(Document document) throws ShellException {
-		DomWriter dw = new DomWriter();
-		String s = dw.toString(document);
-		return s;
+	/**
+	 * Copies the current node, and all its children if it is an element.
+	 */
+	private static void copyNode(NodeReader nodeReader, MergeWriter mergeWriter) throws XMLStreamException {
+		XMLStreamReader reader = nodeReader.getReader();
+
+		switch (nodeReader.getEventType()) {
+		case XMLStreamConstants.START_ELEMENT:
+			String elementName = reader.getLocalName();
+			mergeWriter.writeStartElement(elementName, getAttributes(reader));
+			while (nodeReader.next() != XMLStreamConstants.END_ELEMENT) {
+				copyNode(nodeReader, mergeWriter);
+			}
+			mergeWriter.writeEndElement(elementName);
+			break;
+
+		case XMLStreamConstants.CHARACTERS:
+			mergeWriter.writeText(nodeReader.getText());
+			break;
+
+		case XMLStreamConstants.CDATA:
+			mergeWriter.writeCData(nodeReader.getText());
+			break;
+
+		case XMLStreamConstants.COMMENT:
+			mergeWriter.writeComment(nodeReader.getText());
+			break;
+
+		case XMLStreamConstants.PROCESSING_INSTRUCTION:
+			mergeWriter.writeProcessingInstruction(reader.getPITarget(), reader.getPIData());
+			break;
+
+		case XMLStreamConstants.ENTITY_REFERENCE:
+			mergeWriter.writeEntityReference(reader.getLocalName());
+			break;
+
+		default:
+			break;
+		}
+	}
+
+	/**
+	 * Reads past the end of the current element.
+	 *
+	 * @param openElements
+	 *            the number of elements that are open at the current node
+	 */
+	private static void skipElement(NodeReader nodeReader, int openElements) throws XMLStreamException {
+		while (openElements > 0) {
+			int eventType = nodeReader.next();
+			if (eventType == XMLStreamConstants.START_ELEMENT) {
+				openElements++;
+			} else if (eventType == XMLStreamConstants.END_ELEMENT) {
+				openElements--;
+			}
+		}
 	}
 
-	private static boolean isGeneratedNode(Node node) {
-		boolean rc = false;
+	/**
+	 * @return the attributes of the current element, sorted by name
+	 */
+	private static Map<String, String> getAttributes(XMLStreamReader reader) {
+		Map<String, String> answer = new TreeMap<String, String>();
+
+		// namespace declarations are only reported separately by namespace
+		// aware parsers
+		for (int i = 0; i < reader.getNamespaceCount(); i++) {
+			String prefix = reader.getNamespacePrefix(i);
+			if (prefix == null || prefix.length() == 0) {
+				answer.put("xmlns", reader.getNamespaceURI(i)); //$NON-NLS-1$
+			} else {
+				answer.put("xmlns:" + prefix, reader.getNamespaceURI(i)); //$NON-NLS-1$
+			}
+		}
+
+		for (int i = 0; i < reader.getAttributeCount(); i++) {
+			String prefix = reader.getAttributePrefix(i);
+			if (prefix == null || prefix.length() == 0) {
+				answer.put(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+			} else {
+				answer.put(prefix + ':' + reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+			}
+		}
+
+		return answer;
+	}
 
-		if (node != null && node.getNodeType() == Node.ELEMENT_NODE) {
-			Element element = (Element) node;
-			String id = element.getAttribute("id"); //$NON-NLS-1$
-			if (id != null) {
-				for (String prefix : MergeConstants.OLD_XML_ELEMENT_PREFIXES) {
-					if (id.startsWith(prefix)) {
-						rc = true;
-						break;
-					}
+	private static boolean isGeneratedId(String id) {
+		if (id != null) {
+			for (String prefix : MergeConstants.OLD_XML_ELEMENT_PREFIXES) {
+				if (id.startsWith(prefix)) {
+					return true;
 				}
 			}
+		}
+
+		return false;
+	}
+
+	private static boolean isGeneratedComment(String comment) {
+		for (String tag : MergeConstants.OLD_ELEMENT_TAGS) {
+			if (comment.contains(tag)) {
+				return true;
+			}
+		}
 
-			if (rc == false) {
-				// check for new node format - if the first non-whitespace node
-				// is an XML comment, and the comment includes
-				// one of the old element tags,
-				// then it is a generated node
-				NodeList children = node.getChildNodes();
-				int length = children.getLength();
-				for (int i = 0; i < length; i++) {
-					Node childNode = children.item(i);
-					if (isWhiteSpace(childNode)) {
-						continue;
-					} else if (childNode.getNodeType() == Node.COMMENT_NODE) {
-						Comment comment = (Comment) childNode;
-						String commentData = comment.getData();
-						for (String tag : MergeConstants.OLD_ELEMENT_TAGS) {
-							if (commentData.contains(tag)) {
-								rc = true;
-								break;
-							}
-						}
-					} else {
-						break;
-					}
+		return false;
+	}
+
+	/**
+	 * Wraps a StAX reader so that adjacent character events are read as one
+	 * text node, like the text nodes of a DOM.
+	 */
+	private static class NodeReader {
+		private XMLStreamReader reader;
+		private int eventType;
+		private String text;
+		private boolean nextEventRead;
+
+		NodeReader(XMLStreamReader reader) {
+			this.reader = reader;
+		}
+
+		int next() throws XMLStreamException {
+			if (nextEventRead) {
+				nextEventRead = false;
+				eventType = reader.getEventType();
+			} else {
+				eventType = reader.next();
+			}
+
+			if (eventType == XMLStreamConstants.CHARACTERS || eventType == XMLStreamConstants.SPACE) {
+				StringBuilder sb = new StringBuilder(reader.getText());
+				int nextEventType = reader.next();
+				while (nextEventType == XMLStreamConstants.CHARACTERS || nextEventType == XMLStreamConstants.SPACE) {
+					sb.append(reader.getText());
+					nextEventType = reader.next();
 				}
+				nextEventRead = true;
+				eventType = XMLStreamConstants.CHARACTERS;
+				text = sb.toString();
+			} else if (eventType == XMLStreamConstants.COMMENT || eventType == XMLStreamConstants.CDATA) {
+				text = reader.getText();
+			} else {
+				text = null;
 			}
+
+			return eventType;
+		}
+
+		int getEventType() {
+			return eventType;
+		}
+
+		String getText() {
+			return text;
 		}
 
-		return rc;
+		boolean isWhiteSpace() {
+			return eventType == XMLStreamConstants.CHARACTERS && text.trim().length() == 0;
+		}
+
+		/**
+		 * The underlying reader is positioned at the current node unless the
+		 * current node is a text node.
+		 */
+		XMLStreamReader getReader() {
+			return reader;
+		}
 	}
 
-	private static boolean isWhiteSpace(Node node) {
-		boolean rc = false;
+	private static class BufferedNode {
+		private int eventType;
+		private String text;
+
+		BufferedNode(int eventType, String text) {
+			this.eventType = eventType;
+			this.text = text;
+		}
+	}
+
+	/**
+	 * The parts of a document type declaration that DomWriter writes.
+	 */
+	private static class DocType {
+		private String text;
+		private int index;
+		private String name;
+		private String publicId;
+		private String systemId;
+		private String internalSubset;
+
+		DocType(String text) {
+			this.text = text;
+			index = "<!DOCTYPE".length(); //$NON-NLS-1$
+
+			skipWhiteSpace();
+			int start = index;
+			while (index < text.length() && !Character.isWhitespace(text.charAt(index))
+					&& text.charAt(index) != '[' && text.charAt(index) != '>') {
+				index++;
+			}
+			name = text.substring(start, index);
+
+			skipWhiteSpace();
+			if (text.startsWith("PUBLIC", index)) { //$NON-NLS-1$
+				index += "PUBLIC".length(); //$NON-NLS-1$
+				publicId = readQuotedString();
+				systemId = readQuotedString();
+			} else if (text.startsWith("SYSTEM", index)) { //$NON-NLS-1$
+				index += "SYSTEM".length(); //$NON-NLS-1$
+				systemId = readQuotedString();
+			}
+
+			skipWhiteSpace();
+			int end = text.lastIndexOf(']');
+			if (index < text.length() && text.charAt(index) == '[' && end > index) {
+				internalSubset = text.substring(index + 1, end);
+			}
+		}
 
-		if (node != null && node.getNodeType() == Node.TEXT_NODE) {
-			Text tn = (Text) node;
-			if (tn.getData().trim().length() == 0) {
-				rc = true;
+		private void skipWhiteSpace() {
+			while (index < text.length() && Character.isWhitespace(text.charAt(index))) {
+				index++;
 			}
 		}
 
-		return rc;
+		private String readQuotedString() {
+			skipWhiteSpace();
+			if (index >= text.length()) {
+				return null;
+			}
+
+			char quote = text.charAt(index);
+			if (quote != '"' && quote != '\'') {
+				return null;
+			}
+
+			int end = text.indexOf(quote, index + 1);
+			if (end == -1) {
+				return null;
+			}
+
+			String answer = text.substring(index + 1, end);
+			index = end + 1;
+			return answer;
+		}
+	}
+
+	/**
+	 * Writes the merged document in the format of DomWriter. The start tag of
+	 * an element is only closed when its first child is written, so that
+	 * elements without children are written as empty elements.
+	 */
+	private static class MergeWriter extends DomWriter {
+		private StringWriter stringWriter;
+		private boolean startTagOpen;
+
+		MergeWriter(boolean xml11) {
+			super();
+			stringWriter = new StringWriter();
+			printWriter = new PrintWriter(stringWriter);
+			isXML11 = xml11;
+			if (isXML11) {
+				printWriter.println("<?xml version=\"1.1\" encoding=\"UTF-8\"?>"); //$NON-NLS-1$
+			} else {
+				printWriter.println("<?xml version=\"1.0\" encoding=\"UTF-8\"?>"); //$NON-NLS-1$
+			}
+		}
+
+		void writeDocType(DocType docType) {
+			printWriter.print("<!DOCTYPE "); //$NON-NLS-1$
+			printWriter.print(docType.name);
+			if (docType.publicId != null) {
+				printWriter.print(" PUBLIC \""); //$NON-NLS-1$
+				printWriter.print(docType.publicId);
+				printWriter.print("\" \""); //$NON-NLS-1$
+				printWriter.print(docType.systemId);
+				printWriter.print('\"');
+			} else if (docType.systemId != null) {
+				printWriter.print(" SYSTEM \""); //$NON-NLS-1$
+				printWriter.print(docType.systemId);
+				printWriter.print('"');
+			}
+
+			if (docType.internalSubset != null) {
+				printWriter.println(" ["); //$NON-NLS-1$
+				printWriter.print(docType.internalSubset);
+				printWriter.print(']');
+			}
+			printWriter.println('>');
+		}
+
+		void writeStartElement(String name, Map<String, String> attributes) {
+			closeStartTag();
+			printWriter.print('<');
+			printWriter.print(name);
+			for (Map.Entry<String, String> attribute : attributes.entrySet()) {
+				printWriter.print(' ');
+				printWriter.print(attribute.getKey());
+				printWriter.print("=\""); //$NON-NLS-1$
+				normalizeAndPrint(attribute.getValue(), true);
+				printWriter.print('"');
+			}
+			startTagOpen = true;
+		}
+
+		void writeEndElement(String name) {
+			if (startTagOpen) {
+				printWriter.print(" />"); //$NON-NLS-1$
+				startTagOpen = false;
+			} else {
+				printWriter.print("</"); //$NON-NLS-1$
+				printWriter.print(name);
+				printWriter.print('>');
+			}
+		}
+
+		void writeText(String text) {
+			if (text.length() > 0) {
+				closeStartTag();
+				normalizeAndPrint(text, false);
+			}
+		}
+
+		void writeCData(String text) {
+			closeStartTag();
+			printWriter.print("<![CDATA["); //$NON-NLS-1$
+			printWriter.print(text);
+			printWriter.print("]]>"); //$NON-NLS-1$
+		}
+
+		void writeComment(String comment) {
+			closeStartTag();
+			printWriter.print("<!--"); //$NON-NLS-1$
+			if (comment != null) {
+				printWriter.print(comment);
+			}
+			printWriter.print("-->"); //$NON-NLS-1$
+		}
+
+		void writeProcessingInstruction(String target, String data) {
+			closeStartTag();
+			printWriter.print("<?"); //$NON-NLS-1$
+			printWriter.print(target);
+			if (data != null && data.length() > 0) {
+				printWriter.print(' ');
+				printWriter.print(data);
+			}
+			printWriter.print("?>"); //$NON-NLS-1$
+		}
+
+		void writeEntityReference(String name) {
+			closeStartTag();
+			printWriter.print('&');
+			printWriter.print(name);
+			printWriter.print(';');
+		}
+
+		private void closeStartTag() {
+			if (startTagOpen) {
+				printWriter.print('>');
+				startTagOpen = false;
+			}
+		}
+
+		@Override
+		public String toString() {
+			printWriter.flush();
+			return stringWriter.toString();
+		}
 	}
 }
@@ -0,0 +1,153 @@
+/*
+ *  Copyright 2005 The Apache Software Foundation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.mybatis.generator.config.JDBCConnectionConfiguration;
+
+/**
+ * A small, bounded pool of JDBC connections built on the ConnectionFactory.
+ * Connections are opened lazily, up to the maximum size, and are all closed
+ * when the pool is closed. This is intended for the short lived worker
+ * threads of the generator - it does no eviction, and idle connections are
+ * only validated if setValidateIdleConnections(true) is called (for long lived
+ * pools such as those of the GeneratorDaemon).
+ */
+public class ConnectionPool {
+
+	private JDBCConnectionConfiguration jdbcConnectionConfiguration;
+
+	private int maxConnections;
+
+	private LinkedList<Connection> idleConnections;
+
+	private List<Connection> allConnections;
+
+	private boolean closed;
+
+	private boolean validateIdleConnections;
+
+	/**
+	 * Seconds to wait for the database when an idle connection is validated
+	 */
+	private static final int VALIDATION_TIMEOUT = 5;
+
+	public ConnectionPool(JDBCConnectionConfiguration jdbcConnectionConfiguration, int maxConnections) {
+		super();
+		this.jdbcConnectionConfiguration = jdbcConnectionConfiguration;
+		this.maxConnections = maxConnections < 1 ? 1 : maxConnections;
+		idleConnections = new LinkedList<Connection>();
+		allConnections = new ArrayList<Connection>();
+	}
+
+	/**
+	 * Returns an idle connection, opening a new one if the pool is not yet
+	 * full. If the pool is full, this method waits until another thread
+	 * releases a connection.
+	 *
+	 * @return a connection that must be returned with releaseConnection
+	 * @throws SQLException
+	 *             if the pool is closed or a new connection cannot be opened
+	 * @throws InterruptedException
+	 *             if the thread is interrupted while waiting
+	 */
+	public synchronized Connection getConnection() throws SQLException, InterruptedException {
+		while (true) {
+			if (closed) {
+				throw new SQLException("Connection pool is closed"); //$NON-NLS-1$
+			}
+
+			if (!idleConnections.isEmpty()) {
+				Connection connection = idleConnections.removeFirst();
+				if (!validateIdleConnections || isValid(connection)) {
+					return connection;
+				}
+
+				allConnections.remove(connection);
+				closeConnection(connection);
+				continue;
+			}
+
+			if (allConnections.size() < maxConnections) {
+				Connection connection = ConnectionFactory.getInstance().getConnection(jdbcConnectionConfiguration);
+				allConnections.add(connection);
+				return connection;
+			}
+
+			wait();
+		}
+	}
+
+	/**
+	 * If true, an idle connection is checked with Connection.isValid() before
+	 * it is handed out, and replaced if the database has closed it. Default is
+	 * false.
+	 */
+	public synchronized void setValidateIdleConnections(boolean validateIdleConnections) {
+		this.validateIdleConnections = validateIdleConnections;
+	}
+
+	private boolean isValid(Connection connection) {
+		try {
+			return connection.isValid(VALIDATION_TIMEOUT);
+		} catch (SQLException e) {
+			return false;
+		} catch (AbstractMethodError e) {
+			// a JDBC 3 driver, the connection cannot be checked
+			return true;
+		}
+	}
+
+	public synchronized void releaseConnection(Connection connection) {
+		if (connection == null) {
+			return;
+		}
+
+		if (closed) {
+			closeConnection(connection);
+		} else {
+			idleConnections.addLast(connection);
+			notifyAll();
+		}
+	}
+
+	/**
+	 * Closes every connection opened by this pool. Connections that are still
+	 * in use are closed when they are released.
+	 */
+	public synchronized void close() {
+		closed = true;
+		for (Connection connection : idleConnections) {
+			closeConnection(connection);
+		}
+		idleConnections.clear();
+		notifyAll();
+	}
+
+	private void closeConnection(Connection connection) {
+		try {
+			connection.close();
+		} catch (SQLException e) {
+			// ignore
+			;
+		}
+	}
+}
@@ -28,7 +28,6 @@ import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -49,6 +48,7 @@ import org.mybatis.generator.config.GeneratedKey;
 import org.mybatis.generator.config.PropertyRegistry;
 import org.mybatis.generator.config.TableConfiguration;
 import org.mybatis.generator.internal.ObjectFactory;
+import org.mybatis.generator.internal.db.SchemaMetadataCache.ColumnMetadata;
 import org.mybatis.generator.logging.Log;
 import org.mybatis.generator.logging.LogFactory;
 
@@ -64,27 +64,63 @@ public class DatabaseIntrospector {
 	private Context context;
 	private Log logger;
 	private Connection connection;
+	private SchemaMetadataCache metadataCache;
+	private SqlServerRemarksLoader remarksLoader;
 
 	public DatabaseIntrospector(Context context, DatabaseMetaData databaseMetaData, JavaTypeResolver javaTypeResolver,
 			List<String> warnings) throws SQLException {
+		this(context, databaseMetaData, javaTypeResolver, warnings, null, null);
+	}
+
+	/**
+	 * @param metadataCache
+	 *            if not null, columns, primary keys and table remarks are read
+	 *            from this cache a whole schema at a time
+	 * @param remarksLoader
+	 *            the SQL Server remarks to share with other introspectors. If
+	 *            null, and the driver is the SQL Server driver, this
+	 *            introspector loads its own
+	 */
+	public DatabaseIntrospector(Context context, DatabaseMetaData databaseMetaData, JavaTypeResolver javaTypeResolver,
+			List<String> warnings, SchemaMetadataCache metadataCache, SqlServerRemarksLoader remarksLoader)
+			throws SQLException {
 		super();
 		this.context = context;
 		this.databaseMetaData = databaseMetaData;
 		this.javaTypeResolver = javaTypeResolver;
 		this.warnings = warnings;
-		this.connection= this.context.getConnection();
+		this.metadataCache = metadataCache;
+		this.connection = databaseMetaData.getConnection();
 		logger = LogFactory.getLog(getClass());
+
+		String driverClass = context.getJdbcConnectionConfiguration().getDriverClass();
+		// 如果是sql server
+		if (remarksLoader == null && driverClass != null && driverClass.contains("microsoft")) { //$NON-NLS-1$
+			remarksLoader = new SqlServerRemarksLoader();
+		}
+		this.remarksLoader = remarksLoader;
 	}
 
-	private void calculatePrimaryKey(FullyQualifiedTable table, IntrospectedTable introspectedTable) {
+	private void calculatePrimaryKey(ActualTableName atn, FullyQualifiedTable table,
+			IntrospectedTable introspectedTable) {
+		List<String> cachedPrimaryKeyColumns = null;
+		boolean remarksCached = false;
+		if (metadataCache != null) {
+			cachedPrimaryKeyColumns = metadataCache.getPrimaryKeyColumns(atn);
+			remarksCached = metadataCache.isTableRemarksPrefetched(atn);
+		}
+
 		ResultSet rs = null;
 		ResultSet rs2 = null;
-		ResultSet rs3 = null;
 		try {
-			rs = databaseMetaData.getPrimaryKeys(table.getIntrospectedCatalog(), table.getIntrospectedSchema(),
-					table.getIntrospectedTableName());
-			rs2 = databaseMetaData.getTables(table.getIntrospectedCatalog(), table.getIntrospectedSchema(),
-					table.getIntrospectedTableName(), null);
+			if (cachedPrimaryKeyColumns == null) {
+				rs = databaseMetaData.getPrimaryKeys(table.getIntrospectedCatalog(), table.getIntrospectedSchema(),
+						table.getIntrospectedTableName());
+			}
+			if (!remarksCached) {
+				rs2 = databaseMetaData.getTables(table.getIntrospectedCatalog(), table.getIntrospectedSchema(),
+						table.getIntrospectedTableName(), null);
+			}
 		} catch (SQLException e) {
 			closeResultSet(rs);
 			closeResultSet(rs2);
@@ -94,25 +130,23 @@ public class DatabaseIntrospector {
 
 		logger.debug("表名为：" + table.getIntrospectedTableName());
 		try {
-			while (rs.next()) {
-				String columnName = rs.getString("COLUMN_NAME"); //$NON-NLS-1$
-				introspectedTable.addPrimaryKeyColumn(columnName);
+			if (cachedPrimaryKeyColumns == null) {
+				while (rs.next()) {
+					String columnName = rs.getString("COLUMN_NAME"); //$NON-NLS-1$
+					introspectedTable.addPrimaryKeyColumn(columnName);
+				}
+			} else {
+				for (String columnName : cachedPrimaryKeyColumns) {
+					introspectedTable.addPrimaryKeyColumn(columnName);
+				}
 			}
-			while (rs2.next()) {
-				String tableComment = rs2.getString("REMARKS");
-				if (tableComment == null) {
-					String databaseType = context.getJdbcConnectionConfiguration().getDriverClass();
-					// 如果是sql server
-					if (databaseType.contains("microsoft")) {
-						Statement s = connection.createStatement();
-						rs3 = s.executeQuery(this.getTableRemark(table.getIntrospectedTableName()));
-						while (rs3.next()) {
-							tableComment = rs3.getString("COMMENT");
-						}
-					}
+
+			if (remarksCached) {
+				setTableRemarks(atn, introspectedTable, metadataCache.getTableRemarks(atn));
+			} else {
+				while (rs2.next()) {
+					setTableRemarks(atn, introspectedTable, rs2.getString("REMARKS"));
 				}
-				logger.debug("表的注释为:" + tableComment);
-				introspectedTable.setRemarks(tableComment);
 			}
 		} catch (SQLException e) {
 			logger.error("Exception: ", e);
@@ -120,10 +154,17 @@ public class DatabaseIntrospector {
 		} finally {
 			closeResultSet(rs);
 			closeResultSet(rs2);
-			closeResultSet(rs3);
 		}
 	}
 
+	private void setTableRemarks(ActualTableName atn, IntrospectedTable introspectedTable, String tableComment) {
+		if (tableComment == null && remarksLoader != null) {
+			tableComment = remarksLoader.getTableRemarks(connection, atn.getSchema(), atn.getTableName());
+		}
+		logger.debug("表的注释为:" + tableComment);
+		introspectedTable.setRemarks(tableComment);
+	}
+
 	private void closeResultSet(ResultSet rs) {
 		if (rs != null) {
 			try {
@@ -366,7 +407,7 @@ public class DatabaseIntrospector {
 					}
 
 					if (stringHasValue(columnOverride.getJavaType())) {
-						introspectedColumn.setFullyQualifiedJavaType(new FullyQualifiedJavaType(columnOverride
+						introspectedColumn.setFullyQualifiedJavaType(FullyQualifiedJavaType.of(columnOverride
 								.getJavaType()));
 					}
 
@@ -460,36 +501,36 @@ public class DatabaseIntrospector {
 			logger.debug(getString("Tracing.1", fullTableName)); //$NON-NLS-1$
 		}
 
-		ResultSet rs = databaseMetaData.getColumns(localCatalog, localSchema, localTableName, null);
+		List<ColumnMetadata> columnMetadata;
+		if (metadataCache != null && (stringHasValue(localCatalog) || stringHasValue(localSchema))) {
+			columnMetadata = metadataCache.getColumns(databaseMetaData, localCatalog, localSchema, localTableName);
+		} else {
+			columnMetadata = new ArrayList<ColumnMetadata>();
+			ResultSet rs = databaseMetaData.getColumns(localCatalog, localSchema, localTableName, null);
+			while (rs.next()) {
+				columnMetadata.add(new ColumnMetadata(rs));
+			}
+			closeResultSet(rs);
+		}
 
-		while (rs.next()) {
+		for (ColumnMetadata cm : columnMetadata) {
 			IntrospectedColumn introspectedColumn = ObjectFactory.createIntrospectedColumn(context);
 
 			introspectedColumn.setTableAlias(tc.getAlias());
-			introspectedColumn.setJdbcType(rs.getInt("DATA_TYPE")); //$NON-NLS-1$
-			introspectedColumn.setLength(rs.getInt("COLUMN_SIZE")); //$NON-NLS-1$
-			introspectedColumn.setActualColumnName(rs.getString("COLUMN_NAME")); //$NON-NLS-1$
-			introspectedColumn.setNullable(rs.getInt("NULLABLE") == DatabaseMetaData.columnNullable); //$NON-NLS-1$
-			introspectedColumn.setScale(rs.getInt("DECIMAL_DIGITS")); //$NON-NLS-1$
-			String remarks = rs.getString("REMARKS");
-			if (remarks == null) {
-				String databaseType = context.getJdbcConnectionConfiguration().getDriverClass();
-				// 如果是sql server
-				if (databaseType.contains("microsoft")) {
-					Statement s = connection.createStatement();
-					ResultSet rs3 = s.executeQuery(this.getClumnRemark(tc.getTableName(),rs.getString("COLUMN_NAME")));
-					while (rs3.next()) {
-						remarks = rs3.getString("VALUE");
-					}
-					closeResultSet(rs3);
-				}
+			introspectedColumn.setJdbcType(cm.getDataType());
+			introspectedColumn.setLength(cm.getColumnSize());
+			introspectedColumn.setActualColumnName(cm.getColumnName());
+			introspectedColumn.setNullable(cm.getNullable() == DatabaseMetaData.columnNullable);
+			introspectedColumn.setScale(cm.getDecimalDigits());
+			ActualTableName atn = cm.getActualTableName();
+
+			String remarks = cm.getRemarks();
+			if (remarks == null && remarksLoader != null) {
+				remarks = remarksLoader.getColumnRemarks(connection, atn.getSchema(), atn.getTableName(),
+						cm.getColumnName());
 			}
 			introspectedColumn.setRemarks(remarks); //$NON-NLS-1$
-			introspectedColumn.setDefaultValue(rs.getString("COLUMN_DEF")); //$NON-NLS-1$
-
-			ActualTableName atn = new ActualTableName(rs.getString("TABLE_CAT"), //$NON-NLS-1$
-					rs.getString("TABLE_SCHEM"), //$NON-NLS-1$
-					rs.getString("TABLE_NAME")); //$NON-NLS-1$
+			introspectedColumn.setDefaultValue(cm.getDefaultValue());
 
 			List<IntrospectedColumn> columns = answer.get(atn);
 			if (columns == null) {
@@ -507,8 +548,6 @@ public class DatabaseIntrospector {
 			}
 		}
 
-		closeResultSet(rs);
-
 		if (answer.size() > 1 && !stringContainsSQLWildcard(localSchema) && !stringContainsSQLWildcard(localTableName)) {
 			// issue a warning if there is more than one table and
 			// no wildcards were used
@@ -534,9 +573,6 @@ public class DatabaseIntrospector {
 
 	private List<IntrospectedTable> calculateIntrospectedTables(TableConfiguration tc,
 			Map<ActualTableName, List<IntrospectedColumn>> columns) {
-		boolean delimitIdentifiers = tc.isDelimitIdentifiers() || stringContainsSpace(tc.getCatalog())
-				|| stringContainsSpace(tc.getSchema()) || stringContainsSpace(tc.getTableName());
-
 		List<IntrospectedTable> answer = new ArrayList<IntrospectedTable>();
 
 		for (Map.Entry<ActualTableName, List<IntrospectedColumn>> entry : columns.entrySet()) {
@@ -549,13 +585,9 @@ public class DatabaseIntrospector {
 			// table
 			// configuration, then some sort of DB default is being returned
 			// and we don't want that in our SQL
-			FullyQualifiedTable table = new FullyQualifiedTable(stringHasValue(tc.getCatalog()) ? atn.getCatalog()
-					: null, stringHasValue(tc.getSchema()) ? atn.getSchema() : null, atn.getTableName(),
-					tc.getDomainObjectName(), tc.getAlias(),
-					isTrue(tc.getProperty(PropertyRegistry.TABLE_IGNORE_QUALIFIERS_AT_RUNTIME)),
-					tc.getProperty(PropertyRegistry.TABLE_RUNTIME_CATALOG),
-					tc.getProperty(PropertyRegistry.TABLE_RUNTIME_SCHEMA),
-					tc.getProperty(PropertyRegistry.TABLE_RUNTIME_TABLE_NAME), delimitIdentifiers, context);
+			FullyQualifiedTable table = createFullyQualifiedTable(context, tc,
+					stringHasValue(tc.getCatalog()) ? atn.getCatalog() : null,
+					stringHasValue(tc.getSchema()) ? atn.getSchema() : null, atn.getTableName());
 
 			IntrospectedTable introspectedTable = ObjectFactory.createIntrospectedTable(tc, table, context);
 
@@ -563,7 +595,7 @@ public class DatabaseIntrospector {
 				introspectedTable.addColumn(introspectedColumn);
 			}
 
-			calculatePrimaryKey(table, introspectedTable);
+			calculatePrimaryKey(atn, table, introspectedTable);
 
 			answer.add(introspectedTable);
 		}
@@ -571,23 +603,21 @@ public class DatabaseIntrospector {
 		return answer;
 	}
 
-	private String getTableRemark(String tableName) {
-		StringBuilder sb = new StringBuilder();
-		sb.append("SELECT CAST(sysproperties.[value] AS varchar(8000)) AS COMMENT").append("  FROM sysproperties")
-				.append(" INNER JOIN sysobjects").append("    ON sysproperties.id = sysobjects.id")
-				.append(" WHERE (sysproperties.type = 3)").append("   AND (sysobjects.name = '").append(tableName)
-				.append("')");
-
-		return sb.toString();
-	}
-
-	private String getClumnRemark(String tableName, String clumnName) {
-		StringBuilder sb = new StringBuilder();
-		sb.append("select ").append("  a.value as VALUE").append("  from SysProperties a")
-				.append(" inner join syscolumns c").append("    on a.id = c.id").append("   and a.smallid = c.colid")
-				.append(" inner join sysobjects o").append("    on a.id = o.id").append(" where o.name = '")
-				.append(tableName).append("'").append("   and c.name = '").append(clumnName).append("'");
+	/**
+	 * Builds the FullyQualifiedTable for an introspected table. The catalog and
+	 * schema should only be passed if they were specified on the table
+	 * configuration.
+	 */
+	static FullyQualifiedTable createFullyQualifiedTable(Context context, TableConfiguration tc,
+			String introspectedCatalog, String introspectedSchema, String introspectedTableName) {
+		boolean delimitIdentifiers = tc.isDelimitIdentifiers() || stringContainsSpace(tc.getCatalog())
+				|| stringContainsSpace(tc.getSchema()) || stringContainsSpace(tc.getTableName());
 
-		return sb.toString();
+		return new FullyQualifiedTable(introspectedCatalog, introspectedSchema, introspectedTableName,
+				tc.getDomainObjectName(), tc.getAlias(),
+				isTrue(tc.getProperty(PropertyRegistry.TABLE_IGNORE_QUALIFIERS_AT_RUNTIME)),
+				tc.getProperty(PropertyRegistry.TABLE_RUNTIME_CATALOG),
+				tc.getProperty(PropertyRegistry.TABLE_RUNTIME_SCHEMA),
+				tc.getProperty(PropertyRegistry.TABLE_RUNTIME_TABLE_NAME), delimitIdentifiers, context);
 	}
 }
@@ -0,0 +1,92 @@
+/*
+ *  Copyright 2005 The Apache Software Foundation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+/**
+ * Typesafe enum of the SQL forms of the generated insertBatch statement
+ */
+public enum InsertBatchDialects {
+
+	/**
+	 * insert into TABLE (A, B) values (?, ?), (?, ?) - MySQL, MariaDB, H2,
+	 * HSQLDB, PostgreSQL, DB2, SQL Server (2008 and later) and SQLite
+	 */
+	VALUES,
+
+	/**
+	 * insert all into TABLE (A, B) values (?, ?) into TABLE (A, B) values (?,
+	 * ?) select 1 from dual - Oracle
+	 */
+	INSERT_ALL,
+
+	/**
+	 * insert into TABLE (A, B) select ?, ? from dual union all select ?, ?
+	 * from dual - Oracle
+	 */
+	UNION_ALL;
+
+	/**
+	 * 
+	 * @param database
+	 * @return the insertBatch dialect for the selected database. May return
+	 *         null if there is no known dialect for the selected db
+	 */
+	public static InsertBatchDialects getInsertBatchDialect(String database) {
+		InsertBatchDialects returnValue = null;
+
+		if ("MySQL".equalsIgnoreCase(database) //$NON-NLS-1$
+				|| "MariaDB".equalsIgnoreCase(database) //$NON-NLS-1$
+				|| "H2".equalsIgnoreCase(database) //$NON-NLS-1$
+				|| "HSQLDB".equalsIgnoreCase(database) //$NON-NLS-1$
+				|| "PostgreSQL".equalsIgnoreCase(database) //$NON-NLS-1$
+				|| "DB2".equalsIgnoreCase(database) //$NON-NLS-1$
+				|| "SqlServer".equalsIgnoreCase(database) //$NON-NLS-1$
+				|| "SQLite".equalsIgnoreCase(database)) { //$NON-NLS-1$
+			returnValue = VALUES;
+		} else if ("Oracle".equalsIgnoreCase(database)) { //$NON-NLS-1$
+			returnValue = INSERT_ALL;
+		} else if ("OracleUnionAll".equalsIgnoreCase(database)) { //$NON-NLS-1$
+			returnValue = UNION_ALL;
+		}
+
+		return returnValue;
+	}
+
+	/**
+	 * Guesses the dialect from the class name of the JDBC driver, in the same
+	 * way as the upsert dialect.
+	 * 
+	 * @param driverClass
+	 * @return the insertBatch dialect for the driver. May return null if the
+	 *         driver is not known
+	 */
+	public static InsertBatchDialects getInsertBatchDialectForDriver(String driverClass) {
+		InsertBatchDialects returnValue = null;
+
+		String driver = driverClass == null ? "" : driverClass.toLowerCase(); //$NON-NLS-1$
+		if (driver.contains("oracle")) { //$NON-NLS-1$
+			returnValue = INSERT_ALL;
+		} else if (driver.contains("mysql") || driver.contains("mariadb") //$NON-NLS-1$ //$NON-NLS-2$
+				|| driver.contains("h2") || driver.contains("hsqldb") //$NON-NLS-1$ //$NON-NLS-2$
+				|| driver.contains("postgresql") || driver.contains("db2") //$NON-NLS-1$ //$NON-NLS-2$
+				|| driver.contains("sqlserver") || driver.contains("jtds") //$NON-NLS-1$ //$NON-NLS-2$
+				|| driver.contains("sqlite")) { //$NON-NLS-1$
+			returnValue = VALUES;
+		}
+
+		return returnValue;
+	}
+}
@@ -0,0 +1,328 @@
+/*
+ *  Copyright 2005 The Apache Software Foundation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.mybatis.generator.api.FullyQualifiedTable;
+import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.TableConfiguration;
+import org.mybatis.generator.internal.ObjectFactory;
+import org.mybatis.generator.logging.Log;
+import org.mybatis.generator.logging.LogFactory;
+
+/**
+ * This class holds the result of the database introspection of one or more
+ * contexts so that later runs can generate code without reading the database
+ * metadata again. The snapshot is written to a file with Java serialization.
+ * <p>
+ * Each context snapshot records two fingerprints: one of the context
+ * configuration (which tables, overrides, type resolver, etc.) and one of the
+ * database schema (see SchemaFingerprint). A context snapshot may only be
+ * reused if both fingerprints still match. In offline mode only the
+ * configuration fingerprint is checked.
+ */
+public class IntrospectionSnapshot implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final Log LOGGER = LogFactory.getLog(IntrospectionSnapshot.class);
+
+	public static class ContextSnapshot implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		private String configurationFingerprint;
+		private String schemaFingerprint;
+		private List<String> warnings;
+		private List<TableSnapshot> tables;
+
+		public ContextSnapshot(String configurationFingerprint, String schemaFingerprint,
+				List<IntrospectedTable> introspectedTables, List<String> warnings, Context context) {
+			this.configurationFingerprint = configurationFingerprint;
+			this.schemaFingerprint = schemaFingerprint;
+			this.warnings = new ArrayList<String>(warnings);
+			this.tables = new ArrayList<TableSnapshot>();
+			for (IntrospectedTable introspectedTable : introspectedTables) {
+				tables.add(new TableSnapshot(introspectedTable, context));
+			}
+		}
+
+		public String getConfigurationFingerprint() {
+			return configurationFingerprint;
+		}
+
+		public String getSchemaFingerprint() {
+			return schemaFingerprint;
+		}
+
+		/**
+		 * @return the warnings that were reported when the tables were
+		 *         introspected
+		 */
+		public List<String> getWarnings() {
+			return warnings;
+		}
+
+		/**
+		 * Rebuilds the introspected tables for the specified context.
+		 */
+		public List<IntrospectedTable> restore(Context context) {
+			List<IntrospectedTable> answer = new ArrayList<IntrospectedTable>();
+			for (TableSnapshot table : tables) {
+				answer.add(table.restore(context));
+			}
+			return answer;
+		}
+	}
+
+	private static class TableSnapshot implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		private int tableConfigurationIndex;
+		private String introspectedCatalog;
+		private String introspectedSchema;
+		private String introspectedTableName;
+		private String remarks;
+		private List<ColumnSnapshot> columns;
+		private List<String> primaryKeyColumns;
+
+		TableSnapshot(IntrospectedTable introspectedTable, Context context) {
+			tableConfigurationIndex = context.getTableConfigurations().indexOf(
+					introspectedTable.getTableConfiguration());
+			FullyQualifiedTable table = introspectedTable.getFullyQualifiedTable();
+			introspectedCatalog = table.getIntrospectedCatalog();
+			introspectedSchema = table.getIntrospectedSchema();
+			introspectedTableName = table.getIntrospectedTableName();
+			remarks = introspectedTable.getRemarks();
+
+			columns = new ArrayList<ColumnSnapshot>();
+			primaryKeyColumns = new ArrayList<String>();
+			for (IntrospectedColumn introspectedColumn : introspectedTable.getPrimaryKeyColumns()) {
+				columns.add(new ColumnSnapshot(introspectedColumn));
+				primaryKeyColumns.add(introspectedColumn.getActualColumnName());
+			}
+			for (IntrospectedColumn introspectedColumn : introspectedTable.getBaseColumns()) {
+				columns.add(new ColumnSnapshot(introspectedColumn));
+			}
+			for (IntrospectedColumn introspectedColumn : introspectedTable.getBLOBColumns()) {
+				columns.add(new ColumnSnapshot(introspectedColumn));
+			}
+		}
+
+		IntrospectedTable restore(Context context) {
+			TableConfiguration tc = context.getTableConfigurations().get(tableConfigurationIndex);
+			FullyQualifiedTable table = DatabaseIntrospector.createFullyQualifiedTable(context, tc,
+					introspectedCatalog, introspectedSchema, introspectedTableName);
+
+			IntrospectedTable introspectedTable = ObjectFactory.createIntrospectedTable(tc, table, context);
+			introspectedTable.setRemarks(remarks);
+
+			// addPrimaryKeyColumn moves the columns out of the base and BLOB
+			// lists, so the lists end up in the same order as when introspected
+			for (ColumnSnapshot column : columns) {
+				introspectedTable.addColumn(column.restore(context));
+			}
+			for (String columnName : primaryKeyColumns) {
+				introspectedTable.addPrimaryKeyColumn(columnName);
+			}
+
+			return introspectedTable;
+		}
+	}
+
+	private static class ColumnSnapshot implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		private String actualColumnName;
+		private int jdbcType;
+		private String jdbcTypeName;
+		private boolean nullable;
+		private int length;
+		private int scale;
+		private boolean identity;
+		private boolean sequenceColumn;
+		private String javaProperty;
+		private String fullyQualifiedJavaType;
+		private String tableAlias;
+		private String typeHandler;
+		private boolean columnNameDelimited;
+		private Properties properties;
+		private String remarks;
+		private String defaultValue;
+
+		ColumnSnapshot(IntrospectedColumn introspectedColumn) {
+			actualColumnName = introspectedColumn.getActualColumnName();
+			jdbcType = introspectedColumn.getJdbcType();
+			jdbcTypeName = introspectedColumn.getJdbcTypeName();
+			nullable = introspectedColumn.isNullable();
+			length = introspectedColumn.getLength();
+			scale = introspectedColumn.getScale();
+			identity = introspectedColumn.isIdentity();
+			sequenceColumn = introspectedColumn.isSequenceColumn();
+			javaProperty = introspectedColumn.getJavaProperty();
+			fullyQualifiedJavaType = introspectedColumn.getFullyQualifiedJavaType().getFullyQualifiedName();
+			tableAlias = introspectedColumn.getTableAlias();
+			typeHandler = introspectedColumn.getTypeHandler();
+			columnNameDelimited = introspectedColumn.isColumnNameDelimited();
+			properties = new Properties();
+			properties.putAll(introspectedColumn.getProperties());
+			remarks = introspectedColumn.getRemarks();
+			defaultValue = introspectedColumn.getDefaultValue();
+		}
+
+		IntrospectedColumn restore(Context context) {
+			IntrospectedColumn introspectedColumn = ObjectFactory.createIntrospectedColumn(context);
+			introspectedColumn.setActualColumnName(actualColumnName);
+			introspectedColumn.setJdbcType(jdbcType);
+			introspectedColumn.setJdbcTypeName(jdbcTypeName);
+			introspectedColumn.setNullable(nullable);
+			introspectedColumn.setLength(length);
+			introspectedColumn.setScale(scale);
+			introspectedColumn.setIdentity(identity);
+			introspectedColumn.setSequenceColumn(sequenceColumn);
+			introspectedColumn.setJavaProperty(javaProperty);
+			introspectedColumn.setFullyQualifiedJavaType(FullyQualifiedJavaType.of(fullyQualifiedJavaType));
+			introspectedColumn.setTableAlias(tableAlias);
+			introspectedColumn.setTypeHandler(typeHandler);
+			introspectedColumn.setColumnNameDelimited(columnNameDelimited);
+			introspectedColumn.setProperties(properties);
+			introspectedColumn.setRemarks(remarks);
+			introspectedColumn.setDefaultValue(defaultValue);
+			return introspectedColumn;
+		}
+	}
+
+	private Map<String, ContextSnapshot> contexts;
+
+	private transient boolean changed;
+
+	public IntrospectionSnapshot() {
+		super();
+		contexts = new HashMap<String, ContextSnapshot>();
+	}
+
+	public ContextSnapshot getContextSnapshot(String contextId) {
+		return contexts.get(contextId);
+	}
+
+	public void setContextSnapshot(String contextId, ContextSnapshot contextSnapshot) {
+		contexts.put(contextId, contextSnapshot);
+		changed = true;
+	}
+
+	/**
+	 * @return true if a context snapshot was added or replaced since this
+	 *         snapshot was loaded
+	 */
+	public boolean isChanged() {
+		return changed;
+	}
+
+	/**
+	 * Loads a snapshot file. A missing, unreadable, or incompatible file
+	 * results in an empty snapshot - the tables will simply be introspected
+	 * again.
+	 */
+	public static IntrospectionSnapshot load(File file) {
+		if (!file.exists()) {
+			return new IntrospectionSnapshot();
+		}
+
+		ObjectInputStream in = null;
+		try {
+			in = new ObjectInputStream(new BufferedInputStream(new FileInputStream(file)));
+			return (IntrospectionSnapshot) in.readObject();
+		} catch (Exception e) {
+			LOGGER.warn("Ignoring unreadable introspection snapshot " + file.getAbsolutePath()); //$NON-NLS-1$
+			return new IntrospectionSnapshot();
+		} finally {
+			if (in != null) {
+				try {
+					in.close();
+				} catch (IOException e) {
+					// ignore
+					;
+				}
+			}
+		}
+	}
+
+	public void save(File file) throws IOException {
+		ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+		try {
+			out.writeObject(this);
+		} finally {
+			out.close();
+		}
+		changed = false;
+	}
+
+	/**
+	 * Calculates a fingerprint of everything in the context configuration that
+	 * can change the introspection result, including the set of tables
+	 * requested for this run.
+	 */
+	public static String calculateConfigurationFingerprint(Context context, Set<String> fullyQualifiedTableNames) {
+		StringBuilder sb = new StringBuilder();
+		sb.append(context.toXmlElement().getFormattedContent(0));
+		if (fullyQualifiedTableNames != null) {
+			for (String tableName : new TreeSet<String>(fullyQualifiedTableNames)) {
+				sb.append('\n');
+				sb.append(tableName);
+			}
+		}
+
+		return md5(sb.toString());
+	}
+
+	static String md5(String s) {
+		try {
+			MessageDigest md = MessageDigest.getInstance("MD5"); //$NON-NLS-1$
+			byte[] digest = md.digest(s.getBytes("UTF-8")); //$NON-NLS-1$
+			StringBuilder sb = new StringBuilder();
+			for (byte b : digest) {
+				sb.append(Character.forDigit((b >> 4) & 0xf, 16));
+				sb.append(Character.forDigit(b & 0xf, 16));
+			}
+			return sb.toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException(e);
+		} catch (UnsupportedEncodingException e) {
+			throw new RuntimeException(e);
+		}
+	}
+}
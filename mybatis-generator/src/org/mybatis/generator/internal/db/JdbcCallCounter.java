@@ -0,0 +1,74 @@
+/*
+ *  Copyright 2005 The Apache Software Foundation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+
+/**
+ * Counts the metadata queries made through a DatabaseMetaData object. Every
+ * method that returns a ResultSet counts as one database round trip. Other
+ * methods (such as storesUpperCaseIdentifiers()) are usually answered by the
+ * driver without a query, and are not counted.
+ * <p>
+ * A counter is meant to be used by a single introspection thread.
+ */
+public class JdbcCallCounter implements InvocationHandler {
+
+	private DatabaseMetaData databaseMetaData;
+
+	private DatabaseMetaData countingDatabaseMetaData;
+
+	private int calls;
+
+	public JdbcCallCounter(DatabaseMetaData databaseMetaData) {
+		super();
+		this.databaseMetaData = databaseMetaData;
+		countingDatabaseMetaData = (DatabaseMetaData) Proxy.newProxyInstance(
+				DatabaseMetaData.class.getClassLoader(), new Class<?>[] { DatabaseMetaData.class }, this);
+	}
+
+	/**
+	 * @return a DatabaseMetaData object that counts the queries and passes all
+	 *         calls on to the real object
+	 */
+	public DatabaseMetaData getDatabaseMetaData() {
+		return countingDatabaseMetaData;
+	}
+
+	/**
+	 * @return the number of queries so far
+	 */
+	public int getCalls() {
+		return calls;
+	}
+
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		if (ResultSet.class.equals(method.getReturnType())) {
+			calls++;
+		}
+
+		try {
+			return method.invoke(databaseMetaData, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+}
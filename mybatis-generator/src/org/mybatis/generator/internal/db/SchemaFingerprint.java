@@ -0,0 +1,218 @@
+/*
+ *  Copyright 2005 The Apache Software Foundation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import static org.mybatis.generator.internal.util.StringUtility.composeFullyQualifiedTableName;
+import static org.mybatis.generator.internal.util.StringUtility.stringContainsSpace;
+import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.TableConfiguration;
+
+/**
+ * This class calculates a cheap fingerprint of the database objects that a
+ * context introspects, so that an introspection snapshot can be reused as long
+ * as the schema has not changed.
+ * <p>
+ * On Oracle the fingerprint is the number of tables and views and the latest
+ * LAST_DDL_TIME of each schema - one small query per schema. On other
+ * databases it is a hash of one getColumns scan per catalog/schema. The scan
+ * covers column names, types, sizes, nullability, defaults and remarks, but
+ * not primary keys - a change to the primary key alone is not detected there.
+ * <p>
+ * The fingerprint can also be calculated per table (see calculateTables), with
+ * one getColumns call per table.
+ */
+public class SchemaFingerprint {
+
+	private static final String ORACLE_SCHEMA_DDL = "SELECT COUNT(*), MAX(LAST_DDL_TIME) FROM ALL_OBJECTS" //$NON-NLS-1$
+			+ " WHERE OWNER = ? AND OBJECT_TYPE IN ('TABLE', 'VIEW')"; //$NON-NLS-1$
+
+	private static final String ORACLE_USER_DDL = "SELECT COUNT(*), MAX(LAST_DDL_TIME) FROM USER_OBJECTS" //$NON-NLS-1$
+			+ " WHERE OBJECT_TYPE IN ('TABLE', 'VIEW')"; //$NON-NLS-1$
+
+	/**
+	 * Utility class. No instances allowed
+	 */
+	private SchemaFingerprint() {
+		super();
+	}
+
+	/**
+	 * @param connection
+	 * @param context
+	 * @param fullyQualifiedTableNames
+	 *            the tables requested for this run, or null/empty for all
+	 *            tables
+	 * @return the fingerprint of every catalog/schema used by the requested
+	 *         tables of the context
+	 * @throws SQLException
+	 */
+	public static String calculate(Connection connection, Context context, Set<String> fullyQualifiedTableNames)
+			throws SQLException {
+		DatabaseMetaData databaseMetaData = connection.getMetaData();
+		boolean oracle = databaseMetaData.getDatabaseProductName().toUpperCase().contains("ORACLE"); //$NON-NLS-1$
+
+		StringBuilder sb = new StringBuilder();
+		for (ActualTableName schema : getSchemas(connection, context, fullyQualifiedTableNames)) {
+			sb.append(composeFullyQualifiedTableName(schema.getCatalog(), schema.getSchema(), "", '.')); //$NON-NLS-1$
+			sb.append('\n');
+			if (oracle) {
+				appendOracleFingerprint(connection, schema.getSchema(), sb);
+			} else {
+				appendColumnsFingerprint(databaseMetaData, schema.getCatalog(), schema.getSchema(), "%", sb); //$NON-NLS-1$
+			}
+		}
+
+		return IntrospectionSnapshot.md5(sb.toString());
+	}
+
+	/**
+	 * @param connection
+	 * @param context
+	 * @param fullyQualifiedTableNames
+	 *            the tables requested for this run, or null/empty for all
+	 *            tables
+	 * @return the fingerprint of the columns of each requested table of the
+	 *         context. Key is the fully qualified table name as in the
+	 *         configuration.
+	 * @throws SQLException
+	 */
+	public static Map<String, String> calculateTables(Connection connection, Context context,
+			Set<String> fullyQualifiedTableNames) throws SQLException {
+		DatabaseMetaData databaseMetaData = connection.getMetaData();
+		Map<String, String> answer = new LinkedHashMap<String, String>();
+		for (TableConfiguration tc : context.getTableConfigurations()) {
+			String tableName = composeFullyQualifiedTableName(tc.getCatalog(), tc.getSchema(), tc.getTableName(), '.');
+			if (fullyQualifiedTableNames != null && fullyQualifiedTableNames.size() > 0
+					&& !fullyQualifiedTableNames.contains(tableName)) {
+				continue;
+			}
+
+			ActualTableName table = getActualTableName(connection, tc, tc.getTableName());
+			StringBuilder sb = new StringBuilder();
+			appendColumnsFingerprint(databaseMetaData, table.getCatalog(), table.getSchema(), table.getTableName(),
+					sb);
+			answer.put(tableName, IntrospectionSnapshot.md5(sb.toString()));
+		}
+
+		return answer;
+	}
+
+	private static Set<ActualTableName> getSchemas(Connection connection, Context context,
+			Set<String> fullyQualifiedTableNames) throws SQLException {
+		Set<ActualTableName> answer = new LinkedHashSet<ActualTableName>();
+		for (TableConfiguration tc : context.getTableConfigurations()) {
+			String tableName = composeFullyQualifiedTableName(tc.getCatalog(), tc.getSchema(), tc.getTableName(), '.');
+			if (fullyQualifiedTableNames != null && fullyQualifiedTableNames.size() > 0
+					&& !fullyQualifiedTableNames.contains(tableName)) {
+				continue;
+			}
+
+			answer.add(getActualTableName(connection, tc, "")); //$NON-NLS-1$
+		}
+
+		return answer;
+	}
+
+	/**
+	 * @return the catalog, schema and table name in the case used by the
+	 *         database. Without catalog and schema, the current catalog is
+	 *         used rather than the whole database.
+	 */
+	private static ActualTableName getActualTableName(Connection connection, TableConfiguration tc,
+			String tableName) throws SQLException {
+		DatabaseMetaData databaseMetaData = connection.getMetaData();
+		String catalog = tc.getCatalog();
+		String schema = tc.getSchema();
+		boolean delimitIdentifiers = tc.isDelimitIdentifiers() || stringContainsSpace(catalog)
+				|| stringContainsSpace(schema) || stringContainsSpace(tableName);
+		if (!delimitIdentifiers) {
+			if (databaseMetaData.storesLowerCaseIdentifiers()) {
+				catalog = catalog == null ? null : catalog.toLowerCase();
+				schema = schema == null ? null : schema.toLowerCase();
+				tableName = tableName.toLowerCase();
+			} else if (databaseMetaData.storesUpperCaseIdentifiers()) {
+				catalog = catalog == null ? null : catalog.toUpperCase();
+				schema = schema == null ? null : schema.toUpperCase();
+				tableName = tableName.toUpperCase();
+			}
+		}
+
+		if (!stringHasValue(catalog) && !stringHasValue(schema)) {
+			catalog = connection.getCatalog();
+		}
+
+		return new ActualTableName(catalog, schema, tableName);
+	}
+
+	private static void appendOracleFingerprint(Connection connection, String schema, StringBuilder sb)
+			throws SQLException {
+		PreparedStatement ps = connection.prepareStatement(stringHasValue(schema) ? ORACLE_SCHEMA_DDL
+				: ORACLE_USER_DDL);
+		try {
+			if (stringHasValue(schema)) {
+				ps.setString(1, schema);
+			}
+
+			ResultSet rs = ps.executeQuery();
+			try {
+				while (rs.next()) {
+					sb.append(rs.getLong(1));
+					sb.append('|');
+					sb.append(rs.getTimestamp(2));
+					sb.append('\n');
+				}
+			} finally {
+				rs.close();
+			}
+		} finally {
+			ps.close();
+		}
+	}
+
+	private static void appendColumnsFingerprint(DatabaseMetaData databaseMetaData, String catalog,
+			String schema, String tableNamePattern, StringBuilder sb) throws SQLException {
+		ResultSet rs = databaseMetaData.getColumns(catalog, schema, tableNamePattern, null);
+		try {
+			while (rs.next()) {
+				sb.append(rs.getString("TABLE_CAT")).append('|'); //$NON-NLS-1$
+				sb.append(rs.getString("TABLE_SCHEM")).append('|'); //$NON-NLS-1$
+				sb.append(rs.getString("TABLE_NAME")).append('|'); //$NON-NLS-1$
+				sb.append(rs.getString("COLUMN_NAME")).append('|'); //$NON-NLS-1$
+				sb.append(rs.getInt("DATA_TYPE")).append('|'); //$NON-NLS-1$
+				sb.append(rs.getString("TYPE_NAME")).append('|'); //$NON-NLS-1$
+				sb.append(rs.getInt("COLUMN_SIZE")).append('|'); //$NON-NLS-1$
+				sb.append(rs.getInt("DECIMAL_DIGITS")).append('|'); //$NON-NLS-1$
+				sb.append(rs.getInt("NULLABLE")).append('|'); //$NON-NLS-1$
+				sb.append(rs.getString("REMARKS")).append('|'); //$NON-NLS-1$
+				sb.append(rs.getString("COLUMN_DEF")).append('\n'); //$NON-NLS-1$
+			}
+		} finally {
+			rs.close();
+		}
+	}
+}
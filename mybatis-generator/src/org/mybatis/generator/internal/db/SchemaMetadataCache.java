@@ -0,0 +1,350 @@
+/*
+ *  Copyright 2005 The Apache Software Foundation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import static org.mybatis.generator.internal.util.StringUtility.composeFullyQualifiedTableName;
+import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.mybatis.generator.logging.Log;
+import org.mybatis.generator.logging.LogFactory;
+
+/**
+ * This class holds the column, primary key and table remark metadata of whole
+ * catalogs/schemas. A schema is read with one getColumns scan, one getTables
+ * scan and one getPrimaryKeys scan the first time any table in it is
+ * requested, so the number of metadata calls grows with the number of schemas
+ * instead of the number of tables.
+ * <p>
+ * If the driver cannot return the primary keys or remarks of a whole schema,
+ * that part of the metadata is simply not cached and the caller falls back to
+ * the per table calls. The primary keys are only cached for the tables found
+ * in the schema scan: a driver that needs a table name may return nothing for
+ * a null table name instead of throwing, and the tables without a primary key
+ * cannot be told apart from the tables the scan missed.
+ * <p>
+ * This class is thread safe, so one instance may be shared by several
+ * introspector threads.
+ */
+public class SchemaMetadataCache {
+
+	/**
+	 * One row of the DatabaseMetaData.getColumns result set
+	 */
+	public static class ColumnMetadata {
+		private String tableCatalog;
+		private String tableSchema;
+		private String tableName;
+		private String columnName;
+		private int dataType;
+		private int columnSize;
+		private int decimalDigits;
+		private int nullable;
+		private String remarks;
+		private String defaultValue;
+
+		public ColumnMetadata(ResultSet rs) throws SQLException {
+			tableCatalog = rs.getString("TABLE_CAT"); //$NON-NLS-1$
+			tableSchema = rs.getString("TABLE_SCHEM"); //$NON-NLS-1$
+			tableName = rs.getString("TABLE_NAME"); //$NON-NLS-1$
+			columnName = rs.getString("COLUMN_NAME"); //$NON-NLS-1$
+			dataType = rs.getInt("DATA_TYPE"); //$NON-NLS-1$
+			columnSize = rs.getInt("COLUMN_SIZE"); //$NON-NLS-1$
+			decimalDigits = rs.getInt("DECIMAL_DIGITS"); //$NON-NLS-1$
+			nullable = rs.getInt("NULLABLE"); //$NON-NLS-1$
+			remarks = rs.getString("REMARKS"); //$NON-NLS-1$
+			defaultValue = rs.getString("COLUMN_DEF"); //$NON-NLS-1$
+		}
+
+		public ActualTableName getActualTableName() {
+			return new ActualTableName(tableCatalog, tableSchema, tableName);
+		}
+
+		public String getColumnName() {
+			return columnName;
+		}
+
+		public int getDataType() {
+			return dataType;
+		}
+
+		public int getColumnSize() {
+			return columnSize;
+		}
+
+		public int getDecimalDigits() {
+			return decimalDigits;
+		}
+
+		public int getNullable() {
+			return nullable;
+		}
+
+		public String getRemarks() {
+			return remarks;
+		}
+
+		public String getDefaultValue() {
+			return defaultValue;
+		}
+	}
+
+	private static class TableMetadata {
+		private ActualTableName actualTableName;
+		private List<ColumnMetadata> columns = new ArrayList<ColumnMetadata>();
+		private List<String> primaryKeyColumns;
+		private boolean remarksLoaded;
+		private String remarks;
+	}
+
+	private Log logger;
+
+	/**
+	 * Key is the catalog and schema pattern used for the scan, value is the
+	 * tables of that schema in the order returned by the driver
+	 */
+	private Map<String, List<TableMetadata>> schemas;
+
+	private Map<ActualTableName, TableMetadata> tables;
+
+	public SchemaMetadataCache() {
+		super();
+		schemas = new HashMap<String, List<TableMetadata>>();
+		tables = new HashMap<ActualTableName, TableMetadata>();
+		logger = LogFactory.getLog(getClass());
+	}
+
+	/**
+	 * Returns the columns matching the specified search pattern, in the order
+	 * DatabaseMetaData.getColumns would return them. The whole catalog/schema
+	 * is read on the first call.
+	 *
+	 * @param databaseMetaData
+	 * @param catalog
+	 * @param schemaPattern
+	 * @param tableNamePattern
+	 * @return the matching columns
+	 * @throws SQLException
+	 */
+	public synchronized List<ColumnMetadata> getColumns(DatabaseMetaData databaseMetaData, String catalog,
+			String schemaPattern, String tableNamePattern) throws SQLException {
+		String key = composeFullyQualifiedTableName(catalog, schemaPattern, "", '.'); //$NON-NLS-1$
+		List<TableMetadata> schemaTables = schemas.get(key);
+		if (schemaTables == null) {
+			schemaTables = prefetch(databaseMetaData, catalog, schemaPattern);
+			schemas.put(key, schemaTables);
+		}
+
+		Pattern pattern = compileSearchPattern(tableNamePattern, databaseMetaData.getSearchStringEscape());
+
+		List<ColumnMetadata> answer = new ArrayList<ColumnMetadata>();
+		for (TableMetadata table : schemaTables) {
+			if (pattern == null || pattern.matcher(table.actualTableName.getTableName()).matches()) {
+				answer.addAll(table.columns);
+			}
+		}
+
+		return answer;
+	}
+
+	/**
+	 * @param actualTableName
+	 * @return the primary key column names, or null if they were not prefetched
+	 *         (the caller must then read them with getPrimaryKeys)
+	 */
+	public synchronized List<String> getPrimaryKeyColumns(ActualTableName actualTableName) {
+		TableMetadata table = tables.get(actualTableName);
+		return table == null ? null : table.primaryKeyColumns;
+	}
+
+	public synchronized boolean isTableRemarksPrefetched(ActualTableName actualTableName) {
+		TableMetadata table = tables.get(actualTableName);
+		return table != null && table.remarksLoaded;
+	}
+
+	public synchronized String getTableRemarks(ActualTableName actualTableName) {
+		TableMetadata table = tables.get(actualTableName);
+		return table == null ? null : table.remarks;
+	}
+
+	private List<TableMetadata> prefetch(DatabaseMetaData databaseMetaData, String catalog, String schemaPattern)
+			throws SQLException {
+		if (logger.isDebugEnabled()) {
+			logger.debug("Prefetching metadata for schema \"" //$NON-NLS-1$
+					+ composeFullyQualifiedTableName(catalog, schemaPattern, "%", '.') + "\""); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+
+		Map<ActualTableName, TableMetadata> schemaTables = new LinkedHashMap<ActualTableName, TableMetadata>();
+
+		ResultSet rs = databaseMetaData.getColumns(catalog, schemaPattern, "%", null); //$NON-NLS-1$
+		try {
+			while (rs.next()) {
+				ColumnMetadata column = new ColumnMetadata(rs);
+				ActualTableName atn = column.getActualTableName();
+				TableMetadata table = schemaTables.get(atn);
+				if (table == null) {
+					table = new TableMetadata();
+					table.actualTableName = atn;
+					schemaTables.put(atn, table);
+				}
+				table.columns.add(column);
+			}
+		} finally {
+			closeResultSet(rs);
+		}
+
+		prefetchTableRemarks(databaseMetaData, catalog, schemaPattern, schemaTables);
+		prefetchPrimaryKeys(databaseMetaData, schemaTables);
+
+		tables.putAll(schemaTables);
+
+		return new ArrayList<TableMetadata>(schemaTables.values());
+	}
+
+	private void prefetchTableRemarks(DatabaseMetaData databaseMetaData, String catalog, String schemaPattern,
+			Map<ActualTableName, TableMetadata> schemaTables) {
+		Map<ActualTableName, String> remarks = new HashMap<ActualTableName, String>();
+		ResultSet rs = null;
+		try {
+			rs = databaseMetaData.getTables(catalog, schemaPattern, "%", null); //$NON-NLS-1$
+			while (rs.next()) {
+				remarks.put(new ActualTableName(rs.getString("TABLE_CAT"), //$NON-NLS-1$
+						rs.getString("TABLE_SCHEM"), //$NON-NLS-1$
+						rs.getString("TABLE_NAME")), //$NON-NLS-1$
+						rs.getString("REMARKS")); //$NON-NLS-1$
+			}
+		} catch (SQLException e) {
+			// fall back to the per table calls
+			logger.debug("Cannot prefetch table remarks: " + e.getMessage()); //$NON-NLS-1$
+			return;
+		} finally {
+			closeResultSet(rs);
+		}
+
+		for (TableMetadata table : schemaTables.values()) {
+			table.remarksLoaded = true;
+			table.remarks = remarks.get(table.actualTableName);
+		}
+	}
+
+	private void prefetchPrimaryKeys(DatabaseMetaData databaseMetaData, Map<ActualTableName, TableMetadata> schemaTables) {
+		// getPrimaryKeys does not accept patterns, so scan each actual
+		// catalog/schema that the column scan returned
+		Set<ActualTableName> actualSchemas = new LinkedHashSet<ActualTableName>();
+		for (ActualTableName atn : schemaTables.keySet()) {
+			actualSchemas.add(new ActualTableName(atn.getCatalog(), atn.getSchema(), "")); //$NON-NLS-1$
+		}
+
+		Map<ActualTableName, List<String>> primaryKeys = new HashMap<ActualTableName, List<String>>();
+		for (ActualTableName actualSchema : actualSchemas) {
+			if (!stringHasValue(actualSchema.getCatalog()) && !stringHasValue(actualSchema.getSchema())) {
+				// a null catalog and schema would read the whole database
+				return;
+			}
+
+			ResultSet rs = null;
+			try {
+				rs = databaseMetaData.getPrimaryKeys(actualSchema.getCatalog(), actualSchema.getSchema(), null);
+				while (rs.next()) {
+					ActualTableName atn = new ActualTableName(rs.getString("TABLE_CAT"), //$NON-NLS-1$
+							rs.getString("TABLE_SCHEM"), //$NON-NLS-1$
+							rs.getString("TABLE_NAME")); //$NON-NLS-1$
+					List<String> columns = primaryKeys.get(atn);
+					if (columns == null) {
+						columns = new ArrayList<String>();
+						primaryKeys.put(atn, columns);
+					}
+					columns.add(rs.getString("COLUMN_NAME")); //$NON-NLS-1$
+				}
+			} catch (SQLException e) {
+				// many drivers require a table name - fall back to the per
+				// table calls
+				logger.debug("Cannot prefetch primary keys: " + e.getMessage()); //$NON-NLS-1$
+				return;
+			} finally {
+				closeResultSet(rs);
+			}
+		}
+
+		if (primaryKeys.isEmpty()) {
+			// drivers that require a table name may return an empty result
+			// instead of throwing - fall back to the per table calls
+			logger.debug("Cannot prefetch primary keys: the schema scan returned no primary keys"); //$NON-NLS-1$
+			return;
+		}
+
+		for (TableMetadata table : schemaTables.values()) {
+			// tables missing from the scan are left null, so that the
+			// per table call still runs for them
+			table.primaryKeyColumns = primaryKeys.get(table.actualTableName);
+		}
+	}
+
+	/**
+	 * Translates a JDBC search pattern into a regular expression.
+	 *
+	 * @return the pattern, or null if the search pattern matches everything
+	 */
+	private Pattern compileSearchPattern(String searchPattern, String escapeString) {
+		if (searchPattern == null) {
+			return null;
+		}
+
+		StringBuilder sb = new StringBuilder();
+		int i = 0;
+		while (i < searchPattern.length()) {
+			if (stringHasValue(escapeString) && searchPattern.startsWith(escapeString, i)
+					&& i + escapeString.length() < searchPattern.length()) {
+				i += escapeString.length();
+				sb.append(Pattern.quote(searchPattern.substring(i, i + 1)));
+			} else {
+				char c = searchPattern.charAt(i);
+				if (c == '%') {
+					sb.append(".*"); //$NON-NLS-1$
+				} else if (c == '_') {
+					sb.append('.');
+				} else {
+					sb.append(Pattern.quote(String.valueOf(c)));
+				}
+			}
+			i++;
+		}
+
+		return Pattern.compile(sb.toString(), Pattern.DOTALL);
+	}
+
+	private void closeResultSet(ResultSet rs) {
+		if (rs != null) {
+			try {
+				rs.close();
+			} catch (SQLException e) {
+				// ignore
+				;
+			}
+		}
+	}
+}
@@ -0,0 +1,179 @@
+/*
+ *  Copyright 2005 The Apache Software Foundation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.mybatis.generator.logging.Log;
+import org.mybatis.generator.logging.LogFactory;
+
+/**
+ * The SQL Server JDBC driver does not return table and column remarks, they
+ * are stored as extended properties. This class reads the extended properties
+ * of all tables and columns of a schema with two queries the first time the
+ * schema is used, and answers every later lookup from memory.
+ * <p>
+ * SQL Server 2005 and later keep the properties in sys.extended_properties
+ * (the MS_Description property), SQL Server 2000 keeps them in sysproperties.
+ * <p>
+ * This class is thread safe, so one instance may be shared by several
+ * introspector threads.
+ */
+public class SqlServerRemarksLoader {
+
+	private static final String TABLE_REMARKS_2005 = "SELECT t.name AS TABLE_NAME," //$NON-NLS-1$
+			+ " CAST(p.value AS nvarchar(4000)) AS REMARKS" //$NON-NLS-1$
+			+ " FROM sys.extended_properties p" //$NON-NLS-1$
+			+ " INNER JOIN sys.objects t ON p.major_id = t.object_id" //$NON-NLS-1$
+			+ " INNER JOIN sys.schemas s ON t.schema_id = s.schema_id" //$NON-NLS-1$
+			+ " WHERE p.class = 1 AND p.minor_id = 0 AND p.name = 'MS_Description'"; //$NON-NLS-1$
+
+	private static final String COLUMN_REMARKS_2005 = "SELECT t.name AS TABLE_NAME, c.name AS COLUMN_NAME," //$NON-NLS-1$
+			+ " CAST(p.value AS nvarchar(4000)) AS REMARKS" //$NON-NLS-1$
+			+ " FROM sys.extended_properties p" //$NON-NLS-1$
+			+ " INNER JOIN sys.objects t ON p.major_id = t.object_id" //$NON-NLS-1$
+			+ " INNER JOIN sys.schemas s ON t.schema_id = s.schema_id" //$NON-NLS-1$
+			+ " INNER JOIN sys.columns c ON p.major_id = c.object_id AND p.minor_id = c.column_id" //$NON-NLS-1$
+			+ " WHERE p.class = 1 AND p.minor_id > 0 AND p.name = 'MS_Description'"; //$NON-NLS-1$
+
+	private static final String SCHEMA_FILTER_2005 = " AND s.name = ?"; //$NON-NLS-1$
+
+	private static final String TABLE_REMARKS_2000 = "SELECT o.name AS TABLE_NAME," //$NON-NLS-1$
+			+ " CAST(p.[value] AS varchar(8000)) AS REMARKS" //$NON-NLS-1$
+			+ " FROM sysproperties p" //$NON-NLS-1$
+			+ " INNER JOIN sysobjects o ON p.id = o.id" //$NON-NLS-1$
+			+ " WHERE p.type = 3"; //$NON-NLS-1$
+
+	private static final String COLUMN_REMARKS_2000 = "SELECT o.name AS TABLE_NAME, c.name AS COLUMN_NAME," //$NON-NLS-1$
+			+ " CAST(p.[value] AS varchar(8000)) AS REMARKS" //$NON-NLS-1$
+			+ " FROM sysproperties p" //$NON-NLS-1$
+			+ " INNER JOIN syscolumns c ON p.id = c.id AND p.smallid = c.colid" //$NON-NLS-1$
+			+ " INNER JOIN sysobjects o ON p.id = o.id" //$NON-NLS-1$
+			+ " WHERE p.type = 4"; //$NON-NLS-1$
+
+	private static final String SCHEMA_FILTER_2000 = " AND user_name(o.uid) = ?"; //$NON-NLS-1$
+
+	private static class SchemaRemarks {
+		private Map<String, String> tableRemarks = new HashMap<String, String>();
+		private Map<String, String> columnRemarks = new HashMap<String, String>();
+	}
+
+	private Log logger;
+
+	/**
+	 * Key is the upper case schema name ("" if no schema was specified)
+	 */
+	private Map<String, SchemaRemarks> schemas;
+
+	public SqlServerRemarksLoader() {
+		super();
+		schemas = new HashMap<String, SchemaRemarks>();
+		logger = LogFactory.getLog(getClass());
+	}
+
+	/**
+	 * @param connection
+	 *            used if the schema has not been read yet
+	 * @param schema
+	 *            the actual schema of the table, may be null
+	 * @param tableName
+	 * @return the remarks of the table, or null if there are none
+	 */
+	public synchronized String getTableRemarks(Connection connection, String schema, String tableName) {
+		return getSchemaRemarks(connection, schema).tableRemarks.get(getKey(tableName, null));
+	}
+
+	/**
+	 * @param connection
+	 *            used if the schema has not been read yet
+	 * @param schema
+	 *            the actual schema of the table, may be null
+	 * @param tableName
+	 * @param columnName
+	 * @return the remarks of the column, or null if there are none
+	 */
+	public synchronized String getColumnRemarks(Connection connection, String schema, String tableName,
+			String columnName) {
+		return getSchemaRemarks(connection, schema).columnRemarks.get(getKey(tableName, columnName));
+	}
+
+	private SchemaRemarks getSchemaRemarks(Connection connection, String schema) {
+		String key = stringHasValue(schema) ? schema.toUpperCase() : ""; //$NON-NLS-1$
+		SchemaRemarks schemaRemarks = schemas.get(key);
+		if (schemaRemarks == null) {
+			schemaRemarks = new SchemaRemarks();
+			try {
+				boolean sqlServer2005 = connection.getMetaData().getDatabaseMajorVersion() >= 9;
+				String schemaFilter = stringHasValue(schema) ? (sqlServer2005 ? SCHEMA_FILTER_2005
+						: SCHEMA_FILTER_2000) : ""; //$NON-NLS-1$
+
+				readRemarks(connection, (sqlServer2005 ? TABLE_REMARKS_2005 : TABLE_REMARKS_2000) + schemaFilter,
+						schema, false, schemaRemarks.tableRemarks);
+				readRemarks(connection, (sqlServer2005 ? COLUMN_REMARKS_2005 : COLUMN_REMARKS_2000) + schemaFilter,
+						schema, true, schemaRemarks.columnRemarks);
+			} catch (SQLException e) {
+				// the remarks are optional - generate without them
+				logger.error("Exception: ", e); //$NON-NLS-1$
+			}
+			schemas.put(key, schemaRemarks);
+		}
+
+		return schemaRemarks;
+	}
+
+	private void readRemarks(Connection connection, String sql, String schema, boolean columns,
+			Map<String, String> remarks) throws SQLException {
+		PreparedStatement ps = connection.prepareStatement(sql);
+		try {
+			if (stringHasValue(schema)) {
+				ps.setString(1, schema);
+			}
+
+			ResultSet rs = ps.executeQuery();
+			try {
+				while (rs.next()) {
+					String key = getKey(rs.getString("TABLE_NAME"), //$NON-NLS-1$
+							columns ? rs.getString("COLUMN_NAME") : null); //$NON-NLS-1$
+					remarks.put(key, rs.getString("REMARKS")); //$NON-NLS-1$
+				}
+			} finally {
+				rs.close();
+			}
+		} finally {
+			ps.close();
+		}
+	}
+
+	/**
+	 * SQL Server identifiers are case insensitive with the default collation
+	 */
+	private String getKey(String tableName, String columnName) {
+		StringBuilder sb = new StringBuilder();
+		sb.append(tableName == null ? "" : tableName.toUpperCase()); //$NON-NLS-1$
+		if (columnName != null) {
+			sb.append('.');
+			sb.append(columnName.toUpperCase());
+		}
+		return sb.toString();
+	}
+}
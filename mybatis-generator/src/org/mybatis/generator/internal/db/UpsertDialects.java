@@ -0,0 +1,92 @@
+/*
+ *  Copyright 2005 The Apache Software Foundation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+/**
+ * Typesafe enum of the SQL forms of the generated upsert statements
+ */
+public enum UpsertDialects {
+
+	/**
+	 * insert into TABLE ... on duplicate key update - MySQL and MariaDB
+	 */
+	MYSQL,
+
+	/**
+	 * merge into TABLE using dual on (...) - Oracle
+	 */
+	ORACLE,
+
+	/**
+	 * merge into TABLE with (holdlock) using ... on (...); - SQL Server 2008
+	 * and later
+	 */
+	SQLSERVER,
+
+	/**
+	 * insert into TABLE ... on conflict (...) do update - PostgreSQL 9.5 and
+	 * later
+	 */
+	POSTGRESQL;
+
+	/**
+	 * 
+	 * @param database
+	 * @return the upsert dialect for the selected database. May return null if
+	 *         there is no known dialect for the selected db
+	 */
+	public static UpsertDialects getUpsertDialect(String database) {
+		UpsertDialects returnValue = null;
+
+		if ("MySQL".equalsIgnoreCase(database) //$NON-NLS-1$
+				|| "MariaDB".equalsIgnoreCase(database)) { //$NON-NLS-1$
+			returnValue = MYSQL;
+		} else if ("Oracle".equalsIgnoreCase(database)) { //$NON-NLS-1$
+			returnValue = ORACLE;
+		} else if ("SqlServer".equalsIgnoreCase(database)) { //$NON-NLS-1$
+			returnValue = SQLSERVER;
+		} else if ("PostgreSQL".equalsIgnoreCase(database)) { //$NON-NLS-1$
+			returnValue = POSTGRESQL;
+		}
+
+		return returnValue;
+	}
+
+	/**
+	 * Guesses the dialect from the class name of the JDBC driver, in the same
+	 * way as the criteria plugins.
+	 * 
+	 * @param driverClass
+	 * @return the upsert dialect for the driver. May return null if the driver
+	 *         is not known
+	 */
+	public static UpsertDialects getUpsertDialectForDriver(String driverClass) {
+		UpsertDialects returnValue = null;
+
+		String driver = driverClass == null ? "" : driverClass.toLowerCase(); //$NON-NLS-1$
+		if (driver.contains("mysql") || driver.contains("mariadb")) { //$NON-NLS-1$ //$NON-NLS-2$
+			returnValue = MYSQL;
+		} else if (driver.contains("oracle")) { //$NON-NLS-1$
+			returnValue = ORACLE;
+		} else if (driver.contains("sqlserver") || driver.contains("jtds")) { //$NON-NLS-1$ //$NON-NLS-2$
+			returnValue = SQLSERVER;
+		} else if (driver.contains("postgresql")) { //$NON-NLS-1$
+			returnValue = POSTGRESQL;
+		}
+
+		return returnValue;
+	}
+}
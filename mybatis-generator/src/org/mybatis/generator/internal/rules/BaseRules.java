@@ -63,6 +63,41 @@ public abstract class BaseRules implements Rules {
 		return tableConfiguration.isInsertStatementEnabled();
 	}
 
+	/**
+	 * Implements the rule for generating the insert batch SQL Map element and
+	 * DAO method. If the insert batch statement is enabled, then generate the
+	 * element and method.
+	 * 
+	 * @return true if the element and method should be generated
+	 */
+	public boolean generateInsertBatch() {
+		return tableConfiguration.isInsertBatchStatementEnabled();
+	}
+
+	/**
+	 * Implements the rule for generating the upsert and upsert selective SQL
+	 * Map elements and mapper methods. If the table has a primary key and the
+	 * upsert statement is enabled, then generate the elements and methods.
+	 * 
+	 * @return true if the elements and methods should be generated
+	 */
+	public boolean generateUpsert() {
+		boolean rc = tableConfiguration.isUpsertStatementEnabled() && introspectedTable.hasPrimaryKeyColumns();
+
+		return rc;
+	}
+
+	/**
+	 * Implements the rule for generating the upsert batch SQL Map element and
+	 * mapper method. If the upsert statements are generated and the insert
+	 * batch statement is enabled, then generate the element and method.
+	 * 
+	 * @return true if the element and method should be generated
+	 */
+	public boolean generateUpsertBatch() {
+		return generateUpsert() && tableConfiguration.isInsertBatchStatementEnabled();
+	}
+
 	/**
 	 * Calculates the class that contains all fields. This class is used as the
 	 * insert statement parameter, as well as the returned value from the select
@@ -83,7 +118,7 @@ public abstract class BaseRules implements Rules {
 			answer = introspectedTable.getPrimaryKeyType();
 		}
 
-		return new FullyQualifiedJavaType(answer);
+		return FullyQualifiedJavaType.of(answer);
 	}
 
 	/**
@@ -162,27 +197,31 @@ public abstract class BaseRules implements Rules {
 
 	/**
 	 * Implements the rule for generating the result map without BLOBs. If
-	 * either select method is allowed, then generate the result map.
+	 * any select method is allowed, then generate the result map.
 	 * 
 	 * @return true if the result map should be generated
 	 */
 	public boolean generateBaseResultMap() {
 		boolean rc = tableConfiguration.isSelectByParamsStatementEnabled()
-				|| tableConfiguration.isSelectByPrimaryKeyStatementEnabled();
+				|| tableConfiguration.isSelectByParamsWithHandlerStatementEnabled()
+				|| tableConfiguration.isSelectByPrimaryKeyStatementEnabled()
+				|| tableConfiguration.isSelectByPrimaryKeysStatementEnabled();
 
 		return rc;
 	}
 
 	/**
 	 * Implements the rule for generating the result map with BLOBs. If the
-	 * table has BLOB columns, and either select method is allowed, then
-	 * generate the result map.
+	 * table has BLOB columns, and any select method is allowed, then generate
+	 * the result map.
 	 * 
 	 * @return true if the result map should be generated
 	 */
 	public boolean generateResultMapWithBLOBs() {
-		boolean rc = (tableConfiguration.isSelectByParamsStatementEnabled() || tableConfiguration
-				.isSelectByPrimaryKeyStatementEnabled()) && introspectedTable.hasBLOBColumns();
+		boolean rc = (tableConfiguration.isSelectByParamsStatementEnabled()
+				|| tableConfiguration.isSelectByParamsWithHandlerStatementEnabled()
+				|| tableConfiguration.isSelectByPrimaryKeyStatementEnabled() || tableConfiguration
+					.isSelectByPrimaryKeysStatementEnabled()) && introspectedTable.hasBLOBColumns();
 
 		return rc;
 	}
@@ -190,16 +229,19 @@ public abstract class BaseRules implements Rules {
 	/**
 	 * Implements the rule for generating the SQL example where clause element.
 	 * 
-	 * In iBATIS2, generate the element if the selectByParams, deleteByParams,
-	 * updateByParams, or countByParams statements are allowed.
+	 * In iBATIS2, generate the element if the selectByParams,
+	 * selectByParamsWithHandler, deleteByParams, updateByParams, or
+	 * countByParams statements are allowed.
 	 * 
 	 * In MyBatis3, generate the element if the selectByParams,
-	 * deleteByParams, or countByParams statements are allowed.
+	 * selectByParamsWithHandler, deleteByParams, or countByParams statements
+	 * are allowed.
 	 * 
 	 * @return true if the SQL where clause element should be generated
 	 */
 	public boolean generateSQLExampleWhereClause() {
 		boolean rc = tableConfiguration.isSelectByParamsStatementEnabled()
+				|| tableConfiguration.isSelectByParamsWithHandlerStatementEnabled()
 				|| tableConfiguration.isDeleteByParamsStatementEnabled()
 				|| tableConfiguration.isCountByParamsStatementEnabled();
 
@@ -267,15 +309,72 @@ public abstract class BaseRules implements Rules {
 		return rc;
 	}
 
+	/**
+	 * Implements the rule for generating the select by primary keys SQL Map
+	 * element and DAO method. If the selectByPrimaryKeys statement is enabled,
+	 * and the table has a primary key as well as base or BLOB columns, then
+	 * generate the element and method. It does not need the selectByPrimaryKey
+	 * statement.
+	 * 
+	 * @return true if the element and method should be generated
+	 */
+	public boolean generateSelectByPrimaryKeys() {
+		boolean rc = tableConfiguration.isSelectByPrimaryKeysStatementEnabled()
+				&& introspectedTable.hasPrimaryKeyColumns()
+				&& (introspectedTable.hasBaseColumns() || introspectedTable.hasBLOBColumns());
+
+		return rc;
+	}
+
+	/**
+	 * Implements the rule for generating the delete by primary keys SQL Map
+	 * element and DAO method. If the deleteByPrimaryKeys statement is enabled
+	 * and the table has a primary key, then generate the element and method.
+	 * It does not need the deleteByPrimaryKey statement.
+	 * 
+	 * @return true if the element and method should be generated
+	 */
+	public boolean generateDeleteByPrimaryKeys() {
+		boolean rc = tableConfiguration.isDeleteByPrimaryKeysStatementEnabled()
+				&& introspectedTable.hasPrimaryKeyColumns();
+
+		return rc;
+	}
+
+	/**
+	 * Implements the rule for generating the select by example with result
+	 * handler SQL Map element and DAO method. If the selectByParamsWithHandler
+	 * statement is enabled, then generate the element and method. It does not
+	 * need the selectByParams statement.
+	 * 
+	 * @return true if the element and method should be generated
+	 */
+	public boolean generateSelectByParamsWithHandler() {
+		return tableConfiguration.isSelectByParamsWithHandlerStatementEnabled();
+	}
+
+	/**
+	 * Implements the rule for generating the select by example with BLOBs and
+	 * result handler SQL Map element and DAO method. If the table has BLOB
+	 * columns and the selectByParamsWithHandler statement is enabled, then
+	 * generate the element and method.
+	 * 
+	 * @return true if the element and method should be generated
+	 */
+	public boolean generateSelectByParamsWithBLOBsWithHandler() {
+		return tableConfiguration.isSelectByParamsWithHandlerStatementEnabled() && introspectedTable.hasBLOBColumns();
+	}
+
 	/**
 	 * Implements the rule for generating an example class. The class should be
-	 * generated if the selectByParams or deleteByParams or countByParams
-	 * methods are allowed.
+	 * generated if the selectByParams or selectByParamsWithHandler or
+	 * deleteByParams or countByParams or updateByParams methods are allowed.
 	 * 
 	 * @return true if the example class should be generated
 	 */
 	public boolean generateExampleClass() {
 		boolean rc = tableConfiguration.isSelectByParamsStatementEnabled()
+				|| tableConfiguration.isSelectByParamsWithHandlerStatementEnabled()
 				|| tableConfiguration.isDeleteByParamsStatementEnabled()
 				|| tableConfiguration.isCountByParamsStatementEnabled()
 				|| tableConfiguration.isUpdateByParamsStatementEnabled();
@@ -313,12 +412,15 @@ public abstract class BaseRules implements Rules {
 	}
 
 	public boolean generateBaseColumnList() {
-		return generateSelectByPrimaryKey() || generateSelectByParamsWithoutBLOBs();
+		return generateSelectByPrimaryKey() || generateSelectByPrimaryKeys() || generateSelectByParamsWithoutBLOBs()
+				|| generateSelectByParamsWithHandler();
 	}
 
 	public boolean generateBlobColumnList() {
 		return introspectedTable.hasBLOBColumns()
-				&& (tableConfiguration.isSelectByParamsStatementEnabled() || tableConfiguration
-						.isSelectByPrimaryKeyStatementEnabled());
+				&& (tableConfiguration.isSelectByParamsStatementEnabled()
+						|| tableConfiguration.isSelectByParamsWithHandlerStatementEnabled()
+						|| tableConfiguration.isSelectByPrimaryKeyStatementEnabled() || tableConfiguration
+							.isSelectByPrimaryKeysStatementEnabled());
 	}
 }
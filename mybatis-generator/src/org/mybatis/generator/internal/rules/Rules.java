@@ -45,6 +45,33 @@ public interface Rules {
 	 */
 	boolean generateInsertSelective();
 
+	/**
+	 * Implements the rule for generating the insert batch SQL Map element and
+	 * DAO method. If the insert batch statement is enabled, then generate the
+	 * element and method.
+	 * 
+	 * @return true if the element and method should be generated
+	 */
+	boolean generateInsertBatch();
+
+	/**
+	 * Implements the rule for generating the upsert and upsert selective SQL
+	 * Map elements and mapper methods. If the table has a primary key and the
+	 * upsert statement is enabled, then generate the elements and methods.
+	 * 
+	 * @return true if the elements and methods should be generated
+	 */
+	boolean generateUpsert();
+
+	/**
+	 * Implements the rule for generating the upsert batch SQL Map element and
+	 * mapper method. If the upsert statements are generated and the insert
+	 * batch statement is enabled, then generate the element and method.
+	 * 
+	 * @return true if the element and method should be generated
+	 */
+	boolean generateUpsertBatch();
+
 	/**
 	 * Calculates the class that contains all fields. This class is used as the
 	 * insert statement parameter, as well as the returned value from the select
@@ -193,6 +220,46 @@ public interface Rules {
 	 */
 	boolean generateSelectByParamsWithBLOBs();
 
+	/**
+	 * Implements the rule for generating the select by primary keys SQL Map
+	 * element and DAO method. If the select by primary key element is
+	 * generated and the selectByPrimaryKeys statement is enabled, then
+	 * generate the element and method.
+	 * 
+	 * @return true if the element and method should be generated
+	 */
+	boolean generateSelectByPrimaryKeys();
+
+	/**
+	 * Implements the rule for generating the delete by primary keys SQL Map
+	 * element and DAO method. If the delete by primary key element is
+	 * generated and the deleteByPrimaryKeys statement is enabled, then
+	 * generate the element and method.
+	 * 
+	 * @return true if the element and method should be generated
+	 */
+	boolean generateDeleteByPrimaryKeys();
+
+	/**
+	 * Implements the rule for generating the select by example with result
+	 * handler SQL Map element and DAO method. If the select by example without
+	 * BLOBs element is generated and the selectByParamsWithHandler statement is
+	 * enabled, then generate the element and method.
+	 * 
+	 * @return true if the element and method should be generated
+	 */
+	boolean generateSelectByParamsWithHandler();
+
+	/**
+	 * Implements the rule for generating the select by example with BLOBs and
+	 * result handler SQL Map element and DAO method. If the select by example
+	 * with BLOBs element is generated and the selectByParamsWithHandler
+	 * statement is enabled, then generate the element and method.
+	 * 
+	 * @return true if the element and method should be generated
+	 */
+	boolean generateSelectByParamsWithBLOBsWithHandler();
+
 	/**
 	 * Implements the rule for generating an example class. The class should be
 	 * generated if the selectByParams or deleteByParams or countByParams
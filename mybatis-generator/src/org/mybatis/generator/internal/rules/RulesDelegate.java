@@ -101,6 +101,18 @@ public class RulesDelegate implements Rules {
 		return rules.generateInsertSelective();
 	}
 
+	public boolean generateInsertBatch() {
+		return rules.generateInsertBatch();
+	}
+
+	public boolean generateUpsert() {
+		return rules.generateUpsert();
+	}
+
+	public boolean generateUpsertBatch() {
+		return rules.generateUpsertBatch();
+	}
+
 	public boolean generatePrimaryKeyClass() {
 		return rules.generatePrimaryKeyClass();
 	}
@@ -121,6 +133,22 @@ public class RulesDelegate implements Rules {
 		return rules.generateSelectByParamsWithoutBLOBs();
 	}
 
+	public boolean generateSelectByPrimaryKeys() {
+		return rules.generateSelectByPrimaryKeys();
+	}
+
+	public boolean generateDeleteByPrimaryKeys() {
+		return rules.generateDeleteByPrimaryKeys();
+	}
+
+	public boolean generateSelectByParamsWithHandler() {
+		return rules.generateSelectByParamsWithHandler();
+	}
+
+	public boolean generateSelectByParamsWithBLOBsWithHandler() {
+		return rules.generateSelectByParamsWithBLOBsWithHandler();
+	}
+
 	public boolean generateSelectByPrimaryKey() {
 		return rules.generateSelectByPrimaryKey();
 	}
@@ -33,13 +33,38 @@ import java.util.List;
  */
 public class ClassloaderUtility {
 
+	private static List<String> lastEntries;
+
+	private static ClassLoader lastParent;
+
+	private static ClassLoader lastClassLoader;
+
 	/**
 	 * Utility Class - No Instances
 	 */
 	private ClassloaderUtility() {
 	}
 
-	public static ClassLoader getCustomClassloader(List<String> entries) {
+	/**
+	 * Returns a classloader for the entries. The classloader of the last call
+	 * is returned again if the entries and the parent classloader are the same,
+	 * so that a long running process (such as the GeneratorDaemon) does not
+	 * load the JDBC driver and the plugins again for every run.
+	 */
+	public static synchronized ClassLoader getCustomClassloader(List<String> entries) {
+		List<String> currentEntries = entries == null ? new ArrayList<String>() : new ArrayList<String>(entries);
+		ClassLoader parent = Thread.currentThread().getContextClassLoader();
+		if (lastClassLoader != null && parent == lastParent && lastEntries.equals(currentEntries)) {
+			return lastClassLoader;
+		}
+
+		lastClassLoader = createCustomClassloader(currentEntries, parent);
+		lastParent = parent;
+		lastEntries = currentEntries;
+		return lastClassLoader;
+	}
+
+	private static ClassLoader createCustomClassloader(List<String> entries, ClassLoader parent) {
 		List<URL> urls = new ArrayList<URL>();
 		File file;
 
@@ -59,8 +84,6 @@ public class ClassloaderUtility {
 			}
 		}
 
-		ClassLoader parent = Thread.currentThread().getContextClassLoader();
-
 		URLClassLoader ucl = new URLClassLoader(urls.toArray(new URL[urls.size()]), parent);
 
 		return ucl;
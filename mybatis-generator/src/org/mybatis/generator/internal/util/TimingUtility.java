@@ -0,0 +1,59 @@
+/*
+ *  Copyright 2005 The Apache Software Foundation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mybatis.generator.internal.util;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * This class holds methods for measuring the metrics of a generator run.
+ */
+public class TimingUtility {
+
+	/**
+	 * Utility Class - No Instances
+	 */
+	private TimingUtility() {
+	}
+
+	/**
+	 * @return the CPU time of the current thread in nanoseconds, or -1 if the
+	 *         JVM does not measure thread CPU time
+	 */
+	public static long getCurrentThreadCpuTime() {
+		ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+		if (!threadMXBean.isCurrentThreadCpuTimeSupported()) {
+			return -1;
+		}
+
+		return threadMXBean.getCurrentThreadCpuTime();
+	}
+
+	/**
+	 * @param startCpuTime
+	 *            a value returned by getCurrentThreadCpuTime()
+	 * @return the CPU time of the current thread since startCpuTime, or -1 if
+	 *         the JVM does not measure thread CPU time
+	 */
+	public static long getCpuTimeSince(long startCpuTime) {
+		if (startCpuTime < 0) {
+			return -1;
+		}
+
+		long cpuTime = getCurrentThreadCpuTime();
+		return cpuTime < 0 ? -1 : cpuTime - startCpuTime;
+	}
+}
@@ -4,6 +4,7 @@ import java.util.List;
 
 import org.mybatis.generator.api.IntrospectedTable;
 import org.mybatis.generator.api.PluginAdapter;
+import org.mybatis.generator.api.ThreadSafePlugin;
 import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
 import org.mybatis.generator.api.dom.java.Interface;
 import org.mybatis.generator.api.dom.java.Method;
@@ -16,16 +17,16 @@ import org.mybatis.generator.api.dom.java.TopLevelClass;
  * @author QQ:34847009
  * @date 2010-10-21 下午09:33:48
  */
-public class AnnotationPlugin extends PluginAdapter {
+public class AnnotationPlugin extends PluginAdapter implements ThreadSafePlugin {
 	private FullyQualifiedJavaType repository;
 	private FullyQualifiedJavaType autowired;
 	private FullyQualifiedJavaType sqlMapClient;
 
 	public AnnotationPlugin() {
 		super();
-		autowired = new FullyQualifiedJavaType("org.springframework.beans.factory.annotation.Autowired"); //$NON-NLS-1$
-		repository = new FullyQualifiedJavaType("org.springframework.stereotype.Repository"); //$NON-NLS-1$
-		sqlMapClient = new FullyQualifiedJavaType("com.ibatis.sqlmap.client.SqlMapClient"); //$NON-NLS-1$
+		autowired = FullyQualifiedJavaType.of("org.springframework.beans.factory.annotation.Autowired"); //$NON-NLS-1$
+		repository = FullyQualifiedJavaType.of("org.springframework.stereotype.Repository"); //$NON-NLS-1$
+		sqlMapClient = FullyQualifiedJavaType.of("com.ibatis.sqlmap.client.SqlMapClient"); //$NON-NLS-1$
 	}
 
 	@Override
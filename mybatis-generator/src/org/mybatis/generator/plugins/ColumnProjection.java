@@ -0,0 +1,102 @@
+/*
+ *  Copyright 2005 The Apache Software Foundation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mybatis.generator.plugins;
+
+import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.api.PluginAdapter;
+import org.mybatis.generator.api.dom.OutputUtilities;
+import org.mybatis.generator.api.dom.java.Field;
+import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+import org.mybatis.generator.api.dom.java.JavaVisibility;
+import org.mybatis.generator.api.dom.java.Method;
+import org.mybatis.generator.api.dom.java.Parameter;
+import org.mybatis.generator.api.dom.java.TopLevelClass;
+import org.mybatis.generator.codegen.mybatis3.model.ExampleGenerator;
+
+/**
+ * Column projection for the Criteria class of MybatisCriteriaPlugin and
+ * MybatisCriteriaPlugin2.
+ * <p>
+ * When the context or table property columnProjection is true, selectByParams
+ * only selects the columns in the selectColumns list of its parameter. The
+ * plugins do not generate the example class, so the Column enum of the table
+ * is added to the record class instead. The Criteria is shared by all tables,
+ * so it takes the Column constants of any table as Enum objects; the mapper
+ * reads the select list phrase of each constant.
+ */
+class ColumnProjection {
+
+	private ColumnProjection() {
+		super();
+	}
+
+	/**
+	 * Adds the Column enum to the record class of a table with
+	 * columnProjection: the base record class, or the record with BLOBs class
+	 * if the table has no base record class.
+	 */
+	public static void addColumnEnum(PluginAdapter plugin, TopLevelClass topLevelClass,
+			IntrospectedTable introspectedTable, boolean baseRecordClass) {
+		if (!introspectedTable.isColumnProjectionEnabled()
+				|| baseRecordClass != introspectedTable.getRules().generateBaseRecordClass()) {
+			return;
+		}
+
+		topLevelClass.addInnerEnum(ExampleGenerator.getColumnInnerEnum(introspectedTable, plugin.getContext()
+				.getCommentGenerator()));
+	}
+
+	/**
+	 * Adds the selectColumns field with its getter and setter. The field is
+	 * ignored by the tables without columnProjection.
+	 */
+	public static void addCriteriaMembers(PluginAdapter plugin, TopLevelClass topLevelClass, Method copyConstructor,
+			Method clearMethod) {
+		if (copyConstructor != null) {
+			copyConstructor.addBodyLine("this.selectColumns = example.selectColumns;"); //$NON-NLS-1$
+		}
+		clearMethod.addBodyLine("this.selectColumns = null;"); //$NON-NLS-1$
+
+		FullyQualifiedJavaType enumType = new FullyQualifiedJavaType("java.lang.Enum<?>"); //$NON-NLS-1$
+		FullyQualifiedJavaType listType = FullyQualifiedJavaType.getNewListInstance();
+		listType.addTypeArgument(enumType);
+		topLevelClass.addImportedType(FullyQualifiedJavaType.getNewListInstance());
+		topLevelClass.addImportedType(FullyQualifiedJavaType.of("java.util.Arrays")); //$NON-NLS-1$
+
+		Field field = new Field();
+		field.setVisibility(JavaVisibility.PRIVATE);
+		field.setType(listType);
+		field.setName("selectColumns"); //$NON-NLS-1$
+		plugin.addFieldComment(field, "查询的列,为null时查询所有列");
+		topLevelClass.addField(field);
+
+		Method method = new Method();
+		method.setVisibility(JavaVisibility.PUBLIC);
+		method.setName("setSelectColumns"); //$NON-NLS-1$
+		method.addParameter(new Parameter(enumType, "columns", true)); //$NON-NLS-1$
+		method.addBodyLine("this.selectColumns = Arrays.asList(columns);"); //$NON-NLS-1$
+		plugin.addSetterComment(method, OutputUtilities.lineSeparator + "\t *            查询的列,传入表实体类的Column枚举(需开启columnProjection),"
+				+ "<br>" + OutputUtilities.lineSeparator + "\t *            未查询的属性为null", "columns");
+		topLevelClass.addMethod(method);
+
+		method = new Method();
+		method.setVisibility(JavaVisibility.PUBLIC);
+		method.setReturnType(listType);
+		method.setName("getSelectColumns"); //$NON-NLS-1$
+		method.addBodyLine("return selectColumns;"); //$NON-NLS-1$
+		topLevelClass.addMethod(method);
+	}
+}
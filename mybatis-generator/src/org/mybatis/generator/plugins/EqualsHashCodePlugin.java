@@ -23,6 +23,7 @@ import java.util.List;
 import org.mybatis.generator.api.PluginAdapter;
 import org.mybatis.generator.api.IntrospectedColumn;
 import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.api.ThreadSafePlugin;
 import org.mybatis.generator.api.dom.OutputUtilities;
 import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
 import org.mybatis.generator.api.dom.java.JavaVisibility;
@@ -45,7 +46,7 @@ import org.mybatis.generator.api.dom.java.TopLevelClass;
  * @author Jeff Butler
  * 
  */
-public class EqualsHashCodePlugin extends PluginAdapter {
+public class EqualsHashCodePlugin extends PluginAdapter implements ThreadSafePlugin {
 
 	public EqualsHashCodePlugin() {
 	}
@@ -10,6 +10,7 @@ import org.mybatis.generator.api.GeneratedXmlFile;
 import org.mybatis.generator.api.IntrospectedColumn;
 import org.mybatis.generator.api.IntrospectedTable;
 import org.mybatis.generator.api.PluginAdapter;
+import org.mybatis.generator.api.ThreadSafePlugin;
 import org.mybatis.generator.api.dom.OutputUtilities;
 import org.mybatis.generator.api.dom.java.Field;
 import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
@@ -34,7 +35,7 @@ import org.mybatis.generator.internal.rules.Rules;
  * @author QQ:34847009
  * @date 2010-10-21 下午09:33:48
  */
-public class IbatisCriteriaPlugin extends PluginAdapter {
+public class IbatisCriteriaPlugin extends PluginAdapter implements ThreadSafePlugin {
 	/**
 	 * Logger for this class
 	 */
@@ -48,7 +49,7 @@ public class IbatisCriteriaPlugin extends PluginAdapter {
 	public boolean validate(List<String> warnings) {
 		databaseType = context.getJdbcConnectionConfiguration().getDriverClass();
 		String criterias = context.getJavaModelGeneratorConfiguration().getTargetPackage() + ".Criteria";
-		criteria = new FullyQualifiedJavaType(criterias);
+		criteria = FullyQualifiedJavaType.of(criterias);
 
 		return true;
 	}
@@ -63,7 +64,7 @@ public class IbatisCriteriaPlugin extends PluginAdapter {
 		topLevelClass.addImportedType(FullyQualifiedJavaType.getNewMapInstance());
 		topLevelClass.addImportedType(FullyQualifiedJavaType.getNewHashMapInstance());
 
-		FullyQualifiedJavaType types = new FullyQualifiedJavaType("java.util.Map<java.lang.String, java.lang.Object>");
+		FullyQualifiedJavaType types = FullyQualifiedJavaType.of("java.util.Map<java.lang.String, java.lang.Object>");
 		Rules rules = introspectedTable.getRules();
 		if (rules.generateUpdateByParamsSelective() || rules.generateUpdateByParamsWithBLOBs()
 				|| rules.generateUpdateByParamsWithoutBLOBs()) {
@@ -242,15 +243,16 @@ public class IbatisCriteriaPlugin extends PluginAdapter {
 		boolean first = true;
 		for (int i = 0; i < methods.size(); i++) {
 			Method method = methods.get(i);
-			if (method.getFormattedContent(0, true).contains("Example")) {
+			if (hasExampleParameter(method, introspectedTable)) {
 				int size = method.getParameters().size();
 				if (first) {
-					interfaze.removeImportedType(new FullyQualifiedJavaType(introspectedTable.getExampleType()));
+					interfaze.removeImportedType(FullyQualifiedJavaType.of(introspectedTable.getExampleType()));
 					interfaze.addImportedType(criteria);
 				}
-				if (size == 1) {
+				if (size == 1 || hasRowHandlerParameter(method)) {
+					// selectByParamsWithHandler的rowHandler参数保持在最后
 					method.removeParameter(0);
-					method.addParameter(parameter);
+					method.addParameter(0, parameter);
 				} else if (size == 2) {
 					method.removeParameter(1);
 					method.addParameter(1, parameter);
@@ -263,15 +265,16 @@ public class IbatisCriteriaPlugin extends PluginAdapter {
 		first = true;
 		for (int i = 0; i < methods.size(); i++) {
 			Method method = methods.get(i);
-			if (method.getFormattedContent(0, true).contains("Example")) {
+			if (hasExampleParameter(method, introspectedTable)) {
 				int size = method.getParameters().size();
 				if (first) {
-					topLevelClass.removeImportedType(new FullyQualifiedJavaType(introspectedTable.getExampleType()));
+					topLevelClass.removeImportedType(FullyQualifiedJavaType.of(introspectedTable.getExampleType()));
 					topLevelClass.addImportedType(criteria);
 				}
-				if (size == 1) {
+				if (size == 1 || hasRowHandlerParameter(method)) {
+					// selectByParamsWithHandler的rowHandler参数保持在最后
 					method.removeParameter(0);
-					method.addParameter(parameter);
+					method.addParameter(0, parameter);
 				} else if (size == 2) {
 					method.removeParameter(1);
 					method.addParameter(1, parameter);
@@ -297,8 +300,7 @@ public class IbatisCriteriaPlugin extends PluginAdapter {
 		logger.info(list.size() + "");
 		for (int i = 0; i < list.size(); i++) {
 			XmlElement xml = (XmlElement) list.get(i);
-			String content = xml.getFormattedContent(0);
-			if (content.contains(introspectedTable.getExampleType())) {
+			if (!xml.findElementsByAttributeValue(introspectedTable.getExampleType()).isEmpty()) {
 				List<Attribute> attrs = xml.getAttributes();
 				for (int j = 0; j < attrs.size(); j++) {
 					if (attrs.get(j).getName().equals("parameterClass")) {
@@ -453,4 +455,28 @@ public class IbatisCriteriaPlugin extends PluginAdapter {
 		answer.addElement(dynamicElement);
 		return answer;
 	}
+
+	/**
+	 * @return true if the method has a parameter of the example class
+	 */
+	private boolean hasExampleParameter(Method method, IntrospectedTable introspectedTable) {
+		String exampleType = introspectedTable.getExampleType();
+		for (Parameter parameter : method.getParameters()) {
+			if (exampleType.equals(parameter.getType().getFullyQualifiedName())) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private boolean hasRowHandlerParameter(Method method) {
+		for (Parameter parameter : method.getParameters()) {
+			if ("com.ibatis.sqlmap.client.event.RowHandler".equals(parameter.getType().getFullyQualifiedName())) { //$NON-NLS-1$
+				return true;
+			}
+		}
+
+		return false;
+	}
 }
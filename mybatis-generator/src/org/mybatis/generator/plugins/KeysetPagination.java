@@ -0,0 +1,349 @@
+/*
+ *  Copyright 2005 The Apache Software Foundation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mybatis.generator.plugins;
+
+import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringTokenizer;
+
+import org.apache.log4j.Logger;
+import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.api.PluginAdapter;
+import org.mybatis.generator.api.dom.OutputUtilities;
+import org.mybatis.generator.api.dom.java.Field;
+import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+import org.mybatis.generator.api.dom.java.JavaVisibility;
+import org.mybatis.generator.api.dom.java.Method;
+import org.mybatis.generator.api.dom.java.Parameter;
+import org.mybatis.generator.api.dom.java.TopLevelClass;
+import org.mybatis.generator.api.dom.xml.Attribute;
+import org.mybatis.generator.api.dom.xml.Document;
+import org.mybatis.generator.api.dom.xml.Element;
+import org.mybatis.generator.api.dom.xml.TextElement;
+import org.mybatis.generator.api.dom.xml.XmlElement;
+import org.mybatis.generator.codegen.mybatis3.MyBatis3FormattingUtilities;
+
+/**
+ * Keyset (seek) pagination for the Criteria class of MybatisCriteriaPlugin and
+ * MybatisCriteriaPlugin2.
+ * <p>
+ * The Criteria gets seekAfter(Object...) and setPageSize(Integer). When the
+ * page size is set, selectByParams orders by the keyset columns and returns at
+ * most pageSize rows; when seekAfter is set as well, only the rows after that
+ * key are returned. The database reads only the rows of the page from the
+ * index, so every page costs the same as the first one, unlike the
+ * mysqlOffset and oracleStart pagination.
+ * <p>
+ * The keyset columns are the primary key columns, or the columns of a unique
+ * key named in the table property keysetColumns (comma separated). Tables
+ * without keyset columns get no keyset pagination.
+ * <p>
+ * The page is limited with a rownum query on Oracle and a limit clause on the
+ * databases in LIMIT_DATABASES. Other databases (such as SQL Server and DB2)
+ * get no keyset pagination.
+ */
+class KeysetPagination {
+
+	private static final Logger logger = Logger.getLogger(KeysetPagination.class);
+
+	/**
+	 * Table property with the comma separated keyset columns
+	 */
+	public static final String TABLE_KEYSET_COLUMNS = "keysetColumns"; //$NON-NLS-1$
+
+	public static final String WHERE_CLAUSE_ID = "Keyset_Where_Clause"; //$NON-NLS-1$
+
+	/**
+	 * Parts of the driver class names of the databases with a limit clause
+	 */
+	private static final String[] LIMIT_DATABASES = { "mysql", "mariadb", "postgresql", "h2", "hsqldb", "sqlite" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+
+	private KeysetPagination() {
+		super();
+	}
+
+	/**
+	 * @param databaseType
+	 *            the driver class of the context
+	 * @return true if the page size can be limited on the database
+	 */
+	public static boolean isSupported(String databaseType) {
+		return databaseType.contains("oracle") || isLimitDatabase(databaseType); //$NON-NLS-1$
+	}
+
+	private static boolean isLimitDatabase(String databaseType) {
+		for (String limitDatabase : LIMIT_DATABASES) {
+			if (databaseType.contains(limitDatabase)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * @return the keyset columns of the table, or an empty list if the table
+	 *         has no primary key and no (valid) keysetColumns property
+	 */
+	public static List<IntrospectedColumn> getKeysetColumns(IntrospectedTable introspectedTable) {
+		String keysetColumns = introspectedTable.getTableConfigurationProperty(TABLE_KEYSET_COLUMNS);
+		if (!stringHasValue(keysetColumns)) {
+			return introspectedTable.getPrimaryKeyColumns();
+		}
+
+		List<IntrospectedColumn> answer = new ArrayList<IntrospectedColumn>();
+		StringTokenizer st = new StringTokenizer(keysetColumns, ","); //$NON-NLS-1$
+		while (st.hasMoreTokens()) {
+			String columnName = st.nextToken().trim();
+			IntrospectedColumn introspectedColumn = introspectedTable.getColumn(columnName);
+			if (introspectedColumn == null) {
+				logger.warn("Keyset column " + columnName + " does not exist in table " //$NON-NLS-1$ //$NON-NLS-2$
+						+ introspectedTable.getFullyQualifiedTable() + ", keyset pagination is not generated"); //$NON-NLS-1$
+				return new ArrayList<IntrospectedColumn>();
+			}
+			answer.add(introspectedColumn);
+		}
+
+		return answer;
+	}
+
+	/**
+	 * Adds the seekAfter and pageSize fields and methods to the Criteria class.
+	 *
+	 * @param copyConstructor
+	 *            the copy constructor of the Criteria, or null if it has none
+	 * @param clearMethod
+	 *            the clear() method of the Criteria
+	 */
+	public static void addCriteriaMembers(PluginAdapter plugin, TopLevelClass topLevelClass, Method copyConstructor,
+			Method clearMethod) {
+		if (copyConstructor != null) {
+			copyConstructor.addBodyLine("this.seekAfter = example.seekAfter;"); //$NON-NLS-1$
+			copyConstructor.addBodyLine("this.pageSize = example.pageSize;"); //$NON-NLS-1$
+		}
+		clearMethod.addBodyLine("this.seekAfter = null;"); //$NON-NLS-1$
+		clearMethod.addBodyLine("this.pageSize = null;"); //$NON-NLS-1$
+
+		FullyQualifiedJavaType objectArray = FullyQualifiedJavaType.of("java.lang.Object[]"); //$NON-NLS-1$
+
+		Field field = new Field();
+		field.setVisibility(JavaVisibility.PRIVATE);
+		field.setType(objectArray);
+		field.setName("seekAfter"); //$NON-NLS-1$
+		plugin.addFieldComment(field, "键集分页:上一页最后一条记录的键值");
+		topLevelClass.addField(field);
+
+		Method method = new Method();
+		method.setVisibility(JavaVisibility.PUBLIC);
+		method.setReturnType(topLevelClass.getType());
+		method.setName("seekAfter"); //$NON-NLS-1$
+		method.addParameter(new Parameter(FullyQualifiedJavaType.getObjectInstance(), "lastKey", true)); //$NON-NLS-1$
+		method.addBodyLine("this.seekAfter = lastKey;"); //$NON-NLS-1$
+		method.addBodyLine("return this;"); //$NON-NLS-1$
+		plugin.addSetterComment(method, OutputUtilities.lineSeparator + "\t *            上一页最后一条记录的键值(主键或keysetColumns的各列,按顺序),"
+				+ "<br>" + OutputUtilities.lineSeparator + "\t *            只查询键值大于它的记录,需同时设置pageSize", "lastKey");
+		topLevelClass.addMethod(method);
+
+		field = new Field();
+		field.setVisibility(JavaVisibility.PRIVATE);
+		field.setType(FullyQualifiedJavaType.getInteger());
+		field.setName("pageSize"); //$NON-NLS-1$
+		plugin.addFieldComment(field, "键集分页:每页记录数");
+		topLevelClass.addField(field);
+
+		method = new Method();
+		method.setVisibility(JavaVisibility.PUBLIC);
+		method.setName("setPageSize"); //$NON-NLS-1$
+		method.addParameter(new Parameter(FullyQualifiedJavaType.getInteger(), "pageSize")); //$NON-NLS-1$
+		method.addBodyLine("this.pageSize = pageSize;"); //$NON-NLS-1$
+		plugin.addSetterComment(method, OutputUtilities.lineSeparator + "\t *            每页记录数,设置后按键值排序(忽略orderByClause),"
+				+ "<br>" + OutputUtilities.lineSeparator + "\t *            不要与mysqlOffset、oracleStart分页同时使用", "pageSize");
+		topLevelClass.addMethod(method);
+	}
+
+	/**
+	 * Adds the Keyset_Where_Clause after the Example_Where_Clause: the same
+	 * conditions and the condition for the rows after seekAfter.
+	 */
+	public static void addWhereClause(Document document, IntrospectedTable introspectedTable) {
+		List<IntrospectedColumn> keysetColumns = getKeysetColumns(introspectedTable);
+		XmlElement exampleWhereClause = document.getRootElement().findElementById("Example_Where_Clause"); //$NON-NLS-1$
+		if (keysetColumns.isEmpty() || exampleWhereClause == null) {
+			return;
+		}
+
+		XmlElement answer = new XmlElement("sql"); //$NON-NLS-1$
+		answer.addAttribute(new Attribute("id", WHERE_CLAUSE_ID)); //$NON-NLS-1$
+
+		XmlElement dynamicElement = new XmlElement("trim"); //$NON-NLS-1$
+		dynamicElement.addAttribute(new Attribute("prefix", "where")); //$NON-NLS-1$ //$NON-NLS-2$
+		dynamicElement.addAttribute(new Attribute("prefixOverrides", "and|or")); //$NON-NLS-1$ //$NON-NLS-2$
+		answer.addElement(dynamicElement);
+
+		for (XmlElement trim : exampleWhereClause.findElementsByName("trim")) { //$NON-NLS-1$
+			for (Element element : trim.getElements()) {
+				dynamicElement.addElement(element);
+			}
+		}
+
+		XmlElement seekElement = new XmlElement("if"); //$NON-NLS-1$
+		seekElement.addAttribute(new Attribute("test", "seekAfter != null")); //$NON-NLS-1$ //$NON-NLS-2$
+		seekElement.addElement(new TextElement("<![CDATA[ and " + getSeekCondition(keysetColumns) + " ]]>")); //$NON-NLS-1$ //$NON-NLS-2$
+		dynamicElement.addElement(seekElement);
+
+		List<Element> elements = document.getRootElement().getElements();
+		elements.add(elements.indexOf(exampleWhereClause) + 1, answer);
+	}
+
+	/**
+	 * (A, B) > (a, b) written as A > a or (A = a and B > b), because Oracle
+	 * and SQL Server do not compare row values
+	 */
+	private static String getSeekCondition(List<IntrospectedColumn> keysetColumns) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < keysetColumns.size(); i++) {
+			if (i > 0) {
+				sb.append(" or "); //$NON-NLS-1$
+			}
+			if (keysetColumns.size() > 1) {
+				sb.append('(');
+			}
+			for (int j = 0; j <= i; j++) {
+				if (j > 0) {
+					sb.append(" and "); //$NON-NLS-1$
+				}
+				sb.append(MyBatis3FormattingUtilities.getEscapedColumnName(keysetColumns.get(j)));
+				sb.append(j < i ? " = " : " > "); //$NON-NLS-1$ //$NON-NLS-2$
+				sb.append("#{seekAfter[").append(j).append("]}"); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			if (keysetColumns.size() > 1) {
+				sb.append(')');
+			}
+		}
+
+		if (keysetColumns.size() > 1) {
+			sb.insert(0, '(');
+			sb.append(')');
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Makes a selectByParams element use the Keyset_Where_Clause, order by the
+	 * keyset columns when the page size is set, and limit the rows to the page
+	 * size. On Oracle the select is wrapped in a rownum query.
+	 *
+	 * @param databaseType
+	 *            the driver class of the context
+	 */
+	public static void addToSelectElement(XmlElement element, IntrospectedTable introspectedTable,
+			String databaseType) {
+		List<IntrospectedColumn> keysetColumns = getKeysetColumns(introspectedTable);
+		if (keysetColumns.isEmpty()) {
+			return;
+		}
+
+		for (XmlElement include : element.findElementsByAttributeValue("refid", "Example_Where_Clause")) { //$NON-NLS-1$ //$NON-NLS-2$
+			include.getAttribute("refid").setValue(WHERE_CLAUSE_ID); //$NON-NLS-1$
+		}
+
+		StringBuilder sb = new StringBuilder();
+		sb.append("order by "); //$NON-NLS-1$
+		for (int i = 0; i < keysetColumns.size(); i++) {
+			if (i > 0) {
+				sb.append(", "); //$NON-NLS-1$
+			}
+			sb.append(MyBatis3FormattingUtilities.getEscapedColumnName(keysetColumns.get(i)));
+		}
+
+		XmlElement chooseElement = new XmlElement("choose"); //$NON-NLS-1$
+		XmlElement whenElement = new XmlElement("when"); //$NON-NLS-1$
+		whenElement.addAttribute(new Attribute("test", "pageSize != null")); //$NON-NLS-1$ //$NON-NLS-2$
+		whenElement.addElement(new TextElement(sb.toString()));
+		chooseElement.addElement(whenElement);
+
+		List<Element> elements = element.getElements();
+		for (int i = 0; i < elements.size(); i++) {
+			if (elements.get(i) instanceof XmlElement) {
+				XmlElement ifElement = (XmlElement) elements.get(i);
+				if ("orderByClause != null".equals(ifElement.getAttributeValue("test"))) { //$NON-NLS-1$ //$NON-NLS-2$
+					whenElement = new XmlElement("when"); //$NON-NLS-1$
+					whenElement.addAttribute(new Attribute("test", "orderByClause != null")); //$NON-NLS-1$ //$NON-NLS-2$
+					for (Element orderBy : ifElement.getElements()) {
+						whenElement.addElement(orderBy);
+					}
+					chooseElement.addElement(whenElement);
+					elements.remove(i);
+					elements.add(i, chooseElement);
+					chooseElement = null;
+					break;
+				}
+			}
+		}
+		if (chooseElement != null) {
+			element.addElement(chooseElement);
+		}
+
+		if (databaseType.contains("oracle")) { //$NON-NLS-1$
+			XmlElement headIncludeElement = new XmlElement("include"); //$NON-NLS-1$
+			headIncludeElement.addAttribute(new Attribute("refid", "common.Keyset_Pagination_Head")); //$NON-NLS-1$ //$NON-NLS-2$
+			element.addElement(0, headIncludeElement);
+
+			XmlElement tailIncludeElement = new XmlElement("include"); //$NON-NLS-1$
+			tailIncludeElement.addAttribute(new Attribute("refid", "common.Keyset_Pagination_Tail")); //$NON-NLS-1$ //$NON-NLS-2$
+			element.addElement(tailIncludeElement);
+		} else if (isLimitDatabase(databaseType)) {
+			XmlElement limitIncludeElement = new XmlElement("include"); //$NON-NLS-1$
+			limitIncludeElement.addAttribute(new Attribute("refid", "common.Keyset_Pagination_Limit")); //$NON-NLS-1$ //$NON-NLS-2$
+			element.addElement(limitIncludeElement);
+		}
+	}
+
+	/**
+	 * Adds the pagination sql elements of the common mapper: a rownum query on
+	 * Oracle, a limit clause on the databases in LIMIT_DATABASES.
+	 */
+	public static void addCommonElements(XmlElement answer, String databaseType) {
+		if (databaseType.contains("oracle")) { //$NON-NLS-1$
+			XmlElement sqlElement = new XmlElement("sql"); //$NON-NLS-1$
+			sqlElement.addAttribute(new Attribute("id", "Keyset_Pagination_Head")); //$NON-NLS-1$ //$NON-NLS-2$
+			XmlElement ifElement = new XmlElement("if"); //$NON-NLS-1$
+			ifElement.addAttribute(new Attribute("test", "pageSize != null")); //$NON-NLS-1$ //$NON-NLS-2$
+			ifElement.addElement(new TextElement("<![CDATA[ select * from ( ]]>")); //$NON-NLS-1$
+			sqlElement.addElement(ifElement);
+			answer.addElement(sqlElement);
+
+			sqlElement = new XmlElement("sql"); //$NON-NLS-1$
+			sqlElement.addAttribute(new Attribute("id", "Keyset_Pagination_Tail")); //$NON-NLS-1$ //$NON-NLS-2$
+			ifElement = new XmlElement("if"); //$NON-NLS-1$
+			ifElement.addAttribute(new Attribute("test", "pageSize != null")); //$NON-NLS-1$ //$NON-NLS-2$
+			ifElement.addElement(new TextElement("<![CDATA[ ) where rownum <= #{pageSize} ]]>")); //$NON-NLS-1$
+			sqlElement.addElement(ifElement);
+			answer.addElement(sqlElement);
+		} else if (isLimitDatabase(databaseType)) {
+			XmlElement sqlElement = new XmlElement("sql"); //$NON-NLS-1$
+			sqlElement.addAttribute(new Attribute("id", "Keyset_Pagination_Limit")); //$NON-NLS-1$ //$NON-NLS-2$
+			XmlElement ifElement = new XmlElement("if"); //$NON-NLS-1$
+			ifElement.addAttribute(new Attribute("test", "pageSize != null")); //$NON-NLS-1$ //$NON-NLS-2$
+			ifElement.addElement(new TextElement("<![CDATA[ limit #{pageSize} ]]>")); //$NON-NLS-1$
+			sqlElement.addElement(ifElement);
+			answer.addElement(sqlElement);
+		}
+	}
+}
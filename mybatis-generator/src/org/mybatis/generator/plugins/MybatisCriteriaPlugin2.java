@@ -1,6 +1,7 @@
 package org.mybatis.generator.plugins;
 
 import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
 
 import org.apache.log4j.Logger;
 
@@ -12,6 +13,7 @@ import org.mybatis.generator.api.GeneratedXmlFile;
 import org.mybatis.generator.api.IntrospectedColumn;
 import org.mybatis.generator.api.IntrospectedTable;
 import org.mybatis.generator.api.PluginAdapter;
+import org.mybatis.generator.api.ThreadSafePlugin;
 import org.mybatis.generator.api.dom.OutputUtilities;
 import org.mybatis.generator.api.dom.java.Field;
 import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
@@ -37,7 +39,7 @@ import org.mybatis.generator.internal.util.StringUtility;
  * @author QQ:34847009
  * @date 2010-10-21 下午09:33:48
  */
-public class MybatisCriteriaPlugin2 extends PluginAdapter {
+public class MybatisCriteriaPlugin2 extends PluginAdapter implements ThreadSafePlugin {
 	/**
 	 * Logger for this class
 	 */
@@ -52,16 +54,25 @@ public class MybatisCriteriaPlugin2 extends PluginAdapter {
 	 */
 	private boolean isAllInOne;
 
+	/**
+	 * 是否生成键集分页(需要数据库支持分页查询)
+	 */
+	private boolean keysetPagination;
+
 	@Override
 	public boolean validate(List<String> warnings) {
 		databaseType = context.getJdbcConnectionConfiguration().getDriverClass();
 		String criterias = context.getJavaModelGeneratorConfiguration().getTargetPackage() + ".Criteria";
-		criteria = new FullyQualifiedJavaType(criterias);
+		criteria = FullyQualifiedJavaType.of(criterias);
 		if (stringHasValue(properties.getProperty("isAllInOne"))) { //$NON-NLS-1$
 			isAllInOne = StringUtility.isTrue(properties.getProperty("isAllInOne"));
 		} else {
 			isAllInOne = false;
 		}
+		keysetPagination = !isAllInOne && KeysetPagination.isSupported(databaseType);
+		if (!isAllInOne && !keysetPagination) {
+			warnings.add(getString("Warning.31", databaseType)); //$NON-NLS-1$
+		}
 		return true;
 	}
 
@@ -75,8 +86,9 @@ public class MybatisCriteriaPlugin2 extends PluginAdapter {
 		topLevelClass.addImportedType(FullyQualifiedJavaType.getNewMapInstance());
 		topLevelClass.addImportedType(FullyQualifiedJavaType.getNewHashMapInstance());
 
-		FullyQualifiedJavaType types = new FullyQualifiedJavaType("java.util.Map<java.lang.String, java.lang.Object>");
+		FullyQualifiedJavaType types = FullyQualifiedJavaType.of("java.util.Map<java.lang.String, java.lang.Object>");
 		Rules rules = introspectedTable.getRules();
+		Method copyConstructor = null;
 		if (rules.generateUpdateByParamsSelective() || rules.generateUpdateByParamsWithBLOBs()
 				|| rules.generateUpdateByParamsWithoutBLOBs()) {
 			Method method = new Method();
@@ -95,6 +107,7 @@ public class MybatisCriteriaPlugin2 extends PluginAdapter {
 				method.addBodyLine("this.mysqlLength = example.mysqlLength;"); //$NON-NLS-1$
 				method.addBodyLine("this.mysqlOffset = example.mysqlOffset;"); //$NON-NLS-1$
 			}
+			copyConstructor = method;
 			topLevelClass.addMethod(method);
 		}
 
@@ -142,6 +155,7 @@ public class MybatisCriteriaPlugin2 extends PluginAdapter {
 			method.addBodyLine("this.mysqlOffset = null;"); //$NON-NLS-1$
 			method.addBodyLine("this.mysqlLength = null;"); //$NON-NLS-1$
 		}
+		Method clearMethod = method;
 		topLevelClass.addMethod(method);
 
 		method = new Method();
@@ -186,6 +200,15 @@ public class MybatisCriteriaPlugin2 extends PluginAdapter {
 		method.addBodyLine("return condition;"); //$NON-NLS-1$
 		method.addDeprecated();
 		topLevelClass.addMethod(method);
+
+		if (keysetPagination) {
+			// 键集分页
+			KeysetPagination.addCriteriaMembers(this, topLevelClass, copyConstructor, clearMethod);
+		}
+		if (!isAllInOne) {
+			// 查询指定的列
+			ColumnProjection.addCriteriaMembers(this, topLevelClass, copyConstructor, clearMethod);
+		}
 		if (databaseType.contains("oracle")) {
 			// 增加开始处
 			// 增加oracleStart、oracleEnd、mysqlOffset、mysqlLength
@@ -270,18 +293,19 @@ public class MybatisCriteriaPlugin2 extends PluginAdapter {
 		boolean first = true;
 		for (int i = 0; i < methods.size(); i++) {
 			Method method = methods.get(i);
-			if (method.getFormattedContent(0, true).contains("Example")) {
+			if (hasExampleParameter(method, introspectedTable)) {
 				int size = method.getParameters().size();
 				if (first) {
-					interfaze.removeImportedType(new FullyQualifiedJavaType(introspectedTable.getExampleType()));
+					interfaze.removeImportedType(FullyQualifiedJavaType.of(introspectedTable.getExampleType()));
 					interfaze.addImportedType(criteria);
 				}
-				if (size == 1) {
+				if (size == 1 || hasResultHandlerParameter(method)) {
+					// selectByParamsWithHandler的handler参数保持在最后
 					method.removeParameter(0);
 					if (isAllInOne) {
-						method.addParameter(parameter);
+						method.addParameter(0, parameter);
 					} else {
-						method.addParameter(parameter2);
+						method.addParameter(0, parameter2);
 					}
 				} else if (size == 2) {
 					method.removeParameter(1);
@@ -304,28 +328,16 @@ public class MybatisCriteriaPlugin2 extends PluginAdapter {
 		logger.info(list.size() + "");
 		for (int i = 0; i < list.size(); i++) {
 			XmlElement xml = (XmlElement) list.get(i);
-			String content = xml.getFormattedContent(0);
-			if (content.contains(introspectedTable.getExampleType())) {
+			if (!xml.findElementsByAttributeValue(introspectedTable.getExampleType()).isEmpty()) {
 				List<Attribute> attrs = xml.getAttributes();
 				for (int j = 0; j < attrs.size(); j++) {
 					if (attrs.get(j).getName().equals("parameterType")) {
 						attrs.get(j).setValue(criteria.getFullyQualifiedName());
 					}
 				}
-			} else if (content.contains("Update_By_Example_Where_Clause") && isAllInOne) {
-				if (xml.getElements().size() == 3) {
-					xml = (XmlElement) xml.getElements().get(2);
-					xml = (XmlElement) xml.getElements().get(0);
-					xml.getAttributes().get(0).setValue("Example_Where_Clause");
-				} else {
-					for (int j = 0; j < xml.getElements().size(); j++) {
-						Element xmls = xml.getElements().get(j);
-						if (xmls.getFormattedContent(0).contains("Update_By_Example_Where_Clause")) {
-							xml = (XmlElement) xmls;
-							xml = (XmlElement) xml.getElements().get(0);
-							xml.getAttributes().get(0).setValue("Example_Where_Clause");
-						}
-					}
+			} else if (isAllInOne) {
+				for (XmlElement include : xml.findElementsByAttributeValue("refid", "Update_By_Example_Where_Clause")) {
+					include.getAttribute("refid").setValue("Example_Where_Clause");
 				}
 			}
 		}
@@ -393,12 +405,30 @@ public class MybatisCriteriaPlugin2 extends PluginAdapter {
 		} else {
 			document.getRootElement().getElements().remove(2);
 		}
+		if (keysetPagination) {
+			KeysetPagination.addWhereClause(document, introspectedTable);
+		}
+		return true;
+	}
+
+	@Override
+	public boolean modelBaseRecordClassGenerated(TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
+		ColumnProjection.addColumnEnum(this, topLevelClass, introspectedTable, true);
+		return true;
+	}
+
+	@Override
+	public boolean modelRecordWithBLOBsClassGenerated(TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
+		ColumnProjection.addColumnEnum(this, topLevelClass, introspectedTable, false);
 		return true;
 	}
 
 	@Override
 	public boolean sqlMapSelectByParamsWithoutBLOBsElementGenerated(XmlElement element,
 			IntrospectedTable introspectedTable) {
+		if (keysetPagination) {
+			KeysetPagination.addToSelectElement(element, introspectedTable, databaseType);
+		}
 		if (databaseType.contains("oracle")) {
 			XmlElement oracleHeadIncludeElement = new XmlElement("include");
 			oracleHeadIncludeElement.addAttribute(new Attribute("refid", "common.Oracle_Pagination_Head"));
@@ -421,6 +451,9 @@ public class MybatisCriteriaPlugin2 extends PluginAdapter {
 	@Override
 	public boolean sqlMapSelectByParamsWithBLOBsElementGenerated(XmlElement element,
 			IntrospectedTable introspectedTable) {
+		if (keysetPagination) {
+			KeysetPagination.addToSelectElement(element, introspectedTable, databaseType);
+		}
 		if (databaseType.contains("oracle")) {
 			XmlElement oracleHeadIncludeElement = new XmlElement("include");
 			oracleHeadIncludeElement.addAttribute(new Attribute("refid", "common.Oracle_Pagination_Head"));
@@ -454,6 +487,9 @@ public class MybatisCriteriaPlugin2 extends PluginAdapter {
 		} else if (databaseType.contains("mysql")) {
 			answer.addElement(getMysqlLimit());
 		}
+		if (keysetPagination) {
+			KeysetPagination.addCommonElements(answer, databaseType);
+		}
 
 		GeneratedXmlFile gxf = new GeneratedXmlFile(document, properties.getProperty("fileName", "common_SqlMap.xml"), //$NON-NLS-1$ //$NON-NLS-2$
 				context.getSqlMapGeneratorConfiguration().getTargetPackage(), //$NON-NLS-1$
@@ -501,4 +537,28 @@ public class MybatisCriteriaPlugin2 extends PluginAdapter {
 		answer.addElement(outerisNotEmptyElement);
 		return answer;
 	}
+
+	/**
+	 * @return true if the method has a parameter of the example class
+	 */
+	private boolean hasExampleParameter(Method method, IntrospectedTable introspectedTable) {
+		String exampleType = introspectedTable.getExampleType();
+		for (Parameter parameter : method.getParameters()) {
+			if (exampleType.equals(parameter.getType().getFullyQualifiedName())) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private boolean hasResultHandlerParameter(Method method) {
+		for (Parameter parameter : method.getParameters()) {
+			if ("org.apache.ibatis.session.ResultHandler".equals(parameter.getType().getFullyQualifiedName())) {
+				return true;
+			}
+		}
+
+		return false;
+	}
 }
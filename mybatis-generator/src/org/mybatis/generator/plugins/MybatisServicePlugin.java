@@ -59,8 +59,8 @@ public class MybatisServicePlugin extends PluginAdapter {
 	public MybatisServicePlugin() {
 		super();
 		// 默认是slf4j
-		slf4jLogger = new FullyQualifiedJavaType("org.slf4j.Logger");
-		slf4jLoggerFactory = new FullyQualifiedJavaType("org.slf4j.LoggerFactory");
+		slf4jLogger = FullyQualifiedJavaType.of("org.slf4j.Logger");
+		slf4jLoggerFactory = FullyQualifiedJavaType.of("org.slf4j.LoggerFactory");
 		methods = new ArrayList<Method>();
 	}
 
@@ -109,8 +109,8 @@ public class MybatisServicePlugin extends PluginAdapter {
 		pojoUrl = context.getJavaModelGeneratorConfiguration().getTargetPackage();
 
 		if (enableAnnotation) {
-			autowired = new FullyQualifiedJavaType("org.springframework.beans.factory.annotation.Autowired");
-			service = new FullyQualifiedJavaType("org.springframework.stereotype.Service");
+			autowired = FullyQualifiedJavaType.of("org.springframework.beans.factory.annotation.Autowired");
+			service = FullyQualifiedJavaType.of("org.springframework.stereotype.Service");
 		}
 		return true;
 	}
@@ -120,18 +120,18 @@ public class MybatisServicePlugin extends PluginAdapter {
 		List<GeneratedJavaFile> files = new ArrayList<GeneratedJavaFile>();
 		String table = introspectedTable.getBaseRecordType();
 		String tableName = table.replaceAll(this.pojoUrl + ".", "");
-		interfaceType = new FullyQualifiedJavaType(servicePack + "." + tableName + "Service");
+		interfaceType = FullyQualifiedJavaType.of(servicePack + "." + tableName + "Service");
 
 		// mybatis
-		daoType = new FullyQualifiedJavaType(introspectedTable.getMyBatis3JavaMapperType());
+		daoType = FullyQualifiedJavaType.of(introspectedTable.getMyBatis3JavaMapperType());
 
 		// logger.info(toLowerCase(daoType.getShortName()));
-		serviceType = new FullyQualifiedJavaType(serviceImplPack + "." + tableName + "ServiceImpl");
+		serviceType = FullyQualifiedJavaType.of(serviceImplPack + "." + tableName + "ServiceImpl");
 
-		pojoType = new FullyQualifiedJavaType(pojoUrl + "." + tableName);
+		pojoType = FullyQualifiedJavaType.of(pojoUrl + "." + tableName);
 
-		pojoCriteriaType = new FullyQualifiedJavaType(pojoUrl + "." + "Criteria");
-		listType = new FullyQualifiedJavaType("java.util.List");
+		pojoCriteriaType = FullyQualifiedJavaType.of(pojoUrl + "." + "Criteria");
+		listType = FullyQualifiedJavaType.of("java.util.List");
 		Interface interface1 = new Interface(interfaceType);
 		TopLevelClass topLevelClass = new TopLevelClass(serviceType);
 		// 导入必要的类
@@ -297,7 +297,7 @@ public class MybatisServicePlugin extends PluginAdapter {
 		method.setName("selectByPrimaryKey");
 		method.setReturnType(pojoType);
 		if (introspectedTable.getRules().generatePrimaryKeyClass()) {
-			FullyQualifiedJavaType type = new FullyQualifiedJavaType(introspectedTable.getPrimaryKeyType());
+			FullyQualifiedJavaType type = FullyQualifiedJavaType.of(introspectedTable.getPrimaryKeyType());
 			method.addParameter(new Parameter(type, "key"));
 		} else {
 			for (IntrospectedColumn introspectedColumn : introspectedTable.getPrimaryKeyColumns()) {
@@ -356,7 +356,7 @@ public class MybatisServicePlugin extends PluginAdapter {
 	protected Method selectByParams(IntrospectedTable introspectedTable, String tableName) {
 		Method method = new Method();
 		method.setName("selectByParams");
-		method.setReturnType(new FullyQualifiedJavaType("List<" + tableName + ">"));
+		method.setReturnType(FullyQualifiedJavaType.of("List<" + tableName + ">"));
 		method.addParameter(new Parameter(pojoCriteriaType, "example"));
 		method.setVisibility(JavaVisibility.PUBLIC);
 		StringBuilder sb = new StringBuilder();
@@ -437,7 +437,7 @@ public class MybatisServicePlugin extends PluginAdapter {
 			return "record";
 		case 2:
 			if (introspectedTable.getRules().generatePrimaryKeyClass()) {
-				FullyQualifiedJavaType type = new FullyQualifiedJavaType(introspectedTable.getPrimaryKeyType());
+				FullyQualifiedJavaType type = FullyQualifiedJavaType.of(introspectedTable.getPrimaryKeyType());
 				method.addParameter(new Parameter(type, "key"));
 			} else {
 				for (IntrospectedColumn introspectedColumn : introspectedTable.getPrimaryKeyColumns()) {
@@ -618,7 +618,7 @@ public class MybatisServicePlugin extends PluginAdapter {
 		field.setInitializationString("LoggerFactory.getLogger(" + topLevelClass.getType().getShortName() + ".class)"); // 设置值
 		field.setName("logger"); // 设置变量名
 		field.setStatic(true);
-		field.setType(new FullyQualifiedJavaType("Logger")); // 类型
+		field.setType(FullyQualifiedJavaType.of("Logger")); // 类型
 		field.setVisibility(JavaVisibility.PRIVATE);
 		topLevelClass.addField(field);
 	}
@@ -19,6 +19,7 @@ import java.util.List;
 
 import org.mybatis.generator.api.PluginAdapter;
 import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.api.ThreadSafePlugin;
 import org.mybatis.generator.api.dom.java.Field;
 import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
 import org.mybatis.generator.api.dom.java.JavaVisibility;
@@ -37,13 +38,13 @@ import org.mybatis.generator.api.dom.java.TopLevelClass;
  * @author Jeff Butler
  * 
  */
-public class SerializablePlugin extends PluginAdapter {
+public class SerializablePlugin extends PluginAdapter implements ThreadSafePlugin {
 
 	private FullyQualifiedJavaType serializable;
 
 	public SerializablePlugin() {
 		super();
-		serializable = new FullyQualifiedJavaType("java.io.Serializable"); //$NON-NLS-1$
+		serializable = FullyQualifiedJavaType.of("java.io.Serializable"); //$NON-NLS-1$
 
 	}
 
@@ -79,7 +80,7 @@ public class SerializablePlugin extends PluginAdapter {
 		field.setInitializationString("1L"); //$NON-NLS-1$
 		field.setName("serialVersionUID"); //$NON-NLS-1$
 		field.setStatic(true);
-		field.setType(new FullyQualifiedJavaType("long")); //$NON-NLS-1$
+		field.setType(FullyQualifiedJavaType.of("long")); //$NON-NLS-1$
 		field.setVisibility(JavaVisibility.PRIVATE);
 		context.getCommentGenerator().addFieldComment(field, introspectedTable);
 